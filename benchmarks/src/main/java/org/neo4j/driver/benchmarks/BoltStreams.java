@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import static org.neo4j.driver.Values.value;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.messaging.response.SuccessMessage;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
+
+/**
+ * Produces synthetic server-side Bolt byte streams, chunked exactly like a server would send them, so that the inbound
+ * pipeline can be exercised without a database.
+ */
+public final class BoltStreams {
+    private static final MessageFormat SERVER_FORMAT = new KnowledgeableMessageFormat(true);
+
+    private BoltStreams() {}
+
+    /**
+     * Creates a stream of {@code count} RECORD messages of the given shape followed by a SUCCESS message, as sent in
+     * response to a PULL.
+     */
+    public static ByteBuf recordStream(RecordShape shape, int count) {
+        ByteBuf buf = Unpooled.buffer();
+        for (int i = 0; i < count; i++) {
+            write(buf, new RecordMessage(shape.values(i)));
+        }
+        write(buf, new SuccessMessage(Map.of("type", value("r"), "t_last", value(1))));
+        return Unpooled.unreleasableBuffer(buf.asReadOnly());
+    }
+
+    /**
+     * Creates a stream of the responses to a pipelined BEGIN, RUN, PULL and COMMIT: SUCCESS for BEGIN and RUN,
+     * {@code count} RECORD messages of the given shape followed by SUCCESS for PULL, and SUCCESS for COMMIT.
+     */
+    public static ByteBuf transactionStream(RecordShape shape, int count) {
+        ByteBuf buf = Unpooled.buffer();
+        write(buf, new SuccessMessage(Map.of()));
+        write(buf, new SuccessMessage(Map.of("fields", value(shape.keys()), "t_first", value(1))));
+        for (int i = 0; i < count; i++) {
+            write(buf, new RecordMessage(shape.values(i)));
+        }
+        write(buf, new SuccessMessage(Map.of("type", value("r"), "t_last", value(1))));
+        write(buf, new SuccessMessage(Map.of("bookmark", value("bookmark"))));
+        return Unpooled.unreleasableBuffer(buf.asReadOnly());
+    }
+
+    /**
+     * Creates an unchunked PackStream representation of the given records, each record being a list of values.
+     */
+    public static ByteBuf packedRecords(List<Value[]> records) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufOutput output = new ByteBufOutput(buf);
+        try {
+            MessageFormat.Writer writer = SERVER_FORMAT.newWriter(output);
+            for (Value[] record : records) {
+                writer.write(new RecordMessage(record));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Unpooled.unreleasableBuffer(buf.asReadOnly());
+    }
+
+    private static void write(ByteBuf buf, Message message) {
+        // chunk output always starts writing at index 0, so every message needs its own buffer
+        ByteBuf messageBuf = Unpooled.buffer();
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput();
+        output.start(messageBuf);
+        try {
+            SERVER_FORMAT.newWriter(output).write(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            output.stop();
+        }
+        BoltProtocolUtil.writeMessageBoundary(messageBuf);
+        buf.writeBytes(messageBuf);
+        messageBuf.release();
+    }
+}
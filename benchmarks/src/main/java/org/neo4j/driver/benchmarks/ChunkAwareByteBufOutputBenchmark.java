@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+import org.neo4j.driver.internal.messaging.v5.MessageFormatV5;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding of a RUN message into Bolt chunks through {@link ChunkAwareByteBufOutput}, the way
+ * {@code OutboundMessageHandler} does it. The {@code rows} parameter controls the size of an UNWIND batch passed as a
+ * query parameter, so large values span many chunks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkAwareByteBufOutputBenchmark {
+    @Param({"1", "100", "10000"})
+    private int rows;
+
+    private Message message;
+    private ByteBuf outputBuf;
+    private ChunkAwareByteBufOutput output;
+    private MessageFormat.Writer writer;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            batch.add(Map.of("id", i, "name", "name-" + i, "score", i * 0.5));
+        }
+        message = RunWithMetadataMessage.unmanagedTxRunMessage(
+                new Query("UNWIND $batch AS row CREATE (n:Node) SET n = row", Map.of("batch", batch)));
+        outputBuf = Unpooled.buffer(rows * 64);
+        output = new ChunkAwareByteBufOutput();
+        writer = new MessageFormatV5().newWriter(output);
+    }
+
+    @Benchmark
+    public ByteBuf encode() throws IOException {
+        outputBuf.clear();
+        output.start(outputBuf);
+        try {
+            writer.write(message);
+        } finally {
+            output.stop();
+        }
+        return outputBuf;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.testutil.bolt.QueryResult;
+import org.neo4j.driver.testutil.bolt.ScriptableBoltServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code sessions} concurrent sessions, each on its own thread, running a query through the blocking API against a
+ * {@link ScriptableBoltServer} on localhost and sharing the connection pool of a single driver. An operation is the whole
+ * wave of sessions. The sessions run on virtual threads when the JVM has them, JDK 21 and later, and on platform threads
+ * otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentSessionsBenchmark {
+    private static final String QUERY = "RETURN 1";
+
+    @Param({"10000"})
+    private int sessions;
+
+    private ScriptableBoltServer server;
+    private Driver driver;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        server = ScriptableBoltServer.builder()
+                .withResult(QUERY, QueryResult.generated(RecordShape.INTEGERS.keys(), 1, RecordShape.INTEGERS::values))
+                .start();
+        Config config = Config.builder().withLogging(Logging.none()).build();
+        driver = GraphDatabase.driver(server.boltUri(), AuthTokens.none(), config);
+        driver.verifyConnectivity();
+        executor = newThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        driver.close();
+        server.close();
+    }
+
+    @Benchmark
+    public long runQueries() throws InterruptedException, ExecutionException {
+        List<Future<Long>> results = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            results.add(executor.submit(() -> {
+                try (Session session = driver.session()) {
+                    return session.run(QUERY).single().get(0).asLong();
+                }
+            }));
+        }
+        long sum = 0;
+        for (Future<Long> result : results) {
+            sum += result.get();
+        }
+        return sum;
+    }
+
+    // compiled for JDK 17, so virtual threads are looked up reflectively
+    private static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
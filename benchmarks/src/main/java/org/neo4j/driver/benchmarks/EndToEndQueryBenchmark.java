@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.testutil.bolt.QueryResult;
+import org.neo4j.driver.testutil.bolt.ScriptableBoltServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A whole query through the public API, from opening a session to consuming the last record, against a
+ * {@link ScriptableBoltServer} on localhost. This covers connection pooling, the Bolt messages on both sides of a real
+ * socket and result handling, so it is the closest to an application without needing a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndQueryBenchmark {
+    private static final String QUERY = "UNWIND range(1, $records) AS n RETURN n";
+
+    @Param({"1", "1000"})
+    private int records;
+
+    @Param({"INTEGERS", "STRINGS"})
+    private RecordShape shape;
+
+    private ScriptableBoltServer server;
+    private Driver driver;
+
+    @Setup
+    public void setUp() {
+        server = ScriptableBoltServer.builder()
+                .withResult(QUERY, QueryResult.generated(shape.keys(), records, shape::values))
+                .start();
+        driver = GraphDatabase.driver(
+                server.boltUri(),
+                AuthTokens.none(),
+                Config.builder().withLogging(Logging.none()).build());
+        driver.verifyConnectivity();
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.close();
+        server.close();
+    }
+
+    @Benchmark
+    public long autoCommit(Blackhole blackhole) {
+        try (Session session = driver.session()) {
+            return consume(session.run(QUERY), blackhole);
+        }
+    }
+
+    @Benchmark
+    public long readTransaction(Blackhole blackhole) {
+        try (Session session = driver.session()) {
+            return session.executeRead(tx -> consume(tx.run(QUERY), blackhole));
+        }
+    }
+
+    private static long consume(Result result, Blackhole blackhole) {
+        long count = 0;
+        while (result.hasNext()) {
+            blackhole.consume(result.next());
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.testutil.bolt.QueryResult;
+import org.neo4j.driver.testutil.bolt.ScriptableBoltServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A large result streamed from a {@link ScriptableBoltServer} on localhost with a fixed or an adaptive ({@code -2})
+ * fetch size. The server delays the response to every PULL by {@code latencyMillis}, which stands in for the network
+ * latency to a remote server, so the number of PULL round-trips dominates when the consumer keeps up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FetchSizeBenchmark {
+    private static final String QUERY = "UNWIND range(1, $records) AS n RETURN n";
+
+    @Param({"1000", "-2"})
+    private long fetchSize;
+
+    @Param({"100000"})
+    private int records;
+
+    @Param({"1"})
+    private long latencyMillis;
+
+    private ScriptableBoltServer server;
+    private Driver driver;
+
+    @Setup
+    public void setUp() {
+        server = ScriptableBoltServer.builder()
+                .withResult(
+                        QUERY,
+                        QueryResult.generated(RecordShape.INTEGERS.keys(), records, RecordShape.INTEGERS::values))
+                .withLatency(Duration.ofMillis(latencyMillis))
+                .start();
+        Config config = Config.builder()
+                .withLogging(Logging.none())
+                .withFetchSize(fetchSize)
+                .build();
+        driver = GraphDatabase.driver(server.boltUri(), AuthTokens.none(), config);
+        driver.verifyConnectivity();
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.close();
+        server.close();
+    }
+
+    @Benchmark
+    public long autoCommit(Blackhole blackhole) {
+        try (Session session = driver.session()) {
+            Result result = session.run(QUERY);
+            long count = 0;
+            while (result.hasNext()) {
+                blackhole.consume(result.next());
+                count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.testutil.bolt.QueryResult;
+import org.neo4j.driver.testutil.bolt.ScriptableBoltServer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * An async transaction pipelining a number of queries without waiting for their results, against a
+ * {@link ScriptableBoltServer} on localhost, with and without flush consolidation. Besides the throughput, which is
+ * the inverse of the transaction latency, the {@code serverReads} counter reports the socket reads of the server per
+ * second: dividing it by the throughput gives the writes, and so the system calls, the driver makes per transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlushConsolidationBenchmark {
+    private static final String QUERY = "RETURN 1";
+
+    /**
+     * The flush consolidation window in microseconds, {@code -1} to disable flush consolidation.
+     */
+    @Param({"-1", "0", "50"})
+    private long windowMicros;
+
+    @Param({"1", "16"})
+    private int queries;
+
+    private ScriptableBoltServer server;
+    private Driver driver;
+
+    @Setup
+    public void setUp() {
+        server = ScriptableBoltServer.builder()
+                .withResult(QUERY, QueryResult.generated(RecordShape.INTEGERS.keys(), 1, RecordShape.INTEGERS::values))
+                .start();
+        Config.ConfigBuilder config = Config.builder().withLogging(Logging.none());
+        if (windowMicros >= 0) {
+            config.withFlushConsolidation(windowMicros, TimeUnit.MICROSECONDS);
+        }
+        driver = GraphDatabase.driver(server.boltUri(), AuthTokens.none(), config.build());
+        driver.verifyConnectivity();
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void pipelinedTransaction(Counters counters) {
+        long readsBefore = server.reads();
+        AsyncSession session = driver.session(AsyncSession.class);
+        AsyncTransaction tx =
+                session.beginTransactionAsync().toCompletableFuture().join();
+        CompletableFuture<?>[] results = new CompletableFuture<?>[queries];
+        for (int i = 0; i < queries; i++) {
+            results[i] =
+                    tx.runAsync(QUERY).thenCompose(ResultCursor::consumeAsync).toCompletableFuture();
+        }
+        CompletableFuture.allOf(results).join();
+        tx.commitAsync().toCompletableFuture().join();
+        session.closeAsync().toCompletableFuture().join();
+        counters.serverReads += server.reads() - readsBefore;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long serverReads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serverReads = 0;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
+import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
+import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.messaging.v5.MessageFormatV5;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.QueryKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full inbound pipeline throughput: {@link ChunkDecoder}, {@link MessageDecoder} and {@link InboundMessageHandler}
+ * decoding a synthetic PULL response of {@code records} RECORD messages followed by SUCCESS. Every record is
+ * materialized into an {@link InternalRecord}, like the pull response handlers do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InboundMessageBenchmark {
+    @Param({"1", "1000"})
+    private int records;
+
+    @Param({"INTEGERS", "STRINGS", "MIXED", "NODES"})
+    private RecordShape shape;
+
+    private ByteBuf stream;
+    private EmbeddedChannel channel;
+    private InboundMessageDispatcher dispatcher;
+    private RecordMaterializingHandler handler;
+
+    @Setup
+    public void setUp() {
+        stream = BoltStreams.recordStream(shape, records);
+        channel = new EmbeddedChannel();
+        dispatcher = new InboundMessageDispatcher(channel, DEV_NULL_LOGGING);
+        setMessageDispatcher(channel, dispatcher);
+        channel.pipeline()
+                .addLast(
+                        new ChunkDecoder(DEV_NULL_LOGGING),
+                        new MessageDecoder(),
+                        new InboundMessageHandler(new MessageFormatV5(), DEV_NULL_LOGGING));
+        handler = new RecordMaterializingHandler(new QueryKeys(shape.keys()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int decode(Blackhole blackhole) {
+        handler.blackhole = blackhole;
+        handler.records = 0;
+        dispatcher.enqueue(handler);
+        channel.writeInbound(stream.retainedDuplicate());
+        if (dispatcher.queuedHandlersCount() != 0) {
+            throw new IllegalStateException("Response was not fully decoded");
+        }
+        return handler.records;
+    }
+
+    private static class RecordMaterializingHandler implements ResponseHandler {
+        private final QueryKeys queryKeys;
+        private Blackhole blackhole;
+        private int records;
+
+        RecordMaterializingHandler(QueryKeys queryKeys) {
+            this.queryKeys = queryKeys;
+        }
+
+        @Override
+        public void onSuccess(Map<String, Value> metadata) {
+            blackhole.consume(metadata);
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            throw new IllegalStateException(error);
+        }
+
+        @Override
+        public void onRecord(Value[] fields) {
+            records++;
+            blackhole.consume(new InternalRecord(queryKeys, fields));
+        }
+    }
+}
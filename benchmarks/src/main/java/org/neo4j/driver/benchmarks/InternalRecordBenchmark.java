@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.util.QueryKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link InternalRecord} construction and field access, as performed once per received RECORD message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InternalRecordBenchmark {
+    @Param({"INTEGERS", "STRINGS"})
+    private RecordShape shape;
+
+    private QueryKeys queryKeys;
+    private List<String> keys;
+    private Value[] values;
+    private Record record;
+
+    @Setup
+    public void setUp() {
+        keys = shape.keys();
+        queryKeys = new QueryKeys(keys);
+        values = shape.values(42);
+        record = new InternalRecord(queryKeys, values);
+    }
+
+    @Benchmark
+    public Record createWithQueryKeys() {
+        return new InternalRecord(queryKeys, values.clone());
+    }
+
+    @Benchmark
+    public Record createWithKeyList() {
+        return new InternalRecord(keys, values.clone());
+    }
+
+    @Benchmark
+    public void getByKey(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(record.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getByIndex(Blackhole blackhole) {
+        for (int i = 0; i < RecordShape.FIELDS; i++) {
+            blackhole.consume(record.get(i));
+        }
+    }
+
+    @Benchmark
+    public Object asMap() {
+        return record.asMap();
+    }
+}
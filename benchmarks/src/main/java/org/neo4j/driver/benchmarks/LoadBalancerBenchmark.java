@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseNameUtil;
+import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.async.ImmutableConnectionContext;
+import org.neo4j.driver.internal.cluster.ClusterComposition;
+import org.neo4j.driver.internal.cluster.ClusterCompositionLookupResult;
+import org.neo4j.driver.internal.cluster.Rediscovery;
+import org.neo4j.driver.internal.cluster.RoutingContext;
+import org.neo4j.driver.internal.cluster.RoutingSettings;
+import org.neo4j.driver.internal.cluster.RoutingTable;
+import org.neo4j.driver.internal.cluster.loadbalancing.LeastConnectedLoadBalancingStrategy;
+import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.net.ServerAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link LoadBalancer#acquireConnection(ConnectionContext)} on a routing table that is already known, from many threads
+ * at once: the routing table lookup, the choice of a server by the least connected load balancing strategy and the
+ * wrapping of the connection. The connection pool hands out the same connection for every server straight away.
+ * <p>
+ * Use {@code -t} to change the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class LoadBalancerBenchmark {
+    private static final ConnectionContext READ_CONTEXT =
+            new ImmutableConnectionContext(DatabaseNameUtil.defaultDatabase(), Collections.emptySet(), AccessMode.READ);
+    private static final ConnectionContext WRITE_CONTEXT = new ImmutableConnectionContext(
+            DatabaseNameUtil.defaultDatabase(), Collections.emptySet(), AccessMode.WRITE);
+
+    private LoadBalancer loadBalancer;
+
+    @Setup
+    public void setUp() {
+        ConnectionPool pool = new ImmediateConnectionPool();
+        loadBalancer = new LoadBalancer(
+                pool,
+                new FixedRediscovery(),
+                new RoutingSettings(RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS, RoutingContext.EMPTY),
+                new LeastConnectedLoadBalancingStrategy(pool, DEV_NULL_LOGGING),
+                ImmediateEventExecutor.INSTANCE,
+                Clock.systemUTC(),
+                DEV_NULL_LOGGING);
+        // fetches the routing table once, every acquisition afterwards finds it fresh
+        acquireRead();
+    }
+
+    @Benchmark
+    public Connection acquireRead() {
+        return loadBalancer
+                .acquireConnection(READ_CONTEXT)
+                .toCompletableFuture()
+                .join();
+    }
+
+    @Benchmark
+    public Connection acquireWrite() {
+        return loadBalancer
+                .acquireConnection(WRITE_CONTEXT)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static Set<BoltServerAddress> addresses(String prefix, int count) {
+        Set<BoltServerAddress> addresses = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            addresses.add(new BoltServerAddress(prefix + i, 7687));
+        }
+        return addresses;
+    }
+
+    private static class FixedRediscovery implements Rediscovery {
+        @Override
+        public CompletionStage<ClusterCompositionLookupResult> lookupClusterComposition(
+                RoutingTable routingTable,
+                ConnectionPool connectionPool,
+                Set<Bookmark> bookmarks,
+                String impersonatedUser) {
+            ClusterComposition composition = new ClusterComposition(
+                    Long.MAX_VALUE, addresses("reader", 3), addresses("writer", 1), addresses("router", 3), null);
+            return completedFuture(new ClusterCompositionLookupResult(composition));
+        }
+
+        @Override
+        public List<BoltServerAddress> resolve() {
+            return List.copyOf(addresses("router", 3));
+        }
+    }
+
+    private static class ImmediateConnectionPool implements ConnectionPool {
+        // never used, acquired connections are only wrapped by the load balancer
+        private static final Connection CONNECTION = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> null);
+        private static final CompletionStage<Connection> ACQUIRED = completedFuture(CONNECTION);
+
+        @Override
+        public CompletionStage<Connection> acquire(BoltServerAddress address) {
+            return ACQUIRED;
+        }
+
+        @Override
+        public void retainAll(Set<BoltServerAddress> addressesToRetain) {}
+
+        @Override
+        public void warmUp(Set<BoltServerAddress> addresses) {}
+
+        @Override
+        public int inUseConnections(ServerAddress address) {
+            return 0;
+        }
+
+        @Override
+        public int idleConnections(ServerAddress address) {
+            return 0;
+        }
+
+        @Override
+        public long averageResponseTime(ServerAddress address) {
+            return 0;
+        }
+
+        @Override
+        public CompletionStage<Void> close() {
+            return completedFuture(null);
+        }
+
+        @Override
+        public boolean isOpen(BoltServerAddress address) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.pool.NettyChannelTracker;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link NettyChannelTracker} bookkeeping performed for every connection acquisition and release, together with the
+ * in use count lookup done by the least connected load balancing strategy, from many threads at once.
+ * <p>
+ * Use {@code -t} to change the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class NettyChannelTrackerBenchmark {
+    private static final BoltServerAddress ADDRESS = new BoltServerAddress("localhost", 7687);
+
+    private NettyChannelTracker tracker;
+
+    @State(Scope.Thread)
+    public static class ThreadChannel {
+        private Channel channel;
+
+        @Setup
+        public void setUp(NettyChannelTrackerBenchmark benchmark) {
+            channel = new EmbeddedChannel();
+            setServerAddress(channel, ADDRESS);
+            setPoolId(channel, ADDRESS.toString());
+            benchmark.tracker.channelCreated(channel, null);
+        }
+
+        @TearDown
+        public void tearDown() {
+            channel.close();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        tracker = new NettyChannelTracker(
+                DevNullMetricsListener.INSTANCE, ImmediateEventExecutor.INSTANCE, DEV_NULL_LOGGING);
+    }
+
+    @Benchmark
+    public int acquireAndRelease(ThreadChannel state) {
+        tracker.channelAcquired(state.channel);
+        int inUse = tracker.inUseChannelCount(ADDRESS);
+        tracker.channelReleased(state.channel);
+        return inUse;
+    }
+
+    @Benchmark
+    public int inUseChannelCount() {
+        return tracker.inUseChannelCount(ADDRESS);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Raw {@link PackStream.Packer} and {@link PackStream.Unpacker} throughput. Every operation packs or unpacks
+ * {@link #VALUES} values of a single type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackStreamBenchmark {
+    static final int VALUES = 128;
+
+    private final long[] longs = new long[VALUES];
+    private final double[] doubles = new double[VALUES];
+    private final String[] asciiStrings = new String[VALUES];
+    private final String[] unicodeStrings = new String[VALUES];
+
+    private ByteBuf outputBuf;
+    private PackStream.Packer packer;
+
+    private ByteBuf packedLongs;
+    private ByteBuf packedDoubles;
+    private ByteBuf packedAsciiStrings;
+    private ByteBuf packedUnicodeStrings;
+    private ByteBufInput input;
+    private PackStream.Unpacker unpacker;
+
+    @Setup
+    public void setUp() throws IOException {
+        for (int i = 0; i < VALUES; i++) {
+            longs[i] = (long) i << (i % 64);
+            doubles[i] = i * 3.14;
+            asciiStrings[i] = "property-key-or-value-" + i;
+            unicodeStrings[i] = "Ünïcödé-värdë-ßtråñg-" + i;
+        }
+
+        outputBuf = Unpooled.buffer(64 * 1024);
+        packer = new PackStream.Packer(new ByteBufOutput(outputBuf));
+
+        packedLongs = pack(packer -> {
+            for (long value : longs) {
+                packer.pack(value);
+            }
+        });
+        packedDoubles = pack(packer -> {
+            for (double value : doubles) {
+                packer.pack(value);
+            }
+        });
+        packedAsciiStrings = pack(packer -> {
+            for (String value : asciiStrings) {
+                packer.pack(value);
+            }
+        });
+        packedUnicodeStrings = pack(packer -> {
+            for (String value : unicodeStrings) {
+                packer.pack(value);
+            }
+        });
+
+        input = new ByteBufInput();
+        unpacker = new PackStream.Unpacker(input);
+    }
+
+    @Benchmark
+    public ByteBuf packLongs() throws IOException {
+        outputBuf.clear();
+        for (long value : longs) {
+            packer.pack(value);
+        }
+        return outputBuf;
+    }
+
+    @Benchmark
+    public ByteBuf packDoubles() throws IOException {
+        outputBuf.clear();
+        for (double value : doubles) {
+            packer.pack(value);
+        }
+        return outputBuf;
+    }
+
+    @Benchmark
+    public ByteBuf packAsciiStrings() throws IOException {
+        outputBuf.clear();
+        for (String value : asciiStrings) {
+            packer.pack(value);
+        }
+        return outputBuf;
+    }
+
+    @Benchmark
+    public ByteBuf packUnicodeStrings() throws IOException {
+        outputBuf.clear();
+        for (String value : unicodeStrings) {
+            packer.pack(value);
+        }
+        return outputBuf;
+    }
+
+    @Benchmark
+    public void unpackLongs(Blackhole blackhole) throws IOException {
+        input.start(packedLongs.readerIndex(0));
+        try {
+            for (int i = 0; i < VALUES; i++) {
+                blackhole.consume(unpacker.unpackLong());
+            }
+        } finally {
+            input.stop();
+        }
+    }
+
+    @Benchmark
+    public void unpackDoubles(Blackhole blackhole) throws IOException {
+        input.start(packedDoubles.readerIndex(0));
+        try {
+            for (int i = 0; i < VALUES; i++) {
+                blackhole.consume(unpacker.unpackDouble());
+            }
+        } finally {
+            input.stop();
+        }
+    }
+
+    @Benchmark
+    public void unpackAsciiStrings(Blackhole blackhole) throws IOException {
+        unpackStrings(packedAsciiStrings, blackhole);
+    }
+
+    @Benchmark
+    public void unpackUnicodeStrings(Blackhole blackhole) throws IOException {
+        unpackStrings(packedUnicodeStrings, blackhole);
+    }
+
+    private void unpackStrings(ByteBuf packed, Blackhole blackhole) throws IOException {
+        input.start(packed.readerIndex(0));
+        try {
+            for (int i = 0; i < VALUES; i++) {
+                blackhole.consume(unpacker.unpackString());
+            }
+        } finally {
+            input.stop();
+        }
+    }
+
+    private static ByteBuf pack(PackAction action) throws IOException {
+        ByteBuf buf = Unpooled.buffer();
+        action.packWith(new PackStream.Packer(new ByteBufOutput(buf)));
+        return buf;
+    }
+
+    private interface PackAction {
+        void packWith(PackStream.Packer packer) throws IOException;
+    }
+}
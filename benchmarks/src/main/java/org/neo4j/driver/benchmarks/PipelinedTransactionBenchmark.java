@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
+import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
+import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.messaging.v5.MessageFormatV5;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dispatching the responses to a pipelined BEGIN, RUN, PULL and COMMIT through the inbound pipeline of an
+ * {@link EmbeddedChannel}: four handlers are queued in the {@link InboundMessageDispatcher} before the whole response
+ * stream arrives, like an explicit transaction running a single query does. The handlers are reused, so that the
+ * allocation per operation only covers decoding and the bookkeeping of the dispatcher.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelinedTransactionBenchmark {
+    @Param({"0", "100"})
+    private int records;
+
+    private ByteBuf stream;
+    private EmbeddedChannel channel;
+    private InboundMessageDispatcher dispatcher;
+    private ConsumingHandler begin;
+    private ConsumingHandler run;
+    private ConsumingHandler pull;
+    private ConsumingHandler commit;
+
+    @Setup
+    public void setUp() {
+        stream = BoltStreams.transactionStream(RecordShape.INTEGERS, records);
+        channel = new EmbeddedChannel();
+        dispatcher = new InboundMessageDispatcher(channel, DEV_NULL_LOGGING);
+        setMessageDispatcher(channel, dispatcher);
+        channel.pipeline()
+                .addLast(
+                        new ChunkDecoder(DEV_NULL_LOGGING),
+                        new MessageDecoder(),
+                        new InboundMessageHandler(new MessageFormatV5(), DEV_NULL_LOGGING));
+        begin = new ConsumingHandler();
+        run = new ConsumingHandler();
+        pull = new ConsumingHandler();
+        commit = new ConsumingHandler();
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public void dispatch(Blackhole blackhole) {
+        begin.blackhole = blackhole;
+        run.blackhole = blackhole;
+        pull.blackhole = blackhole;
+        commit.blackhole = blackhole;
+        dispatcher.enqueue(begin);
+        dispatcher.enqueue(run);
+        dispatcher.enqueue(pull);
+        dispatcher.enqueue(commit);
+        channel.writeInbound(stream.retainedDuplicate());
+        if (dispatcher.queuedHandlersCount() != 0) {
+            throw new IllegalStateException("Responses were not fully dispatched");
+        }
+    }
+
+    private static class ConsumingHandler implements ResponseHandler {
+        private Blackhole blackhole;
+
+        @Override
+        public void onSuccess(Map<String, Value> metadata) {
+            blackhole.consume(metadata);
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            throw new IllegalStateException(error);
+        }
+
+        @Override
+        public void onRecord(Value[] fields) {
+            blackhole.consume(fields);
+        }
+    }
+}
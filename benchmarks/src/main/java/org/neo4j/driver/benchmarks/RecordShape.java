@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import static org.neo4j.driver.Values.value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.value.NodeValue;
+
+/**
+ * Shapes of synthetic records used to feed the codec benchmarks. Every shape produces records of {@link #FIELDS} fields.
+ */
+public enum RecordShape {
+    INTEGERS {
+        @Override
+        public Value[] values(long row) {
+            Value[] values = new Value[FIELDS];
+            for (int i = 0; i < FIELDS; i++) {
+                // spread values over the different PackStream integer encodings
+                values[i] = value(row << (i * 8));
+            }
+            return values;
+        }
+    },
+    FLOATS {
+        @Override
+        public Value[] values(long row) {
+            Value[] values = new Value[FIELDS];
+            for (int i = 0; i < FIELDS; i++) {
+                values[i] = value(row * 1.5 + i);
+            }
+            return values;
+        }
+    },
+    STRINGS {
+        @Override
+        public Value[] values(long row) {
+            Value[] values = new Value[FIELDS];
+            for (int i = 0; i < FIELDS; i++) {
+                values[i] = value("value-" + i + "-of-row-" + row);
+            }
+            return values;
+        }
+    },
+    MIXED {
+        @Override
+        public Value[] values(long row) {
+            return new Value[] {
+                value(row),
+                value(row * 0.25),
+                value("name-" + row),
+                value(row % 2 == 0),
+                value(List.of(row, row + 1, row + 2)),
+                value(Map.of("city", "Malmö", "zip", row)),
+                value((Object) null),
+                value("a somewhat longer string value that does not fit into a tiny string " + row)
+            };
+        }
+    },
+    NODES {
+        @Override
+        public Value[] values(long row) {
+            Value[] values = new Value[FIELDS];
+            for (int i = 0; i < FIELDS; i++) {
+                long id = row * FIELDS + i;
+                values[i] = new NodeValue(new InternalNode(
+                        id,
+                        "4:6a6d1cd5-2fa4-4f1e-8b56-2f3b4d1c7e10:" + id,
+                        List.of("Person", "Employee"),
+                        Map.of("name", value("person-" + id), "age", value(id % 100), "score", value(id * 0.1))));
+            }
+            return values;
+        }
+    };
+
+    public static final int FIELDS = 8;
+
+    public abstract Value[] values(long row);
+
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>(FIELDS);
+        for (int i = 0; i < FIELDS; i++) {
+            keys.add("field" + i);
+        }
+        return keys;
+    }
+}
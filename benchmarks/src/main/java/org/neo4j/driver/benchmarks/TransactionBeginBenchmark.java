@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.testutil.bolt.QueryResult;
+import org.neo4j.driver.testutil.bolt.ScriptableBoltServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A transaction function running a single query against a {@link ScriptableBoltServer} on localhost, with and without
+ * pipelining of transaction begin. The server delays every response by {@code latencyMillis}, which stands in for the
+ * network latency to a remote server: without pipelining a transaction takes three round-trips, BEGIN, RUN with PULL
+ * and COMMIT, with pipelining two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBeginBenchmark {
+    private static final String QUERY = "RETURN 1";
+
+    @Param({"false", "true"})
+    private boolean pipelined;
+
+    @Param({"0", "1"})
+    private long latencyMillis;
+
+    private ScriptableBoltServer server;
+    private Driver driver;
+
+    @Setup
+    public void setUp() {
+        server = ScriptableBoltServer.builder()
+                .withResult(QUERY, QueryResult.generated(RecordShape.INTEGERS.keys(), 1, RecordShape.INTEGERS::values))
+                .withLatency(Duration.ofMillis(latencyMillis))
+                .start();
+        Config config = Config.builder()
+                .withLogging(Logging.none())
+                .withPipelinedTransactionBegin(pipelined)
+                .build();
+        driver = GraphDatabase.driver(server.boltUri(), AuthTokens.none(), config);
+        driver.verifyConnectivity();
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.close();
+        server.close();
+    }
+
+    @Benchmark
+    public long readTransaction() {
+        try (Session session = driver.session()) {
+            return session.executeRead(tx -> tx.run(QUERY).consume().counters().nodesCreated());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import static org.neo4j.driver.Values.value;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.messaging.common.CommonValuePacker;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link CommonValuePacker} throughput when packing {@link #ROWS} rows of driver {@link Value}s, as done for query
+ * parameters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValuePackerBenchmark {
+    static final int ROWS = 100;
+
+    @Param({"INTEGERS", "FLOATS", "STRINGS", "MIXED"})
+    private RecordShape shape;
+
+    private Value[] rows;
+    private ByteBuf outputBuf;
+    private CommonValuePacker packer;
+
+    @Setup
+    public void setUp() {
+        rows = new Value[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = value(shape.values(i));
+        }
+        outputBuf = Unpooled.buffer(256 * 1024);
+        packer = new CommonValuePacker(new ByteBufOutput(outputBuf), true);
+    }
+
+    @Benchmark
+    public ByteBuf pack() throws IOException {
+        outputBuf.clear();
+        for (Value row : rows) {
+            packer.pack(row);
+        }
+        return outputBuf;
+    }
+}
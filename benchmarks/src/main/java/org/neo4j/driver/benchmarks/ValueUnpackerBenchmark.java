@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.messaging.common.CommonValueUnpacker;
+import org.neo4j.driver.internal.messaging.v5.ValueUnpackerV5;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link CommonValueUnpacker} throughput when unpacking {@link #ROWS} RECORD message bodies, using the Bolt 5 unpacker.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueUnpackerBenchmark {
+    static final int ROWS = 100;
+
+    @Param({"INTEGERS", "FLOATS", "STRINGS", "MIXED", "NODES"})
+    private RecordShape shape;
+
+    private ByteBuf packedRecords;
+    private ByteBufInput input;
+    private CommonValueUnpacker unpacker;
+
+    @Setup
+    public void setUp() {
+        List<Value[]> records = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            records.add(shape.values(i));
+        }
+        packedRecords = BoltStreams.packedRecords(records);
+        input = new ByteBufInput();
+        unpacker = new ValueUnpackerV5(input);
+    }
+
+    @Benchmark
+    public void unpack(Blackhole blackhole) throws IOException {
+        input.start(packedRecords.readerIndex(0));
+        try {
+            for (int i = 0; i < ROWS; i++) {
+                unpacker.unpackStructHeader();
+                unpacker.unpackStructSignature();
+                blackhole.consume(unpacker.unpackArray());
+            }
+        } finally {
+            input.stop();
+        }
+    }
+}
@@ -83,47 +83,67 @@ public final class Config implements Serializable {
     private final Logging logging;
 
     private final boolean logLeakedSessions;
+    private final double leakedSessionsSampleRate;
 
     private final int maxConnectionPoolSize;
+    private final int minIdleConnections;
 
     private final long idleTimeBeforeConnectionTest;
+    private final boolean backgroundConnectionLivenessCheck;
     private final long maxConnectionLifetimeMillis;
     private final long connectionAcquisitionTimeoutMillis;
 
     private final SecuritySettings securitySettings;
 
     private final long fetchSize;
+    private final long maxResultBufferSize;
+    private final long maxTotalResultBufferSize;
     private final long routingTablePurgeDelayMillis;
+    private final double routingTableRefreshFraction;
     private final long maxTransactionRetryTimeMillis;
+    private final RetryPolicy retryPolicy;
 
     private final int connectionTimeoutMillis;
+    private final long flushConsolidationWindowNanos;
+    private final boolean pipelinedTransactionBegin;
     private final ServerAddressResolver resolver;
 
     private final int eventLoopThreads;
     private final String userAgent;
     private final MetricsAdapter metricsAdapter;
+    private final LoadBalancingStrategy loadBalancingStrategy;
 
     private Config(ConfigBuilder builder) {
         this.queryBookmarkManager = builder.queryBookmarkManager;
         this.logging = builder.logging;
         this.logLeakedSessions = builder.logLeakedSessions;
+        this.leakedSessionsSampleRate = builder.leakedSessionsSampleRate;
 
         this.idleTimeBeforeConnectionTest = builder.idleTimeBeforeConnectionTest;
+        this.backgroundConnectionLivenessCheck = builder.backgroundConnectionLivenessCheck;
         this.maxConnectionLifetimeMillis = builder.maxConnectionLifetimeMillis;
         this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.minIdleConnections = builder.minIdleConnections;
         this.connectionAcquisitionTimeoutMillis = builder.connectionAcquisitionTimeoutMillis;
         this.userAgent = builder.userAgent;
 
         this.securitySettings = builder.securitySettingsBuilder.build();
 
         this.connectionTimeoutMillis = builder.connectionTimeoutMillis;
+        this.flushConsolidationWindowNanos = builder.flushConsolidationWindowNanos;
+        this.pipelinedTransactionBegin = builder.pipelinedTransactionBegin;
         this.routingTablePurgeDelayMillis = builder.routingTablePurgeDelayMillis;
+        this.routingTableRefreshFraction = builder.routingTableRefreshFraction;
         this.maxTransactionRetryTimeMillis = builder.maxTransactionRetryTimeMillis;
+        this.retryPolicy = builder.retryPolicy;
         this.resolver = builder.resolver;
         this.fetchSize = builder.fetchSize;
+        this.maxResultBufferSize = builder.maxResultBufferSize;
+        this.maxTotalResultBufferSize = builder.maxTotalResultBufferSize;
 
         this.eventLoopThreads = builder.eventLoopThreads;
         this.metricsAdapter = builder.metricsAdapter;
+        this.loadBalancingStrategy = builder.loadBalancingStrategy;
     }
 
     /**
@@ -159,6 +179,18 @@ public final class Config implements Serializable {
         return logLeakedSessions;
     }
 
+    /**
+     * Returns the fraction of sessions that are checked for leaks when leaked sessions logging is enabled.
+     *
+     * @return the leaked sessions sample rate, {@code 1.0} when every session is checked
+     * @see ConfigBuilder#withLeakedSessionsLogging(double)
+     * @since 5.5
+     */
+    @Experimental
+    public double leakedSessionsSampleRate() {
+        return leakedSessionsSampleRate;
+    }
+
     /**
      * Pooled connections that have been idle in the pool for longer than this timeout
      * will be tested before they are used again, to ensure they are still live.
@@ -169,6 +201,17 @@ public final class Config implements Serializable {
         return idleTimeBeforeConnectionTest;
     }
 
+    /**
+     * Returns if idle pooled connections are tested for liveness in the background instead of when they are acquired.
+     *
+     * @return {@code true} if background liveness checks are enabled, otherwise {@code false}
+     * @since 5.5
+     */
+    @Experimental
+    public boolean isBackgroundConnectionLivenessCheckEnabled() {
+        return backgroundConnectionLivenessCheck;
+    }
+
     /**
      * Pooled connections older than this threshold will be closed and removed from the pool.
      *
@@ -185,6 +228,65 @@ public final class Config implements Serializable {
         return connectionTimeoutMillis;
     }
 
+    /**
+     * Returns if flushes of messages written to a connection are consolidated.
+     *
+     * @return {@code true} if flush consolidation is enabled, otherwise {@code false}
+     * @see #flushConsolidationWindowNanos()
+     * @since 5.5
+     */
+    @Experimental
+    public boolean isFlushConsolidationEnabled() {
+        return flushConsolidationWindowNanos >= 0;
+    }
+
+    /**
+     * Returns the window in which flushes of messages written to a connection are consolidated.
+     *
+     * @return the window in nanoseconds, {@code 0} when flushes are consolidated within an event loop iteration and
+     * {@code -1} when flush consolidation is disabled
+     * @since 5.5
+     */
+    @Experimental
+    public long flushConsolidationWindowNanos() {
+        return flushConsolidationWindowNanos;
+    }
+
+    /**
+     * Returns if the messages that begin transactions are sent together with the first query of the transaction.
+     *
+     * @return {@code true} if transaction begin is pipelined, otherwise {@code false}
+     * @since 5.5
+     */
+    @Experimental
+    public boolean isPipelinedTransactionBeginEnabled() {
+        return pipelinedTransactionBegin;
+    }
+
+    /**
+     * Returns the maximum size of the records buffered in a single result.
+     *
+     * @return the maximum size in bytes, {@link Long#MAX_VALUE} when unlimited
+     * @see ConfigBuilder#withMaxResultBufferSize(long)
+     * @since 5.5
+     */
+    @Experimental
+    public long maxResultBufferSize() {
+        return maxResultBufferSize;
+    }
+
+    /**
+     * Returns the maximum size of the records buffered in all results of the driver together.
+     *
+     * @return the maximum size in bytes, {@link Long#MAX_VALUE} when unlimited
+     * @see ConfigBuilder#withMaxTotalResultBufferSize(long)
+     * @since 5.5
+     */
+    @Experimental
+    public long maxTotalResultBufferSize() {
+        return maxTotalResultBufferSize;
+    }
+
     public int maxConnectionPoolSize() {
         return maxConnectionPoolSize;
     }
@@ -193,6 +295,17 @@ public final class Config implements Serializable {
         return connectionAcquisitionTimeoutMillis;
     }
 
+    /**
+     * Returns the amount of idle connections kept open towards every server.
+     *
+     * @return the minimum amount of idle connections, {@code 0} when pools are not warmed up
+     * @since 5.5
+     */
+    @Experimental
+    public int minIdleConnections() {
+        return minIdleConnections;
+    }
+
     /**
      * @return indicator for encrypted communication.
      */
@@ -241,6 +354,19 @@ public final class Config implements Serializable {
         return routingTablePurgeDelayMillis;
     }
 
+    /**
+     * Returns the fraction of the routing table time-to-live after which routing tables are refreshed in the
+     * background.
+     *
+     * @return the routing table refresh fraction, {@code 1.0} when routing tables are only refreshed once expired
+     * @see ConfigBuilder#withRoutingTableRefreshFraction(double)
+     * @since 5.5
+     */
+    @Experimental
+    public double routingTableRefreshFraction() {
+        return routingTableRefreshFraction;
+    }
+
     /**
      * Returns managed transactions maximum retry time.
      *
@@ -250,6 +376,18 @@ public final class Config implements Serializable {
         return maxTransactionRetryTimeMillis;
     }
 
+    /**
+     * Returns the policy used to retry managed transactions.
+     *
+     * @return the retry policy
+     * @see ConfigBuilder#withRetryPolicy(RetryPolicy)
+     * @since 5.5
+     */
+    @Experimental
+    public RetryPolicy retryPolicy() {
+        return retryPolicy;
+    }
+
     public long fetchSize() {
         return fetchSize;
     }
@@ -269,6 +407,17 @@ public final class Config implements Serializable {
         return this.metricsAdapter;
     }
 
+    /**
+     * Returns the strategy used to select a reader or a writer among the cluster members known to the routing driver.
+     *
+     * @return the load balancing strategy
+     * @since 5.5
+     */
+    @Experimental
+    public LoadBalancingStrategy loadBalancingStrategy() {
+        return loadBalancingStrategy;
+    }
+
     /**
      * @return the user_agent configured for this driver
      */
@@ -284,20 +433,30 @@ public final class Config implements Serializable {
                 BookmarkManagers.defaultManager(BookmarkManagerConfig.builder().build());
         private Logging logging = DEV_NULL_LOGGING;
         private boolean logLeakedSessions;
+        private double leakedSessionsSampleRate = 1.0;
         private int maxConnectionPoolSize = PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private int minIdleConnections = PoolSettings.DEFAULT_MIN_IDLE_CONNECTIONS;
         private long idleTimeBeforeConnectionTest = PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
+        private boolean backgroundConnectionLivenessCheck;
         private long maxConnectionLifetimeMillis = PoolSettings.DEFAULT_MAX_CONNECTION_LIFETIME;
         private long connectionAcquisitionTimeoutMillis = PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
         private String userAgent = format("neo4j-java/%s", driverVersion());
         private final SecuritySettings.SecuritySettingsBuilder securitySettingsBuilder =
                 new SecuritySettings.SecuritySettingsBuilder();
         private long routingTablePurgeDelayMillis = RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS;
+        private double routingTableRefreshFraction = RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_FRACTION;
         private int connectionTimeoutMillis = (int) TimeUnit.SECONDS.toMillis(30);
         private long maxTransactionRetryTimeMillis = ExponentialBackoffRetryLogic.DEFAULT_MAX_RETRY_TIME_MS;
+        private RetryPolicy retryPolicy = RetryPolicy.defaultPolicy();
         private ServerAddressResolver resolver;
         private MetricsAdapter metricsAdapter = MetricsAdapter.DEV_NULL;
+        private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.LEAST_CONNECTED;
         private long fetchSize = FetchSizeUtil.DEFAULT_FETCH_SIZE;
+        private long maxResultBufferSize = Long.MAX_VALUE;
+        private long maxTotalResultBufferSize = Long.MAX_VALUE;
         private int eventLoopThreads = 0;
+        private long flushConsolidationWindowNanos = -1;
+        private boolean pipelinedTransactionBegin = false;
 
         private ConfigBuilder() {}
 
@@ -342,16 +501,40 @@ public final class Config implements Serializable {
          * {@link org.neo4j.driver.util.Resource resource} that needs to be explicitly closed.
          * Unclosed sessions will result in socket leaks and could cause {@link OutOfMemoryError}s.
          * <p>
-         * Session is considered to be leaked when it is finalized via {@link Object#finalize()} while not being
-         * closed. This option turns on logging of such sessions and stacktraces of where they were created.
+         * Session is considered to be leaked when it is garbage collected while not being closed and still holding
+         * a connection. This option turns on logging of such sessions and stacktraces of where they were created, and
+         * counts them in {@link Metrics#leakedSessions()} when metrics are enabled.
          * <p>
-         * <b>Note:</b> this option should mostly be used in testing environments for session leak investigations.
-         * Enabling it will add object finalization overhead.
+         * <b>Note:</b> every session is checked, which costs a stacktrace per session and some garbage collection
+         * overhead. Use {@link #withLeakedSessionsLogging(double)} to check a sample of the sessions instead.
          *
          * @return this builder
          */
         public ConfigBuilder withLeakedSessionsLogging() {
+            return withLeakedSessionsLogging(1.0);
+        }
+
+        /**
+         * Enable logging of leaked sessions like {@link #withLeakedSessionsLogging()} does, for a random sample of
+         * the sessions.
+         * <p>
+         * Sessions that are not sampled cost nothing extra, so a small sample rate, such as {@code 0.01}, is cheap
+         * enough to keep on in production and still finds the code that leaks sessions when it runs often. Value must
+         * be greater than {@code 0} and not greater than {@code 1}.
+         *
+         * @param sampleRate the fraction of the sessions that are checked for leaks
+         * @return this builder
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withLeakedSessionsLogging(double sampleRate) {
+            if (!(sampleRate > 0 && sampleRate <= 1)) {
+                throw new IllegalArgumentException(String.format(
+                        "The leaked sessions sample rate must be greater than 0 and not greater than 1, but was %s.",
+                        sampleRate));
+            }
             this.logLeakedSessions = true;
+            this.leakedSessionsSampleRate = sampleRate;
             return this;
         }
 
@@ -383,6 +566,28 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Test idle pooled connections for liveness in the background instead of when they are acquired.
+         * <p>
+         * By default, a connection that has been idle for longer than the timeout configured with
+         * {@link #withConnectionLivenessCheckTimeout(long, TimeUnit)} is tested when it is acquired, which adds a
+         * network round-trip to the acquisition. With this option, every pool periodically pings its idle connections
+         * instead and closes the ones that fail the test, so acquisitions receive connections that were tested
+         * recently. A connection is still tested when it is acquired if the background test did not get to it in
+         * time.
+         * <p>
+         * This option has no effect unless the liveness check timeout is set to a positive value.
+         *
+         * @return this builder
+         * @see #withConnectionLivenessCheckTimeout(long, TimeUnit)
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withBackgroundConnectionLivenessCheck() {
+            this.backgroundConnectionLivenessCheck = true;
+            return this;
+        }
+
         /**
          * Pooled connections older than this threshold will be closed and removed from the pool. Such discarding
          * happens during connection acquisition so that new session is never backed by an old connection.
@@ -435,6 +640,34 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Configure minimum amount of idle connections the connection pool keeps open towards a single database. The
+         * pool towards a server is warmed up in the background when it is created, when the routing table that
+         * contains the server is updated and when the pool discards connections that failed the liveness check or
+         * exceeded their maximum lifetime. Queries then rarely have to wait for a new connection to be established
+         * and authenticated.
+         * <p>
+         * The amount of idle connections is not guaranteed at all times: a warm-up only opens connections while the
+         * pool is below this amount and never opens more than {@link #withMaxConnectionPoolSize(int)} allows.
+         * <p>
+         * Default value is {@code 0}, which means connections are only created when needed. Negative values are not
+         * allowed.
+         *
+         * @param value the minimum amount of idle connections.
+         * @return this builder
+         * @see #withMaxConnectionPoolSize(int)
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withMinIdleConnections(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "The minimum amount of idle connections may not be negative, but was: %d", value));
+            }
+            this.minIdleConnections = value;
+            return this;
+        }
+
         /**
          * Configure maximum amount of time connection acquisition will attempt to acquire a connection from the
          * connection pool. This timeout only kicks in when all existing connections are being used and no new
@@ -525,6 +758,34 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Specify when routing tables are refreshed ahead of their expiry, as a fraction of the time-to-live the
+         * server returned with them.
+         * <p>
+         * Once that fraction of the time-to-live has passed, the next use of the database refreshes its routing
+         * table in the background and keeps using the current routing table meanwhile, instead of waiting for the
+         * refresh when the routing table expires. The refresh time is made up to 10% earlier at random so that
+         * drivers started together do not refresh together. A routing table that fails to refresh in the background
+         * is used until it expires.
+         * <p>
+         * Default value is {@code 1.0}, routing tables are only refreshed once they expire. Value must be greater
+         * than {@code 0} and not greater than {@code 1}, {@code 0.8} is a good choice to enable refreshing ahead.
+         *
+         * @param fraction the fraction of the routing table time-to-live after which it is refreshed
+         * @return this builder
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withRoutingTableRefreshFraction(double fraction) {
+            if (!(fraction > 0 && fraction <= 1)) {
+                throw new IllegalArgumentException(String.format(
+                        "The routing table refresh fraction must be greater than 0 and not greater than 1, but was %s.",
+                        fraction));
+            }
+            this.routingTableRefreshFraction = fraction;
+            return this;
+        }
+
         /**
          * Specify how many records to fetch in each batch.
          * This config is only valid when the driver is used with servers that support Bolt V4 (Server version 4.0 and later).
@@ -533,6 +794,8 @@ public final class Config implements Serializable {
          * This config specifies the default fetch size for all query runs using {@link Session} and {@link org.neo4j.driver.async.AsyncSession}.
          * By default, the value is set to {@code 1000}.
          * Use {@code -1} to disables back pressure and config client to pull all records at once after each run.
+         * Use {@code -2} to adapt the fetch size of each result to how fast its records are consumed and to how large
+         * they are, within a bound on the memory taken by the records buffered in the driver.
          * <p>
          * This config only applies to run result obtained via {@link Session} and {@link org.neo4j.driver.async.AsyncSession}.
          * As with {@link org.neo4j.driver.reactive.RxSession}, the batch size is provided via
@@ -546,6 +809,112 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Configure the maximum size of the records that are buffered in a single result, received from the server
+         * but not consumed yet. The size of records is estimated from the size of the messages they arrive in, which
+         * is smaller than the memory they take once decoded but proportional to it.
+         * <p>
+         * When the records buffered in a result grow over the maximum, the driver stops pulling records for it and
+         * stops reading from its connection, which makes the server wait, until most of the buffered records are
+         * consumed. Results whose records are all requested at once, with {@link Result#list()} for example, are not
+         * limited.
+         * <p>
+         * Default value is unlimited. Negative values are allowed and result in an unlimited size. Value of {@code 0}
+         * is not allowed.
+         *
+         * @param bytes the maximum size of the records buffered in a result, in bytes
+         * @return this builder
+         * @see #withMaxTotalResultBufferSize(long)
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withMaxResultBufferSize(long bytes) {
+            this.maxResultBufferSize = resultBufferSize(bytes);
+            return this;
+        }
+
+        /**
+         * Configure the maximum size of the records that are buffered in all results of the driver together, as
+         * estimated for {@link #withMaxResultBufferSize(long)}.
+         * <p>
+         * While the records buffered in all results are over the maximum, results with buffered records are limited
+         * like a single result over its maximum until most of their own records are consumed. A result without
+         * buffered records is never limited, so that results that are not consumed can not stall other results.
+         * <p>
+         * Default value is unlimited. Negative values are allowed and result in an unlimited size. Value of {@code 0}
+         * is not allowed.
+         *
+         * @param bytes the maximum size of the records buffered in all results, in bytes
+         * @return this builder
+         * @see #withMaxResultBufferSize(long)
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withMaxTotalResultBufferSize(long bytes) {
+            this.maxTotalResultBufferSize = resultBufferSize(bytes);
+            return this;
+        }
+
+        private static long resultBufferSize(long bytes) {
+            if (bytes == 0) {
+                throw new IllegalArgumentException("Zero value is not supported");
+            }
+            return bytes < 0 ? Long.MAX_VALUE : bytes;
+        }
+
+        /**
+         * Consolidate the flushes of messages written to a connection, so that messages written in quick succession
+         * are sent to the server in a single network write.
+         * <p>
+         * By default, every query, transaction and session operation flushes its messages right away, which costs a
+         * system call each. With this option, flushes requested while a connection is reading responses are delayed
+         * until the read completes. Other flushes are delayed by the given window or, when the window is {@code 0},
+         * until the tasks already queued on the connection's event loop have run. This reduces the number of system
+         * calls when many queries are pipelined on a connection, for example with the async API, at the expense of a
+         * latency of up to the window for every flush. Windows are subject to the timer resolution of the event loops,
+         * which is a millisecond with the NIO transport, so a window of {@code 0} is usually the better choice.
+         * <p>
+         * Flush consolidation is disabled by default.
+         *
+         * @param window the window to consolidate flushes in, {@code 0} to consolidate them within an event loop
+         *               iteration
+         * @param unit   the unit in which the window is given
+         * @return this builder
+         * @throws IllegalArgumentException when the window is negative
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withFlushConsolidation(long window, TimeUnit unit) {
+            if (window < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "The flush consolidation window may not be smaller than 0, but was %d %s.", window, unit));
+            }
+            this.flushConsolidationWindowNanos = unit.toNanos(window);
+            return this;
+        }
+
+        /**
+         * Enable or disable pipelining of transaction begin. When enabled, the message that begins an unmanaged
+         * transaction, including the transactions of transaction functions, is not sent on its own and waited for.
+         * It is sent together with the first query of the transaction, or with its commit or rollback when no query
+         * is run, which saves a network round-trip per transaction.
+         * <p>
+         * Beginning a transaction then always succeeds right away. A failure to begin the transaction, for example
+         * due to invalid transaction configuration or bookmarks that the server can not reach in time, is reported by
+         * the first query, commit or rollback of the transaction instead.
+         * <p>
+         * Pipelining of transaction begin is disabled by default.
+         *
+         * @param enabled {@code true} to pipeline transaction begin, otherwise {@code false}
+         * @return this builder
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withPipelinedTransactionBegin(boolean enabled) {
+            this.pipelinedTransactionBegin = enabled;
+            return this;
+        }
+
         /**
          * Specify socket connection timeout.
          * <p>
@@ -601,6 +970,25 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Specify the policy used to retry managed transactions within the {@link #withMaxTransactionRetryTime(long, TimeUnit) maximum retry time}.
+         * <p>
+         * The policy configures the delay between attempts and, optionally, a driver-wide retry budget that stops
+         * retrying once retries outweigh successful work. A budget keeps a fleet of drivers from amplifying the load on
+         * a cluster that is unavailable for a while, for example during a leader election.
+         * <p>
+         * Default value is {@link RetryPolicy#defaultPolicy()}.
+         *
+         * @param retryPolicy the retry policy
+         * @return this builder
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withRetryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+            return this;
+        }
+
         /**
          * Specify a custom server address resolver used by the routing driver to resolve the initial address used to create the driver.
          * Such resolution happens:
@@ -661,6 +1049,22 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Configure the strategy the routing driver uses to select a reader or a writer among the known cluster
+         * members for every new connection. It has no effect on drivers created for URIs with the 'bolt' scheme.
+         * <p>
+         * Default value is {@link LoadBalancingStrategy#LEAST_CONNECTED}.
+         *
+         * @param loadBalancingStrategy the load balancing strategy to use.
+         * @return this builder.
+         * @since 5.5
+         */
+        @Experimental
+        public ConfigBuilder withLoadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+            this.loadBalancingStrategy = Objects.requireNonNull(loadBalancingStrategy, "loadBalancingStrategy");
+            return this;
+        }
+
         /**
          * Configure the event loop thread count. This specifies how many threads the driver can use to handle network I/O events
          * and user's events in driver's I/O threads. By default, 2 * NumberOfProcessors amount of threads will be used instead.
@@ -895,4 +1299,24 @@ public final class Config implements Serializable {
             return this;
         }
     }
+
+    /**
+     * Defines how the routing driver selects a reader or a writer among the known cluster members.
+     *
+     * @since 5.5
+     */
+    @Experimental
+    public enum LoadBalancingStrategy {
+        /**
+         * Selects the cluster member with the least amount of connections in use by the driver.
+         */
+        LEAST_CONNECTED,
+
+        /**
+         * Selects the better of two random cluster members, based on the moving average of the time they take to
+         * respond to the driver combined with the amount of connections in use by the driver. Cluster members that
+         * respond slowly, for example due to garbage collection or disk pressure, receive fewer requests.
+         */
+        LEAST_RESPONSE_TIME
+    }
 }
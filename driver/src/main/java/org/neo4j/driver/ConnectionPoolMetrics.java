@@ -179,4 +179,95 @@ public interface ConnectionPoolMetrics {
      * @return the total amount of connection that are borrowed outside the pool.
      */
     long totalInUseCount();
+
+    /**
+     * A counter to record how many map keys, labels and relationship types received by the connections of this pool were
+     * resolved to an already decoded string instead of being decoded again.
+     * This number increases every time when a connection is returned back to the pool or closed.
+     * @return the total amount of received strings that were resolved from the connection string caches.
+     */
+    long stringCacheHits();
+
+    /**
+     * A counter to record how many map keys, labels and relationship types received by the connections of this pool had to
+     * be decoded because they were not in the connection string caches.
+     * This number increases every time when a connection is returned back to the pool or closed.
+     * @return the total amount of received strings that missed the connection string caches.
+     */
+    long stringCacheMisses();
+
+    /**
+     * A counter to record how many times the pool was filled up to the minimum amount of idle connections configured
+     * by {@link Config.ConfigBuilder#withMinIdleConnections(int)}.
+     * This number increases every time when a warm-up of the pool completes.
+     * @return the total amount of completed warm-ups since the pool is created.
+     */
+    long warmedUp();
+
+    /**
+     * A counter to record the total time in milliseconds spent to warm up the pool since the pool is created.
+     * This number increases every time when a warm-up of the pool completes.
+     * See {@link ConnectionPoolMetrics#warmedUp()} for the total amount of completed warm-ups.
+     * @return the total warm-up time since the pool is created.
+     */
+    long totalWarmUpTime();
+
+    /**
+     * A counter to record how many idle connections were tested for liveness in the background, as enabled by
+     * {@link Config.ConfigBuilder#withBackgroundConnectionLivenessCheck()}.
+     * This number increases every time when an idle connection is pinged by the pool.
+     * @return the total amount of background liveness checks since the pool is created.
+     */
+    long probed();
+
+    /**
+     * A counter to record how many idle connections were closed because they failed a background liveness check.
+     * This number increases every time when an idle connection is evicted from the pool.
+     * See {@link ConnectionPoolMetrics#probed()} for the total amount of background liveness checks.
+     * @return the total amount of idle connections evicted since the pool is created.
+     */
+    long evicted();
+
+    /**
+     * The distribution of the times spent to acquire connections from the pool, the total of which is
+     * {@link ConnectionPoolMetrics#totalAcquisitionTime()}.
+     * @return the histogram of connection acquisition times since the pool is created.
+     */
+    LatencyHistogram acquisitionTimeHistogram();
+
+    /**
+     * The distribution of the times spent to establish new connections, the total of which is
+     * {@link ConnectionPoolMetrics#totalConnectionTime()}.
+     * @return the histogram of connection times since the pool is created.
+     */
+    LatencyHistogram connectionTimeHistogram();
+
+    /**
+     * The distribution of the times connections are borrowed out of the pool, the total of which is
+     * {@link ConnectionPoolMetrics#totalInUseTime()}.
+     * @return the histogram of in-use times since the pool is created.
+     */
+    LatencyHistogram inUseTimeHistogram();
+
+    /**
+     * The distribution of the times from sending a query over a connection of this pool until the first record of its
+     * result arrived. Queries without records are not recorded.
+     * @return the histogram of times to the first record since the pool is created.
+     */
+    LatencyHistogram firstRecordTimeHistogram();
+
+    /**
+     * The distribution of the times from sending a query over a connection of this pool until its result was
+     * completely received or discarded. Failed queries are not recorded.
+     * @return the histogram of query result times since the pool is created.
+     */
+    LatencyHistogram resultTimeHistogram();
+
+    /**
+     * An estimate of the memory taken by the records that were received over connections of this pool and are
+     * buffered in results, waiting to be consumed. It is estimated from the size of the messages the records arrived
+     * in and is updated in steps of a few kilobytes per result.
+     * @return the bytes of records currently buffered in results.
+     */
+    long bufferedResultBytes();
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import java.time.Duration;
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * Provides the distribution of a latency recorded by the driver, such as the time to acquire a connection from a
+ * pool. Latencies are recorded into buckets with a bounded relative error, so that percentiles can be computed
+ * without keeping every recorded value.
+ *
+ * @see ConnectionPoolMetrics
+ * @since 5.5
+ */
+@Experimental
+public interface LatencyHistogram {
+    /**
+     * The amount of recorded latencies. This number increases every time when a latency is recorded.
+     *
+     * @return the amount of recorded latencies.
+     */
+    long count();
+
+    /**
+     * The highest recorded latency.
+     *
+     * @return the highest recorded latency, or {@link Duration#ZERO} when no latency was recorded.
+     */
+    Duration max();
+
+    /**
+     * The latency below or at which the given fraction of all recorded latencies lies, such as {@code 0.99} for the
+     * 99th percentile. The returned latency is the upper bound of the bucket containing the percentile, limited by
+     * {@link #max()}.
+     *
+     * @param percentile the fraction of recorded latencies, between {@code 0.0} and {@code 1.0}.
+     * @return the latency at the given percentile, or {@link Duration#ZERO} when no latency was recorded.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0.0} and {@code 1.0}.
+     */
+    Duration percentile(double percentile);
+}
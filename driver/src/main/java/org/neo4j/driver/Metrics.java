@@ -32,4 +32,40 @@ public interface Metrics {
      * @return Connection pool metrics for all current active pools.
      */
     Collection<ConnectionPoolMetrics> connectionPoolMetrics();
+
+    /**
+     * The amount of sessions that were garbage collected while not being closed and still holding a connection. Only
+     * the sessions checked by {@link Config.ConfigBuilder#withLeakedSessionsLogging() leaked sessions logging} are
+     * counted.
+     *
+     * @return the amount of leaked sessions
+     * @since 5.5
+     */
+    long leakedSessions();
+
+    /**
+     * The amount of failed units of work that were scheduled to be retried by the driver.
+     *
+     * @return the amount of retries
+     * @see Config.ConfigBuilder#withRetryPolicy(RetryPolicy)
+     * @since 5.5
+     */
+    long retries();
+
+    /**
+     * The amount of failed units of work that were not retried because the
+     * {@link RetryPolicy.RetryPolicyBuilder#withRetryBudget(double, int) retry budget} was exhausted.
+     *
+     * @return the amount of retries denied by the retry budget
+     * @since 5.5
+     */
+    long retryBudgetExhausted();
+
+    /**
+     * A histogram of the delays the driver waited for before retrying failed units of work.
+     *
+     * @return the retry delay histogram
+     * @since 5.5
+     */
+    LatencyHistogram retryDelayHistogram();
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import java.util.List;
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+import org.neo4j.driver.exceptions.value.Uncoercible;
+import org.neo4j.driver.util.Experimental;
+import org.neo4j.driver.util.Immutable;
+
+/**
+ * A batch of consecutive records of a {@link Result}, stored column by column.
+ * <p>
+ * Columns that only hold integers or only hold floats are kept in primitive arrays. Reading them with
+ * {@link #getLong(int, int)} or {@link #getDouble(int, int)} does not allocate a {@link Value} per cell.
+ * Other columns hold values and work like {@link Record#get(int)}.
+ * <p>
+ * Cells are addressed by column index, in the order of {@link #keys()}, and by row index, from {@code 0} to
+ * {@code size() - 1}.
+ *
+ * @since 5.5
+ */
+@Experimental
+@Immutable
+public interface RecordBatch {
+    /**
+     * Retrieve the keys of the records in this batch.
+     *
+     * @return all field keys in order
+     */
+    List<String> keys();
+
+    /**
+     * The number of records in this batch.
+     *
+     * @return the number of records, never {@code 0}
+     */
+    int size();
+
+    /**
+     * Check if the given cell holds {@code null}.
+     *
+     * @param column the index of the column
+     * @param row the index of the record in this batch
+     * @return {@code true} if the cell holds {@code null}
+     * @throws IndexOutOfBoundsException if the column or the row is out of bounds
+     */
+    boolean isNull(int column, int row);
+
+    /**
+     * Retrieve the given cell as a Java long.
+     *
+     * @param column the index of the column
+     * @param row the index of the record in this batch
+     * @return the cell as a Java long
+     * @throws Uncoercible if the cell does not hold an integer
+     * @throws LossyCoercion if the cell holds a float that cannot be converted without loss
+     * @throws IndexOutOfBoundsException if the column or the row is out of bounds
+     */
+    long getLong(int column, int row);
+
+    /**
+     * Retrieve the given cell as a Java double.
+     *
+     * @param column the index of the column
+     * @param row the index of the record in this batch
+     * @return the cell as a Java double
+     * @throws Uncoercible if the cell does not hold a number
+     * @throws LossyCoercion if the cell holds an integer that cannot be converted without loss
+     * @throws IndexOutOfBoundsException if the column or the row is out of bounds
+     */
+    double getDouble(int column, int row);
+
+    /**
+     * Retrieve the given cell as a value. This allocates a value for cells of primitive columns.
+     *
+     * @param column the index of the column
+     * @param row the index of the record in this batch
+     * @return the cell value, {@link Values#NULL} for {@code null}
+     * @throws IndexOutOfBoundsException if the column or the row is out of bounds
+     */
+    Value get(int column, int row);
+
+    /**
+     * Retrieve the given row as a record. This allocates the record and a value per cell.
+     *
+     * @param row the index of the record in this batch
+     * @return the record
+     * @throws IndexOutOfBoundsException if the row is out of bounds
+     */
+    Record record(int row);
+}
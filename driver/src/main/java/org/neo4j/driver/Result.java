@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.exceptions.ResultConsumedException;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Resource;
 
 /**
@@ -95,6 +96,21 @@ public interface Result extends Iterator<Record> {
      */
     Record peek();
 
+    /**
+     * Navigate to and retrieve the next batch of records in this result.
+     * <p>
+     * After the first call, records arriving from the network are decoded straight into batches, with integer and float
+     * columns kept in primitive arrays. This avoids allocating a {@link Value} per cell when exporting large numeric
+     * results. A batch holds at most the fetch size of records.
+     * <p>
+     * Records can still be navigated one by one with {@link #next()} afterwards, at the cost of boxing them.
+     *
+     * @return the next batch of one or more records, or {@code null} if there are no records left in the stream
+     * @since 5.5
+     */
+    @Experimental
+    RecordBatch nextBatch();
+
     /**
      * Convert this result to a sequential {@link Stream} of records.
      * <p>
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import static java.lang.String.format;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import org.neo4j.driver.util.Experimental;
+import org.neo4j.driver.util.Immutable;
+
+/**
+ * Retry policy used by the driver when retrying transaction functions and managed transactions that failed with a
+ * {@link org.neo4j.driver.exceptions.RetryableException}.
+ * <p>
+ * The delay between attempts grows exponentially from the initial retry delay by the retry delay multiplier and is
+ * capped by the max retry delay. The delay is randomised either proportionally by the jitter factor or, when
+ * {@link RetryPolicyBuilder#withDecorrelatedJitter() decorrelated jitter} is enabled, by picking a value between the
+ * initial retry delay and the previous delay multiplied by the retry delay multiplier.
+ * <p>
+ * An optional retry budget limits retries driver-wide: every retry spends one token and every successful unit of work
+ * earns back a fraction of a token. Once the budget is exhausted, failures are reported without being retried until
+ * enough work succeeds again.
+ *
+ * @see Config.ConfigBuilder#withRetryPolicy(RetryPolicy)
+ * @since 5.5
+ */
+@Immutable
+@Experimental
+public final class RetryPolicy implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 7425036937212460383L;
+
+    private static final RetryPolicy DEFAULT_POLICY = builder().build();
+
+    private final long initialRetryDelayMillis;
+    private final double retryDelayMultiplier;
+    private final long maxRetryDelayMillis;
+    private final double retryDelayJitterFactor;
+    private final boolean decorrelatedJitter;
+    private final double retryBudgetRatio;
+    private final int retryBudgetCapacity;
+
+    private RetryPolicy(RetryPolicyBuilder builder) {
+        this.initialRetryDelayMillis = builder.initialRetryDelayMillis;
+        this.retryDelayMultiplier = builder.retryDelayMultiplier;
+        this.maxRetryDelayMillis = builder.maxRetryDelayMillis;
+        this.retryDelayJitterFactor = builder.retryDelayJitterFactor;
+        this.decorrelatedJitter = builder.decorrelatedJitter;
+        this.retryBudgetRatio = builder.retryBudgetRatio;
+        this.retryBudgetCapacity = builder.retryBudgetCapacity;
+    }
+
+    /**
+     * Returns the retry policy used when none is configured. It starts with a delay of 1 second, doubles it on every
+     * attempt, randomises it by 20% and does not limit retries by a budget.
+     *
+     * @return the default retry policy
+     */
+    public static RetryPolicy defaultPolicy() {
+        return DEFAULT_POLICY;
+    }
+
+    /**
+     * Creates a new {@link RetryPolicyBuilder} used to construct a retry policy.
+     *
+     * @return a retry policy builder
+     */
+    public static RetryPolicyBuilder builder() {
+        return new RetryPolicyBuilder();
+    }
+
+    /**
+     * Returns the delay before the first retry.
+     *
+     * @return the initial retry delay in milliseconds
+     */
+    public long initialRetryDelayMillis() {
+        return initialRetryDelayMillis;
+    }
+
+    /**
+     * Returns the factor the retry delay grows by on every attempt.
+     *
+     * @return the retry delay multiplier
+     */
+    public double retryDelayMultiplier() {
+        return retryDelayMultiplier;
+    }
+
+    /**
+     * Returns the upper bound of the retry delay.
+     *
+     * @return the max retry delay in milliseconds
+     */
+    public long maxRetryDelayMillis() {
+        return maxRetryDelayMillis;
+    }
+
+    /**
+     * Returns the fraction of the retry delay it is randomised by when decorrelated jitter is disabled.
+     *
+     * @return the retry delay jitter factor
+     */
+    public double retryDelayJitterFactor() {
+        return retryDelayJitterFactor;
+    }
+
+    /**
+     * Returns whether the retry delay is randomised by decorrelated jitter.
+     *
+     * @return {@code true} if decorrelated jitter is enabled
+     */
+    public boolean isDecorrelatedJitterEnabled() {
+        return decorrelatedJitter;
+    }
+
+    /**
+     * Returns whether retries are limited by a driver-wide retry budget.
+     *
+     * @return {@code true} if the retry budget is enabled
+     */
+    public boolean isRetryBudgetEnabled() {
+        return retryBudgetCapacity > 0;
+    }
+
+    /**
+     * Returns the fraction of a retry token earned back by every successful unit of work.
+     *
+     * @return the retry budget ratio
+     */
+    public double retryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    /**
+     * Returns the maximum amount of retry tokens the retry budget holds. The budget starts full.
+     *
+     * @return the retry budget capacity, {@code 0} when the retry budget is disabled
+     */
+    public int retryBudgetCapacity() {
+        return retryBudgetCapacity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RetryPolicy that = (RetryPolicy) o;
+        return initialRetryDelayMillis == that.initialRetryDelayMillis
+                && Double.compare(that.retryDelayMultiplier, retryDelayMultiplier) == 0
+                && maxRetryDelayMillis == that.maxRetryDelayMillis
+                && Double.compare(that.retryDelayJitterFactor, retryDelayJitterFactor) == 0
+                && decorrelatedJitter == that.decorrelatedJitter
+                && Double.compare(that.retryBudgetRatio, retryBudgetRatio) == 0
+                && retryBudgetCapacity == that.retryBudgetCapacity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                initialRetryDelayMillis,
+                retryDelayMultiplier,
+                maxRetryDelayMillis,
+                retryDelayJitterFactor,
+                decorrelatedJitter,
+                retryBudgetRatio,
+                retryBudgetCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return format(
+                "RetryPolicy{initialRetryDelayMillis=%d, retryDelayMultiplier=%s, maxRetryDelayMillis=%d, "
+                        + "retryDelayJitterFactor=%s, decorrelatedJitter=%s, retryBudgetRatio=%s, retryBudgetCapacity=%d}",
+                initialRetryDelayMillis,
+                retryDelayMultiplier,
+                maxRetryDelayMillis,
+                retryDelayJitterFactor,
+                decorrelatedJitter,
+                retryBudgetRatio,
+                retryBudgetCapacity);
+    }
+
+    /**
+     * Builder used to configure {@link RetryPolicy}.
+     */
+    public static final class RetryPolicyBuilder {
+        private long initialRetryDelayMillis = Duration.ofSeconds(1).toMillis();
+        private double retryDelayMultiplier = 2.0;
+        private long maxRetryDelayMillis = Long.MAX_VALUE / 2;
+        private double retryDelayJitterFactor = 0.2;
+        private boolean decorrelatedJitter;
+        private double retryBudgetRatio;
+        private int retryBudgetCapacity;
+
+        private RetryPolicyBuilder() {}
+
+        /**
+         * Set the delay before the first retry.
+         * <p>
+         * Default value is 1 second.
+         *
+         * @param initialRetryDelay the initial retry delay, must not be negative
+         * @return this builder
+         */
+        public RetryPolicyBuilder withInitialRetryDelay(Duration initialRetryDelay) {
+            Objects.requireNonNull(initialRetryDelay, "initialRetryDelay must not be null");
+            if (initialRetryDelay.isNegative()) {
+                throw new IllegalArgumentException(
+                        String.format("The initial retry delay may not be negative, but was: %s", initialRetryDelay));
+            }
+            this.initialRetryDelayMillis = initialRetryDelay.toMillis();
+            return this;
+        }
+
+        /**
+         * Set the factor the retry delay grows by on every attempt.
+         * <p>
+         * Default value is {@code 2.0}.
+         *
+         * @param retryDelayMultiplier the retry delay multiplier, must be at least {@code 1.0}
+         * @return this builder
+         */
+        public RetryPolicyBuilder withRetryDelayMultiplier(double retryDelayMultiplier) {
+            if (!(retryDelayMultiplier >= 1.0)) {
+                throw new IllegalArgumentException(String.format(
+                        "The retry delay multiplier must be at least 1.0, but was: %s", retryDelayMultiplier));
+            }
+            this.retryDelayMultiplier = retryDelayMultiplier;
+            return this;
+        }
+
+        /**
+         * Set the upper bound of the retry delay.
+         * <p>
+         * By default, the retry delay is bounded only by the max transaction retry time.
+         *
+         * @param maxRetryDelay the max retry delay, must not be negative
+         * @return this builder
+         */
+        public RetryPolicyBuilder withMaxRetryDelay(Duration maxRetryDelay) {
+            Objects.requireNonNull(maxRetryDelay, "maxRetryDelay must not be null");
+            if (maxRetryDelay.isNegative()) {
+                throw new IllegalArgumentException(
+                        String.format("The max retry delay may not be negative, but was: %s", maxRetryDelay));
+            }
+            this.maxRetryDelayMillis = maxRetryDelay.toMillis();
+            return this;
+        }
+
+        /**
+         * Set the fraction of the retry delay it is randomised by. A factor of {@code 0.2} randomises a delay of 1
+         * second to a value between 800 and 1200 milliseconds. The factor is ignored when decorrelated jitter is
+         * enabled.
+         * <p>
+         * Default value is {@code 0.2}.
+         *
+         * @param retryDelayJitterFactor the retry delay jitter factor, must be between {@code 0.0} and {@code 1.0}
+         * @return this builder
+         */
+        public RetryPolicyBuilder withRetryDelayJitterFactor(double retryDelayJitterFactor) {
+            if (!(retryDelayJitterFactor >= 0.0 && retryDelayJitterFactor <= 1.0)) {
+                throw new IllegalArgumentException(String.format(
+                        "The retry delay jitter factor must be between 0.0 and 1.0, but was: %s",
+                        retryDelayJitterFactor));
+            }
+            this.retryDelayJitterFactor = retryDelayJitterFactor;
+            return this;
+        }
+
+        /**
+         * Enable decorrelated jitter. Every retry delay is picked at random between the initial retry delay and the
+         * previous delay multiplied by the retry delay multiplier, which spreads out clients that started retrying at
+         * the same time better than randomising a fixed schedule.
+         * <p>
+         * Decorrelated jitter is disabled by default.
+         *
+         * @return this builder
+         */
+        public RetryPolicyBuilder withDecorrelatedJitter() {
+            this.decorrelatedJitter = true;
+            return this;
+        }
+
+        /**
+         * Limit retries by a driver-wide retry budget. The budget holds up to {@code capacity} tokens and starts full.
+         * Every retry spends one token and every successful unit of work earns back {@code ratio} tokens, so that in
+         * the long run retries make up at most the given fraction of successful work.
+         * <p>
+         * The retry budget is disabled by default.
+         *
+         * @param ratio    the fraction of a token earned back by every successful unit of work, must be between
+         *                 {@code 0.0} (exclusive) and {@code 1.0}
+         * @param capacity the maximum amount of tokens, must be greater than {@code 0}
+         * @return this builder
+         */
+        public RetryPolicyBuilder withRetryBudget(double ratio, int capacity) {
+            if (!(ratio > 0.0 && ratio <= 1.0)) {
+                throw new IllegalArgumentException(
+                        String.format("The retry budget ratio must be between 0.0 and 1.0, but was: %s", ratio));
+            }
+            if (capacity <= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "The retry budget capacity must be greater than 0, but was: %d", capacity));
+            }
+            this.retryBudgetRatio = ratio;
+            this.retryBudgetCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Create a retry policy from this builder.
+         *
+         * @return a new retry policy
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
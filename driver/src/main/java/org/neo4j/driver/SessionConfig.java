@@ -300,6 +300,8 @@ public final class SessionConfig implements Serializable {
          * This config specifies the default fetch size for all query runs using {@link Session} and {@link AsyncSession}.
          * By default, the value is set to {@code 1000}.
          * Use {@code -1} to disables back pressure and config client to pull all records at once after each run.
+         * Use {@code -2} to adapt the fetch size of each result to how fast its records are consumed and to how large
+         * they are, within a bound on the memory taken by the records buffered in the driver.
          *
          * This config only applies to run result obtained via {@link Session} and {@link AsyncSession}.
          * As with {@link RxSession}, the batch size is provided via {@link Subscription#request(long)} instead.
@@ -18,7 +18,27 @@
  */
 package org.neo4j.driver;
 
+import java.util.List;
+import org.neo4j.driver.util.Experimental;
+
 /**
  * A context for running queries within transaction.
  */
-public interface TransactionContext extends SimpleQueryRunner {}
+public interface TransactionContext extends SimpleQueryRunner {
+    /**
+     * Run a batch of queries and return their result streams, in the order of the queries.
+     * <p>
+     * All queries are sent to the server before the driver waits for any of them, so the batch takes about a single
+     * network round-trip instead of one per query. This is useful for a number of independent queries, since no query
+     * can use the results of another one in the batch. The first batch of records of every query is fetched along with
+     * it.
+     * <p>
+     * When a query fails, the queries after it fail too, and this method throws the error of the first failed query.
+     *
+     * @param queries the queries to run
+     * @return the result streams of the queries
+     * @since 5.5
+     */
+    @Experimental
+    List<Result> runAll(List<Query> queries);
+}
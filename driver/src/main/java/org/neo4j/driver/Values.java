@@ -57,6 +57,7 @@ import org.neo4j.driver.internal.value.LocalTimeValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NullValue;
 import org.neo4j.driver.internal.value.PointValue;
+import org.neo4j.driver.internal.value.StreamingListValue;
 import org.neo4j.driver.internal.value.StringValue;
 import org.neo4j.driver.internal.value.TimeValue;
 import org.neo4j.driver.types.Entity;
@@ -67,6 +68,7 @@ import org.neo4j.driver.types.Path;
 import org.neo4j.driver.types.Point;
 import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.driver.util.Experimental;
 
 /**
  * Utility for wrapping regular Java types and exposing them as {@link Value}
@@ -310,6 +312,32 @@ public final class Values {
         return new ListValue(values.toArray(new Value[0]));
     }
 
+    /**
+     * Creates a list value whose elements are taken from the given iterator and converted, one at a time, while the
+     * list is sent to the database as a query parameter. Unlike {@link #value(Iterator)}, which converts all elements
+     * up front, only the element currently being written is held as a value. This keeps the memory needed to send a
+     * large batch, for example the rows of an {@code UNWIND}, independent of the number of rows.
+     * <p>
+     * The elements can be of any type accepted by {@link #value(Object)}. The number of elements has to be known up
+     * front: the iterator has to produce at least {@code size} elements, further elements are not read. The list can
+     * be sent only once, so it should not be used as a parameter of a query that may be retried, like a query run in
+     * a transaction function.
+     * <p>
+     * The iterator is consumed on a driver I/O thread, which also reads and writes network data for other
+     * connections. It must therefore be non-blocking and cheap: it should not perform I/O, wait for locks or do
+     * expensive computations, as this stalls all connections served by that thread. Elements that are expensive to
+     * produce should be prepared before the query is run.
+     *
+     * @param elements iterator of the list elements
+     * @param size the number of elements in the list
+     * @return list value that streams its elements
+     * @since 5.5
+     */
+    @Experimental
+    public static Value streamingList(Iterator<?> elements, int size) {
+        return new StreamingListValue(elements, size);
+    }
+
     public static Value value(Stream<Object> stream) {
         Value[] values = stream.map(Values::value).toArray(Value[]::new);
         return new ListValue(values);
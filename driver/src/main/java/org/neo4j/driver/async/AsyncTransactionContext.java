@@ -18,7 +18,38 @@
  */
 package org.neo4j.driver.async;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.util.Experimental;
+
 /**
  * A context for running queries within transaction.
  */
-public interface AsyncTransactionContext extends AsyncQueryRunner {}
+public interface AsyncTransactionContext extends AsyncQueryRunner {
+    /**
+     * Run a batch of queries asynchronously and return a {@link CompletionStage} with the result cursors of the
+     * queries, in the order of the queries.
+     * <p>
+     * All queries are sent to the server before the driver waits for any of them, so the batch takes about a single
+     * network round-trip instead of one per query. This is useful for a number of independent queries, since no query
+     * can use the results of another one in the batch. The first batch of records of every query is fetched along with
+     * it.
+     * <p>
+     * When a query fails, the queries after it fail too, and the returned stage is completed exceptionally with the
+     * error of the first failed query.
+     * <p>
+     * Returned stage can be completed by an IO thread which should never block. Otherwise IO operations on this and
+     * potentially other network connections might deadlock. Please do not chain blocking operations like
+     * {@link CompletableFuture#get()} on the returned stage. Consider using asynchronous calls throughout the chain or
+     * offloading blocking operation to a different {@link Executor}.
+     *
+     * @param queries the queries to run
+     * @return new {@link CompletionStage} that gets completed with the result cursors of the queries
+     * @since 5.5
+     */
+    @Experimental
+    CompletionStage<List<ResultCursor>> runAllAsync(List<Query> queries);
+}
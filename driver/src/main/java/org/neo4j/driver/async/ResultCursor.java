@@ -25,11 +25,13 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.Records;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.exceptions.ResultConsumedException;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 
 /**
  * The result of asynchronous execution of a Cypher query, conceptually an asynchronous stream of
@@ -99,6 +101,23 @@ public interface ResultCursor {
      */
     CompletionStage<Record> peekAsync();
 
+    /**
+     * Asynchronously navigate to the next batch of records in this result. Returned stage can contain {@code null} if
+     * end of records stream has been reached.
+     * <p>
+     * After the first call, records arriving from the network are decoded straight into batches, with integer and float
+     * columns kept in primitive arrays. This avoids allocating a {@link org.neo4j.driver.Value} per cell when exporting
+     * large numeric results. A batch holds at most the fetch size of records.
+     * <p>
+     * Records can still be navigated one by one with {@link #nextAsync()} afterwards, at the cost of boxing them.
+     *
+     * @return a {@link CompletionStage} completed with a batch of one or more records or {@code null}. Stage can also be
+     * completed exceptionally if query execution fails.
+     * @since 5.5
+     */
+    @Experimental
+    CompletionStage<RecordBatch> nextBatchAsync();
+
     /**
      * Asynchronously return the first record in the result, failing if there is not exactly
      * one record left in the stream.
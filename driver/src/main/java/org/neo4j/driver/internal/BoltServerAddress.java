@@ -21,7 +21,6 @@ package org.neo4j.driver.internal;
 import static java.util.Objects.requireNonNull;
 
 import java.net.URI;
-import java.util.Objects;
 import java.util.stream.Stream;
 import org.neo4j.driver.net.ServerAddress;
 
@@ -80,7 +79,8 @@ public class BoltServerAddress implements ServerAddress {
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, connectionHost, port);
+        // same value as Objects.hash(host, connectionHost, port), without the varargs array and boxing
+        return 31 * (31 * (31 + host.hashCode()) + connectionHost.hashCode()) + port;
     }
 
     @Override
@@ -28,11 +28,18 @@ public class ConnectionSettings {
     private final AuthToken authToken;
     private final String userAgent;
     private final int connectTimeoutMillis;
+    private final long flushConsolidationWindowNanos;
 
     public ConnectionSettings(AuthToken authToken, String userAgent, int connectTimeoutMillis) {
+        this(authToken, userAgent, connectTimeoutMillis, -1);
+    }
+
+    public ConnectionSettings(
+            AuthToken authToken, String userAgent, int connectTimeoutMillis, long flushConsolidationWindowNanos) {
         this.authToken = authToken;
         this.userAgent = userAgent;
         this.connectTimeoutMillis = connectTimeoutMillis;
+        this.flushConsolidationWindowNanos = flushConsolidationWindowNanos;
     }
 
     public AuthToken authToken() {
@@ -46,4 +53,11 @@ public class ConnectionSettings {
     public int connectTimeoutMillis() {
         return connectTimeoutMillis;
     }
+
+    /**
+     * @return the window to consolidate flushes in, {@code -1} when flushes are not consolidated
+     */
+    public long flushConsolidationWindowNanos() {
+        return flushConsolidationWindowNanos;
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.List;
 import java.util.Map;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
@@ -57,4 +58,9 @@ final class DelegatingTransactionContext implements TransactionContext {
     public Result run(Query query) {
         return delegate.run(query);
     }
+
+    @Override
+    public List<Result> runAll(List<Query> queries) {
+        return delegate.runAll(queries);
+    }
 }
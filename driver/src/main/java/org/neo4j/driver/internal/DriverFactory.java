@@ -24,6 +24,7 @@ import static org.neo4j.driver.internal.util.ErrorUtil.addSuppressed;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.EventLoopGroup;
+import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import java.net.URI;
@@ -37,9 +38,11 @@ import org.neo4j.driver.Driver;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.MetricsAdapter;
+import org.neo4j.driver.RetryPolicy;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
+import org.neo4j.driver.internal.async.connection.TimerFactory;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.Rediscovery;
@@ -48,10 +51,13 @@ import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingProcedureClusterCompositionProvider;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.cluster.loadbalancing.LeastConnectedLoadBalancingStrategy;
+import org.neo4j.driver.internal.cluster.loadbalancing.LeastResponseTimeLoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
+import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
 import org.neo4j.driver.internal.logging.NettyLogging;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.metrics.MicrometerMetricsProvider;
 import org.neo4j.driver.internal.retry.ExponentialBackoffRetryLogic;
@@ -97,15 +103,21 @@ public class DriverFactory {
         authToken = authToken == null ? AuthTokens.none() : authToken;
 
         BoltServerAddress address = new BoltServerAddress(uri);
-        RoutingSettings routingSettings =
-                new RoutingSettings(config.routingTablePurgeDelayMillis(), new RoutingContext(uri));
+        RoutingSettings routingSettings = new RoutingSettings(
+                config.routingTablePurgeDelayMillis(), config.routingTableRefreshFraction(), new RoutingContext(uri));
 
         InternalLoggerFactory.setDefaultFactory(new NettyLogging(config.logging()));
         EventExecutorGroup eventExecutorGroup = bootstrap.config().group();
-        RetryLogic retryLogic =
-                createRetryLogic(config.maxTransactionRetryTimeMillis(), eventExecutorGroup, config.logging());
-
+        Timer timer = createTimer();
         MetricsProvider metricsProvider = getOrCreateMetricsProvider(config, createClock());
+        RetryLogic retryLogic = createRetryLogic(
+                config.maxTransactionRetryTimeMillis(),
+                config.retryPolicy(),
+                metricsProvider.metricsListener(),
+                eventExecutorGroup,
+                timer,
+                config.logging());
+
         ConnectionPool connectionPool = createConnectionPool(
                 authToken,
                 securityPlan,
@@ -123,6 +135,7 @@ public class DriverFactory {
                 eventExecutorGroup,
                 routingSettings,
                 retryLogic,
+                timer,
                 metricsProvider,
                 rediscoverySupplier,
                 config);
@@ -137,14 +150,24 @@ public class DriverFactory {
             boolean ownsEventLoopGroup,
             RoutingContext routingContext) {
         Clock clock = createClock();
-        ConnectionSettings settings =
-                new ConnectionSettings(authToken, config.userAgent(), config.connectionTimeoutMillis());
+        ConnectionSettings settings = new ConnectionSettings(
+                authToken,
+                config.userAgent(),
+                config.connectionTimeoutMillis(),
+                config.flushConsolidationWindowNanos());
         ChannelConnector connector = createConnector(settings, securityPlan, config, clock, routingContext);
-        PoolSettings poolSettings = new PoolSettings(
-                config.maxConnectionPoolSize(),
-                config.connectionAcquisitionTimeoutMillis(),
-                config.maxConnectionLifetimeMillis(),
-                config.idleTimeBeforeConnectionTest());
+        PoolSettings poolSettings = PoolSettings.builder()
+                .withMaxConnectionPoolSize(config.maxConnectionPoolSize())
+                .withConnectionAcquisitionTimeout(config.connectionAcquisitionTimeoutMillis())
+                .withMaxConnectionLifetime(config.maxConnectionLifetimeMillis())
+                .withIdleTimeBeforeConnectionTest(config.idleTimeBeforeConnectionTest())
+                .withMinIdleConnections(config.minIdleConnections())
+                .withBackgroundConnectionTest(config.isBackgroundConnectionLivenessCheckEnabled())
+                .withResponseTimeTracking(
+                        config.loadBalancingStrategy() == Config.LoadBalancingStrategy.LEAST_RESPONSE_TIME)
+                .withMaxResultBufferSize(config.maxResultBufferSize())
+                .withMaxTotalResultBufferSize(config.maxTotalResultBufferSize())
+                .build();
         return new ConnectionPoolImpl(
                 connector,
                 bootstrap,
@@ -190,6 +213,7 @@ public class DriverFactory {
             EventExecutorGroup eventExecutorGroup,
             RoutingSettings routingSettings,
             RetryLogic retryLogic,
+            Timer timer,
             MetricsProvider metricsProvider,
             Supplier<Rediscovery> rediscoverySupplier,
             Config config) {
@@ -204,16 +228,19 @@ public class DriverFactory {
                         eventExecutorGroup,
                         routingSettings,
                         retryLogic,
+                        timer,
                         metricsProvider,
                         rediscoverySupplier,
                         config);
             } else {
                 assertNoRoutingContext(uri, routingSettings);
-                return createDirectDriver(securityPlan, address, connectionPool, retryLogic, metricsProvider, config);
+                return createDirectDriver(
+                        securityPlan, address, connectionPool, retryLogic, timer, metricsProvider, config);
             }
         } catch (Throwable driverError) {
             // we need to close the connection pool if driver creation threw exception
             closeConnectionPoolAndSuppressError(connectionPool, driverError);
+            timer.stop();
             throw driverError;
         }
     }
@@ -228,11 +255,13 @@ public class DriverFactory {
             BoltServerAddress address,
             ConnectionPool connectionPool,
             RetryLogic retryLogic,
+            Timer timer,
             MetricsProvider metricsProvider,
             Config config) {
         ConnectionProvider connectionProvider = new DirectConnectionProvider(address, connectionPool);
-        SessionFactory sessionFactory = createSessionFactory(connectionProvider, retryLogic, config);
-        InternalDriver driver = createDriver(securityPlan, sessionFactory, metricsProvider, config);
+        SessionFactory sessionFactory =
+                createSessionFactory(connectionProvider, retryLogic, metricsProvider.metricsListener(), config);
+        InternalDriver driver = createDriver(securityPlan, sessionFactory, timer, metricsProvider, config);
         Logger log = config.logging().getLog(getClass());
         log.info("Direct driver instance %s created for server address %s", driver.hashCode(), address);
         return driver;
@@ -250,13 +279,15 @@ public class DriverFactory {
             EventExecutorGroup eventExecutorGroup,
             RoutingSettings routingSettings,
             RetryLogic retryLogic,
+            Timer timer,
             MetricsProvider metricsProvider,
             Supplier<Rediscovery> rediscoverySupplier,
             Config config) {
         ConnectionProvider connectionProvider = createLoadBalancer(
                 address, connectionPool, eventExecutorGroup, config, routingSettings, rediscoverySupplier);
-        SessionFactory sessionFactory = createSessionFactory(connectionProvider, retryLogic, config);
-        InternalDriver driver = createDriver(securityPlan, sessionFactory, metricsProvider, config);
+        SessionFactory sessionFactory =
+                createSessionFactory(connectionProvider, retryLogic, metricsProvider.metricsListener(), config);
+        InternalDriver driver = createDriver(securityPlan, sessionFactory, timer, metricsProvider, config);
         Logger log = config.logging().getLog(getClass());
         log.info("Routing driver instance %s created for server address %s", driver.hashCode(), address);
         return driver;
@@ -268,9 +299,33 @@ public class DriverFactory {
      * <b>This method is protected only for testing</b>
      */
     protected InternalDriver createDriver(
-            SecurityPlan securityPlan, SessionFactory sessionFactory, MetricsProvider metricsProvider, Config config) {
+            SecurityPlan securityPlan,
+            SessionFactory sessionFactory,
+            Timer timer,
+            MetricsProvider metricsProvider,
+            Config config) {
         return new InternalDriver(
-                config.queryTaskBookmarkManager(), securityPlan, sessionFactory, metricsProvider, config.logging());
+                config.queryTaskBookmarkManager(),
+                securityPlan,
+                sessionFactory,
+                timer,
+                metricsProvider,
+                config.logging());
+    }
+
+    private static LoadBalancingStrategy createLoadBalancingStrategy(ConnectionPool connectionPool, Config config) {
+        Config.LoadBalancingStrategy loadBalancingStrategy = config.loadBalancingStrategy();
+        // This can actually only happen when someone mocks the config
+        if (loadBalancingStrategy == null) {
+            loadBalancingStrategy = Config.LoadBalancingStrategy.LEAST_CONNECTED;
+        }
+        switch (loadBalancingStrategy) {
+            case LEAST_CONNECTED:
+                return new LeastConnectedLoadBalancingStrategy(connectionPool, config.logging());
+            case LEAST_RESPONSE_TIME:
+                return new LeastResponseTimeLoadBalancingStrategy(connectionPool, config.logging());
+        }
+        throw new IllegalStateException("Unknown or unsupported LoadBalancingStrategy: " + loadBalancingStrategy);
     }
 
     /**
@@ -285,7 +340,7 @@ public class DriverFactory {
             Config config,
             RoutingSettings routingSettings,
             Supplier<Rediscovery> rediscoverySupplier) {
-        var loadBalancingStrategy = new LeastConnectedLoadBalancingStrategy(connectionPool, config.logging());
+        var loadBalancingStrategy = createLoadBalancingStrategy(connectionPool, config);
         var resolver = createResolver(config);
         var domainNameResolver = Objects.requireNonNull(getDomainNameResolver(), "domainNameResolver must not be null");
         var clock = createClock();
@@ -339,14 +394,26 @@ public class DriverFactory {
         return Clock.systemUTC();
     }
 
+    /**
+     * Creates new {@link Timer}. It is stopped when the driver is closed.
+     * <p>
+     * <b>This method is protected only for testing</b>
+     */
+    protected Timer createTimer() {
+        return TimerFactory.newTimer();
+    }
+
     /**
      * Creates new {@link SessionFactory}.
      * <p>
      * <b>This method is protected only for testing</b>
      */
     protected SessionFactory createSessionFactory(
-            ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config) {
-        return new SessionFactoryImpl(connectionProvider, retryLogic, config);
+            ConnectionProvider connectionProvider,
+            RetryLogic retryLogic,
+            MetricsListener metricsListener,
+            Config config) {
+        return new SessionFactoryImpl(connectionProvider, retryLogic, metricsListener, config);
     }
 
     /**
@@ -355,8 +422,20 @@ public class DriverFactory {
      * <b>This method is protected only for testing</b>
      */
     protected RetryLogic createRetryLogic(
-            long maxTransactionRetryTime, EventExecutorGroup eventExecutorGroup, Logging logging) {
-        return new ExponentialBackoffRetryLogic(maxTransactionRetryTime, eventExecutorGroup, createClock(), logging);
+            long maxTransactionRetryTime,
+            RetryPolicy retryPolicy,
+            MetricsListener metricsListener,
+            EventExecutorGroup eventExecutorGroup,
+            Timer timer,
+            Logging logging) {
+        return new ExponentialBackoffRetryLogic(
+                maxTransactionRetryTime,
+                retryPolicy,
+                metricsListener,
+                eventExecutorGroup,
+                timer,
+                createClock(),
+                logging);
     }
 
     /**
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 
+import io.netty.util.Timer;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.neo4j.driver.BaseSession;
@@ -50,6 +51,7 @@ public class InternalDriver implements Driver {
     private final BookmarkManager queryBookmarkManager;
     private final SecurityPlan securityPlan;
     private final SessionFactory sessionFactory;
+    private final Timer timer;
     private final Logger log;
 
     private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -59,11 +61,13 @@ public class InternalDriver implements Driver {
             BookmarkManager queryBookmarkManager,
             SecurityPlan securityPlan,
             SessionFactory sessionFactory,
+            Timer timer,
             MetricsProvider metricsProvider,
             Logging logging) {
         this.queryBookmarkManager = queryBookmarkManager;
         this.securityPlan = securityPlan;
         this.sessionFactory = sessionFactory;
+        this.timer = timer;
         this.metricsProvider = metricsProvider;
         this.log = logging.getLog(getClass());
     }
@@ -127,7 +131,8 @@ public class InternalDriver implements Driver {
     public CompletionStage<Void> closeAsync() {
         if (closed.compareAndSet(false, true)) {
             log.info("Closing driver instance %s", hashCode());
-            return sessionFactory.close();
+            // pending timeouts are dropped, they would only hand work over to the closed event loop group
+            return sessionFactory.close().whenComplete((ignored, error) -> timer.stop());
         }
         return completedWithNull();
     }
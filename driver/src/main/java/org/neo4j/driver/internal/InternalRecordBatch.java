@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import static java.lang.String.format;
+
+import java.util.List;
+import java.util.Objects;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.util.QueryKeys;
+
+public class InternalRecordBatch implements RecordBatch {
+    private final QueryKeys queryKeys;
+    private final RecordColumn[] columns;
+    private final int size;
+
+    private InternalRecordBatch(QueryKeys queryKeys, RecordColumn[] columns, int size) {
+        this.queryKeys = queryKeys;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    @Override
+    public List<String> keys() {
+        return queryKeys.keys();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isNull(int column, int row) {
+        return columns[column].isNull(Objects.checkIndex(row, size));
+    }
+
+    @Override
+    public long getLong(int column, int row) {
+        return columns[column].getLong(Objects.checkIndex(row, size));
+    }
+
+    @Override
+    public double getDouble(int column, int row) {
+        return columns[column].getDouble(Objects.checkIndex(row, size));
+    }
+
+    @Override
+    public Value get(int column, int row) {
+        return columns[column].get(Objects.checkIndex(row, size));
+    }
+
+    @Override
+    public Record record(int row) {
+        return new InternalRecord(queryKeys, values(columns, Objects.checkIndex(row, size)));
+    }
+
+    @Override
+    public String toString() {
+        return format("RecordBatch<%s records with keys %s>", size, keys());
+    }
+
+    private static Value[] values(RecordColumn[] columns, int row) {
+        Value[] values = new Value[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].get(row);
+        }
+        return values;
+    }
+
+    /**
+     * Accumulates records field by field into columns. Every record is added by {@link #startRecord(int)}, one
+     * append per field and {@link #endRecord()}.
+     * <p>
+     * Not thread-safe, records are expected to be added by the event loop of the connection they arrive on.
+     */
+    public static class Builder {
+        private final QueryKeys queryKeys;
+        private final int initialCapacity;
+
+        private RecordColumn[] columns;
+        private int capacity;
+        private int size;
+
+        public Builder(QueryKeys queryKeys, int initialCapacity) {
+            this.queryKeys = queryKeys;
+            this.initialCapacity = initialCapacity;
+            reset();
+        }
+
+        public void startRecord(int fieldCount) {
+            if (fieldCount != columns.length) {
+                throw new IllegalArgumentException(format(
+                        "Record has %s fields but the result has %s keys: %s",
+                        fieldCount, columns.length, queryKeys.keys()));
+            }
+            if (size == capacity) {
+                capacity = Math.max(size + 1, capacity + (capacity >> 1));
+                for (RecordColumn column : columns) {
+                    column.ensureCapacity(capacity);
+                }
+            }
+        }
+
+        public void appendLong(int field, long value) {
+            columns[field].setLong(size, value);
+        }
+
+        public void appendDouble(int field, double value) {
+            columns[field].setDouble(size, value);
+        }
+
+        public void appendNull(int field) {
+            columns[field].setNull(size);
+        }
+
+        public void appendValue(int field, Value value) {
+            columns[field].setValue(size, value);
+        }
+
+        public void endRecord() {
+            size++;
+        }
+
+        public void append(Record record) {
+            startRecord(record.size());
+            for (int i = 0; i < columns.length; i++) {
+                appendValue(i, record.get(i));
+            }
+            endRecord();
+        }
+
+        /**
+         * Drop the last added record.
+         */
+        public void removeLastRecord() {
+            if (size > 0) {
+                size--;
+            }
+        }
+
+        /**
+         * The fields of the last added record, for logging.
+         */
+        public Value[] lastRecord() {
+            return values(columns, size - 1);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Create a batch of the added records and start over with an empty builder.
+         */
+        public InternalRecordBatch build() {
+            InternalRecordBatch batch = new InternalRecordBatch(queryKeys, columns, size);
+            reset();
+            return batch;
+        }
+
+        private void reset() {
+            int fieldCount = queryKeys.keys().size();
+            columns = new RecordColumn[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                columns[i] = new RecordColumn(initialCapacity);
+            }
+            capacity = initialCapacity;
+            size = 0;
+        }
+    }
+}
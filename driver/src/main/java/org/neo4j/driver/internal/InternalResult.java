@@ -26,21 +26,31 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.internal.cursor.AsyncResultCursor;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.summary.ResultSummary;
 
+/**
+ * Blocking result on top of a {@link ResultCursor}. Records that have already arrived are taken from the cursor without
+ * waiting or allocating futures when the cursor is one of the driver's, so that only running out of buffered records
+ * blocks on a future.
+ */
 public class InternalResult implements Result {
     private final Connection connection;
     private final ResultCursor cursor;
+    // null when the cursor can not hand out buffered records
+    private final AsyncResultCursor bufferedCursor;
 
     public InternalResult(Connection connection, ResultCursor cursor) {
         this.connection = connection;
         this.cursor = cursor;
+        this.bufferedCursor = cursor instanceof AsyncResultCursor ? (AsyncResultCursor) cursor : null;
     }
 
     @Override
@@ -50,12 +60,19 @@ public class InternalResult implements Result {
 
     @Override
     public boolean hasNext() {
+        if (bufferedCursor != null && bufferedCursor.peekBufferedRecord() != null) {
+            return true;
+        }
         return blockingGet(cursor.peekAsync()) != null;
     }
 
     @Override
     public Record next() {
-        Record record = blockingGet(cursor.nextAsync());
+        Record record = bufferedCursor != null ? bufferedCursor.nextBufferedRecord() : null;
+        if (record != null) {
+            return record;
+        }
+        record = blockingGet(cursor.nextAsync());
         if (record == null) {
             throw new NoSuchRecordException("No more records");
         }
@@ -69,13 +86,22 @@ public class InternalResult implements Result {
 
     @Override
     public Record peek() {
-        Record record = blockingGet(cursor.peekAsync());
+        Record record = bufferedCursor != null ? bufferedCursor.peekBufferedRecord() : null;
+        if (record != null) {
+            return record;
+        }
+        record = blockingGet(cursor.peekAsync());
         if (record == null) {
             throw new NoSuchRecordException("Cannot peek past the last record");
         }
         return record;
     }
 
+    @Override
+    public RecordBatch nextBatch() {
+        return blockingGet(cursor.nextBatchAsync());
+    }
+
     @Override
     public Stream<Record> stream() {
         Spliterator<Record> spliterator =
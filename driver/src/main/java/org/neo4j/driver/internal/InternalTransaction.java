@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Transaction;
@@ -61,6 +63,18 @@ public class InternalTransaction extends AbstractQueryRunner implements Transact
         return new InternalResult(tx.connection(), cursor);
     }
 
+    @Override
+    public List<Result> runAll(List<Query> queries) {
+        List<ResultCursor> cursors = Futures.blockingGet(
+                tx.runAllAsync(queries),
+                () -> terminateConnectionOnThreadInterrupt("Thread interrupted while running queries in transaction"));
+        List<Result> results = new ArrayList<>(cursors.size());
+        for (ResultCursor cursor : cursors) {
+            results.add(new InternalResult(tx.connection(), cursor));
+        }
+        return results;
+    }
+
     @Override
     public boolean isOpen() {
         return tx.isOpen();
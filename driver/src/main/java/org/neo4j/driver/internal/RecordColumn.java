@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.Arrays;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.value.FloatValue;
+import org.neo4j.driver.internal.value.IntegerValue;
+import org.neo4j.driver.internal.value.NullValue;
+
+/**
+ * A single column of a {@link InternalRecordBatch}.
+ * <p>
+ * A column starts untyped and becomes a long or double column when its first non-null cell is an integer or a float.
+ * It falls back to holding values, boxing the cells it already has, as soon as it gets a cell of another type.
+ * Nulls are tracked in a bitmap for all column types.
+ */
+final class RecordColumn {
+    private static final int UNTYPED = 0;
+    private static final int LONGS = 1;
+    private static final int DOUBLES = 2;
+    private static final int VALUES = 3;
+
+    private int type = UNTYPED;
+    private int capacity;
+    private long[] nulls;
+    private long[] longs;
+    private double[] doubles;
+    private Value[] values;
+
+    RecordColumn(int capacity) {
+        this.capacity = capacity;
+        this.nulls = new long[words(capacity)];
+    }
+
+    void setLong(int row, long value) {
+        if (type == UNTYPED) {
+            type = LONGS;
+            longs = new long[capacity];
+        }
+        if (type == LONGS) {
+            longs[row] = value;
+            markNotNull(row);
+        } else {
+            setValue(row, new IntegerValue(value));
+        }
+    }
+
+    void setDouble(int row, double value) {
+        if (type == UNTYPED) {
+            type = DOUBLES;
+            doubles = new double[capacity];
+        }
+        if (type == DOUBLES) {
+            doubles[row] = value;
+            markNotNull(row);
+        } else {
+            setValue(row, new FloatValue(value));
+        }
+    }
+
+    void setNull(int row) {
+        nulls[row >>> 6] |= 1L << row;
+        if (type == VALUES) {
+            values[row] = null;
+        }
+    }
+
+    void setValue(int row, Value value) {
+        if (value.isNull()) {
+            setNull(row);
+            return;
+        }
+        if (type != VALUES) {
+            boxRowsBefore(row);
+        }
+        values[row] = value;
+        markNotNull(row);
+    }
+
+    boolean isNull(int row) {
+        return (nulls[row >>> 6] & (1L << row)) != 0;
+    }
+
+    long getLong(int row) {
+        if (type == LONGS && !isNull(row)) {
+            return longs[row];
+        }
+        return get(row).asLong();
+    }
+
+    double getDouble(int row) {
+        if (type == DOUBLES && !isNull(row)) {
+            return doubles[row];
+        }
+        return get(row).asDouble();
+    }
+
+    Value get(int row) {
+        if (isNull(row)) {
+            return NullValue.NULL;
+        }
+        switch (type) {
+            case LONGS:
+                return new IntegerValue(longs[row]);
+            case DOUBLES:
+                return new FloatValue(doubles[row]);
+            default:
+                return values[row];
+        }
+    }
+
+    void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        nulls = Arrays.copyOf(nulls, words(newCapacity));
+        if (longs != null) {
+            longs = Arrays.copyOf(longs, newCapacity);
+        }
+        if (doubles != null) {
+            doubles = Arrays.copyOf(doubles, newCapacity);
+        }
+        if (values != null) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        capacity = newCapacity;
+    }
+
+    private void boxRowsBefore(int row) {
+        Value[] boxed = new Value[capacity];
+        for (int i = 0; i < row; i++) {
+            if (!isNull(i)) {
+                boxed[i] = get(i);
+            }
+        }
+        values = boxed;
+        longs = null;
+        doubles = null;
+        type = VALUES;
+    }
+
+    private void markNotNull(int row) {
+        nulls[row >>> 6] &= ~(1L << row);
+    }
+
+    private static int words(int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.BookmarkManager;
@@ -32,6 +33,7 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.internal.async.LeakLoggingNetworkSession;
 import org.neo4j.driver.internal.async.NetworkSession;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 
@@ -40,14 +42,24 @@ public class SessionFactoryImpl implements SessionFactory {
     private final RetryLogic retryLogic;
     private final Logging logging;
     private final boolean leakedSessionsLoggingEnabled;
+    private final double leakedSessionsSampleRate;
+    private final MetricsListener metricsListener;
     private final long defaultFetchSize;
+    private final boolean pipelinedTransactionBegin;
 
-    SessionFactoryImpl(ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config) {
+    SessionFactoryImpl(
+            ConnectionProvider connectionProvider,
+            RetryLogic retryLogic,
+            MetricsListener metricsListener,
+            Config config) {
         this.connectionProvider = connectionProvider;
         this.leakedSessionsLoggingEnabled = config.logLeakedSessions();
+        this.leakedSessionsSampleRate = config.leakedSessionsSampleRate();
+        this.metricsListener = metricsListener;
         this.retryLogic = retryLogic;
         this.logging = config.logging();
         this.defaultFetchSize = config.fetchSize();
+        this.pipelinedTransactionBegin = config.isPipelinedTransactionBeginEnabled();
     }
 
     @Override
@@ -134,7 +146,7 @@ public class SessionFactoryImpl implements SessionFactory {
             BookmarkManager bookmarkManager) {
         Objects.requireNonNull(bookmarks, "bookmarks may not be null");
         Objects.requireNonNull(bookmarkManager, "bookmarkManager may not be null");
-        return leakedSessionsLoggingEnabled
+        return isCheckedForLeaks()
                 ? new LeakLoggingNetworkSession(
                         connectionProvider,
                         retryLogic,
@@ -144,7 +156,9 @@ public class SessionFactoryImpl implements SessionFactory {
                         impersonatedUser,
                         fetchSize,
                         logging,
-                        bookmarkManager)
+                        bookmarkManager,
+                        pipelinedTransactionBegin,
+                        metricsListener)
                 : new NetworkSession(
                         connectionProvider,
                         retryLogic,
@@ -154,6 +168,14 @@ public class SessionFactoryImpl implements SessionFactory {
                         impersonatedUser,
                         fetchSize,
                         logging,
-                        bookmarkManager);
+                        bookmarkManager,
+                        pipelinedTransactionBegin);
+    }
+
+    // sessions that are not sampled are plain sessions, which cost nothing extra
+    private boolean isCheckedForLeaks() {
+        return leakedSessionsLoggingEnabled
+                && (leakedSessionsSampleRate >= 1
+                        || ThreadLocalRandom.current().nextDouble() < leakedSessionsSampleRate);
     }
 }
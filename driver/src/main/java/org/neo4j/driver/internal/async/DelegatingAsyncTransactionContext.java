@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.Query;
@@ -58,4 +59,9 @@ final class DelegatingAsyncTransactionContext implements AsyncTransactionContext
     public CompletionStage<ResultCursor> runAsync(Query query) {
         return delegate.runAsync(query);
     }
+
+    @Override
+    public CompletionStage<List<ResultCursor>> runAllAsync(List<Query> queries) {
+        return delegate.runAllAsync(queries);
+    }
 }
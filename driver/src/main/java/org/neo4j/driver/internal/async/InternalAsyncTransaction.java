@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.Query;
@@ -56,6 +57,11 @@ public class InternalAsyncTransaction extends AsyncAbstractQueryRunner implement
         return tx.runAsync(query);
     }
 
+    @Override
+    public CompletionStage<List<ResultCursor>> runAllAsync(List<Query> queries) {
+        return tx.runAllAsync(queries);
+    }
+
     public boolean isOpen() {
         return tx.isOpen();
     }
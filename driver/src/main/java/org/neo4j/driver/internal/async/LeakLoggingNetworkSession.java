@@ -19,19 +19,35 @@
 package org.neo4j.driver.internal.async;
 
 import static java.lang.System.lineSeparator;
+import static java.util.stream.Collectors.toList;
 
+import java.lang.ref.Cleaner;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.BookmarkManager;
+import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.retry.RetryLogic;
+import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.Futures;
 
+/**
+ * A {@link NetworkSession} that logs when it is garbage collected while not being closed and still holding a
+ * connection. The check is registered with a {@link Cleaner}, so that the session is collected as any other object,
+ * and the stack of where the session was created is only turned into text when the session leaked.
+ */
 public class LeakLoggingNetworkSession extends NetworkSession {
-    private final String stackTrace;
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final LeakCheck leakCheck;
+    private final Cleaner.Cleanable cleanable;
 
     public LeakLoggingNetworkSession(
             ConnectionProvider connectionProvider,
@@ -42,7 +58,9 @@ public class LeakLoggingNetworkSession extends NetworkSession {
             String impersonatedUser,
             long fetchSize,
             Logging logging,
-            BookmarkManager bookmarkManager) {
+            BookmarkManager bookmarkManager,
+            boolean pipelinedTransactionBegin,
+            MetricsListener metricsListener) {
         super(
                 connectionProvider,
                 retryLogic,
@@ -52,35 +70,72 @@ public class LeakLoggingNetworkSession extends NetworkSession {
                 impersonatedUser,
                 fetchSize,
                 logging,
-                bookmarkManager);
-        this.stackTrace = captureStackTrace();
+                bookmarkManager,
+                pipelinedTransactionBegin);
+        this.leakCheck = new LeakCheck(log, metricsListener, STACK_WALKER.walk(frames -> frames.collect(toList())));
+        this.cleanable = CLEANER.register(this, leakCheck);
     }
 
     @Override
-    @SuppressWarnings("deprecation")
-    protected void finalize() throws Throwable {
-        logLeakIfNeeded();
-        super.finalize();
+    public CompletionStage<Void> closeAsync() {
+        // a closed session has not leaked, unregister it right away rather than when it is collected
+        leakCheck.closed = true;
+        cleanable.clean();
+        return super.closeAsync();
     }
 
-    private void logLeakIfNeeded() {
-        Boolean isOpen = Futures.blockingGet(currentConnectionIsOpen());
-        if (isOpen) {
-            log.error(
-                    "Neo4j Session object leaked, please ensure that your application "
-                            + "fully consumes results in Sessions or explicitly calls `close` on Sessions before disposing of the objects.\n"
-                            + "Session was create at:\n"
-                            + stackTrace,
-                    null);
-        }
+    @Override
+    protected void connectionStageChanged(CompletionStage<Connection> connectionStage) {
+        leakCheck.connectionStage = connectionStage;
+    }
+
+    /**
+     * Checks for a leak as if the session had been garbage collected.
+     * <p>
+     * <b>This method is only for testing</b>
+     */
+    void checkForLeak() {
+        cleanable.clean();
     }
 
-    private static String captureStackTrace() {
-        StringBuilder result = new StringBuilder();
-        StackTraceElement[] elements = Thread.currentThread().getStackTrace();
-        for (StackTraceElement element : elements) {
-            result.append("\t").append(element).append(lineSeparator());
+    // must not reference the session, which would then never become unreachable
+    private static class LeakCheck implements Runnable {
+        private final Logger log;
+        private final MetricsListener metricsListener;
+        private final List<StackWalker.StackFrame> creationFrames;
+        private volatile CompletionStage<Connection> connectionStage = Futures.completedWithNull();
+        private volatile boolean closed;
+
+        LeakCheck(Logger log, MetricsListener metricsListener, List<StackWalker.StackFrame> creationFrames) {
+            this.log = log;
+            this.metricsListener = metricsListener;
+            this.creationFrames = creationFrames;
+        }
+
+        @Override
+        public void run() {
+            if (closed) {
+                return;
+            }
+            Boolean isOpen = Futures.blockingGet(connectionStage.handle(
+                    (connection, error) -> error == null && connection != null && connection.isOpen()));
+            if (isOpen) {
+                metricsListener.afterSessionLeaked();
+                log.error(
+                        "Neo4j Session object leaked, please ensure that your application "
+                                + "fully consumes results in Sessions or explicitly calls `close` on Sessions before disposing of the objects.\n"
+                                + "Session was create at:\n"
+                                + stackTrace(),
+                        null);
+            }
+        }
+
+        private String stackTrace() {
+            StringBuilder result = new StringBuilder();
+            for (StackWalker.StackFrame frame : creationFrames) {
+                result.append("\t").append(frame).append(lineSeparator());
+            }
+            return result.toString();
         }
-        return result.toString();
     }
 }
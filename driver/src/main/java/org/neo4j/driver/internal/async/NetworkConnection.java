@@ -39,6 +39,7 @@ import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
 import org.neo4j.driver.internal.handlers.ChannelReleasingResetResponseHandler;
 import org.neo4j.driver.internal.handlers.ResetResponseHandler;
+import org.neo4j.driver.internal.handlers.ResultBufferLimits;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.request.ResetMessage;
@@ -65,6 +66,7 @@ public class NetworkConnection implements Connection {
     private final AtomicReference<Status> status = new AtomicReference<>(Status.OPEN);
     private final MetricsListener metricsListener;
     private final ListenerEvent<?> inUseEvent;
+    private final ResultBufferLimits resultBufferLimits;
 
     private final Long connectionReadTimeout;
     private ChannelHandler connectionReadTimeoutHandler;
@@ -75,6 +77,16 @@ public class NetworkConnection implements Connection {
             Clock clock,
             MetricsListener metricsListener,
             Logging logging) {
+        this(channel, channelPool, clock, metricsListener, ResultBufferLimits.NONE, logging);
+    }
+
+    public NetworkConnection(
+            Channel channel,
+            ExtendedChannelPool channelPool,
+            Clock clock,
+            MetricsListener metricsListener,
+            ResultBufferLimits resultBufferLimits,
+            Logging logging) {
         this.log = logging.getLog(getClass());
         this.channel = channel;
         this.messageDispatcher = ChannelAttributes.messageDispatcher(channel);
@@ -86,6 +98,7 @@ public class NetworkConnection implements Connection {
         this.clock = clock;
         this.metricsListener = metricsListener;
         this.inUseEvent = metricsListener.createListenerEvent();
+        this.resultBufferLimits = resultBufferLimits;
         this.connectionReadTimeout =
                 ChannelAttributes.connectionReadTimeout(channel).orElse(null);
         metricsListener.afterConnectionCreated(poolId(this.channel), this.inUseEvent);
@@ -117,6 +130,26 @@ public class NetworkConnection implements Connection {
         }
     }
 
+    @Override
+    public void afterFirstRecord(long elapsedNanos) {
+        metricsListener.afterFirstRecord(poolId(channel), elapsedNanos);
+    }
+
+    @Override
+    public void afterResultConsumed(long elapsedNanos) {
+        metricsListener.afterResultConsumed(poolId(channel), elapsedNanos);
+    }
+
+    @Override
+    public ResultBufferLimits resultBufferLimits() {
+        return resultBufferLimits;
+    }
+
+    @Override
+    public void afterRecordBytesBuffered(long bytes) {
+        metricsListener.afterRecordBytesBuffered(poolId(channel), bytes);
+    }
+
     @Override
     public void write(Message message, ResponseHandler handler) {
         if (verifyOpen(handler, null)) {
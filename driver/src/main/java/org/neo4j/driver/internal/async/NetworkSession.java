@@ -67,6 +67,7 @@ public class NetworkSession {
     protected final Logger log;
 
     private final long fetchSize;
+    private final boolean pipelinedTransactionBegin;
     private volatile CompletionStage<UnmanagedTransaction> transactionStage = completedWithNull();
     private volatile CompletionStage<Connection> connectionStage = completedWithNull();
     private volatile CompletionStage<? extends FailableCursor> resultCursorStage = completedWithNull();
@@ -85,7 +86,8 @@ public class NetworkSession {
             String impersonatedUser,
             long fetchSize,
             Logging logging,
-            BookmarkManager bookmarkManager) {
+            BookmarkManager bookmarkManager,
+            boolean pipelinedTransactionBegin) {
         Objects.requireNonNull(bookmarks, "bookmarks may not be null");
         Objects.requireNonNull(bookmarkManager, "bookmarkManager may not be null");
         this.connectionProvider = connectionProvider;
@@ -101,6 +103,7 @@ public class NetworkSession {
         this.connectionContext =
                 new NetworkSessionConnectionContext(databaseNameFuture, determineBookmarks(false), impersonatedUser);
         this.fetchSize = fetchSize;
+        this.pipelinedTransactionBegin = pipelinedTransactionBegin;
     }
 
     public CompletionStage<ResultCursor> runAsync(Query query, TransactionConfig config) {
@@ -144,7 +147,7 @@ public class NetworkSession {
                         ImpersonationUtil.ensureImpersonationSupport(connection, connection.impersonatedUser()))
                 .thenCompose(connection -> {
                     UnmanagedTransaction tx = new UnmanagedTransaction(connection, this::handleNewBookmark, fetchSize);
-                    return tx.beginAsync(determineBookmarks(true), config, txType);
+                    return tx.beginAsync(determineBookmarks(true), config, txType, !pipelinedTransactionBegin);
                 });
 
         // update the reference to the only known transaction
@@ -284,10 +287,19 @@ public class NetworkSession {
                 });
 
         connectionStage = newConnectionStage.exceptionally(error -> null);
+        connectionStageChanged(connectionStage);
 
         return newConnectionStage;
     }
 
+    /**
+     * Called when the session starts to acquire a new connection.
+     *
+     * @param connectionStage the stage of the connection the session uses from now on, completed with {@code null}
+     * when the acquisition fails.
+     */
+    protected void connectionStageChanged(CompletionStage<Connection> connectionStage) {}
+
     private CompletionStage<Throwable> closeTransactionAndReleaseConnection() {
         return existingTransactionOrNull()
                 .thenCompose(tx -> {
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.async;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.util.Futures.asCompletionException;
 import static org.neo4j.driver.internal.util.Futures.combineErrors;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
@@ -25,8 +26,10 @@ import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.internal.util.Futures.futureCompletingConsumer;
 import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -112,7 +115,12 @@ public class UnmanagedTransaction {
 
     public CompletionStage<UnmanagedTransaction> beginAsync(
             Set<Bookmark> initialBookmarks, TransactionConfig config, String txType) {
-        return protocol.beginTransaction(connection, initialBookmarks, config, txType)
+        return beginAsync(initialBookmarks, config, txType, true);
+    }
+
+    public CompletionStage<UnmanagedTransaction> beginAsync(
+            Set<Bookmark> initialBookmarks, TransactionConfig config, String txType, boolean flush) {
+        return protocol.beginTransaction(connection, initialBookmarks, config, txType, flush)
                 .handle((ignore, beginError) -> {
                     if (beginError != null) {
                         if (beginError instanceof AuthorizationExpiredException) {
@@ -155,6 +163,29 @@ public class UnmanagedTransaction {
                 .thenApply(cursor -> cursor);
     }
 
+    public CompletionStage<List<ResultCursor>> runAllAsync(List<Query> queries) {
+        ensureCanRunQueries();
+        // write all queries before waiting for any of them, their responses arrive in order
+        List<CompletionStage<AsyncResultCursor>> cursorStages = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            CompletionStage<AsyncResultCursor> cursorStage = protocol.runInUnmanagedTransaction(
+                            connection, query, this, fetchSize)
+                    .asyncResult();
+            resultCursors.add(cursorStage);
+            cursorStages.add(cursorStage);
+        }
+        CompletionStage<List<ResultCursor>> cursorsStage = completedFuture(new ArrayList<>(queries.size()));
+        for (CompletionStage<AsyncResultCursor> cursorStage : cursorStages) {
+            cursorsStage = cursorsStage.thenCompose(cursors -> cursorStage
+                    .thenCompose(AsyncResultCursor::mapSuccessfulRunCompletionAsync)
+                    .thenApply(cursor -> {
+                        cursors.add(cursor);
+                        return cursors;
+                    }));
+        }
+        return cursorsStage;
+    }
+
     public CompletionStage<RxResultCursor> runRx(Query query) {
         ensureCanRunQueries();
         CompletionStage<RxResultCursor> cursorStage = protocol.runInUnmanagedTransaction(
@@ -30,6 +30,7 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.BoltPatchesListener;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
+import org.neo4j.driver.internal.packstream.StringCache;
 
 public final class ChannelAttributes {
     private static final AttributeKey<String> CONNECTION_ID = newInstance("connectionId");
@@ -40,6 +41,7 @@ public final class ChannelAttributes {
     private static final AttributeKey<Long> CREATION_TIMESTAMP = newInstance("creationTimestamp");
     private static final AttributeKey<Long> LAST_USED_TIMESTAMP = newInstance("lastUsedTimestamp");
     private static final AttributeKey<InboundMessageDispatcher> MESSAGE_DISPATCHER = newInstance("messageDispatcher");
+    private static final AttributeKey<StringCache> STRING_CACHE = newInstance("stringCache");
     private static final AttributeKey<String> TERMINATION_REASON = newInstance("terminationReason");
     private static final AttributeKey<AuthorizationStateListener> AUTHORIZATION_STATE_LISTENER =
             newInstance("authorizationStateListener");
@@ -115,6 +117,14 @@ public final class ChannelAttributes {
         setOnce(channel, MESSAGE_DISPATCHER, messageDispatcher);
     }
 
+    public static StringCache stringCache(Channel channel) {
+        return get(channel, STRING_CACHE);
+    }
+
+    public static void setStringCache(Channel channel, StringCache stringCache) {
+        set(channel, STRING_CACHE, stringCache);
+    }
+
     public static String terminationReason(Channel channel) {
         return get(channel, TERMINATION_REASON);
     }
@@ -64,7 +64,7 @@ public class ChannelConnectorImpl implements ChannelConnector {
         this(
                 connectionSettings,
                 securityPlan,
-                new ChannelPipelineBuilderImpl(),
+                new ChannelPipelineBuilderImpl(connectionSettings.flushConsolidationWindowNanos()),
                 logging,
                 clock,
                 routingContext,
@@ -27,12 +27,33 @@ import org.neo4j.driver.internal.async.inbound.ChannelErrorHandler;
 import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
 import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.MessageFlushConsolidationHandler;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 
 public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder {
+    private final long flushConsolidationWindowNanos;
+
+    public ChannelPipelineBuilderImpl() {
+        this(-1);
+    }
+
+    /**
+     * @param flushConsolidationWindowNanos the window to consolidate flushes in, {@code -1} to flush right away
+     */
+    public ChannelPipelineBuilderImpl(long flushConsolidationWindowNanos) {
+        this.flushConsolidationWindowNanos = flushConsolidationWindowNanos;
+    }
+
     @Override
     public void build(MessageFormat messageFormat, ChannelPipeline pipeline, Logging logging) {
+        // first one - sees reads and flushes of all other handlers
+        if (flushConsolidationWindowNanos >= 0) {
+            pipeline.addLast(
+                    MessageFlushConsolidationHandler.NAME,
+                    new MessageFlushConsolidationHandler(flushConsolidationWindowNanos));
+        }
+
         // inbound handlers
         pipeline.addLast(new ChunkDecoder(logging));
         pipeline.addLast(new MessageDecoder());
@@ -23,6 +23,7 @@ import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.RoutingErrorHandler;
+import org.neo4j.driver.internal.handlers.ResultBufferLimits;
 import org.neo4j.driver.internal.handlers.RoutingResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
@@ -123,6 +124,26 @@ public class RoutingConnection implements Connection {
         delegate.flush();
     }
 
+    @Override
+    public void afterFirstRecord(long elapsedNanos) {
+        delegate.afterFirstRecord(elapsedNanos);
+    }
+
+    @Override
+    public void afterResultConsumed(long elapsedNanos) {
+        delegate.afterResultConsumed(elapsedNanos);
+    }
+
+    @Override
+    public ResultBufferLimits resultBufferLimits() {
+        return delegate.resultBufferLimits();
+    }
+
+    @Override
+    public void afterRecordBytesBuffered(long bytes) {
+        delegate.afterRecordBytesBuffered(bytes);
+    }
+
     @Override
     public AccessMode mode() {
         return this.accessMode;
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages creation of the driver {@link Timer}, which waits out delays without occupying event loop threads. Timer
+ * tasks are expected to only hand work over to an event loop, they must not perform IO or block.
+ */
+public final class TimerFactory {
+    private static final String THREAD_NAME_PREFIX = "Neo4jDriverTimer";
+    private static final boolean THREAD_IS_DAEMON = true;
+    private static final long TICK_DURATION_MS = 10;
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private TimerFactory() {}
+
+    /**
+     * Create new {@link Timer}. Its thread is started lazily, when the first timeout is scheduled, and stops when the
+     * timer is {@link Timer#stop() stopped}.
+     *
+     * @return new timer.
+     */
+    public static Timer newTimer() {
+        return new HashedWheelTimer(
+                new DefaultThreadFactory(THREAD_NAME_PREFIX, THREAD_IS_DAEMON),
+                TICK_DURATION_MS,
+                TimeUnit.MILLISECONDS,
+                TICKS_PER_WHEEL);
+    }
+}
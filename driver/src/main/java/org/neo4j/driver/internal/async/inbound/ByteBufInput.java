@@ -18,14 +18,27 @@
  */
 package org.neo4j.driver.internal.async.inbound;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import io.netty.buffer.ByteBuf;
 import org.neo4j.driver.internal.packstream.PackInput;
+import org.neo4j.driver.internal.packstream.StringCache;
 
 public class ByteBufInput implements PackInput {
+    private final StringCache stringCache;
+    private final byte[] scratch;
     private ByteBuf buf;
 
+    public ByteBufInput() {
+        this(null);
+    }
+
+    public ByteBufInput(StringCache stringCache) {
+        this.stringCache = stringCache;
+        this.scratch = stringCache == null ? null : new byte[StringCache.MAX_CACHED_SIZE];
+    }
+
     public void start(ByteBuf newBuf) {
         assertNotStarted();
         buf = requireNonNull(newBuf);
@@ -65,6 +78,29 @@ public class ByteBufInput implements PackInput {
         buf.readBytes(into, offset, toRead);
     }
 
+    @Override
+    public String readString(int size) {
+        int index = buf.readerIndex();
+        // skip first to get the same bounds check as a read
+        buf.skipBytes(size);
+        // decodes straight from the backing array when there is one and from a reusable thread-local array otherwise
+        return buf.toString(index, size, UTF_8);
+    }
+
+    @Override
+    public String readCachedString(int size) {
+        if (stringCache == null || size > StringCache.MAX_CACHED_SIZE) {
+            return readString(size);
+        }
+        if (buf.hasArray()) {
+            int index = buf.readerIndex();
+            buf.skipBytes(size);
+            return stringCache.get(buf.array(), buf.arrayOffset() + index, size);
+        }
+        buf.readBytes(scratch, 0, size);
+        return stringCache.get(scratch, 0, size);
+    }
+
     @Override
     public byte peekByte() {
         return buf.getByte(buf.readerIndex());
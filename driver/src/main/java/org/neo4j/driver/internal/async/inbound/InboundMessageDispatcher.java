@@ -25,14 +25,13 @@ import static org.neo4j.driver.internal.util.ErrorUtil.addSuppressed;
 
 import io.netty.channel.Channel;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.handlers.ResetResponseHandler;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.logging.ChannelErrorLogger;
@@ -42,7 +41,7 @@ import org.neo4j.driver.internal.util.ErrorUtil;
 
 public class InboundMessageDispatcher implements ResponseMessageHandler {
     private final Channel channel;
-    private final Queue<ResponseHandler> handlers = new LinkedList<>();
+    private final ResponseHandlerQueue handlers = new ResponseHandlerQueue();
     private final Logger log;
     private final ChannelErrorLogger errorLog;
 
@@ -52,6 +51,12 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
     private HandlerHook beforeLastHandlerHook;
 
     private ResponseHandler autoReadManagingHandler;
+    // batch handed out to the reader for the RECORD message that is being decoded
+    private InternalRecordBatch.Builder recordBatch;
+    // size of the message that is being decoded
+    private int messageSize;
+    // only measures response times when there is a listener for them
+    private ResponseTimer responseTimer;
 
     public InboundMessageDispatcher(Channel channel, Logging logging) {
         this.channel = requireNonNull(channel);
@@ -59,15 +64,41 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
         this.errorLog = new ChannelErrorLogger(channel, logging);
     }
 
+    /**
+     * Sets the size in bytes of the message that is about to be read, after it has been put back together from its
+     * chunks.
+     */
+    public void messageSize(int messageSize) {
+        this.messageSize = messageSize;
+    }
+
     public void enqueue(ResponseHandler handler) {
         if (fatalErrorOccurred) {
             handler.onFailure(currentError);
         } else {
             handlers.add(handler);
+            if (responseTimer != null) {
+                responseTimer.handlerQueued();
+            }
             updateAutoReadManagingHandlerIfNeeded(handler);
         }
     }
 
+    public void setResponseTimeListener(ResponseTimeListener responseTimeListener) {
+        if (!channel.eventLoop().inEventLoop()) {
+            throw new IllegalStateException("This method may only be called in the EventLoop");
+        }
+        if (responseTimeListener == null) {
+            responseTimer = null;
+        } else {
+            responseTimer = new ResponseTimer(responseTimeListener);
+            // handlers queued before are timed from now on
+            for (int i = 0; i < handlers.size(); i++) {
+                responseTimer.handlerQueued();
+            }
+        }
+    }
+
     public void setBeforeLastHandlerHook(HandlerHook beforeLastHandlerHook) {
         if (!channel.eventLoop().inEventLoop()) {
             throw new IllegalStateException("This method may only be called in the EventLoop");
@@ -83,6 +114,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
     public void handleSuccessMessage(Map<String, Value> meta) {
         log.debug("S: SUCCESS %s", meta);
         invokeBeforeLastHandlerHook(HandlerHook.MessageType.SUCCESS);
+        timeResponse();
         ResponseHandler handler = removeHandler();
         handler.onSuccess(meta);
     }
@@ -97,9 +129,30 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
             throw new IllegalStateException(
                     "No handler exists to handle RECORD message with fields: " + Arrays.toString(fields));
         }
+        timeResponse();
+        handler.onRecordSize(messageSize);
         handler.onRecord(fields);
     }
 
+    @Override
+    public InternalRecordBatch.Builder recordBatch() {
+        ResponseHandler handler = handlers.peek();
+        recordBatch = handler != null ? handler.recordBatch() : null;
+        return recordBatch;
+    }
+
+    @Override
+    public void handleBatchedRecordMessage() {
+        if (log.isDebugEnabled()) {
+            log.debug("S: RECORD %s", Arrays.toString(recordBatch.lastRecord()));
+        }
+        recordBatch = null;
+        timeResponse();
+        ResponseHandler handler = handlers.peek();
+        handler.onRecordSize(messageSize);
+        handler.onBatchedRecord();
+    }
+
     @Override
     public void handleFailureMessage(String code, String message) {
         log.debug("S: FAILURE %s \"%s\"", code, message);
@@ -123,6 +176,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
         }
 
         invokeBeforeLastHandlerHook(HandlerHook.MessageType.FAILURE);
+        timeResponse();
         ResponseHandler handler = removeHandler();
         handler.onFailure(currentError);
     }
@@ -131,6 +185,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
     public void handleIgnoredMessage() {
         log.debug("S: IGNORED");
 
+        timeResponse();
         ResponseHandler handler = removeHandler();
 
         Throwable error;
@@ -199,8 +254,17 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
         return autoReadManagingHandler;
     }
 
+    private void timeResponse() {
+        if (responseTimer != null) {
+            responseTimer.responseReceived();
+        }
+    }
+
     private ResponseHandler removeHandler() {
         ResponseHandler handler = handlers.remove();
+        if (responseTimer != null) {
+            responseTimer.handlerRemoved();
+        }
         if (handler == autoReadManagingHandler) {
             // the auto-read managing handler is being removed
             // make sure this dispatcher does not hold on to a removed handler
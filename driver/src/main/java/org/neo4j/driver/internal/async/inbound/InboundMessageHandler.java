@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.async.inbound;
 import static io.netty.buffer.ByteBufUtil.hexDump;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setStringCache;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
@@ -33,8 +34,10 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.messaging.BoltPatchesListener;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.packstream.StringCache;
 
 public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf> implements BoltPatchesListener {
+    private final StringCache stringCache;
     private final ByteBufInput input;
     private final MessageFormat messageFormat;
     private final Logging logging;
@@ -44,7 +47,8 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     private Logger log;
 
     public InboundMessageHandler(MessageFormat messageFormat, Logging logging) {
-        this.input = new ByteBufInput();
+        this.stringCache = new StringCache();
+        this.input = new ByteBufInput(stringCache);
         this.messageFormat = messageFormat;
         this.logging = logging;
         this.reader = messageFormat.newReader(input);
@@ -54,6 +58,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     public void handlerAdded(ChannelHandlerContext ctx) {
         Channel channel = ctx.channel();
         messageDispatcher = requireNonNull(messageDispatcher(channel));
+        setStringCache(channel, stringCache);
         log = new ChannelActivityLogger(channel, logging, getClass());
     }
 
@@ -76,6 +81,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
             log.trace("S: %s", hexDump(msg));
         }
 
+        messageDispatcher.messageSize(msg.readableBytes());
         input.start(msg);
         try {
             reader.read(messageDispatcher);
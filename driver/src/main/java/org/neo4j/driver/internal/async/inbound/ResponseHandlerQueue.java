@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+
+/**
+ * Growable ring buffer of the response handlers of a dispatcher, in the order their responses are expected. Unlike a
+ * linked queue it does not allocate when handlers are queued, which happens for every pipelined message. Not thread
+ * safe, it is only used in the event loop of the channel.
+ */
+final class ResponseHandlerQueue {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private ResponseHandler[] handlers = new ResponseHandler[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    void add(ResponseHandler handler) {
+        if (size == handlers.length) {
+            grow();
+        }
+        handlers[(head + size) & (handlers.length - 1)] = handler;
+        size++;
+    }
+
+    /**
+     * @return the first handler, or {@code null} when the queue is empty.
+     */
+    ResponseHandler peek() {
+        return handlers[head];
+    }
+
+    /**
+     * @return the removed first handler.
+     * @throws NoSuchElementException when the queue is empty.
+     */
+    ResponseHandler remove() {
+        ResponseHandler handler = handlers[head];
+        if (handler == null) {
+            throw new NoSuchElementException();
+        }
+        // do not hold on to removed handlers
+        handlers[head] = null;
+        head = (head + 1) & (handlers.length - 1);
+        size--;
+        return handler;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            joiner.add(String.valueOf(handlers[(head + i) & (handlers.length - 1)]));
+        }
+        return joiner.toString();
+    }
+
+    private void grow() {
+        // capacity is a power of two, so that positions wrap around with a mask
+        ResponseHandler[] grown = Arrays.copyOf(handlers, handlers.length * 2);
+        // move the wrapped around part behind the part at the end of the old array
+        System.arraycopy(handlers, 0, grown, handlers.length, head);
+        Arrays.fill(grown, 0, head, null);
+        handlers = grown;
+    }
+}
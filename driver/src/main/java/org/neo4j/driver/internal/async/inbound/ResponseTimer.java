@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the times at which the response handlers of a dispatcher were queued, in the same order as the handlers, and
+ * reports the time until the first response to each of them. Only used in the event loop of the channel.
+ */
+final class ResponseTimer {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final ResponseTimeListener listener;
+    private long[] queuedNanos = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+    private boolean headResponded;
+
+    ResponseTimer(ResponseTimeListener listener) {
+        this.listener = listener;
+    }
+
+    void handlerQueued() {
+        if (size == queuedNanos.length) {
+            grow();
+        }
+        queuedNanos[(head + size) & (queuedNanos.length - 1)] = System.nanoTime();
+        size++;
+    }
+
+    void responseReceived() {
+        if (size > 0 && !headResponded) {
+            headResponded = true;
+            listener.onResponseTime(System.nanoTime() - queuedNanos[head]);
+        }
+    }
+
+    void handlerRemoved() {
+        if (size > 0) {
+            head = (head + 1) & (queuedNanos.length - 1);
+            size--;
+        }
+        headResponded = false;
+    }
+
+    private void grow() {
+        // capacity is a power of two, so that positions wrap around with a mask
+        long[] grown = Arrays.copyOf(queuedNanos, queuedNanos.length * 2);
+        // move the wrapped around part behind the part at the end of the old array
+        System.arraycopy(queuedNanos, 0, grown, queuedNanos.length, head);
+        queuedNanos = grown;
+    }
+}
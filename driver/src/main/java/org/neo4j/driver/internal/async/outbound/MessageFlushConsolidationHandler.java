@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consolidates flushes of Bolt messages written to a channel, so that messages written by several callers in a short
+ * period leave in a single write to the socket.
+ * <p>
+ * A flush requested while the channel is reading is delayed until the read completes, because response handlers tend
+ * to write follow-up messages while inbound messages are dispatched. Other flushes are delayed either until the tasks
+ * already queued on the event loop have run, when the window is {@code 0}, or by the given window. Messages are always
+ * written whole by the {@link OutboundMessageHandler}, so a flush never splits a message and delaying it only changes
+ * when complete messages are sent.
+ * <p>
+ * Similar to Netty's {@code FlushConsolidationHandler}, but it also consolidates flushes outside of reads, which is
+ * where the driver writes most of its requests.
+ */
+public class MessageFlushConsolidationHandler extends ChannelDuplexHandler {
+    public static final String NAME = MessageFlushConsolidationHandler.class.getSimpleName();
+
+    private final long windowNanos;
+    private final Runnable flushTask = this::flushIfPending;
+
+    private ChannelHandlerContext ctx;
+    private Future<?> scheduledFlush;
+    private boolean readInProgress;
+    private boolean flushPending;
+
+    public MessageFlushConsolidationHandler(long windowNanos) {
+        if (windowNanos < 0) {
+            throw new IllegalArgumentException("Flush consolidation window must not be negative: " + windowNanos);
+        }
+        this.windowNanos = windowNanos;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfPending();
+        this.ctx = null;
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (flushPending) {
+            return;
+        }
+        flushPending = true;
+        if (!readInProgress) {
+            scheduleFlush();
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        readInProgress = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        readInProgress = false;
+        ctx.fireChannelReadComplete();
+        // handlers of the messages read could have requested flushes
+        flushIfPending();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isWritable()) {
+            // outbound buffer is full, do not hold it back any longer
+            flushIfPending();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        flushIfPending();
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+        flushIfPending();
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        flushIfPending();
+        ctx.close(promise);
+    }
+
+    private void scheduleFlush() {
+        if (scheduledFlush != null) {
+            return;
+        }
+        if (windowNanos == 0) {
+            scheduledFlush = ctx.executor().submit(flushTask);
+        } else {
+            scheduledFlush = ctx.executor().schedule(flushTask, windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flushIfPending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (flushPending && ctx != null) {
+            flushPending = false;
+            ctx.flush();
+        }
+    }
+}
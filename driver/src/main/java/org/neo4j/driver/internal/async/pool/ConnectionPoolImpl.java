@@ -28,6 +28,8 @@ import static org.neo4j.driver.internal.util.LockUtil.executeWithLockAsync;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.util.concurrent.Future;
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -36,6 +38,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -47,6 +50,7 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
+import org.neo4j.driver.internal.handlers.ResultBufferLimits;
 import org.neo4j.driver.internal.metrics.ListenerEvent;
 import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.spi.Connection;
@@ -69,6 +73,7 @@ public class ConnectionPoolImpl implements ConnectionPool {
     private final AtomicBoolean closed = new AtomicBoolean();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private final ConnectionFactory connectionFactory;
+    private final Set<BoltServerAddress> addressesWarmingUp = ConcurrentHashMap.newKeySet();
 
     public ConnectionPoolImpl(
             ChannelConnector connector,
@@ -82,14 +87,18 @@ public class ConnectionPoolImpl implements ConnectionPool {
                 connector,
                 bootstrap,
                 new NettyChannelTracker(
-                        metricsListener, bootstrap.config().group().next(), logging),
+                        metricsListener, bootstrap.config().group().next(), settings.trackResponseTimes(), logging),
                 new NettyChannelHealthChecker(settings, clock, logging),
                 settings,
                 metricsListener,
                 logging,
                 clock,
                 ownsEventLoopGroup,
-                new NetworkConnectionFactory(clock, metricsListener, logging));
+                new NetworkConnectionFactory(
+                        clock,
+                        metricsListener,
+                        new ResultBufferLimits(settings.maxResultBufferSize(), settings.maxTotalResultBufferSize()),
+                        logging));
     }
 
     protected ConnectionPoolImpl(
@@ -168,6 +177,22 @@ public class ConnectionPoolImpl implements ConnectionPool {
         });
     }
 
+    @Override
+    public void warmUp(Set<BoltServerAddress> addresses) {
+        if (settings.minIdleConnectionsEnabled() && !closed.get()) {
+            for (BoltServerAddress address : addresses) {
+                ExtendedChannelPool existingPool =
+                        executeWithLock(addressToPoolLock.readLock(), () -> addressToPool.get(address));
+                if (existingPool != null) {
+                    warmUpInBackground(address, existingPool);
+                } else {
+                    // new pools are warmed up when created
+                    getOrCreatePool(address);
+                }
+            }
+        }
+    }
+
     @Override
     public int inUseConnections(ServerAddress address) {
         return nettyChannelTracker.inUseChannelCount(address);
@@ -178,6 +203,11 @@ public class ConnectionPoolImpl implements ConnectionPool {
         return nettyChannelTracker.idleChannelCount(address);
     }
 
+    @Override
+    public long averageResponseTime(ServerAddress address) {
+        return nettyChannelTracker.averageResponseTime(address);
+    }
+
     @Override
     public CompletionStage<Void> close() {
         if (closed.compareAndSet(false, true)) {
@@ -261,11 +291,28 @@ public class ConnectionPoolImpl implements ConnectionPool {
                 connector,
                 bootstrap,
                 nettyChannelTracker,
-                channelHealthChecker,
+                settings.minIdleConnectionsEnabled() ? refillingHealthChecker(address) : channelHealthChecker,
+                settings.backgroundConnectionTestEnabled() ? channelHealthChecker : null,
                 settings.connectionAcquisitionTimeout(),
                 settings.maxConnectionPoolSize());
     }
 
+    // warms up the pool towards the given address again when it discards a connection that is no longer healthy
+    ChannelHealthChecker refillingHealthChecker(BoltServerAddress address) {
+        return channel -> {
+            Future<Boolean> healthy = channelHealthChecker.isHealthy(channel);
+            healthy.addListener(future -> {
+                if (future.isSuccess() && !healthy.getNow()) {
+                    ExtendedChannelPool pool = getPool(address);
+                    if (pool != null) {
+                        warmUpInBackground(address, pool);
+                    }
+                }
+            });
+            return healthy;
+        };
+    }
+
     private ExtendedChannelPool getOrCreatePool(BoltServerAddress address) {
         ExtendedChannelPool existingPool =
                 executeWithLock(addressToPoolLock.readLock(), () -> addressToPool.get(address));
@@ -282,11 +329,50 @@ public class ConnectionPoolImpl implements ConnectionPool {
                                 () -> this.inUseConnections(address),
                                 () -> this.idleConnections(address));
                         addressToPool.put(address, pool);
+                        if (settings.minIdleConnectionsEnabled()) {
+                            warmUpInBackground(address, pool);
+                        }
                     }
                     return pool;
                 });
     }
 
+    private void warmUpInBackground(BoltServerAddress address, ExtendedChannelPool pool) {
+        int idleConnections = idleConnections(address);
+        // only the missing idle connections are created, without exceeding the maximum pool size
+        int connections = Math.min(
+                settings.minIdleConnections() - idleConnections,
+                settings.maxConnectionPoolSize() - inUseConnections(address) - idleConnections);
+        if (connections <= 0 || closed.get() || pool.isClosed() || !addressesWarmingUp.add(address)) {
+            return;
+        }
+
+        log.debug("Warming up connection pool towards %s", address);
+        ListenerEvent<?> warmUpEvent = metricsListener.createListenerEvent();
+        metricsListener.beforeWarmingUp(pool.id(), warmUpEvent);
+        warmUp(pool, connections).whenComplete((ignored, error) -> {
+            addressesWarmingUp.remove(address);
+            if (error == null) {
+                metricsListener.afterWarmedUp(pool.id(), warmUpEvent);
+                log.debug("Warmed up connection pool towards %s", address);
+            } else {
+                log.debug(
+                        "Failed to warm up connection pool towards %s: %s",
+                        address, Futures.completionExceptionCause(error).getMessage());
+            }
+        });
+    }
+
+    private static CompletableFuture<Void> warmUp(ExtendedChannelPool pool, int connections) {
+        // every connection is offered to the pool as an idle connection as soon as it is created, so acquirers can use
+        // it while the remaining connections are still being created
+        CompletableFuture<?>[] creations = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            creations[i] = pool.createIdleChannel().toCompletableFuture();
+        }
+        return CompletableFuture.allOf(creations);
+    }
+
     private CompletionStage<Void> closePool(ExtendedChannelPool pool) {
         return pool.close()
                 .whenComplete((ignored, error) ->
@@ -26,6 +26,8 @@ public interface ExtendedChannelPool {
 
     CompletionStage<Void> release(Channel channel);
 
+    CompletionStage<Void> createIdleChannel();
+
     boolean isClosed();
 
     String id();
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.async.pool;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.creationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastUsedTimestamp;
 
 import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelHealthChecker;
@@ -62,6 +63,43 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker, Authoriz
         return ACTIVE.isHealthy(channel);
     }
 
+    public long probeIntervalMillis() {
+        return poolSettings.backgroundConnectionTestInterval();
+    }
+
+    /**
+     * Checks if an idle channel is due to be tested in the background, which is the case once it has been idle for the
+     * {@link PoolSettings#backgroundConnectionTestInterval() background test interval} or is too old to be used.
+     *
+     * @param channel the idle channel
+     * @return {@code true} if the channel should be tested with {@link #probe(Channel)}, otherwise {@code false}
+     */
+    public boolean needsProbe(Channel channel) {
+        Long lastUsedTimestamp = lastUsedTimestamp(channel);
+        long idleSinceMillis = lastUsedTimestamp != null ? lastUsedTimestamp : creationTimestamp(channel);
+        return clock.millis() - idleSinceMillis >= poolSettings.backgroundConnectionTestInterval() || isTooOld(channel);
+    }
+
+    /**
+     * Tests an idle channel in the background. A channel that passes the test counts as used at the time of the test,
+     * so that it is not tested again when acquired.
+     *
+     * @param channel the idle channel
+     * @return future completed with {@code true} if the channel can still be used, otherwise {@code false}
+     */
+    public Future<Boolean> probe(Channel channel) {
+        if (isTooOld(channel)) {
+            return channel.eventLoop().newSucceededFuture(Boolean.FALSE);
+        }
+        Future<Boolean> result = ping(channel);
+        result.addListener(ignored -> {
+            if (result.isSuccess() && result.getNow()) {
+                setLastUsedTimestamp(channel, clock.millis());
+            }
+        });
+        return result;
+    }
+
     @Override
     public void onExpired(AuthorizationExpiredException e, Channel channel) {
         long ts = creationTimestamp(channel);
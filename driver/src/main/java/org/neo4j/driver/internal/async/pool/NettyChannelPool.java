@@ -28,8 +28,13 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.pool.ChannelHealthChecker;
 import io.netty.channel.pool.FixedChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
@@ -45,10 +50,16 @@ public class NettyChannelPool implements ExtendedChannelPool {
      */
     private static final boolean RELEASE_HEALTH_CHECK = false;
 
-    private final FixedChannelPool delegate;
+    private final TrackingChannelPool delegate;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final String id;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+    private final NettyChannelTracker handler;
+    private final NettyChannelHealthChecker backgroundHealthCheck;
+    // channels in the pool and channels being tested, only tracked when they are tested in the background
+    private final Set<Channel> idleChannels = ConcurrentHashMap.newKeySet();
+    private final Set<Channel> probingChannels = ConcurrentHashMap.newKeySet();
+    private final ScheduledFuture<?> backgroundHealthCheckFuture;
 
     NettyChannelPool(
             BoltServerAddress address,
@@ -58,47 +69,45 @@ public class NettyChannelPool implements ExtendedChannelPool {
             ChannelHealthChecker healthCheck,
             long acquireTimeoutMillis,
             int maxConnections) {
+        this(address, connector, bootstrap, handler, healthCheck, null, acquireTimeoutMillis, maxConnections);
+    }
+
+    NettyChannelPool(
+            BoltServerAddress address,
+            ChannelConnector connector,
+            Bootstrap bootstrap,
+            NettyChannelTracker handler,
+            ChannelHealthChecker healthCheck,
+            NettyChannelHealthChecker backgroundHealthCheck,
+            long acquireTimeoutMillis,
+            int maxConnections) {
         requireNonNull(address);
         requireNonNull(connector);
         requireNonNull(handler);
         this.id = poolId(address);
-        this.delegate =
-                new FixedChannelPool(
-                        bootstrap,
-                        handler,
-                        healthCheck,
-                        FixedChannelPool.AcquireTimeoutAction.FAIL,
-                        acquireTimeoutMillis,
-                        maxConnections,
-                        MAX_PENDING_ACQUIRES,
-                        RELEASE_HEALTH_CHECK) {
-                    @Override
-                    protected ChannelFuture connectChannel(Bootstrap bootstrap) {
-                        ListenerEvent<?> creatingEvent = handler.channelCreating(id);
-                        ChannelFuture connectedChannelFuture = connector.connect(address, bootstrap);
-                        Channel channel = connectedChannelFuture.channel();
-                        // This ensures that handler.channelCreated is called before SimpleChannelPool calls
-                        // handler.channelAcquired
-                        ChannelPromise trackedChannelFuture = channel.newPromise();
-                        connectedChannelFuture.addListener(future -> {
-                            if (future.isSuccess()) {
-                                // notify pool handler about a successful connection
-                                setPoolId(channel, id);
-                                handler.channelCreated(channel, creatingEvent);
-                                trackedChannelFuture.setSuccess();
-                            } else {
-                                handler.channelFailedToCreate(id);
-                                trackedChannelFuture.setFailure(future.cause());
-                            }
-                        });
-                        return trackedChannelFuture;
-                    }
-                };
+        this.handler = handler;
+        this.backgroundHealthCheck = backgroundHealthCheck;
+        this.delegate = new TrackingChannelPool(
+                address, connector, bootstrap, handler, healthCheck, acquireTimeoutMillis, maxConnections);
+        if (backgroundHealthCheck != null) {
+            long intervalMillis = backgroundHealthCheck.probeIntervalMillis();
+            this.backgroundHealthCheckFuture = bootstrap
+                    .config()
+                    .group()
+                    .next()
+                    .scheduleWithFixedDelay(
+                            this::probeIdleChannels, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.backgroundHealthCheckFuture = null;
+        }
     }
 
     @Override
     public CompletionStage<Void> close() {
         if (closed.compareAndSet(false, true)) {
+            if (backgroundHealthCheckFuture != null) {
+                backgroundHealthCheckFuture.cancel(false);
+            }
             asCompletionStage(delegate.closeAsync(), closeFuture);
         }
         return closeFuture;
@@ -114,6 +123,11 @@ public class NettyChannelPool implements ExtendedChannelPool {
         return asCompletionStage(delegate.release(channel));
     }
 
+    @Override
+    public CompletionStage<Void> createIdleChannel() {
+        return asCompletionStage(delegate.connectIdleChannel());
+    }
+
     @Override
     public boolean isClosed() {
         return closed.get();
@@ -124,7 +138,128 @@ public class NettyChannelPool implements ExtendedChannelPool {
         return this.id;
     }
 
+    private void probeIdleChannels() {
+        for (Channel channel : idleChannels) {
+            channel.eventLoop().execute(() -> probeIfIdle(channel));
+        }
+    }
+
+    // invoked on the channel event loop, so an acquisition of the channel can only be completed after the ping is sent
+    // and the ping response is handled before responses to the messages sent by the new owner of the channel
+    private void probeIfIdle(Channel channel) {
+        if (closed.get()
+                || !idleChannels.contains(channel)
+                || !backgroundHealthCheck.needsProbe(channel)
+                || !probingChannels.add(channel)) {
+            return;
+        }
+        handler.channelProbed(channel);
+        Future<Boolean> probe = backgroundHealthCheck.probe(channel);
+        probe.addListener(ignored -> {
+            probingChannels.remove(channel);
+            if (!probe.isSuccess() || !probe.getNow()) {
+                handler.channelEvicted(channel);
+                // the pool discards closed channels when they are acquired
+                channel.close();
+            }
+        });
+    }
+
     private String poolId(BoltServerAddress serverAddress) {
         return String.format("%s:%d-%d", serverAddress.host(), serverAddress.port(), this.hashCode());
     }
+
+    private class TrackingChannelPool extends FixedChannelPool {
+        private final BoltServerAddress address;
+        private final ChannelConnector connector;
+
+        TrackingChannelPool(
+                BoltServerAddress address,
+                ChannelConnector connector,
+                Bootstrap bootstrap,
+                NettyChannelTracker handler,
+                ChannelHealthChecker healthCheck,
+                long acquireTimeoutMillis,
+                int maxConnections) {
+            super(
+                    bootstrap,
+                    handler,
+                    healthCheck,
+                    FixedChannelPool.AcquireTimeoutAction.FAIL,
+                    acquireTimeoutMillis,
+                    maxConnections,
+                    MAX_PENDING_ACQUIRES,
+                    RELEASE_HEALTH_CHECK);
+            this.address = address;
+            this.connector = connector;
+        }
+
+        // connects a channel that is not acquired by anyone and offers it to the pool as soon as it is connected,
+        // the amount of acquired channels, which the pool limits, does not change
+        ChannelFuture connectIdleChannel() {
+            ChannelFuture connectedChannelFuture = connectChannel(bootstrap());
+            Channel channel = connectedChannelFuture.channel();
+            ChannelPromise offeredChannelFuture = channel.newPromise();
+            connectedChannelFuture.addListener(future -> {
+                if (!future.isSuccess()) {
+                    offeredChannelFuture.setFailure(future.cause());
+                    return;
+                }
+                handler.channelOffered(channel);
+                if (!offerChannel(channel) || closed.get()) {
+                    // the pool is closed and will not close channels offered after its idle channels are closed
+                    channel.close();
+                    offeredChannelFuture.setFailure(new IllegalStateException("Channel pool is closed"));
+                } else {
+                    offeredChannelFuture.setSuccess();
+                }
+            });
+            return offeredChannelFuture;
+        }
+
+        @Override
+        protected ChannelFuture connectChannel(Bootstrap bootstrap) {
+            ListenerEvent<?> creatingEvent = handler.channelCreating(id);
+            ChannelFuture connectedChannelFuture = connector.connect(address, bootstrap);
+            Channel channel = connectedChannelFuture.channel();
+            // This ensures that handler.channelCreated is called before SimpleChannelPool calls
+            // handler.channelAcquired
+            ChannelPromise trackedChannelFuture = channel.newPromise();
+            connectedChannelFuture.addListener(future -> {
+                if (future.isSuccess()) {
+                    // notify pool handler about a successful connection
+                    setPoolId(channel, id);
+                    handler.channelCreated(channel, creatingEvent);
+                    trackedChannelFuture.setSuccess();
+                } else {
+                    handler.channelFailedToCreate(id);
+                    trackedChannelFuture.setFailure(future.cause());
+                }
+            });
+            return trackedChannelFuture;
+        }
+
+        @Override
+        protected Channel pollChannel() {
+            Channel channel = super.pollChannel();
+            if (channel != null && backgroundHealthCheck != null) {
+                idleChannels.remove(channel);
+            }
+            return channel;
+        }
+
+        @Override
+        protected boolean offerChannel(Channel channel) {
+            if (backgroundHealthCheck == null) {
+                return super.offerChannel(channel);
+            }
+            // tracked before it is offered, so that it can not be polled before it is tracked
+            idleChannels.add(channel);
+            boolean offered = super.offerChannel(channel);
+            if (!offered) {
+                idleChannels.remove(channel);
+            }
+            return offered;
+        }
+    }
 }
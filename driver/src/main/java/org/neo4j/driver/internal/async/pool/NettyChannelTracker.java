@@ -18,8 +18,10 @@
  */
 package org.neo4j.driver.internal.async.pool;
 
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serverAddress;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.stringCache;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
@@ -27,76 +29,64 @@ import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.util.concurrent.EventExecutor;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.metrics.ListenerEvent;
 import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.packstream.StringCache;
 import org.neo4j.driver.net.ServerAddress;
 
 public class NettyChannelTracker implements ChannelPoolHandler {
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Lock read = lock.readLock();
-    private final Lock write = lock.writeLock();
-    private final Map<ServerAddress, Integer> addressToInUseChannelCount = new HashMap<>();
-    private final Map<ServerAddress, Integer> addressToIdleChannelCount = new HashMap<>();
+    private final ConcurrentMap<ServerAddress, ChannelCounts> addressToChannelCounts = new ConcurrentHashMap<>();
     private final Logger log;
     private final MetricsListener metricsListener;
     private final ChannelFutureListener closeListener = future -> channelClosed(future.channel());
     private final ChannelGroup allChannels;
+    private final boolean trackResponseTimes;
 
     public NettyChannelTracker(MetricsListener metricsListener, EventExecutor eventExecutor, Logging logging) {
-        this(metricsListener, new DefaultChannelGroup("all-connections", eventExecutor), logging);
+        this(metricsListener, eventExecutor, false, logging);
     }
 
-    public NettyChannelTracker(MetricsListener metricsListener, ChannelGroup channels, Logging logging) {
-        this.metricsListener = metricsListener;
-        this.log = logging.getLog(getClass());
-        this.allChannels = channels;
+    public NettyChannelTracker(
+            MetricsListener metricsListener, EventExecutor eventExecutor, boolean trackResponseTimes, Logging logging) {
+        this(metricsListener, new DefaultChannelGroup("all-connections", eventExecutor), trackResponseTimes, logging);
     }
 
-    private void doInWriteLock(Runnable work) {
-        try {
-            write.lock();
-            work.run();
-        } finally {
-            write.unlock();
-        }
+    public NettyChannelTracker(MetricsListener metricsListener, ChannelGroup channels, Logging logging) {
+        this(metricsListener, channels, false, logging);
     }
 
-    private <T> T retrieveInReadLock(Supplier<T> work) {
-        try {
-            read.lock();
-            return work.get();
-        } finally {
-            read.unlock();
-        }
+    public NettyChannelTracker(
+            MetricsListener metricsListener, ChannelGroup channels, boolean trackResponseTimes, Logging logging) {
+        this.metricsListener = metricsListener;
+        this.log = logging.getLog(getClass());
+        this.allChannels = channels;
+        this.trackResponseTimes = trackResponseTimes;
     }
 
     @Override
     public void channelReleased(Channel channel) {
-        doInWriteLock(() -> {
-            decrementInUse(channel);
-            incrementIdle(channel);
-            channel.closeFuture().addListener(closeListener);
-        });
+        ChannelCounts counts = existingCounts(channel, "in use");
+        counts.inUse.decrementAndGet();
+        counts.idle.incrementAndGet();
+        channel.closeFuture().addListener(closeListener);
+        reportStringCacheLookups(channel);
 
         log.debug("Channel [0x%s] released back to the pool", channel.id());
     }
 
     @Override
     public void channelAcquired(Channel channel) {
-        doInWriteLock(() -> {
-            incrementInUse(channel);
-            decrementIdle(channel);
-            channel.closeFuture().removeListener(closeListener);
-        });
+        ChannelCounts counts = existingCounts(channel, "idle");
+        counts.inUse.incrementAndGet();
+        counts.idle.decrementAndGet();
+        channel.closeFuture().removeListener(closeListener);
 
         log.debug(
                 "Channel [0x%s] acquired from the pool. Local address: %s, remote address: %s",
@@ -110,7 +100,12 @@ public class NettyChannelTracker implements ChannelPoolHandler {
 
     public void channelCreated(Channel channel, ListenerEvent<?> creatingEvent) {
         // when it is created, we count it as idle as it has not been acquired out of the pool
-        doInWriteLock(() -> incrementIdle(channel));
+        ChannelCounts counts = counts(channel);
+        counts.idle.incrementAndGet();
+        if (trackResponseTimes) {
+            // invoked on the channel event loop once the connection is established
+            messageDispatcher(channel).setResponseTimeListener(counts.responseTime);
+        }
 
         metricsListener.afterCreated(poolId(channel), creatingEvent);
         allChannels.add(channel);
@@ -119,6 +114,14 @@ public class NettyChannelTracker implements ChannelPoolHandler {
                 channel.id(), channel.localAddress(), channel.remoteAddress());
     }
 
+    public void channelOffered(Channel channel) {
+        // created channels are already counted as idle, a channel offered to the pool without being acquired only
+        // needs to be watched like a released one
+        channel.closeFuture().addListener(closeListener);
+
+        log.debug("Channel [0x%s] offered to the pool without being acquired", channel.id());
+    }
+
     public ListenerEvent<?> channelCreating(String poolId) {
         ListenerEvent<?> creatingEvent = metricsListener.createListenerEvent();
         metricsListener.beforeCreating(poolId, creatingEvent);
@@ -130,16 +133,34 @@ public class NettyChannelTracker implements ChannelPoolHandler {
     }
 
     public void channelClosed(Channel channel) {
-        doInWriteLock(() -> decrementIdle(channel));
+        existingCounts(channel, "idle").idle.decrementAndGet();
+        reportStringCacheLookups(channel);
         metricsListener.afterClosed(poolId(channel));
     }
 
+    public void channelProbed(Channel channel) {
+        metricsListener.afterProbed(poolId(channel));
+        log.trace("Channel [0x%s] is tested for liveness in the background", channel.id());
+    }
+
+    public void channelEvicted(Channel channel) {
+        metricsListener.afterEvicted(poolId(channel));
+        log.debug("Channel [0x%s] failed the liveness test and is evicted from the pool", channel.id());
+    }
+
     public int inUseChannelCount(ServerAddress address) {
-        return retrieveInReadLock(() -> addressToInUseChannelCount.getOrDefault(address, 0));
+        ChannelCounts counts = addressToChannelCounts.get(address);
+        return counts == null ? 0 : counts.inUse.get();
     }
 
     public int idleChannelCount(ServerAddress address) {
-        return retrieveInReadLock(() -> addressToIdleChannelCount.getOrDefault(address, 0));
+        ChannelCounts counts = addressToChannelCounts.get(address);
+        return counts == null ? 0 : counts.idle.get();
+    }
+
+    public long averageResponseTime(ServerAddress address) {
+        ChannelCounts counts = addressToChannelCounts.get(address);
+        return counts == null ? 0 : counts.responseTime.nanos();
     }
 
     public void prepareToCloseChannels() {
@@ -157,35 +178,36 @@ public class NettyChannelTracker implements ChannelPoolHandler {
         }
     }
 
-    private void incrementInUse(Channel channel) {
-        increment(channel, addressToInUseChannelCount);
-    }
-
-    private void decrementInUse(Channel channel) {
-        BoltServerAddress address = serverAddress(channel);
-        if (!addressToInUseChannelCount.containsKey(address)) {
-            throw new IllegalStateException("No count exists for address '" + address + "' in the 'in use' count");
+    // invoked on the channel event loop, which is the only thread that uses the cache
+    private void reportStringCacheLookups(Channel channel) {
+        StringCache cache = stringCache(channel);
+        if (cache != null && (cache.hits() > 0 || cache.misses() > 0)) {
+            metricsListener.afterStringCacheLookups(poolId(channel), cache.hits(), cache.misses());
+            cache.resetCounters();
         }
-        Integer count = addressToInUseChannelCount.get(address);
-        addressToInUseChannelCount.put(address, count - 1);
     }
 
-    private void incrementIdle(Channel channel) {
-        increment(channel, addressToIdleChannelCount);
+    private ChannelCounts counts(Channel channel) {
+        return addressToChannelCounts.computeIfAbsent(serverAddress(channel), ignored -> new ChannelCounts());
     }
 
-    private void decrementIdle(Channel channel) {
+    private ChannelCounts existingCounts(Channel channel, String countName) {
         BoltServerAddress address = serverAddress(channel);
-        if (!addressToIdleChannelCount.containsKey(address)) {
-            throw new IllegalStateException("No count exists for address '" + address + "' in the 'idle' count");
+        ChannelCounts counts = addressToChannelCounts.get(address);
+        if (counts == null) {
+            throw new IllegalStateException(
+                    "No count exists for address '" + address + "' in the '" + countName + "' count");
         }
-        Integer count = addressToIdleChannelCount.get(address);
-        addressToIdleChannelCount.put(address, count - 1);
+        return counts;
     }
 
-    private void increment(Channel channel, Map<ServerAddress, Integer> countMap) {
-        ServerAddress address = serverAddress(channel);
-        Integer count = countMap.computeIfAbsent(address, k -> 0);
-        countMap.put(address, count + 1);
+    /**
+     * The in use and idle channel counts of a single address. The two counts are updated one after the other, so a
+     * channel that moves between in use and idle may briefly be counted in both or in neither.
+     */
+    private static class ChannelCounts {
+        final AtomicInteger inUse = new AtomicInteger();
+        final AtomicInteger idle = new AtomicInteger();
+        final ResponseTimeAverage responseTime = new ResponseTimeAverage();
     }
 }
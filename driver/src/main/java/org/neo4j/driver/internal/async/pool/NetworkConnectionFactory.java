@@ -22,22 +22,30 @@ import io.netty.channel.Channel;
 import java.time.Clock;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.async.NetworkConnection;
+import org.neo4j.driver.internal.handlers.ResultBufferLimits;
 import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.spi.Connection;
 
 public class NetworkConnectionFactory implements ConnectionFactory {
     private final Clock clock;
     private final MetricsListener metricsListener;
+    private final ResultBufferLimits resultBufferLimits;
     private final Logging logging;
 
     public NetworkConnectionFactory(Clock clock, MetricsListener metricsListener, Logging logging) {
+        this(clock, metricsListener, ResultBufferLimits.NONE, logging);
+    }
+
+    public NetworkConnectionFactory(
+            Clock clock, MetricsListener metricsListener, ResultBufferLimits resultBufferLimits, Logging logging) {
         this.clock = clock;
         this.metricsListener = metricsListener;
+        this.resultBufferLimits = resultBufferLimits;
         this.logging = logging;
     }
 
     @Override
     public Connection createConnection(Channel channel, ExtendedChannelPool pool) {
-        return new NetworkConnection(channel, pool, clock, metricsListener, logging);
+        return new NetworkConnection(channel, pool, clock, metricsListener, resultBufferLimits, logging);
     }
 }
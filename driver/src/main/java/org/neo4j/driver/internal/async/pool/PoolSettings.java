@@ -24,24 +24,38 @@ public class PoolSettings {
     public static final int NOT_CONFIGURED = -1;
 
     public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = 100;
+    public static final int DEFAULT_MIN_IDLE_CONNECTIONS = 0;
+    public static final boolean DEFAULT_BACKGROUND_CONNECTION_TEST = false;
+    public static final boolean DEFAULT_TRACK_RESPONSE_TIMES = false;
     public static final long DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST = NOT_CONFIGURED;
     public static final long DEFAULT_MAX_CONNECTION_LIFETIME = TimeUnit.HOURS.toMillis(1);
     public static final long DEFAULT_CONNECTION_ACQUISITION_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+    public static final long DEFAULT_MAX_RESULT_BUFFER_SIZE = Long.MAX_VALUE;
 
     private final int maxConnectionPoolSize;
     private final long connectionAcquisitionTimeout;
     private final long maxConnectionLifetime;
     private final long idleTimeBeforeConnectionTest;
+    private final int minIdleConnections;
+    private final boolean backgroundConnectionTest;
+    private final boolean trackResponseTimes;
+    private final long maxResultBufferSize;
+    private final long maxTotalResultBufferSize;
 
-    public PoolSettings(
-            int maxConnectionPoolSize,
-            long connectionAcquisitionTimeout,
-            long maxConnectionLifetime,
-            long idleTimeBeforeConnectionTest) {
-        this.maxConnectionPoolSize = maxConnectionPoolSize;
-        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
-        this.maxConnectionLifetime = maxConnectionLifetime;
-        this.idleTimeBeforeConnectionTest = idleTimeBeforeConnectionTest;
+    private PoolSettings(PoolSettingsBuilder builder) {
+        this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.connectionAcquisitionTimeout = builder.connectionAcquisitionTimeout;
+        this.maxConnectionLifetime = builder.maxConnectionLifetime;
+        this.idleTimeBeforeConnectionTest = builder.idleTimeBeforeConnectionTest;
+        this.minIdleConnections = Math.min(builder.minIdleConnections, builder.maxConnectionPoolSize);
+        this.backgroundConnectionTest = builder.backgroundConnectionTest;
+        this.trackResponseTimes = builder.trackResponseTimes;
+        this.maxResultBufferSize = builder.maxResultBufferSize;
+        this.maxTotalResultBufferSize = builder.maxTotalResultBufferSize;
+    }
+
+    public static PoolSettingsBuilder builder() {
+        return new PoolSettingsBuilder();
     }
 
     public long idleTimeBeforeConnectionTest() {
@@ -52,6 +66,16 @@ public class PoolSettings {
         return idleTimeBeforeConnectionTest >= 0;
     }
 
+    public boolean backgroundConnectionTestEnabled() {
+        // connections that are always tested on acquisition can not be tested in the background in time
+        return backgroundConnectionTest && idleTimeBeforeConnectionTest > 0;
+    }
+
+    public long backgroundConnectionTestInterval() {
+        // testing connections idle for half the timeout every half the timeout keeps all of them tested in time
+        return Math.max(1, idleTimeBeforeConnectionTest / 2);
+    }
+
     public long maxConnectionLifetime() {
         return maxConnectionLifetime;
     }
@@ -67,4 +91,87 @@ public class PoolSettings {
     public long connectionAcquisitionTimeout() {
         return connectionAcquisitionTimeout;
     }
+
+    public int minIdleConnections() {
+        return minIdleConnections;
+    }
+
+    public boolean minIdleConnectionsEnabled() {
+        return minIdleConnections > 0;
+    }
+
+    public boolean trackResponseTimes() {
+        return trackResponseTimes;
+    }
+
+    public long maxResultBufferSize() {
+        return maxResultBufferSize;
+    }
+
+    public long maxTotalResultBufferSize() {
+        return maxTotalResultBufferSize;
+    }
+
+    public static class PoolSettingsBuilder {
+        private int maxConnectionPoolSize = DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private long connectionAcquisitionTimeout = DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
+        private long maxConnectionLifetime = DEFAULT_MAX_CONNECTION_LIFETIME;
+        private long idleTimeBeforeConnectionTest = DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
+        private int minIdleConnections = DEFAULT_MIN_IDLE_CONNECTIONS;
+        private boolean backgroundConnectionTest = DEFAULT_BACKGROUND_CONNECTION_TEST;
+        private boolean trackResponseTimes = DEFAULT_TRACK_RESPONSE_TIMES;
+        private long maxResultBufferSize = DEFAULT_MAX_RESULT_BUFFER_SIZE;
+        private long maxTotalResultBufferSize = DEFAULT_MAX_RESULT_BUFFER_SIZE;
+
+        private PoolSettingsBuilder() {}
+
+        public PoolSettingsBuilder withMaxConnectionPoolSize(int maxConnectionPoolSize) {
+            this.maxConnectionPoolSize = maxConnectionPoolSize;
+            return this;
+        }
+
+        public PoolSettingsBuilder withConnectionAcquisitionTimeout(long connectionAcquisitionTimeout) {
+            this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMaxConnectionLifetime(long maxConnectionLifetime) {
+            this.maxConnectionLifetime = maxConnectionLifetime;
+            return this;
+        }
+
+        public PoolSettingsBuilder withIdleTimeBeforeConnectionTest(long idleTimeBeforeConnectionTest) {
+            this.idleTimeBeforeConnectionTest = idleTimeBeforeConnectionTest;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMinIdleConnections(int minIdleConnections) {
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public PoolSettingsBuilder withBackgroundConnectionTest(boolean backgroundConnectionTest) {
+            this.backgroundConnectionTest = backgroundConnectionTest;
+            return this;
+        }
+
+        public PoolSettingsBuilder withResponseTimeTracking(boolean trackResponseTimes) {
+            this.trackResponseTimes = trackResponseTimes;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMaxResultBufferSize(long maxResultBufferSize) {
+            this.maxResultBufferSize = maxResultBufferSize;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMaxTotalResultBufferSize(long maxTotalResultBufferSize) {
+            this.maxTotalResultBufferSize = maxTotalResultBufferSize;
+            return this;
+        }
+
+        public PoolSettings build() {
+            return new PoolSettings(this);
+        }
+    }
 }
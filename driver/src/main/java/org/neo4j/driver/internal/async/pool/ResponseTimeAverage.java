@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.neo4j.driver.internal.async.inbound.ResponseTimeListener;
+
+/**
+ * Exponentially weighted moving average of the response times of a server. Samples are weighted by the time passed
+ * since the previous sample rather than by their count, so that the average follows the response times of the last
+ * second regardless of how many requests the server receives.
+ */
+final class ResponseTimeAverage implements ResponseTimeListener {
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long NO_SAMPLES = -1;
+
+    private final AtomicLong averageNanos = new AtomicLong(NO_SAMPLES);
+    // races between event loops only make a sample weigh a little more or less
+    private volatile long lastSampleNanos;
+
+    @Override
+    public void onResponseTime(long responseTimeNanos) {
+        update(responseTimeNanos, System.nanoTime());
+    }
+
+    void update(long responseTimeNanos, long nowNanos) {
+        long elapsedNanos = Math.max(0, nowNanos - lastSampleNanos);
+        lastSampleNanos = nowNanos;
+        double previousWeight = Math.exp(-elapsedNanos / DECAY_NANOS);
+
+        long previous;
+        long next;
+        do {
+            previous = averageNanos.get();
+            next = previous == NO_SAMPLES
+                    ? responseTimeNanos
+                    : Math.round(previous * previousWeight + responseTimeNanos * (1 - previousWeight));
+        } while (!averageNanos.compareAndSet(previous, next));
+    }
+
+    /**
+     * @return the average response time in nanoseconds, {@code 0} when no response time was measured yet.
+     */
+    long nanos() {
+        return nanos(System.nanoTime());
+    }
+
+    /**
+     * The average decays towards {@code 0}, as if no response time was measured, while the server receives no
+     * requests. Otherwise, a server that responded slowly once would never be selected again to correct its average.
+     */
+    long nanos(long nowNanos) {
+        long average = averageNanos.get();
+        if (average == NO_SAMPLES) {
+            return 0;
+        }
+        long elapsedNanos = Math.max(0, nowNanos - lastSampleNanos);
+        return Math.round(average * Math.exp(-elapsedNanos / DECAY_NANOS));
+    }
+}
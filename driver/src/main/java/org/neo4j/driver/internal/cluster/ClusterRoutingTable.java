@@ -28,105 +28,152 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 
+/**
+ * Routing table of a single database. Its state is an immutable {@link Snapshot} that is replaced as a whole on every
+ * change, so that connection acquisition reads it without locking or allocating. Changes are rare and serialized by
+ * a lock, which is not a monitor so that a virtual thread forgetting a failed server does not pin its carrier.
+ */
 public class ClusterRoutingTable implements RoutingTable {
     private static final int MIN_ROUTERS = 1;
+    // the refresh time is moved up to this fraction of the refresh delay earlier
+    private static final double REFRESH_JITTER = 0.1;
+    // background refreshes that may fail before the routing table is only refreshed on expiry
+    private static final int MAX_FAILED_REFRESHES = 3;
 
-    private final ReadWriteLock tableLock = new ReentrantReadWriteLock();
+    private final Lock lock = new ReentrantLock();
     private final DatabaseName databaseName;
     private final Clock clock;
-    private final Set<BoltServerAddress> disused = new HashSet<>();
+    private final double refreshFraction;
 
-    private long expirationTimestamp;
-    private boolean preferInitialRouter = true;
-    private List<BoltServerAddress> readers = Collections.emptyList();
-    private List<BoltServerAddress> writers = Collections.emptyList();
-    private List<BoltServerAddress> routers = Collections.emptyList();
+    private volatile Snapshot snapshot;
 
     public ClusterRoutingTable(DatabaseName ofDatabase, Clock clock, BoltServerAddress... routingAddresses) {
-        this(ofDatabase, clock);
-        routers = Collections.unmodifiableList(asList(routingAddresses));
+        this(ofDatabase, clock, RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_FRACTION, routingAddresses);
     }
 
-    private ClusterRoutingTable(DatabaseName ofDatabase, Clock clock) {
+    public ClusterRoutingTable(
+            DatabaseName ofDatabase, Clock clock, double refreshFraction, BoltServerAddress... routingAddresses) {
         this.databaseName = ofDatabase;
         this.clock = clock;
-        this.expirationTimestamp = clock.millis() - 1;
+        this.refreshFraction = refreshFraction;
+        long expirationTimestamp = clock.millis() - 1;
+        this.snapshot = new Snapshot(
+                expirationTimestamp,
+                expirationTimestamp,
+                true,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.unmodifiableList(asList(routingAddresses)),
+                Collections.emptySet(),
+                0);
     }
 
     @Override
     public boolean isStaleFor(AccessMode mode) {
-        return executeWithLock(
-                tableLock.readLock(),
-                () -> expirationTimestamp < clock.millis()
-                        || routers.size() < MIN_ROUTERS
-                        || mode == AccessMode.READ && readers.size() == 0
-                        || mode == AccessMode.WRITE && writers.size() == 0);
+        Snapshot snapshot = this.snapshot;
+        return snapshot.expirationTimestamp < clock.millis()
+                || snapshot.routers.size() < MIN_ROUTERS
+                || mode == AccessMode.READ && snapshot.readers.size() == 0
+                || mode == AccessMode.WRITE && snapshot.writers.size() == 0;
     }
 
     @Override
     public boolean hasBeenStaleFor(long extraTime) {
-        long totalTime = executeWithLock(tableLock.readLock(), () -> expirationTimestamp) + extraTime;
+        long totalTime = snapshot.expirationTimestamp + extraTime;
         if (totalTime < 0) {
             totalTime = Long.MAX_VALUE;
         }
         return totalTime < clock.millis();
     }
 
+    @Override
+    public boolean isDueForRefresh() {
+        Snapshot snapshot = this.snapshot;
+        long now = clock.millis();
+        return snapshot.refreshTimestamp < snapshot.expirationTimestamp
+                && snapshot.refreshTimestamp <= now
+                && now <= snapshot.expirationTimestamp;
+    }
+
     @Override
     public void update(ClusterComposition cluster) {
-        executeWithLock(tableLock.writeLock(), () -> {
-            expirationTimestamp = cluster.expirationTimestamp();
-            readers = newWithReusedAddresses(readers, disused, cluster.readers());
-            writers = newWithReusedAddresses(writers, disused, cluster.writers());
-            routers = newWithReusedAddresses(routers, disused, cluster.routers());
-            disused.clear();
-            preferInitialRouter = !cluster.hasWriters();
+        executeWithLock(lock, () -> {
+            Snapshot current = snapshot;
+            long expirationTimestamp = cluster.expirationTimestamp();
+            snapshot = new Snapshot(
+                    expirationTimestamp,
+                    refreshTimestamp(expirationTimestamp),
+                    !cluster.hasWriters(),
+                    newWithReusedAddresses(current.readers, current.disused, cluster.readers()),
+                    newWithReusedAddresses(current.writers, current.disused, cluster.writers()),
+                    newWithReusedAddresses(current.routers, current.disused, cluster.routers()),
+                    Collections.emptySet(),
+                    0);
+        });
+    }
+
+    @Override
+    public void postponeRefresh() {
+        executeWithLock(lock, () -> {
+            Snapshot current = snapshot;
+            int failedRefreshes = current.failedRefreshes + 1;
+            snapshot = new Snapshot(
+                    current.expirationTimestamp,
+                    failedRefreshes < MAX_FAILED_REFRESHES
+                            ? refreshTimestamp(current.expirationTimestamp)
+                            : current.expirationTimestamp,
+                    current.preferInitialRouter,
+                    current.readers,
+                    current.writers,
+                    current.routers,
+                    current.disused,
+                    failedRefreshes);
         });
     }
 
     @Override
     public void forget(BoltServerAddress address) {
-        executeWithLock(tableLock.writeLock(), () -> {
-            routers = newWithoutAddressIfPresent(routers, address);
-            readers = newWithoutAddressIfPresent(readers, address);
-            writers = newWithoutAddressIfPresent(writers, address);
-            disused.add(address);
+        executeWithLock(lock, () -> {
+            Snapshot current = snapshot;
+            snapshot = new Snapshot(
+                    current.expirationTimestamp,
+                    current.refreshTimestamp,
+                    current.preferInitialRouter,
+                    newWithoutAddressIfPresent(current.readers, address),
+                    newWithoutAddressIfPresent(current.writers, address),
+                    newWithoutAddressIfPresent(current.routers, address),
+                    newWithAddress(current.disused, address),
+                    current.failedRefreshes);
         });
     }
 
     @Override
     public List<BoltServerAddress> readers() {
-        return executeWithLock(tableLock.readLock(), () -> readers);
+        return snapshot.readers;
     }
 
     @Override
     public List<BoltServerAddress> writers() {
-        return executeWithLock(tableLock.readLock(), () -> writers);
+        return snapshot.writers;
     }
 
     @Override
     public List<BoltServerAddress> routers() {
-        return executeWithLock(tableLock.readLock(), () -> routers);
+        return snapshot.routers;
     }
 
     @Override
     public Set<BoltServerAddress> servers() {
-        return executeWithLock(tableLock.readLock(), () -> {
-            Set<BoltServerAddress> servers = new HashSet<>();
-            servers.addAll(readers);
-            servers.addAll(writers);
-            servers.addAll(routers);
-            servers.addAll(disused);
-            return servers;
-        });
+        return snapshot.servers;
     }
 
     @Override
@@ -136,39 +183,73 @@ public class ClusterRoutingTable implements RoutingTable {
 
     @Override
     public void forgetWriter(BoltServerAddress toRemove) {
-        executeWithLock(tableLock.writeLock(), () -> {
-            writers = newWithoutAddressIfPresent(writers, toRemove);
-            disused.add(toRemove);
+        executeWithLock(lock, () -> {
+            Snapshot current = snapshot;
+            snapshot = new Snapshot(
+                    current.expirationTimestamp,
+                    current.refreshTimestamp,
+                    current.preferInitialRouter,
+                    current.readers,
+                    newWithoutAddressIfPresent(current.writers, toRemove),
+                    current.routers,
+                    newWithAddress(current.disused, toRemove),
+                    current.failedRefreshes);
         });
     }
 
     @Override
     public void replaceRouterIfPresent(BoltServerAddress oldRouter, BoltServerAddress newRouter) {
-        executeWithLock(
-                tableLock.writeLock(), () -> routers = newWithAddressReplacedIfPresent(routers, oldRouter, newRouter));
+        executeWithLock(lock, () -> {
+            Snapshot current = snapshot;
+            snapshot = new Snapshot(
+                    current.expirationTimestamp,
+                    current.refreshTimestamp,
+                    current.preferInitialRouter,
+                    current.readers,
+                    current.writers,
+                    newWithAddressReplacedIfPresent(current.routers, oldRouter, newRouter),
+                    current.disused,
+                    current.failedRefreshes);
+        });
     }
 
     @Override
     public boolean preferInitialRouter() {
-        return executeWithLock(tableLock.readLock(), () -> preferInitialRouter);
+        return snapshot.preferInitialRouter;
     }
 
     @Override
     public long expirationTimestamp() {
-        return executeWithLock(tableLock.readLock(), () -> expirationTimestamp);
+        return snapshot.expirationTimestamp;
     }
 
     @Override
     public String toString() {
-        return executeWithLock(
-                tableLock.readLock(),
-                () -> format(
-                        "Ttl %s, currentTime %s, routers %s, writers %s, readers %s, database '%s'",
-                        expirationTimestamp, clock.millis(), routers, writers, readers, databaseName.description()));
+        Snapshot snapshot = this.snapshot;
+        return format(
+                "Ttl %s, currentTime %s, routers %s, writers %s, readers %s, database '%s'",
+                snapshot.expirationTimestamp,
+                clock.millis(),
+                snapshot.routers,
+                snapshot.writers,
+                snapshot.readers,
+                databaseName.description());
+    }
+
+    private long refreshTimestamp(long expirationTimestamp) {
+        long now = clock.millis();
+        if (refreshFraction >= 1 || expirationTimestamp <= now) {
+            return expirationTimestamp;
+        }
+        double jitter = 1 - REFRESH_JITTER * ThreadLocalRandom.current().nextDouble();
+        return now + (long) ((expirationTimestamp - now) * refreshFraction * jitter);
     }
 
     private List<BoltServerAddress> newWithoutAddressIfPresent(
             List<BoltServerAddress> addresses, BoltServerAddress addressToSkip) {
+        if (!addresses.contains(addressToSkip)) {
+            return addresses;
+        }
         List<BoltServerAddress> newList = new ArrayList<>(addresses.size());
         for (BoltServerAddress address : addresses) {
             if (!address.equals(addressToSkip)) {
@@ -178,6 +259,15 @@ public class ClusterRoutingTable implements RoutingTable {
         return Collections.unmodifiableList(newList);
     }
 
+    private Set<BoltServerAddress> newWithAddress(Set<BoltServerAddress> addresses, BoltServerAddress address) {
+        if (addresses.contains(address)) {
+            return addresses;
+        }
+        Set<BoltServerAddress> newSet = new HashSet<>(addresses);
+        newSet.add(address);
+        return Collections.unmodifiableSet(newSet);
+    }
+
     private List<BoltServerAddress> newWithAddressReplacedIfPresent(
             List<BoltServerAddress> addresses, BoltServerAddress oldAddress, BoltServerAddress newAddress) {
         List<BoltServerAddress> newList = new ArrayList<>(addresses.size());
@@ -203,4 +293,42 @@ public class ClusterRoutingTable implements RoutingTable {
                 ? address
                 : new BoltServerAddress(address.host(), address.port());
     }
+
+    private static final class Snapshot {
+        final long expirationTimestamp;
+        final long refreshTimestamp;
+        final boolean preferInitialRouter;
+        final List<BoltServerAddress> readers;
+        final List<BoltServerAddress> writers;
+        final List<BoltServerAddress> routers;
+        final Set<BoltServerAddress> disused;
+        final int failedRefreshes;
+        // all of the addresses above, computed once instead of on every call to servers()
+        final Set<BoltServerAddress> servers;
+
+        Snapshot(
+                long expirationTimestamp,
+                long refreshTimestamp,
+                boolean preferInitialRouter,
+                List<BoltServerAddress> readers,
+                List<BoltServerAddress> writers,
+                List<BoltServerAddress> routers,
+                Set<BoltServerAddress> disused,
+                int failedRefreshes) {
+            this.expirationTimestamp = expirationTimestamp;
+            this.refreshTimestamp = refreshTimestamp;
+            this.preferInitialRouter = preferInitialRouter;
+            this.readers = readers;
+            this.writers = writers;
+            this.routers = routers;
+            this.disused = disused;
+            this.failedRefreshes = failedRefreshes;
+            Set<BoltServerAddress> servers = new HashSet<>();
+            servers.addAll(readers);
+            servers.addAll(writers);
+            servers.addAll(routers);
+            servers.addAll(disused);
+            this.servers = Collections.unmodifiableSet(servers);
+        }
+    }
 }
@@ -22,17 +22,25 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class RoutingSettings {
     public static final long STALE_ROUTING_TABLE_PURGE_DELAY_MS = SECONDS.toMillis(30);
+    public static final double DEFAULT_ROUTING_TABLE_REFRESH_FRACTION = 1.0;
 
     private final RoutingContext routingContext;
     private final long routingTablePurgeDelayMs;
+    private final double routingTableRefreshFraction;
 
     public RoutingSettings(long routingTablePurgeDelayMs) {
         this(routingTablePurgeDelayMs, RoutingContext.EMPTY);
     }
 
     public RoutingSettings(long routingTablePurgeDelayMs, RoutingContext routingContext) {
+        this(routingTablePurgeDelayMs, DEFAULT_ROUTING_TABLE_REFRESH_FRACTION, routingContext);
+    }
+
+    public RoutingSettings(
+            long routingTablePurgeDelayMs, double routingTableRefreshFraction, RoutingContext routingContext) {
         this.routingContext = routingContext;
         this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+        this.routingTableRefreshFraction = routingTableRefreshFraction;
     }
 
     public RoutingContext routingContext() {
@@ -42,4 +50,8 @@ public class RoutingSettings {
     public long routingTablePurgeDelayMs() {
         return routingTablePurgeDelayMs;
     }
+
+    public double routingTableRefreshFraction() {
+        return routingTableRefreshFraction;
+    }
 }
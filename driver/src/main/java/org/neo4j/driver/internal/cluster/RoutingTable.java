@@ -29,6 +29,19 @@ public interface RoutingTable {
 
     boolean hasBeenStaleFor(long staleRoutingTableTimeout);
 
+    /**
+     * Tells if the routing table is still fresh but should be refreshed ahead of its expiry.
+     *
+     * @return {@code true} when the routing table should be refreshed in the background.
+     */
+    boolean isDueForRefresh();
+
+    /**
+     * Moves the refresh ahead of expiry to a later time after a failed refresh. After a few failed refreshes, the
+     * routing table is only refreshed once it expires.
+     */
+    void postponeRefresh();
+
     void update(ClusterComposition cluster);
 
     void forget(BoltServerAddress address);
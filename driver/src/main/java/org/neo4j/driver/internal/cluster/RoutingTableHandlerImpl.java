@@ -19,12 +19,15 @@
 package org.neo4j.driver.internal.cluster;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
@@ -38,11 +41,14 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
     private final DatabaseName databaseName;
     private final RoutingTableRegistry routingTableRegistry;
     private volatile CompletableFuture<RoutingTable> refreshRoutingTableFuture;
+    // a refresh ahead of expiry is happening, callers keep using the current routing table meanwhile
+    private boolean isRefreshingInBackground;
     private final ConnectionPool connectionPool;
     private final Rediscovery rediscovery;
     private final Logger log;
     private final long routingTablePurgeDelayMs;
     private final Set<BoltServerAddress> resolvedInitialRouters = new HashSet<>();
+    private final Lock lock = new ReentrantLock();
 
     public RoutingTableHandlerImpl(
             RoutingTable routingTable,
@@ -72,92 +78,153 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
     }
 
     @Override
-    public synchronized CompletionStage<RoutingTable> ensureRoutingTable(ConnectionContext context) {
-        if (refreshRoutingTableFuture != null) {
-            // refresh is already happening concurrently, just use it's result
-            return refreshRoutingTableFuture;
-        } else if (routingTable.isStaleFor(context.mode())) {
-            // existing routing table is not fresh and should be updated
-            log.debug("Routing table for database '%s' is stale. %s", databaseName.description(), routingTable);
-
-            CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
-            refreshRoutingTableFuture = resultFuture;
-
-            rediscovery
-                    .lookupClusterComposition(routingTable, connectionPool, context.rediscoveryBookmarks(), null)
-                    .whenComplete((composition, completionError) -> {
-                        Throwable error = Futures.completionExceptionCause(completionError);
-                        if (error != null) {
-                            clusterCompositionLookupFailed(error);
-                        } else {
-                            freshClusterCompositionFetched(composition);
-                        }
-                    });
-
-            return resultFuture;
-        } else {
-            // existing routing table is fresh, use it
+    public CompletionStage<RoutingTable> ensureRoutingTable(ConnectionContext context) {
+        // taken by almost every connection acquisition, the routing table is read without locking
+        if (refreshRoutingTableFuture == null
+                && !routingTable.isStaleFor(context.mode())
+                && !routingTable.isDueForRefresh()) {
             return completedFuture(routingTable);
         }
+        return ensureFreshRoutingTable(context);
     }
 
-    @Override
-    public synchronized CompletionStage<RoutingTable> updateRoutingTable(
-            ClusterCompositionLookupResult compositionLookupResult) {
-        if (refreshRoutingTableFuture != null) {
-            // refresh is already happening concurrently, just use its result
-            return refreshRoutingTableFuture;
-        } else {
-            if (compositionLookupResult.getClusterComposition().expirationTimestamp()
-                    < routingTable.expirationTimestamp()) {
+    private CompletionStage<RoutingTable> ensureFreshRoutingTable(ConnectionContext context) {
+        return executeWithLock(lock, () -> {
+            if (refreshRoutingTableFuture != null) {
+                // refresh is already happening concurrently, just use it's result
+                return refreshRoutingTableFuture;
+            } else if (routingTable.isStaleFor(context.mode())) {
+                // existing routing table is not fresh and should be updated
+                log.debug("Routing table for database '%s' is stale. %s", databaseName.description(), routingTable);
+
+                CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
+                refreshRoutingTableFuture = resultFuture;
+
+                rediscovery
+                        .lookupClusterComposition(routingTable, connectionPool, context.rediscoveryBookmarks(), null)
+                        .whenComplete((composition, completionError) -> {
+                            Throwable error = Futures.completionExceptionCause(completionError);
+                            if (error != null) {
+                                clusterCompositionLookupFailed(error);
+                            } else {
+                                freshClusterCompositionFetched(composition);
+                            }
+                        });
+
+                return resultFuture;
+            } else {
+                // existing routing table is fresh, use it
+                if (!isRefreshingInBackground && routingTable.isDueForRefresh()) {
+                    refreshRoutingTableInBackground(context);
+                }
                 return completedFuture(routingTable);
             }
-            CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
-            refreshRoutingTableFuture = resultFuture;
-            freshClusterCompositionFetched(compositionLookupResult);
-            return resultFuture;
-        }
+        });
     }
 
-    private synchronized void freshClusterCompositionFetched(ClusterCompositionLookupResult compositionLookupResult) {
-        try {
-            log.debug(
-                    "Fetched cluster composition for database '%s'. %s",
-                    databaseName.description(), compositionLookupResult.getClusterComposition());
-            routingTable.update(compositionLookupResult.getClusterComposition());
-            routingTableRegistry.removeAged();
-
-            Set<BoltServerAddress> addressesToRetain = new LinkedHashSet<>();
-            routingTableRegistry.allServers().stream()
-                    .flatMap(BoltServerAddress::unicastStream)
-                    .forEach(addressesToRetain::add);
-            compositionLookupResult.getResolvedInitialRouters().ifPresent(addresses -> {
-                resolvedInitialRouters.clear();
-                resolvedInitialRouters.addAll(addresses);
-            });
-            addressesToRetain.addAll(resolvedInitialRouters);
-            connectionPool.retainAll(addressesToRetain);
-
-            log.debug("Updated routing table for database '%s'. %s", databaseName.description(), routingTable);
+    private void refreshRoutingTableInBackground(ConnectionContext context) {
+        log.debug(
+                "Refreshing routing table for database '%s' ahead of its expiry. %s",
+                databaseName.description(), routingTable);
+        isRefreshingInBackground = true;
 
-            CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
-            refreshRoutingTableFuture = null;
-            routingTableFuture.complete(routingTable);
-        } catch (Throwable error) {
-            clusterCompositionLookupFailed(error);
-        }
+        rediscovery
+                .lookupClusterComposition(routingTable, connectionPool, context.rediscoveryBookmarks(), null)
+                .whenComplete(this::backgroundRefreshCompleted);
     }
 
-    private synchronized void clusterCompositionLookupFailed(Throwable error) {
-        log.error(
-                String.format(
-                        "Failed to update routing table for database '%s'. Current routing table: %s.",
-                        databaseName.description(), routingTable),
-                error);
-        routingTableRegistry.remove(databaseName);
-        CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
-        refreshRoutingTableFuture = null;
-        routingTableFuture.completeExceptionally(error);
+    private void backgroundRefreshCompleted(
+            ClusterCompositionLookupResult compositionLookupResult, Throwable completionError) {
+        executeWithLock(lock, () -> {
+            isRefreshingInBackground = false;
+            Throwable error = Futures.completionExceptionCause(completionError);
+            if (error == null) {
+                try {
+                    applyClusterComposition(compositionLookupResult);
+                } catch (Throwable updateError) {
+                    error = updateError;
+                }
+            }
+            if (error != null) {
+                // the current routing table is used until it expires and then refreshed like it would be without a
+                // background refresh, which fails the callers if the cluster is still unavailable. Until then, the
+                // next attempt is postponed so that requests do not each send a rediscovery to failing routers
+                routingTable.postponeRefresh();
+                log.warn(
+                        String.format(
+                                "Failed to refresh routing table for database '%s' ahead of its expiry. Current routing table: %s.",
+                                databaseName.description(), routingTable),
+                        error);
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<RoutingTable> updateRoutingTable(ClusterCompositionLookupResult compositionLookupResult) {
+        return executeWithLock(lock, () -> {
+            if (refreshRoutingTableFuture != null) {
+                // refresh is already happening concurrently, just use its result
+                return refreshRoutingTableFuture;
+            } else {
+                if (compositionLookupResult.getClusterComposition().expirationTimestamp()
+                        < routingTable.expirationTimestamp()) {
+                    return completedFuture(routingTable);
+                }
+                CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
+                refreshRoutingTableFuture = resultFuture;
+                freshClusterCompositionFetched(compositionLookupResult);
+                return resultFuture;
+            }
+        });
+    }
+
+    private void freshClusterCompositionFetched(ClusterCompositionLookupResult compositionLookupResult) {
+        executeWithLock(lock, () -> {
+            try {
+                applyClusterComposition(compositionLookupResult);
+
+                CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
+                refreshRoutingTableFuture = null;
+                routingTableFuture.complete(routingTable);
+            } catch (Throwable error) {
+                clusterCompositionLookupFailed(error);
+            }
+        });
+    }
+
+    private void applyClusterComposition(ClusterCompositionLookupResult compositionLookupResult) {
+        ClusterComposition composition = compositionLookupResult.getClusterComposition();
+        log.debug("Fetched cluster composition for database '%s'. %s", databaseName.description(), composition);
+        routingTable.update(composition);
+        routingTableRegistry.removeAged();
+
+        Set<BoltServerAddress> addressesToRetain = new LinkedHashSet<>();
+        routingTableRegistry.allServers().stream()
+                .flatMap(BoltServerAddress::unicastStream)
+                .forEach(addressesToRetain::add);
+        compositionLookupResult.getResolvedInitialRouters().ifPresent(addresses -> {
+            resolvedInitialRouters.clear();
+            resolvedInitialRouters.addAll(addresses);
+        });
+        addressesToRetain.addAll(resolvedInitialRouters);
+        connectionPool.retainAll(addressesToRetain);
+        connectionPool.warmUp(routingTable.servers());
+
+        log.debug("Updated routing table for database '%s'. %s", databaseName.description(), routingTable);
+    }
+
+    private void clusterCompositionLookupFailed(Throwable error) {
+        executeWithLock(lock, () -> {
+            log.error(
+                    String.format(
+                            "Failed to update routing table for database '%s'. Current routing table: %s.",
+                            databaseName.description(), routingTable),
+                    error);
+            routingTableRegistry.remove(databaseName);
+            CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
+            refreshRoutingTableFuture = null;
+            routingTableFuture.completeExceptionally(error);
+        });
     }
 
     // This method cannot be synchronized as it will be visited by all routing table handler's threads concurrently
@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.cluster;
 
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.ConnectionContext.PENDING_DATABASE_NAME_EXCEPTION_SUPPLIER;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 import java.time.Clock;
 import java.util.HashMap;
@@ -33,6 +34,8 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
@@ -50,6 +53,7 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
     private final Clock clock;
     private final ConnectionPool connectionPool;
     private final Rediscovery rediscovery;
+    private final Lock lock = new ReentrantLock();
 
     public RoutingTableRegistryImpl(
             ConnectionPool connectionPool,
@@ -57,9 +61,31 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
             Clock clock,
             Logging logging,
             long routingTablePurgeDelayMs) {
+        this(
+                connectionPool,
+                rediscovery,
+                clock,
+                logging,
+                routingTablePurgeDelayMs,
+                RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_FRACTION);
+    }
+
+    public RoutingTableRegistryImpl(
+            ConnectionPool connectionPool,
+            Rediscovery rediscovery,
+            Clock clock,
+            Logging logging,
+            long routingTablePurgeDelayMs,
+            double routingTableRefreshFraction) {
         this(
                 new ConcurrentHashMap<>(),
-                new RoutingTableHandlerFactory(connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs),
+                new RoutingTableHandlerFactory(
+                        connectionPool,
+                        rediscovery,
+                        clock,
+                        logging,
+                        routingTablePurgeDelayMs,
+                        routingTableRefreshFraction),
                 clock,
                 connectionPool,
                 rediscovery,
@@ -102,10 +128,9 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
         if (contextDatabaseNameFuture.isDone()) {
             contextAndHandlerStage = CompletableFuture.completedFuture(new ConnectionContextAndHandler(context, null));
         } else {
-            synchronized (this) {
+            contextAndHandlerStage = executeWithLock(lock, () -> {
                 if (contextDatabaseNameFuture.isDone()) {
-                    contextAndHandlerStage =
-                            CompletableFuture.completedFuture(new ConnectionContextAndHandler(context, null));
+                    return CompletableFuture.completedFuture(new ConnectionContextAndHandler(context, null));
                 } else {
                     String impersonatedUser = context.impersonatedUser();
                     Principal principal = new Principal(impersonatedUser);
@@ -131,11 +156,8 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
                                     return handler.updateRoutingTable(compositionLookupResult)
                                             .thenApply(ignored -> databaseName);
                                 })
-                                .whenComplete((databaseName, throwable) -> {
-                                    synchronized (this) {
-                                        principalToDatabaseNameStage.remove(principal);
-                                    }
-                                })
+                                .whenComplete((databaseName, throwable) ->
+                                        executeWithLock(lock, () -> principalToDatabaseNameStage.remove(principal)))
                                 .whenComplete((databaseName, throwable) -> {
                                     if (throwable != null) {
                                         databaseNameFuture.completeExceptionally(throwable);
@@ -145,14 +167,12 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
                                 });
                     }
 
-                    contextAndHandlerStage = databaseNameStage.thenApply(databaseName -> {
-                        synchronized (this) {
-                            contextDatabaseNameFuture.complete(databaseName);
-                        }
+                    return databaseNameStage.thenApply(databaseName -> {
+                        executeWithLock(lock, () -> contextDatabaseNameFuture.complete(databaseName));
                         return new ConnectionContextAndHandler(context, handlerRef.get());
                     });
                 }
-            }
+            });
         }
 
         return contextAndHandlerStage;
@@ -211,6 +231,7 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
         private final Logging logging;
         private final Clock clock;
         private final long routingTablePurgeDelayMs;
+        private final double routingTableRefreshFraction;
 
         RoutingTableHandlerFactory(
                 ConnectionPool connectionPool,
@@ -218,15 +239,33 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
                 Clock clock,
                 Logging logging,
                 long routingTablePurgeDelayMs) {
+            this(
+                    connectionPool,
+                    rediscovery,
+                    clock,
+                    logging,
+                    routingTablePurgeDelayMs,
+                    RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_FRACTION);
+        }
+
+        RoutingTableHandlerFactory(
+                ConnectionPool connectionPool,
+                Rediscovery rediscovery,
+                Clock clock,
+                Logging logging,
+                long routingTablePurgeDelayMs,
+                double routingTableRefreshFraction) {
             this.connectionPool = connectionPool;
             this.rediscovery = rediscovery;
             this.clock = clock;
             this.logging = logging;
             this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+            this.routingTableRefreshFraction = routingTableRefreshFraction;
         }
 
         RoutingTableHandler newInstance(DatabaseName databaseName, RoutingTableRegistry allTables) {
-            ClusterRoutingTable routingTable = new ClusterRoutingTable(databaseName, clock);
+            ClusterRoutingTable routingTable =
+                    new ClusterRoutingTable(databaseName, clock, routingTableRefreshFraction);
             return new RoutingTableHandlerImpl(
                     routingTable, rediscovery, connectionPool, allTables, logging, routingTablePurgeDelayMs);
         }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+/**
+ * Load balancing strategy that picks two random addresses from given readers or writers and selects the one with the
+ * lower cost. The cost of an address is the moving average of the response times of the server multiplied by the
+ * amount of active (checked out of the pool) connections towards it, plus one. Unlike
+ * {@link LeastConnectedLoadBalancingStrategy}, this avoids servers that respond slowly even when they have few active
+ * connections, while comparing only two random addresses keeps the other servers from being flooded when the
+ * measurements are stale. The average decays while a server receives no requests, so that a server that responded
+ * slowly once is selected again and can correct its average.
+ */
+public class LeastResponseTimeLoadBalancingStrategy implements LoadBalancingStrategy {
+    private final ConnectionPool connectionPool;
+    private final Logger log;
+
+    public LeastResponseTimeLoadBalancingStrategy(ConnectionPool connectionPool, Logging logging) {
+        this.connectionPool = connectionPool;
+        this.log = logging.getLog(getClass());
+    }
+
+    @Override
+    public BoltServerAddress selectReader(List<BoltServerAddress> knownReaders) {
+        return select(knownReaders, "reader");
+    }
+
+    @Override
+    public BoltServerAddress selectWriter(List<BoltServerAddress> knownWriters) {
+        return select(knownWriters, "writer");
+    }
+
+    private BoltServerAddress select(List<BoltServerAddress> addresses, String addressType) {
+        int size = addresses.size();
+        if (size == 0) {
+            log.trace("Unable to select %s, no known addresses given", addressType);
+            return null;
+        } else if (size == 1) {
+            return addresses.get(0);
+        }
+
+        // choose two distinct addresses at random
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+
+        BoltServerAddress first = addresses.get(firstIndex);
+        BoltServerAddress second = addresses.get(secondIndex);
+        double firstCost = cost(first);
+        double secondCost = cost(second);
+        BoltServerAddress selected = firstCost <= secondCost ? first : second;
+
+        if (log.isTraceEnabled()) {
+            log.trace(
+                    "Selected %s with address: '%s' and cost: %s over address: '%s' and cost: %s",
+                    addressType,
+                    selected,
+                    Math.min(firstCost, secondCost),
+                    selected == first ? second : first,
+                    Math.max(firstCost, secondCost));
+        }
+
+        return selected;
+    }
+
+    private double cost(BoltServerAddress address) {
+        // servers without measured response times are tried first, in the order of their active connections
+        double responseTime = connectionPool.averageResponseTime(address) + 1;
+        return responseTime * (connectionPool.inUseConnections(address) + 1);
+    }
+}
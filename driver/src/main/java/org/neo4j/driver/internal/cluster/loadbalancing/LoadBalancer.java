@@ -253,7 +253,12 @@ public class LoadBalancer implements ConnectionProvider {
             Clock clock,
             Logging logging) {
         return new RoutingTableRegistryImpl(
-                connectionPool, rediscovery, clock, logging, settings.routingTablePurgeDelayMs());
+                connectionPool,
+                rediscovery,
+                clock,
+                logging,
+                settings.routingTablePurgeDelayMs(),
+                settings.routingTableRefreshFraction());
     }
 
     private static RuntimeException unknownMode(AccessMode mode) {
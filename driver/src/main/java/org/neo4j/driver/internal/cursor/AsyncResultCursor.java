@@ -19,9 +19,25 @@
 package org.neo4j.driver.internal.cursor;
 
 import java.util.concurrent.CompletableFuture;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.internal.FailableCursor;
+import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 
 public interface AsyncResultCursor extends ResultCursor, FailableCursor {
     CompletableFuture<AsyncResultCursor> mapSuccessfulRunCompletionAsync();
+
+    /**
+     * @see PullAllResponseHandler#peekBufferedRecord()
+     */
+    default Record peekBufferedRecord() {
+        return null;
+    }
+
+    /**
+     * @see PullAllResponseHandler#nextBufferedRecord()
+     */
+    default Record nextBufferedRecord() {
+        return null;
+    }
 }
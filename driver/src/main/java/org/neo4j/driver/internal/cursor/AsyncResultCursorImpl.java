@@ -24,6 +24,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
@@ -62,6 +63,21 @@ public class AsyncResultCursorImpl implements AsyncResultCursor {
         return pullAllHandler.peekAsync();
     }
 
+    @Override
+    public Record peekBufferedRecord() {
+        return pullAllHandler.peekBufferedRecord();
+    }
+
+    @Override
+    public Record nextBufferedRecord() {
+        return pullAllHandler.nextBufferedRecord();
+    }
+
+    @Override
+    public CompletionStage<RecordBatch> nextBatchAsync() {
+        return pullAllHandler.nextBatchAsync();
+    }
+
     @Override
     public CompletionStage<Record> singleAsync() {
         return nextAsync().thenCompose(firstRecord -> {
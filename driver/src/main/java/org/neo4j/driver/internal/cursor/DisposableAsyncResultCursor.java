@@ -28,6 +28,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.summary.ResultSummary;
 
 public class DisposableAsyncResultCursor implements AsyncResultCursor {
@@ -59,6 +60,22 @@ public class DisposableAsyncResultCursor implements AsyncResultCursor {
         return assertNotDisposed().thenCompose(ignored -> delegate.peekAsync());
     }
 
+    @Override
+    public Record peekBufferedRecord() {
+        // a disposed cursor fails the asynchronous call that follows
+        return isDisposed ? null : delegate.peekBufferedRecord();
+    }
+
+    @Override
+    public Record nextBufferedRecord() {
+        return isDisposed ? null : delegate.nextBufferedRecord();
+    }
+
+    @Override
+    public CompletionStage<RecordBatch> nextBatchAsync() {
+        return assertNotDisposed().thenCompose(ignored -> delegate.nextBatchAsync());
+    }
+
     @Override
     public CompletionStage<Record> singleAsync() {
         return assertNotDisposed().thenCompose(ignored -> delegate.singleAsync());
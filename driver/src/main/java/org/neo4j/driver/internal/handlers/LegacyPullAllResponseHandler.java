@@ -23,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -31,12 +32,16 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.messaging.request.PullAllMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
@@ -61,6 +66,11 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
 
     // initialized lazily when first record arrives
     private Queue<Record> records = UNINITIALIZED_RECORDS;
+    private final ResultBuffer buffer;
+    // not a monitor, which would pin a virtual thread to its carrier while contended
+    private final Lock lock = new ReentrantLock();
+    // only used on the event loop, size of the record that is being received
+    private int recordSize;
 
     private boolean autoReadManagementEnabled = true;
     private boolean finished;
@@ -82,6 +92,7 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
         this.metadataExtractor = requireNonNull(metadataExtractor);
         this.connection = requireNonNull(connection);
         this.completionListener = requireNonNull(completionListener);
+        this.buffer = new ResultBuffer(connection);
     }
 
     @Override
@@ -90,102 +101,138 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
     }
 
     @Override
-    public synchronized void onSuccess(Map<String, Value> metadata) {
-        finished = true;
-        Neo4jException exception = null;
-        try {
-            summary = extractResultSummary(metadata);
-        } catch (Neo4jException e) {
-            exception = e;
-        }
+    public void onSuccess(Map<String, Value> metadata) {
+        executeWithLock(lock, () -> {
+            finished = true;
+            Neo4jException exception = null;
+            try {
+                summary = extractResultSummary(metadata);
+            } catch (Neo4jException e) {
+                exception = e;
+            }
 
-        if (exception == null) {
-            completionListener.afterSuccess(metadata);
+            if (exception == null) {
+                completionListener.afterSuccess(metadata);
+                runResponseHandler.resultConsumed();
 
-            completeRecordFuture(null);
-            completeFailureFuture(null);
-        } else {
-            onFailure(exception);
-        }
+                completeRecordFuture(null);
+                completeFailureFuture(null);
+            } else {
+                onFailure(exception);
+            }
+        });
     }
 
     @Override
-    public synchronized void onFailure(Throwable error) {
-        finished = true;
-        summary = extractResultSummary(emptyMap());
-
-        completionListener.afterFailure(error);
-
-        boolean failedRecordFuture = failRecordFuture(error);
-        if (failedRecordFuture) {
-            // error propagated through the record future
-            completeFailureFuture(null);
-        } else {
-            boolean completedFailureFuture = completeFailureFuture(error);
-            if (!completedFailureFuture) {
-                // error has not been propagated to the user, remember it
-                failure = error;
+    public void onFailure(Throwable error) {
+        executeWithLock(lock, () -> {
+            finished = true;
+            summary = extractResultSummary(emptyMap());
+
+            completionListener.afterFailure(error);
+
+            boolean failedRecordFuture = failRecordFuture(error);
+            if (failedRecordFuture) {
+                // error propagated through the record future
+                completeFailureFuture(null);
+            } else {
+                boolean completedFailureFuture = completeFailureFuture(error);
+                if (!completedFailureFuture) {
+                    // error has not been propagated to the user, remember it
+                    failure = error;
+                }
             }
-        }
+        });
     }
 
     @Override
-    public synchronized void onRecord(Value[] fields) {
-        if (ignoreRecords) {
-            completeRecordFuture(null);
-        } else {
-            Record record = new InternalRecord(runResponseHandler.queryKeys(), fields);
-            enqueueRecord(record);
-            completeRecordFuture(record);
-        }
+    public void onRecord(Value[] fields) {
+        executeWithLock(lock, () -> {
+            runResponseHandler.recordReceived();
+            if (ignoreRecords) {
+                completeRecordFuture(null);
+            } else {
+                Record record = new InternalRecord(runResponseHandler.queryKeys(), fields);
+                enqueueRecord(record);
+                completeRecordFuture(record);
+            }
+        });
     }
 
     @Override
-    public synchronized void disableAutoReadManagement() {
-        autoReadManagementEnabled = false;
+    public void onRecordSize(int bytes) {
+        recordSize = bytes;
     }
 
-    public synchronized CompletionStage<Record> peekAsync() {
-        Record record = records.peek();
-        if (record == null) {
-            if (failure != null) {
-                return failedFuture(extractFailure());
-            }
+    @Override
+    public void disableAutoReadManagement() {
+        executeWithLock(lock, () -> {
+            autoReadManagementEnabled = false;
+        });
+    }
 
-            if (ignoreRecords || finished) {
-                return completedWithNull();
+    public CompletionStage<Record> peekAsync() {
+        return executeWithLock(lock, () -> {
+            Record record = records.peek();
+            if (record == null) {
+                if (failure != null) {
+                    return failedFuture(extractFailure());
+                }
+
+                if (ignoreRecords || finished) {
+                    return completedWithNull();
+                }
+
+                if (recordFuture == null) {
+                    recordFuture = new CompletableFuture<>();
+                }
+                return recordFuture;
+            } else {
+                return completedFuture(record);
             }
+        });
+    }
 
-            if (recordFuture == null) {
-                recordFuture = new CompletableFuture<>();
-            }
-            return recordFuture;
-        } else {
-            return completedFuture(record);
-        }
+    public CompletionStage<Record> nextAsync() {
+        return executeWithLock(lock, () -> peekAsync().thenApply(ignore -> dequeueRecord()));
     }
 
-    public synchronized CompletionStage<Record> nextAsync() {
-        return peekAsync().thenApply(ignore -> dequeueRecord());
+    @Override
+    public Record peekBufferedRecord() {
+        return executeWithLock(lock, () -> records.peek());
     }
 
-    public synchronized CompletionStage<ResultSummary> consumeAsync() {
-        ignoreRecords = true;
-        records.clear();
-        return pullAllFailureAsync().thenApply(error -> {
-            if (error != null) {
-                throw Futures.asCompletionException(error);
-            }
-            return summary;
+    @Override
+    public Record nextBufferedRecord() {
+        return executeWithLock(lock, () -> records.peek() != null ? dequeueRecord() : null);
+    }
+
+    public CompletionStage<RecordBatch> nextBatchAsync() {
+        return executeWithLock(lock, () -> peekAsync().thenApply(ignore -> dequeueBatch()));
+    }
+
+    public CompletionStage<ResultSummary> consumeAsync() {
+        return executeWithLock(lock, () -> {
+            ignoreRecords = true;
+            records.clear();
+            buffer.clear();
+            return pullAllFailureAsync().thenApply(error -> {
+                if (error != null) {
+                    throw Futures.asCompletionException(error);
+                }
+                return summary;
+            });
         });
     }
 
-    public synchronized <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction) {
-        return pullAllFailureAsync().thenApply(error -> {
-            if (error != null) {
-                throw Futures.asCompletionException(error);
-            }
-            return recordsAsList(mapFunction);
+    public <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction) {
+        return executeWithLock(lock, () -> {
+            return pullAllFailureAsync().thenApply(error -> {
+                if (error != null) {
+                    throw Futures.asCompletionException(error);
+                }
+                return recordsAsList(mapFunction);
+            });
         });
     }
 
@@ -194,21 +241,23 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
         connection.writeAndFlush(PullAllMessage.PULL_ALL, this);
     }
 
-    public synchronized CompletionStage<Throwable> pullAllFailureAsync() {
-        if (failure != null) {
-            return completedFuture(extractFailure());
-        } else if (finished) {
-            return completedWithNull();
-        } else {
-            if (failureFuture == null) {
-                // neither SUCCESS nor FAILURE message has arrived, register future to be notified when it arrives
-                // future will be completed with null on SUCCESS and completed with Throwable on FAILURE
-                // enable auto-read, otherwise we might not read SUCCESS/FAILURE if records are not consumed
-                enableAutoRead();
-                failureFuture = new CompletableFuture<>();
+    public CompletionStage<Throwable> pullAllFailureAsync() {
+        return executeWithLock(lock, () -> {
+            if (failure != null) {
+                return completedFuture(extractFailure());
+            } else if (finished) {
+                return completedWithNull();
+            } else {
+                if (failureFuture == null) {
+                    // neither SUCCESS nor FAILURE message has arrived, register future to be notified when it arrives
+                    // future will be completed with null on SUCCESS and completed with Throwable on FAILURE
+                    // enable auto-read, otherwise we might not read SUCCESS/FAILURE if records are not consumed
+                    enableAutoRead();
+                    failureFuture = new CompletableFuture<>();
+                }
+                return failureFuture;
             }
-            return failureFuture;
-        }
+        });
     }
 
     private void enqueueRecord(Record record) {
@@ -217,13 +266,15 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
         }
 
         records.add(record);
+        buffer.recordAdded(recordSize);
 
         boolean shouldBufferAllRecords = failureFuture != null;
         // when failure is requested we have to buffer all remaining records and then return the error
         // do not disable auto-read in this case, otherwise records will not be consumed and trailing
         // SUCCESS or FAILURE message will not arrive as well, so callers will get stuck waiting for the error
-        if (!shouldBufferAllRecords && records.size() > RECORD_BUFFER_HIGH_WATERMARK) {
-            // more than high watermark records are already queued, tell connection to stop auto-reading from network
+        if (!shouldBufferAllRecords && (records.size() > RECORD_BUFFER_HIGH_WATERMARK || buffer.isFull())) {
+            // more than high watermark records or result buffer limits are already queued, tell connection to stop
+            // auto-reading from network
             // this is needed to deal with slow consumers, we do not want to buffer all records in memory if they are
             // fetched from network faster than consumed
             disableAutoRead();
@@ -232,8 +283,11 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
 
     private Record dequeueRecord() {
         Record record = records.poll();
+        if (record != null) {
+            buffer.recordsRemoved(1, records.size() + 1);
+        }
 
-        if (records.size() < RECORD_BUFFER_LOW_WATERMARK) {
+        if (records.size() < RECORD_BUFFER_LOW_WATERMARK && buffer.hasRoom()) {
             // less than low watermark records are now available in the buffer, tell connection to pre-fetch more
             // and populate queue with new records from network
             enableAutoRead();
@@ -242,6 +296,24 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
         return record;
     }
 
+    // PULL_ALL responses are always decoded record by record, batches are assembled from the buffered records
+    private RecordBatch dequeueBatch() {
+        if (records.isEmpty()) {
+            return null;
+        }
+
+        InternalRecordBatch.Builder builder =
+                new InternalRecordBatch.Builder(runResponseHandler.queryKeys(), records.size());
+        while (!records.isEmpty()) {
+            builder.append(records.poll());
+        }
+        buffer.clear();
+
+        enableAutoRead();
+
+        return builder.build();
+    }
+
     private <T> List<T> recordsAsList(Function<Record, T> mapFunction) {
         if (!finished) {
             throw new IllegalStateException("Can't get records as list because SUCCESS or FAILURE did not arrive");
@@ -252,6 +324,7 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
             Record record = records.poll();
             result.add(mapFunction.apply(record));
         }
+        buffer.clear();
         return result;
     }
 
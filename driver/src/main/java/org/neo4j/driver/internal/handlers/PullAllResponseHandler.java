@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.summary.ResultSummary;
 
@@ -32,6 +33,29 @@ public interface PullAllResponseHandler extends ResponseHandler {
 
     CompletionStage<Record> peekAsync();
 
+    /**
+     * Returns the next record without removing it when the record has already arrived, without waiting or allocating
+     * a future.
+     *
+     * @return the next record, or {@code null} when no record is buffered, {@link #peekAsync()} tells then if there
+     * is a next record at all.
+     */
+    default Record peekBufferedRecord() {
+        return null;
+    }
+
+    /**
+     * Removes and returns the next record when the record has already arrived, without waiting or allocating a future.
+     *
+     * @return the next record, or {@code null} when no record is buffered, {@link #nextAsync()} tells then if there
+     * is a next record at all.
+     */
+    default Record nextBufferedRecord() {
+        return null;
+    }
+
+    CompletionStage<RecordBatch> nextBatchAsync();
+
     <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction);
 
     CompletionStage<Throwable> pullAllFailureAsync();
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers;
+
+import org.neo4j.driver.internal.spi.Connection;
+
+/**
+ * Accounts for the memory taken by the records buffered in a single result against the {@link ResultBufferLimits} of
+ * its connection. The size of a record is estimated from the size of the message it arrived in, records taken out of
+ * the buffer account for their share of what is buffered. The buffered bytes are reported to the connection in steps,
+ * to keep shared counters out of the way of every record.
+ * <p>
+ * Not thread-safe, used under the lock of the response handler that owns the buffer.
+ */
+public class ResultBuffer {
+    static final long REPORTING_STEP = 16 * 1024;
+
+    private final Connection connection;
+    private final ResultBufferLimits limits;
+    private long bytes;
+    private long unreportedBytes;
+
+    public ResultBuffer(Connection connection) {
+        this.connection = connection;
+        ResultBufferLimits limits = connection.resultBufferLimits();
+        this.limits = limits != null ? limits : ResultBufferLimits.NONE;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public boolean isLimited() {
+        return limits.isLimited();
+    }
+
+    /**
+     * Tells if no more records should be received for the result until some of its records are consumed.
+     */
+    public boolean isFull() {
+        return limits.isFull(bytes);
+    }
+
+    /**
+     * Tells if records can be received for the result again after it was full.
+     */
+    public boolean hasRoom() {
+        return limits.hasRoom(bytes);
+    }
+
+    public void recordAdded(int size) {
+        bytes += size;
+        report(size);
+    }
+
+    /**
+     * @param count          the number of records taken out of the buffer
+     * @param bufferedCount the number of records buffered before they were taken out
+     */
+    public void recordsRemoved(int count, long bufferedCount) {
+        long removedBytes = count >= bufferedCount ? bytes : bytes * count / bufferedCount;
+        bytes -= removedBytes;
+        report(-removedBytes);
+    }
+
+    public void clear() {
+        long removedBytes = bytes;
+        bytes = 0;
+        report(-removedBytes);
+    }
+
+    private void report(long delta) {
+        unreportedBytes += delta;
+        if (unreportedBytes != 0 && (bytes == 0 || Math.abs(unreportedBytes) >= REPORTING_STEP)) {
+            limits.buffered(unreportedBytes);
+            connection.afterRecordBytesBuffered(unreportedBytes);
+            unreportedBytes = 0;
+        }
+    }
+}
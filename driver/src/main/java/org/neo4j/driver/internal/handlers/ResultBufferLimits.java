@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The limits on the memory taken by records that were received for results but not consumed yet, for every result and
+ * for all results of a driver together. The memory taken by records is estimated from the size of the messages they
+ * arrived in.
+ * <p>
+ * Results above their limit, or that buffer records while all results are above theirs, stop receiving records until
+ * enough of their records are consumed. A result with no records buffered always receives records, so that results can
+ * not block each other.
+ */
+public class ResultBufferLimits {
+    public static final long UNLIMITED = Long.MAX_VALUE;
+    public static final ResultBufferLimits NONE = new ResultBufferLimits(UNLIMITED, UNLIMITED);
+
+    private final long maxResultBytes;
+    private final long lowResultBytes;
+    private final long maxTotalBytes;
+    private final long lowTotalBytes;
+    // only tracked when the total is limited
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public ResultBufferLimits(long maxResultBytes, long maxTotalBytes) {
+        this.maxResultBytes = maxResultBytes;
+        this.lowResultBytes = lowWatermark(maxResultBytes);
+        this.maxTotalBytes = maxTotalBytes;
+        this.lowTotalBytes = lowWatermark(maxTotalBytes);
+    }
+
+    public boolean isLimited() {
+        return maxResultBytes != UNLIMITED || maxTotalBytes != UNLIMITED;
+    }
+
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+
+    void buffered(long bytes) {
+        if (maxTotalBytes != UNLIMITED) {
+            totalBytes.addAndGet(bytes);
+        }
+    }
+
+    boolean isFull(long resultBytes) {
+        return resultBytes > maxResultBytes || (resultBytes > 0 && totalBytes.get() > maxTotalBytes);
+    }
+
+    boolean hasRoom(long resultBytes) {
+        return resultBytes == 0 || (resultBytes <= lowResultBytes && totalBytes.get() <= lowTotalBytes);
+    }
+
+    private static long lowWatermark(long max) {
+        return max == UNLIMITED ? UNLIMITED : (long) (max * 0.3);
+    }
+}
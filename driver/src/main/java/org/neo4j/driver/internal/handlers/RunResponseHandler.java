@@ -40,6 +40,9 @@ public class RunResponseHandler implements ResponseHandler {
     private final Connection connection;
     private final UnmanagedTransaction tx;
 
+    private final long startNanos = System.nanoTime();
+    private boolean recordReceived;
+
     public RunResponseHandler(
             CompletableFuture<Void> runFuture,
             MetadataExtractor metadataExtractor,
@@ -88,4 +91,23 @@ public class RunResponseHandler implements ResponseHandler {
     public long queryId() {
         return queryId;
     }
+
+    /**
+     * Reports the time to the first record of the result to the connection, invoked by the pull handler for every
+     * received record.
+     */
+    public void recordReceived() {
+        if (!recordReceived) {
+            recordReceived = true;
+            connection.afterFirstRecord(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Reports the time to the end of the result to the connection, invoked by the pull handler once the result was
+     * completely received or discarded successfully.
+     */
+    public void resultConsumed() {
+        connection.afterResultConsumed(System.nanoTime() - startNanos);
+    }
 }
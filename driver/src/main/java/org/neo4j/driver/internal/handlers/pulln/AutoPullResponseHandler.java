@@ -19,21 +19,29 @@
 package org.neo4j.driver.internal.handlers.pulln;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.ADAPTIVE_FETCH_SIZE;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.DEFAULT_FETCH_SIZE;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
+import org.neo4j.driver.internal.handlers.ResultBuffer;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Iterables;
@@ -43,21 +51,63 @@ import org.neo4j.driver.summary.ResultSummary;
 /**
  * Built on top of {@link BasicPullResponseHandler} to be able to pull in batches.
  * It is exposed as {@link PullAllResponseHandler} as it can automatically pull when running out of records locally.
+ * <p>
+ * Once {@link #nextBatchAsync()} is called, records are decoded straight into {@link RecordBatch record batches}
+ * instead of records. A batch is completed when it reaches the fetch size or when a SUCCESS or FAILURE arrives.
+ * <p>
+ * With {@link FetchSizeUtil#ADAPTIVE_FETCH_SIZE} the size of every PULL is chosen from what happened since the
+ * previous one: it doubles when the consumer drained the queue or had to wait for records, which costs a round-trip per
+ * batch, and is capped so that a whole batch of records of the average size seen so far fits within 16MiB. A consumer
+ * slower than the network does not need smaller batches, auto pull pauses for it at the same record watermarks.
+ * Auto pull is also paused while the estimated size of the queued records is above 16MiB.
+ * <p>
+ * The estimated size of the queued records is also checked against the {@link ResultBuffer result buffer limits} of the
+ * connection. Over them, auto pull is paused and the connection stops reading, so that the records of the current batch
+ * stay on the server, until the queue is mostly drained.
  */
 public class AutoPullResponseHandler extends BasicPullResponseHandler implements PullAllResponseHandler {
     private static final Queue<Record> UNINITIALIZED_RECORDS = Iterables.emptyQueue();
-    private final long fetchSize;
-    private final long lowRecordWatermark;
-    private final long highRecordWatermark;
+    private static final Queue<RecordBatch> UNINITIALIZED_BATCHES = Iterables.emptyQueue();
+    static final long MIN_ADAPTIVE_FETCH_SIZE = 100;
+    private static final long MAX_ADAPTIVE_FETCH_SIZE = 100_000;
+    private static final long HIGH_BYTE_WATERMARK = 16 * 1024 * 1024;
+    private static final long LOW_BYTE_WATERMARK = (long) (HIGH_BYTE_WATERMARK * 0.3);
+
+    private final boolean isAdaptive;
+    private final int batchSize;
+    // only change when the fetch size is adaptive
+    private long fetchSize;
+    private long lowRecordWatermark;
+    private long highRecordWatermark;
+
+    // only used on the event loop, size of the record that is being received
+    private int recordSize;
+    // moving average of the sizes of the received records, only tracked when the fetch size is adaptive
+    private long averageRecordSize;
+    // the consumer waited for records since the last PULL, only tracked when the fetch size is adaptive
+    private boolean isConsumerStalled;
 
     // initialized lazily when first record arrives
     private Queue<Record> records = UNINITIALIZED_RECORDS;
+    private Queue<RecordBatch> batches = UNINITIALIZED_BATCHES;
+    private long batchedRecordCount;
+    private final ResultBuffer buffer;
+    // only true while the result buffer limits are reached
+    private boolean isAutoReadDisabled;
+    private boolean autoReadManagementEnabled = true;
+    // all records were requested, auto-read must stay enabled for the summary to arrive
+    private boolean shouldBufferAllRecords;
+
+    private boolean isBatchModeEnabled;
+    // only used on the event loop, records are decoded into it
+    private InternalRecordBatch.Builder batchBuilder;
 
     private ResultSummary summary;
     private Throwable failure;
     private boolean isAutoPullEnabled = true;
 
     private CompletableFuture<Record> recordFuture;
+    private CompletableFuture<RecordBatch> batchFuture;
     private CompletableFuture<ResultSummary> summaryFuture;
 
     public AutoPullResponseHandler(
@@ -68,15 +118,19 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             PullResponseCompletionListener completionListener,
             long fetchSize) {
         super(query, runResponseHandler, connection, metadataExtractor, completionListener, true);
-        this.fetchSize = fetchSize;
+        this.buffer = new ResultBuffer(connection);
+        this.isAdaptive = fetchSize == ADAPTIVE_FETCH_SIZE;
+        this.batchSize = fetchSize == UNLIMITED_FETCH_SIZE || isAdaptive
+                ? (int) DEFAULT_FETCH_SIZE
+                : (int) Math.min(fetchSize, Integer.MAX_VALUE);
 
         // For pull everything ensure conditions for disabling auto pull are never met
         if (fetchSize == UNLIMITED_FETCH_SIZE) {
+            this.fetchSize = fetchSize;
             this.highRecordWatermark = Long.MAX_VALUE;
             this.lowRecordWatermark = Long.MAX_VALUE;
         } else {
-            this.highRecordWatermark = (long) (fetchSize * 0.7);
-            this.lowRecordWatermark = (long) (fetchSize * 0.3);
+            updateFetchSize(isAdaptive ? DEFAULT_FETCH_SIZE : fetchSize);
         }
 
         installRecordAndSummaryConsumers();
@@ -87,11 +141,13 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             if (record != null) {
                 enqueueRecord(record);
                 completeRecordFuture(record);
+                completeBatchFuture();
             }
             //  if ( error != null ) Handled by summary.error already
             if (record == null && error == null) {
                 // complete
                 completeRecordFuture(null);
+                completeBatchFuture();
             }
         });
 
@@ -107,6 +163,9 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             if (error == null && summary == null) // has_more
             {
                 if (isAutoPullEnabled) {
+                    if (isAdaptive) {
+                        adaptFetchSize(isConsumerStalled || queuedRecordCount() <= lowRecordWatermark);
+                    }
                     request(fetchSize);
                 }
             }
@@ -114,53 +173,163 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
     }
 
     private void handleFailure(Throwable error) {
+        boolean propagated = failRecordFuture(error);
+        propagated |= failBatchFuture(error);
         // error has not been propagated to the user, remember it
-        if (!failRecordFuture(error) && !failSummaryFuture(error)) {
+        if (!propagated && !failSummaryFuture(error)) {
             failure = error;
         }
     }
 
-    public synchronized CompletionStage<Record> peekAsync() {
-        Record record = records.peek();
-        if (record == null) {
-            if (isDone()) {
-                return completedWithValueIfNoFailure(null);
+    @Override
+    public void onSuccess(Map<String, Value> metadata) {
+        completeDecodedBatch();
+        super.onSuccess(metadata);
+    }
+
+    @Override
+    public void onFailure(Throwable error) {
+        completeDecodedBatch();
+        super.onFailure(error);
+    }
+
+    @Override
+    public void onRecordSize(int bytes) {
+        recordSize = bytes;
+    }
+
+    @Override
+    public boolean canManageAutoRead() {
+        return buffer.isLimited();
+    }
+
+    @Override
+    public void disableAutoReadManagement() {
+        executeWithLock(lock, () -> {
+            autoReadManagementEnabled = false;
+        });
+    }
+
+    @Override
+    public InternalRecordBatch.Builder recordBatch() {
+        return executeWithLock(lock, () -> {
+            if (!isBatchModeEnabled || state() != State.STREAMING_STATE) {
+                return null;
+            }
+            if (batchBuilder == null) {
+                batchBuilder = new InternalRecordBatch.Builder(
+                        runResponseHandler.queryKeys(), (int) Math.min(batchSize, DEFAULT_FETCH_SIZE));
             }
+            return batchBuilder;
+        });
+    }
 
-            if (recordFuture == null) {
-                recordFuture = new CompletableFuture<>();
+    @Override
+    public void onBatchedRecord() {
+        executeWithLock(lock, () -> {
+            runResponseHandler.recordReceived();
+            trackRecordSize();
+            if (state() != State.STREAMING_STATE) {
+                // cancelled while the record was decoded, drop it like BasicPullResponseHandler#onRecord does
+                batchBuilder.removeLastRecord();
+                return;
             }
-            return recordFuture;
-        } else {
-            return completedFuture(record);
-        }
+            buffer.recordAdded(recordSize);
+            if (batchBuilder.size() >= batchSize) {
+                enqueueBatch(batchBuilder.build());
+            } else if (buffer.isFull()) {
+                // the batch is not complete yet, the records being decoded into it can fill the buffer as well
+                pauseAutoPullIfNeeded();
+            }
+        });
     }
 
-    public synchronized CompletionStage<Record> nextAsync() {
-        return peekAsync().thenApply(ignore -> dequeueRecord());
+    public CompletionStage<Record> peekAsync() {
+        return executeWithLock(lock, () -> {
+            if (records.isEmpty() && !batches.isEmpty()) {
+                unbatchRecords();
+            }
+            Record record = records.peek();
+            if (record == null) {
+                if (isDone()) {
+                    return completedWithValueIfNoFailure(null);
+                }
+
+                if (recordFuture == null) {
+                    recordFuture = new CompletableFuture<>();
+                    isConsumerStalled = isAdaptive;
+                }
+                return recordFuture;
+            } else {
+                return completedFuture(record);
+            }
+        });
     }
 
-    public synchronized CompletionStage<ResultSummary> consumeAsync() {
-        records.clear();
-        if (isDone()) {
-            return completedWithValueIfNoFailure(summary);
-        } else {
-            cancel();
-            if (summaryFuture == null) {
-                summaryFuture = new CompletableFuture<>();
+    public CompletionStage<Record> nextAsync() {
+        return executeWithLock(lock, () -> peekAsync().thenApply(ignore -> dequeueRecord()));
+    }
+
+    @Override
+    public Record peekBufferedRecord() {
+        return executeWithLock(lock, () -> {
+            if (records.isEmpty() && !batches.isEmpty()) {
+                unbatchRecords();
             }
+            return records.peek();
+        });
+    }
 
-            return summaryFuture;
-        }
+    @Override
+    public Record nextBufferedRecord() {
+        return executeWithLock(lock, () -> peekBufferedRecord() != null ? dequeueRecord() : null);
+    }
+
+    public CompletionStage<RecordBatch> nextBatchAsync() {
+        return executeWithLock(lock, () -> {
+            isBatchModeEnabled = true;
+            RecordBatch batch = dequeueBatch();
+            if (batch != null) {
+                return completedFuture(batch);
+            }
+            if (isDone()) {
+                return completedWithValueIfNoFailure(null);
+            }
+            if (batchFuture == null) {
+                batchFuture = new CompletableFuture<>();
+                isConsumerStalled = isAdaptive;
+            }
+            return batchFuture;
+        });
+    }
+
+    public CompletionStage<ResultSummary> consumeAsync() {
+        return executeWithLock(lock, () -> {
+            records.clear();
+            batches.clear();
+            batchedRecordCount = 0;
+            buffer.clear();
+            enableAutoRead();
+            if (isDone()) {
+                return completedWithValueIfNoFailure(summary);
+            } else {
+                cancel();
+                if (summaryFuture == null) {
+                    summaryFuture = new CompletableFuture<>();
+                }
+
+                return summaryFuture;
+            }
+        });
     }
 
-    public synchronized <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction) {
-        return pullAllAsync().thenApply(summary -> recordsAsList(mapFunction));
+    public <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction) {
+        return executeWithLock(lock, () -> pullAllAsync().thenApply(summary -> recordsAsList(mapFunction)));
     }
 
     @Override
-    public synchronized CompletionStage<Throwable> pullAllFailureAsync() {
-        return pullAllAsync().handle((ignore, error) -> error);
+    public CompletionStage<Throwable> pullAllFailureAsync() {
+        return executeWithLock(lock, () -> pullAllAsync().handle((ignore, error) -> error));
     }
 
     @Override
@@ -168,17 +337,21 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         request(fetchSize);
     }
 
-    private synchronized CompletionStage<ResultSummary> pullAllAsync() {
-        if (isDone()) {
-            return completedWithValueIfNoFailure(summary);
-        } else {
-            request(UNLIMITED_FETCH_SIZE);
-            if (summaryFuture == null) {
-                summaryFuture = new CompletableFuture<>();
-            }
+    private CompletionStage<ResultSummary> pullAllAsync() {
+        return executeWithLock(lock, () -> {
+            if (isDone()) {
+                return completedWithValueIfNoFailure(summary);
+            } else {
+                shouldBufferAllRecords = true;
+                enableAutoRead();
+                request(UNLIMITED_FETCH_SIZE);
+                if (summaryFuture == null) {
+                    summaryFuture = new CompletableFuture<>();
+                }
 
-            return summaryFuture;
-        }
+                return summaryFuture;
+            }
+        });
     }
 
     private void enqueueRecord(Record record) {
@@ -187,40 +360,181 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         }
 
         records.add(record);
+        trackRecordSize();
+        buffer.recordAdded(recordSize);
 
-        // too many records in the queue, pause auto request gathering
-        if (records.size() > highRecordWatermark) {
-            isAutoPullEnabled = false;
-        }
+        pauseAutoPullIfNeeded();
     }
 
     private Record dequeueRecord() {
+        long bufferedRecordCount = bufferedRecordCount();
         Record record = records.poll();
+        if (record != null) {
+            buffer.recordsRemoved(1, bufferedRecordCount);
+        }
 
-        if (records.size() <= lowRecordWatermark) {
+        resumeAutoPullIfNeeded();
+
+        return record;
+    }
+
+    private void completeDecodedBatch() {
+        executeWithLock(lock, () -> {
+            if (batchBuilder != null && !batchBuilder.isEmpty()) {
+                enqueueBatch(batchBuilder.build());
+            }
+        });
+    }
+
+    private void enqueueBatch(RecordBatch batch) {
+        if (batches == UNINITIALIZED_BATCHES) {
+            batches = new ArrayDeque<>();
+        }
+
+        batches.add(batch);
+        batchedRecordCount += batch.size();
+
+        pauseAutoPullIfNeeded();
+
+        if (recordFuture != null) {
+            unbatchRecords();
+            completeRecordFuture(records.peek());
+        }
+        completeBatchFuture();
+    }
+
+    private RecordBatch dequeueBatch() {
+        long bufferedRecordCount = bufferedRecordCount();
+        RecordBatch batch;
+        if (!records.isEmpty()) {
+            // records that arrived before batches were requested
+            InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(
+                    runResponseHandler.queryKeys(), Math.min(records.size(), batchSize));
+            while (!records.isEmpty() && builder.size() < batchSize) {
+                builder.append(records.poll());
+            }
+            batch = builder.build();
+        } else {
+            batch = batches.poll();
+            if (batch == null) {
+                return null;
+            }
+            batchedRecordCount -= batch.size();
+        }
+        buffer.recordsRemoved(batch.size(), bufferedRecordCount);
+
+        resumeAutoPullIfNeeded();
+
+        return batch;
+    }
+
+    // moves the records of the next batch to the record queue for the record by record API
+    private void unbatchRecords() {
+        RecordBatch batch = batches.poll();
+        if (batch != null) {
+            batchedRecordCount -= batch.size();
+            if (records == UNINITIALIZED_RECORDS) {
+                records = new ArrayDeque<>();
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                records.add(batch.record(i));
+            }
+        }
+    }
+
+    private long queuedRecordCount() {
+        return records.size() + batchedRecordCount;
+    }
+
+    // including the records that are being decoded into a batch, which the result buffer accounts for
+    private long bufferedRecordCount() {
+        return queuedRecordCount() + (batchBuilder == null ? 0 : batchBuilder.size());
+    }
+
+    private void trackRecordSize() {
+        if (isAdaptive) {
+            averageRecordSize =
+                    averageRecordSize == 0 ? recordSize : averageRecordSize + (recordSize - averageRecordSize) / 16;
+        }
+    }
+
+    private void updateFetchSize(long fetchSize) {
+        this.fetchSize = fetchSize;
+        this.highRecordWatermark = (long) (fetchSize * 0.7);
+        this.lowRecordWatermark = (long) (fetchSize * 0.3);
+    }
+
+    private void adaptFetchSize(boolean grow) {
+        long maxFetchSize = averageRecordSize == 0
+                ? MAX_ADAPTIVE_FETCH_SIZE
+                : Math.min(MAX_ADAPTIVE_FETCH_SIZE, HIGH_BYTE_WATERMARK / averageRecordSize);
+        long nextFetchSize = grow ? fetchSize * 2 : fetchSize;
+        updateFetchSize(Math.max(MIN_ADAPTIVE_FETCH_SIZE, Math.min(nextFetchSize, maxFetchSize)));
+        isConsumerStalled = false;
+    }
+
+    private void pauseAutoPullIfNeeded() {
+        // too many records in the queue, pause auto request gathering
+        if (queuedRecordCount() > highRecordWatermark || (isAdaptive && buffer.bytes() > HIGH_BYTE_WATERMARK)) {
+            isAutoPullEnabled = false;
+        }
+        if (buffer.isFull()) {
+            isAutoPullEnabled = false;
+            disableAutoRead();
+        }
+    }
+
+    private void resumeAutoPullIfNeeded() {
+        if (isAutoReadDisabled && buffer.hasRoom()) {
+            enableAutoRead();
+        }
+        if (queuedRecordCount() <= lowRecordWatermark
+                && (!isAdaptive || buffer.bytes() <= LOW_BYTE_WATERMARK)
+                && buffer.hasRoom()) {
             // if not in streaming state we need to restart streaming
             if (state() != State.STREAMING_STATE) {
+                if (isAdaptive) {
+                    adaptFetchSize(isConsumerStalled);
+                }
                 request(fetchSize);
             }
             isAutoPullEnabled = true;
         }
-
-        return record;
     }
 
     private <T> List<T> recordsAsList(Function<Record, T> mapFunction) {
         if (!isDone()) {
             throw new IllegalStateException("Can't get records as list because SUCCESS or FAILURE did not arrive");
         }
+        while (!batches.isEmpty()) {
+            unbatchRecords();
+        }
 
         List<T> result = new ArrayList<>(records.size());
         while (!records.isEmpty()) {
             Record record = records.poll();
             result.add(mapFunction.apply(record));
         }
+        buffer.clear();
         return result;
     }
 
+    private void enableAutoRead() {
+        if (isAutoReadDisabled) {
+            isAutoReadDisabled = false;
+            if (autoReadManagementEnabled) {
+                connection.enableAutoRead();
+            }
+        }
+    }
+
+    private void disableAutoRead() {
+        if (!isAutoReadDisabled && autoReadManagementEnabled && !shouldBufferAllRecords) {
+            isAutoReadDisabled = true;
+            connection.disableAutoRead();
+        }
+    }
+
     private Throwable extractFailure() {
         if (failure == null) {
             throw new IllegalStateException("Can't extract failure because it does not exist");
@@ -239,6 +553,14 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         }
     }
 
+    private void completeBatchFuture() {
+        if (batchFuture != null) {
+            CompletableFuture<RecordBatch> future = batchFuture;
+            batchFuture = null;
+            future.complete(dequeueBatch());
+        }
+    }
+
     private void completeSummaryFuture(ResultSummary summary) {
         if (summaryFuture != null) {
             CompletableFuture<ResultSummary> future = summaryFuture;
@@ -257,6 +579,16 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         return false;
     }
 
+    private boolean failBatchFuture(Throwable error) {
+        if (batchFuture != null) {
+            CompletableFuture<RecordBatch> future = batchFuture;
+            batchFuture = null;
+            future.completeExceptionally(error);
+            return true;
+        }
+        return false;
+    }
+
     private boolean failSummaryFuture(Throwable error) {
         if (summaryFuture != null) {
             CompletableFuture<ResultSummary> future = summaryFuture;
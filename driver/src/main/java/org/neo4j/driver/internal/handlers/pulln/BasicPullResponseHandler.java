@@ -23,8 +23,11 @@ import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.messaging.request.DiscardMessage.newDiscardAllMessage;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
@@ -49,6 +52,8 @@ public class BasicPullResponseHandler implements PullResponseHandler {
     protected final Connection connection;
     private final PullResponseCompletionListener completionListener;
     private final boolean syncSignals;
+    // not a monitor, which would pin a virtual thread to its carrier while contended
+    protected final Lock lock = new ReentrantLock();
 
     private State state;
     private long toRequest;
@@ -83,30 +88,22 @@ public class BasicPullResponseHandler implements PullResponseHandler {
 
     @Override
     public void onSuccess(Map<String, Value> metadata) {
-        State newState;
-        BiConsumer<Record, Throwable> recordConsumer = null;
-        BiConsumer<ResultSummary, Throwable> summaryConsumer = null;
-        ResultSummary summary = null;
-        Neo4jException exception = null;
-        synchronized (this) {
+        Runnable completion = executeWithLock(lock, () -> {
             assertRecordAndSummaryConsumerInstalled();
             state.onSuccess(this, metadata);
-            newState = state;
-            if (newState == State.SUCCEEDED_STATE) {
+            if (state == State.SUCCEEDED_STATE) {
                 completionListener.afterSuccess(metadata);
+                runResponseHandler.resultConsumed();
+                ResultSummary summary;
+                Neo4jException exception = null;
                 try {
                     summary = extractResultSummary(metadata);
                 } catch (Neo4jException e) {
                     summary = extractResultSummary(emptyMap());
                     exception = e;
                 }
-                recordConsumer = this.recordConsumer;
-                summaryConsumer = this.summaryConsumer;
-                if (syncSignals) {
-                    complete(summaryConsumer, recordConsumer, summary, exception);
-                }
-                dispose();
-            } else if (newState == State.READY_STATE) {
+                return completion(summary, exception);
+            } else if (state == State.READY_STATE) {
                 if (toRequest > 0 || toRequest == UNLIMITED_FETCH_SIZE) {
                     request(toRequest);
                     toRequest = 0;
@@ -114,64 +111,60 @@ public class BasicPullResponseHandler implements PullResponseHandler {
                 // summary consumer use (null, null) to identify done handling of success with has_more
                 this.summaryConsumer.accept(null, null);
             }
-        }
-        if (!syncSignals && newState == State.SUCCEEDED_STATE) {
-            complete(summaryConsumer, recordConsumer, summary, exception);
+            return null;
+        });
+        if (completion != null) {
+            completion.run();
         }
     }
 
     @Override
     public void onFailure(Throwable error) {
-        BiConsumer<Record, Throwable> recordConsumer;
-        BiConsumer<ResultSummary, Throwable> summaryConsumer;
-        ResultSummary summary;
-        synchronized (this) {
+        Runnable completion = executeWithLock(lock, () -> {
             assertRecordAndSummaryConsumerInstalled();
             state.onFailure(this, error);
             completionListener.afterFailure(error);
-            summary = extractResultSummary(emptyMap());
-            recordConsumer = this.recordConsumer;
-            summaryConsumer = this.summaryConsumer;
-            if (syncSignals) {
-                complete(summaryConsumer, recordConsumer, summary, error);
-            }
-            dispose();
-        }
-        if (!syncSignals) {
-            complete(summaryConsumer, recordConsumer, summary, error);
+            return completion(extractResultSummary(emptyMap()), error);
+        });
+        if (completion != null) {
+            completion.run();
         }
     }
 
     @Override
     public void onRecord(Value[] fields) {
-        State newState;
-        Record record = null;
-        synchronized (this) {
+        Record record = executeWithLock(lock, () -> {
             assertRecordAndSummaryConsumerInstalled();
             state.onRecord(this, fields);
-            newState = state;
-            if (newState == State.STREAMING_STATE) {
-                record = new InternalRecord(runResponseHandler.queryKeys(), fields);
-                if (syncSignals) {
-                    recordConsumer.accept(record, null);
+            runResponseHandler.recordReceived();
+            if (state == State.STREAMING_STATE) {
+                Record streamedRecord = new InternalRecord(runResponseHandler.queryKeys(), fields);
+                if (!syncSignals) {
+                    return streamedRecord;
                 }
+                recordConsumer.accept(streamedRecord, null);
             }
-        }
-        if (!syncSignals && newState == State.STREAMING_STATE) {
+            return null;
+        });
+        if (record != null) {
             recordConsumer.accept(record, null);
         }
     }
 
     @Override
-    public synchronized void request(long size) {
-        assertRecordAndSummaryConsumerInstalled();
-        state.request(this, size);
+    public void request(long size) {
+        executeWithLock(lock, () -> {
+            assertRecordAndSummaryConsumerInstalled();
+            state.request(this, size);
+        });
     }
 
     @Override
-    public synchronized void cancel() {
-        assertRecordAndSummaryConsumerInstalled();
-        state.cancel(this);
+    public void cancel() {
+        executeWithLock(lock, () -> {
+            assertRecordAndSummaryConsumerInstalled();
+            state.cancel(this);
+        });
     }
 
     protected void writePull(long n) {
@@ -183,19 +176,23 @@ public class BasicPullResponseHandler implements PullResponseHandler {
     }
 
     @Override
-    public synchronized void installSummaryConsumer(BiConsumer<ResultSummary, Throwable> summaryConsumer) {
-        if (this.summaryConsumer != null) {
-            throw new IllegalStateException("Summary consumer already installed.");
-        }
-        this.summaryConsumer = summaryConsumer;
+    public void installSummaryConsumer(BiConsumer<ResultSummary, Throwable> summaryConsumer) {
+        executeWithLock(lock, () -> {
+            if (this.summaryConsumer != null) {
+                throw new IllegalStateException("Summary consumer already installed.");
+            }
+            this.summaryConsumer = summaryConsumer;
+        });
     }
 
     @Override
-    public synchronized void installRecordConsumer(BiConsumer<Record, Throwable> recordConsumer) {
-        if (this.recordConsumer != null) {
-            throw new IllegalStateException("Record consumer already installed.");
-        }
-        this.recordConsumer = recordConsumer;
+    public void installRecordConsumer(BiConsumer<Record, Throwable> recordConsumer) {
+        executeWithLock(lock, () -> {
+            if (this.recordConsumer != null) {
+                throw new IllegalStateException("Record consumer already installed.");
+            }
+            this.recordConsumer = recordConsumer;
+        });
     }
 
     protected boolean isDone() {
@@ -241,6 +238,20 @@ public class BasicPullResponseHandler implements PullResponseHandler {
         }
     }
 
+    // completes the consumers right away with synchronous signals, otherwise returns the completion to run once the
+    // lock is released
+    private Runnable completion(ResultSummary summary, Throwable error) {
+        BiConsumer<Record, Throwable> recordConsumer = this.recordConsumer;
+        BiConsumer<ResultSummary, Throwable> summaryConsumer = this.summaryConsumer;
+        Runnable completion = () -> complete(summaryConsumer, recordConsumer, summary, error);
+        if (syncSignals) {
+            completion.run();
+            completion = null;
+        }
+        dispose();
+        return completion;
+    }
+
     private void complete(
             BiConsumer<ResultSummary, Throwable> summaryConsumer,
             BiConsumer<Record, Throwable> recordConsumer,
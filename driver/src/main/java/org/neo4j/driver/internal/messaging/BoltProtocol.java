@@ -82,8 +82,25 @@ public interface BoltProtocol {
      * @param txType the Kernel transaction type
      * @return a completion stage completed when transaction is started or completed exceptionally when there was a failure.
      */
+    default CompletionStage<Void> beginTransaction(
+            Connection connection, Set<Bookmark> bookmarks, TransactionConfig config, String txType) {
+        return beginTransaction(connection, bookmarks, config, txType, true);
+    }
+
+    /**
+     * Begin an unmanaged transaction, optionally without flushing the {@code BEGIN} message so that it is sent together
+     * with the first query of the transaction. An unflushed begin is not awaited, the returned stage is already
+     * completed and a failure to begin is reported to the handlers of the messages that follow it.
+     *
+     * @param connection the connection to use.
+     * @param bookmarks  the bookmarks. Never null, should be empty when there are no bookmarks.
+     * @param config     the transaction configuration. Never null, should be {@link TransactionConfig#empty()} when absent.
+     * @param txType the Kernel transaction type
+     * @param flush {@code true} to flush the {@code BEGIN} message and wait for its response
+     * @return a completion stage completed when transaction is started or completed exceptionally when there was a failure.
+     */
     CompletionStage<Void> beginTransaction(
-            Connection connection, Set<Bookmark> bookmarks, TransactionConfig config, String txType);
+            Connection connection, Set<Bookmark> bookmarks, TransactionConfig config, String txType, boolean flush);
 
     /**
      * Commit the unmanaged transaction.
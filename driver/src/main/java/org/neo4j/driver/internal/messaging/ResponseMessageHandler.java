@@ -21,12 +21,26 @@ package org.neo4j.driver.internal.messaging;
 import java.io.IOException;
 import java.util.Map;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecordBatch;
 
 public interface ResponseMessageHandler {
     void handleSuccessMessage(Map<String, Value> meta) throws IOException;
 
     void handleRecordMessage(Value[] fields) throws IOException;
 
+    /**
+     * The batch to unpack the next RECORD message into, or {@code null} to unpack it into an array of values and pass
+     * it to {@link #handleRecordMessage(Value[])}.
+     */
+    default InternalRecordBatch.Builder recordBatch() {
+        return null;
+    }
+
+    /**
+     * Invoked after a RECORD message has been unpacked into the batch returned by {@link #recordBatch()}.
+     */
+    default void handleBatchedRecordMessage() throws IOException {}
+
     void handleFailureMessage(String code, String message) throws IOException;
 
     void handleIgnoredMessage() throws IOException;
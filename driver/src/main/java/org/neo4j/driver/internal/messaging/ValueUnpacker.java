@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.messaging;
 import java.io.IOException;
 import java.util.Map;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecordBatch;
 
 public interface ValueUnpacker {
     long unpackStructHeader() throws IOException;
@@ -30,4 +31,9 @@ public interface ValueUnpacker {
     Map<String, Value> unpackMap() throws IOException;
 
     Value[] unpackArray() throws IOException;
+
+    /**
+     * Unpacks an array as the next record of the given batch, integers and floats are appended without being boxed.
+     */
+    void unpackArrayInto(InternalRecordBatch.Builder batch) throws IOException;
 }
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.messaging.common;
 import java.io.IOException;
 import java.util.Map;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.internal.messaging.ResponseMessageHandler;
 import org.neo4j.driver.internal.messaging.ValueUnpacker;
@@ -80,7 +81,13 @@ public class CommonMessageReader implements MessageFormat.Reader {
     }
 
     private void unpackRecordMessage(ResponseMessageHandler output) throws IOException {
-        Value[] fields = unpacker.unpackArray();
-        output.handleRecordMessage(fields);
+        InternalRecordBatch.Builder batch = output.recordBatch();
+        if (batch != null) {
+            unpacker.unpackArrayInto(batch);
+            output.handleBatchedRecordMessage();
+        } else {
+            Value[] fields = unpacker.unpackArray();
+            output.handleRecordMessage(fields);
+        }
     }
 }
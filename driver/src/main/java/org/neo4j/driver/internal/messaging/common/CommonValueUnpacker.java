@@ -44,6 +44,7 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ProtocolException;
 import org.neo4j.driver.internal.InternalNode;
 import org.neo4j.driver.internal.InternalPath;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.internal.messaging.ValueUnpacker;
 import org.neo4j.driver.internal.packstream.PackInput;
@@ -123,7 +124,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
         }
         Map<String, Value> map = Iterables.newHashMapWithSize(size);
         for (int i = 0; i < size; i++) {
-            String key = unpacker.unpackString();
+            String key = unpacker.unpackCachedString();
             map.put(key, unpack());
         }
         return map;
@@ -139,6 +140,29 @@ public class CommonValueUnpacker implements ValueUnpacker {
         return values;
     }
 
+    @Override
+    public void unpackArrayInto(InternalRecordBatch.Builder batch) throws IOException {
+        int size = (int) unpacker.unpackListHeader();
+        batch.startRecord(size);
+        for (int i = 0; i < size; i++) {
+            switch (unpacker.peekNextType()) {
+                case INTEGER:
+                    batch.appendLong(i, unpacker.unpackLong());
+                    break;
+                case FLOAT:
+                    batch.appendDouble(i, unpacker.unpackDouble());
+                    break;
+                case NULL:
+                    unpacker.unpackNull();
+                    batch.appendNull(i);
+                    break;
+                default:
+                    batch.appendValue(i, unpack());
+            }
+        }
+        batch.endRecord();
+    }
+
     protected Value unpack() throws IOException {
         PackType type = unpacker.peekNextType();
         switch (type) {
@@ -244,7 +268,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
         long urn = unpacker.unpackLong();
         long startUrn = unpacker.unpackLong();
         long endUrn = unpacker.unpackLong();
-        String relType = unpacker.unpackString();
+        String relType = unpacker.unpackCachedString();
         Map<String, Value> props = unpackMap();
 
         InternalRelationship adapted = new InternalRelationship(
@@ -265,12 +289,12 @@ public class CommonValueUnpacker implements ValueUnpacker {
         int numLabels = (int) unpacker.unpackListHeader();
         List<String> labels = new ArrayList<>(numLabels);
         for (int i = 0; i < numLabels; i++) {
-            labels.add(unpacker.unpackString());
+            labels.add(unpacker.unpackCachedString());
         }
         int numProps = (int) unpacker.unpackMapHeader();
         Map<String, Value> props = Iterables.newHashMapWithSize(numProps);
         for (int j = 0; j < numProps; j++) {
-            String key = unpacker.unpackString();
+            String key = unpacker.unpackCachedString();
             props.put(key, unpack());
         }
 
@@ -294,7 +318,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
             ensureCorrectStructSignature(
                     "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature());
             long id = unpacker.unpackLong();
-            String relType = unpacker.unpackString();
+            String relType = unpacker.unpackCachedString();
             Map<String, Value> props = unpackMap();
             uniqRels[i] = new InternalRelationship(
                     id, String.valueOf(id), -1, String.valueOf(-1), -1, String.valueOf(-1), relType, props);
@@ -385,7 +409,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
             var offsetSeconds = Math.toIntExact(unpacker.unpackLong());
             zoneIdSupplier = () -> ZoneOffset.ofTotalSeconds(offsetSeconds);
         } else {
-            var zoneIdString = unpacker.unpackString();
+            var zoneIdString = unpacker.unpackCachedString();
             zoneIdSupplier = () -> ZoneId.of(zoneIdString);
         }
         ZoneId zoneId;
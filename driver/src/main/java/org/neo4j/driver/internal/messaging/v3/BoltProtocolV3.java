@@ -25,6 +25,7 @@ import static org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil.asse
 import static org.neo4j.driver.internal.messaging.request.RollbackMessage.ROLLBACK;
 import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.autoCommitTxRunMessage;
 import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.unmanagedTxRunMessage;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelPromise;
@@ -113,7 +114,7 @@ public class BoltProtocolV3 implements BoltProtocol {
 
     @Override
     public CompletionStage<Void> beginTransaction(
-            Connection connection, Set<Bookmark> bookmarks, TransactionConfig config, String txType) {
+            Connection connection, Set<Bookmark> bookmarks, TransactionConfig config, String txType, boolean flush) {
         try {
             verifyDatabaseNameBeforeTransaction(connection.databaseName());
         } catch (Exception error) {
@@ -123,8 +124,13 @@ public class BoltProtocolV3 implements BoltProtocol {
         CompletableFuture<Void> beginTxFuture = new CompletableFuture<>();
         BeginMessage beginMessage = new BeginMessage(
                 bookmarks, config, connection.databaseName(), connection.mode(), connection.impersonatedUser(), txType);
-        connection.writeAndFlush(beginMessage, new BeginTxResponseHandler(beginTxFuture));
-        return beginTxFuture;
+        if (flush) {
+            connection.writeAndFlush(beginMessage, new BeginTxResponseHandler(beginTxFuture));
+            return beginTxFuture;
+        }
+        // queued until the first query, commit or rollback is flushed, which also receive a failure to begin
+        connection.write(beginMessage, new BeginTxResponseHandler(beginTxFuture));
+        return completedWithNull();
     }
 
     @Override
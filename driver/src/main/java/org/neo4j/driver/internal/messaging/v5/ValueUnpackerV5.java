@@ -62,12 +62,12 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
         int numLabels = (int) unpacker.unpackListHeader();
         List<String> labels = new ArrayList<>(numLabels);
         for (int i = 0; i < numLabels; i++) {
-            labels.add(unpacker.unpackString());
+            labels.add(unpacker.unpackCachedString());
         }
         int numProps = (int) unpacker.unpackMapHeader();
         Map<String, Value> props = Iterables.newHashMapWithSize(numProps);
         for (int j = 0; j < numProps; j++) {
-            String key = unpacker.unpackString();
+            String key = unpacker.unpackCachedString();
             props.put(key, unpack());
         }
 
@@ -93,7 +93,7 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
             ensureCorrectStructSignature(
                     "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature());
             long id = unpacker.unpackLong();
-            String relType = unpacker.unpackString();
+            String relType = unpacker.unpackCachedString();
             Map<String, Value> props = unpackMap();
             String elementId = unpacker.unpackString();
             uniqRels[i] = new InternalRelationship(
@@ -142,7 +142,7 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
         long urn = unpacker.unpackLong();
         long startUrn = unpacker.unpackLong();
         long endUrn = unpacker.unpackLong();
-        String relType = unpacker.unpackString();
+        String relType = unpacker.unpackCachedString();
         Map<String, Value> props = unpackMap();
         String elementId = unpacker.unpackString();
         String startElementId = unpacker.unpackString();
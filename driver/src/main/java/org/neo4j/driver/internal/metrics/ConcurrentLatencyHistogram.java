@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import static java.lang.String.format;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.neo4j.driver.LatencyHistogram;
+
+/**
+ * Lock-free latency histogram with log-linear buckets in the spirit of HdrHistogram. Every power of two of nanoseconds
+ * is split into {@link #SUB_BUCKET_COUNT} equally wide buckets, which bounds the relative error of reported
+ * percentiles to about 3%. Latencies above roughly 18 minutes share the last bucket.
+ */
+final class ConcurrentLatencyHistogram implements LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_TRACKABLE_NANOS = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(Math.min(value, MAX_TRACKABLE_NANOS)));
+        count.increment();
+        maxNanos.accumulate(value);
+    }
+
+    @Override
+    public long count() {
+        return count.sum();
+    }
+
+    @Override
+    public Duration max() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    @Override
+    public Duration percentile(double percentile) {
+        if (percentile < 0.0 || percentile > 1.0) {
+            throw new IllegalArgumentException(
+                    format("Percentile must be between 0.0 and 1.0, but was: %s", percentile));
+        }
+        // the buckets are read one by one, so the total is taken from them rather than from the concurrently updated
+        // count
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        int index = 0;
+        while (index < BUCKET_COUNT - 1) {
+            seen += counts[index];
+            if (seen >= rank) {
+                break;
+            }
+            index++;
+        }
+        return Duration.ofNanos(Math.min(bucketUpperBound(index), maxNanos.get()));
+    }
+
+    @Override
+    public String toString() {
+        return format(
+                "[count=%s, p50=%s, p95=%s, p99=%s, max=%s]",
+                count(), percentile(0.5), percentile(0.95), percentile(0.99), max());
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < 2 * SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        // keep the SUB_BUCKET_BITS + 1 highest bits of the value, the highest of which is always set
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (nanos >>> shift);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
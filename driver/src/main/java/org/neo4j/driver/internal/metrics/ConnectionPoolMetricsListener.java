@@ -76,4 +76,54 @@ interface ConnectionPoolMetricsListener {
      * @param inUseEvent
      */
     void released(ListenerEvent<?> inUseEvent);
+
+    /**
+     * After a connection reported the lookups in its string cache.
+     */
+    void stringCacheLookups(long hits, long misses);
+
+    /**
+     * Invoked before the pool is filled up to the minimum amount of idle connections.
+     *
+     * @param warmUpEvent
+     */
+    void beforeWarmingUp(ListenerEvent<?> warmUpEvent);
+
+    /**
+     * Invoked after the pool is filled up to the minimum amount of idle connections successfully.
+     *
+     * @param warmUpEvent
+     */
+    void afterWarmedUp(ListenerEvent<?> warmUpEvent);
+
+    /**
+     * After an idle connection is tested for liveness in the background.
+     */
+    void afterProbed();
+
+    /**
+     * After an idle connection is closed because it failed a liveness test in the background.
+     */
+    void afterEvicted();
+
+    /**
+     * After the first record of a query result is received.
+     *
+     * @param elapsedNanos the time since the query was sent.
+     */
+    void afterFirstRecord(long elapsedNanos);
+
+    /**
+     * After a query result is completely received or discarded.
+     *
+     * @param elapsedNanos the time since the query was sent.
+     */
+    void afterResultConsumed(long elapsedNanos);
+
+    /**
+     * After records are buffered in a result or, when negative, consumed from it.
+     *
+     * @param bytes the estimated size of the records.
+     */
+    void afterRecordBytesBuffered(long bytes);
 }
@@ -54,6 +54,39 @@ public enum DevNullMetricsListener implements MetricsListener {
     @Override
     public void afterConnectionReleased(String poolId, ListenerEvent<?> inUseEvent) {}
 
+    @Override
+    public void afterStringCacheLookups(String poolId, long hits, long misses) {}
+
+    @Override
+    public void beforeWarmingUp(String poolId, ListenerEvent<?> warmUpEvent) {}
+
+    @Override
+    public void afterWarmedUp(String poolId, ListenerEvent<?> warmUpEvent) {}
+
+    @Override
+    public void afterProbed(String poolId) {}
+
+    @Override
+    public void afterEvicted(String poolId) {}
+
+    @Override
+    public void afterFirstRecord(String poolId, long elapsedNanos) {}
+
+    @Override
+    public void afterResultConsumed(String poolId, long elapsedNanos) {}
+
+    @Override
+    public void afterRecordBytesBuffered(String poolId, long bytes) {}
+
+    @Override
+    public void afterSessionLeaked() {}
+
+    @Override
+    public void afterRetryScheduled(long delayNanos) {}
+
+    @Override
+    public void afterRetryBudgetExhausted() {}
+
     @Override
     public ListenerEvent<?> createListenerEvent() {
         return DevNullListenerEvent.INSTANCE;
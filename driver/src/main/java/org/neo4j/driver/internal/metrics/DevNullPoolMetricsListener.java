@@ -50,4 +50,28 @@ enum DevNullPoolMetricsListener implements ConnectionPoolMetricsListener {
 
     @Override
     public void released(ListenerEvent<?> inUseEvent) {}
+
+    @Override
+    public void stringCacheLookups(long hits, long misses) {}
+
+    @Override
+    public void beforeWarmingUp(ListenerEvent<?> warmUpEvent) {}
+
+    @Override
+    public void afterWarmedUp(ListenerEvent<?> warmUpEvent) {}
+
+    @Override
+    public void afterProbed() {}
+
+    @Override
+    public void afterEvicted() {}
+
+    @Override
+    public void afterFirstRecord(long elapsedNanos) {}
+
+    @Override
+    public void afterResultConsumed(long elapsedNanos) {}
+
+    @Override
+    public void afterRecordBytesBuffered(long bytes) {}
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.LatencyHistogram;
 import org.neo4j.driver.net.ServerAddress;
 
 final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, ConnectionPoolMetricsListener {
@@ -49,6 +50,23 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     private final AtomicLong totalInUseTime = new AtomicLong();
 
     private final AtomicLong totalInUseCount = new AtomicLong();
+
+    private final ConcurrentLatencyHistogram acquisitionTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram connectionTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram inUseTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram firstRecordTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram resultTimeHistogram = new ConcurrentLatencyHistogram();
+
+    private final AtomicLong bufferedResultBytes = new AtomicLong();
+
+    private final AtomicLong stringCacheHits = new AtomicLong();
+    private final AtomicLong stringCacheMisses = new AtomicLong();
+
+    private final AtomicLong warmedUp = new AtomicLong();
+    private final AtomicLong totalWarmUpTime = new AtomicLong();
+
+    private final AtomicLong probed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
     private final String id;
 
     InternalConnectionPoolMetrics(
@@ -79,9 +97,11 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     public void afterCreated(ListenerEvent<?> connEvent) {
         created.incrementAndGet();
         creating.decrementAndGet();
-        long sample = ((TimeRecorderListenerEvent) connEvent).getSample();
+        TimeRecorderListenerEvent event = (TimeRecorderListenerEvent) connEvent;
+        long sample = event.getSample();
 
         totalConnectionTime.addAndGet(sample);
+        connectionTimeHistogram.record(event.getElapsedNanos());
     }
 
     @Override
@@ -103,9 +123,11 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     @Override
     public void afterAcquiredOrCreated(ListenerEvent<?> acquireEvent) {
         acquired.incrementAndGet();
-        long sample = ((TimeRecorderListenerEvent) acquireEvent).getSample();
+        TimeRecorderListenerEvent event = (TimeRecorderListenerEvent) acquireEvent;
+        long sample = event.getSample();
 
         totalAcquisitionTime.addAndGet(sample);
+        acquisitionTimeHistogram.record(event.getElapsedNanos());
     }
 
     @Override
@@ -121,9 +143,55 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     @Override
     public void released(ListenerEvent<?> inUseEvent) {
         totalInUseCount.incrementAndGet();
-        long sample = ((TimeRecorderListenerEvent) inUseEvent).getSample();
+        TimeRecorderListenerEvent event = (TimeRecorderListenerEvent) inUseEvent;
+        long sample = event.getSample();
 
         totalInUseTime.addAndGet(sample);
+        inUseTimeHistogram.record(event.getElapsedNanos());
+    }
+
+    @Override
+    public void stringCacheLookups(long hits, long misses) {
+        stringCacheHits.addAndGet(hits);
+        stringCacheMisses.addAndGet(misses);
+    }
+
+    @Override
+    public void beforeWarmingUp(ListenerEvent<?> warmUpEvent) {
+        warmUpEvent.start();
+    }
+
+    @Override
+    public void afterWarmedUp(ListenerEvent<?> warmUpEvent) {
+        warmedUp.incrementAndGet();
+        long sample = ((TimeRecorderListenerEvent) warmUpEvent).getSample();
+
+        totalWarmUpTime.addAndGet(sample);
+    }
+
+    @Override
+    public void afterProbed() {
+        probed.incrementAndGet();
+    }
+
+    @Override
+    public void afterEvicted() {
+        evicted.incrementAndGet();
+    }
+
+    @Override
+    public void afterFirstRecord(long elapsedNanos) {
+        firstRecordTimeHistogram.record(elapsedNanos);
+    }
+
+    @Override
+    public void afterResultConsumed(long elapsedNanos) {
+        resultTimeHistogram.record(elapsedNanos);
+    }
+
+    @Override
+    public void afterRecordBytesBuffered(long bytes) {
+        bufferedResultBytes.addAndGet(bytes);
     }
 
     @Override
@@ -181,6 +249,66 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         return totalInUseCount.get();
     }
 
+    @Override
+    public long stringCacheHits() {
+        return stringCacheHits.get();
+    }
+
+    @Override
+    public long stringCacheMisses() {
+        return stringCacheMisses.get();
+    }
+
+    @Override
+    public long warmedUp() {
+        return warmedUp.get();
+    }
+
+    @Override
+    public long totalWarmUpTime() {
+        return totalWarmUpTime.get();
+    }
+
+    @Override
+    public long probed() {
+        return probed.get();
+    }
+
+    @Override
+    public long evicted() {
+        return evicted.get();
+    }
+
+    @Override
+    public LatencyHistogram acquisitionTimeHistogram() {
+        return acquisitionTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram connectionTimeHistogram() {
+        return connectionTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram inUseTimeHistogram() {
+        return inUseTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram firstRecordTimeHistogram() {
+        return firstRecordTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram resultTimeHistogram() {
+        return resultTimeHistogram;
+    }
+
+    @Override
+    public long bufferedResultBytes() {
+        return bufferedResultBytes.get();
+    }
+
     @Override
     public long closed() {
         return closed.get();
@@ -201,7 +329,11 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         return format(
                 "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, "
                         + "timedOutToAcquire=%s, inUse=%s, idle=%s, "
-                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
+                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, "
+                        + "stringCacheHits=%s, stringCacheMisses=%s, warmedUp=%s, totalWarmUpTime=%s, "
+                        + "probed=%s, evicted=%s, acquisitionTimeHistogram=%s, connectionTimeHistogram=%s, "
+                        + "inUseTimeHistogram=%s, firstRecordTimeHistogram=%s, resultTimeHistogram=%s, "
+                        + "bufferedResultBytes=%s]",
                 id(),
                 created(),
                 closed(),
@@ -215,7 +347,19 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
                 totalAcquisitionTime(),
                 totalConnectionTime(),
                 totalInUseTime(),
-                totalInUseCount());
+                totalInUseCount(),
+                stringCacheHits(),
+                stringCacheMisses(),
+                warmedUp(),
+                totalWarmUpTime(),
+                probed(),
+                evicted(),
+                acquisitionTimeHistogram(),
+                connectionTimeHistogram(),
+                inUseTimeHistogram(),
+                firstRecordTimeHistogram(),
+                resultTimeHistogram(),
+                bufferedResultBytes());
     }
 
     // This method is for testing purposes only
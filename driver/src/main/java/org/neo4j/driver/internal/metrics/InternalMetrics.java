@@ -26,8 +26,10 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.LatencyHistogram;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.Metrics;
@@ -37,6 +39,9 @@ final class InternalMetrics implements Metrics, MetricsListener {
     private final Map<String, ConnectionPoolMetrics> connectionPoolMetrics;
     private final Clock clock;
     private final Logger log;
+    private final AtomicLong leakedSessions = new AtomicLong();
+    private final AtomicLong retryBudgetExhausted = new AtomicLong();
+    private final ConcurrentLatencyHistogram retryDelayHistogram = new ConcurrentLatencyHistogram();
 
     InternalMetrics(Clock clock, Logging logging) {
         Objects.requireNonNull(clock);
@@ -102,6 +107,61 @@ final class InternalMetrics implements Metrics, MetricsListener {
         poolMetrics(poolId).released(inUseEvent);
     }
 
+    @Override
+    public void afterStringCacheLookups(String poolId, long hits, long misses) {
+        poolMetrics(poolId).stringCacheLookups(hits, misses);
+    }
+
+    @Override
+    public void beforeWarmingUp(String poolId, ListenerEvent<?> warmUpEvent) {
+        poolMetrics(poolId).beforeWarmingUp(warmUpEvent);
+    }
+
+    @Override
+    public void afterWarmedUp(String poolId, ListenerEvent<?> warmUpEvent) {
+        poolMetrics(poolId).afterWarmedUp(warmUpEvent);
+    }
+
+    @Override
+    public void afterProbed(String poolId) {
+        poolMetrics(poolId).afterProbed();
+    }
+
+    @Override
+    public void afterEvicted(String poolId) {
+        poolMetrics(poolId).afterEvicted();
+    }
+
+    @Override
+    public void afterFirstRecord(String poolId, long elapsedNanos) {
+        poolMetrics(poolId).afterFirstRecord(elapsedNanos);
+    }
+
+    @Override
+    public void afterResultConsumed(String poolId, long elapsedNanos) {
+        poolMetrics(poolId).afterResultConsumed(elapsedNanos);
+    }
+
+    @Override
+    public void afterRecordBytesBuffered(String poolId, long bytes) {
+        poolMetrics(poolId).afterRecordBytesBuffered(bytes);
+    }
+
+    @Override
+    public void afterSessionLeaked() {
+        leakedSessions.incrementAndGet();
+    }
+
+    @Override
+    public void afterRetryScheduled(long delayNanos) {
+        retryDelayHistogram.record(delayNanos);
+    }
+
+    @Override
+    public void afterRetryBudgetExhausted() {
+        retryBudgetExhausted.incrementAndGet();
+    }
+
     @Override
     public void afterTimedOutToAcquireOrCreate(String poolId) {
         poolMetrics(poolId).afterTimedOutToAcquireOrCreate();
@@ -117,6 +177,26 @@ final class InternalMetrics implements Metrics, MetricsListener {
         return unmodifiableCollection(this.connectionPoolMetrics.values());
     }
 
+    @Override
+    public long leakedSessions() {
+        return leakedSessions.get();
+    }
+
+    @Override
+    public long retries() {
+        return retryDelayHistogram.count();
+    }
+
+    @Override
+    public long retryBudgetExhausted() {
+        return retryBudgetExhausted.get();
+    }
+
+    @Override
+    public LatencyHistogram retryDelayHistogram() {
+        return retryDelayHistogram;
+    }
+
     @Override
     public String toString() {
         return format("PoolMetrics=%s", connectionPoolMetrics);
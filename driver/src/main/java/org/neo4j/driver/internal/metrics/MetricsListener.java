@@ -96,6 +96,86 @@ public interface MetricsListener {
      */
     void afterConnectionReleased(String poolId, ListenerEvent<?> inUseEvent);
 
+    /**
+     * After a netty channel reported the lookups in its string cache since the previous report.
+     *
+     * @param poolId the id of the pool where the netty channel lives.
+     * @param hits   the amount of lookups resolved to a cached string.
+     * @param misses the amount of lookups that decoded the string.
+     */
+    void afterStringCacheLookups(String poolId, long hits, long misses);
+
+    /**
+     * Before filling a pool up to the configured minimum amount of idle netty channels.
+     *
+     * @param poolId      the id of the pool being warmed up.
+     * @param warmUpEvent a pool listener event registered in pool for this warm-up.
+     */
+    void beforeWarmingUp(String poolId, ListenerEvent<?> warmUpEvent);
+
+    /**
+     * After a pool was filled up to the configured minimum amount of idle netty channels successfully.
+     *
+     * @param poolId      the id of the pool being warmed up.
+     * @param warmUpEvent a pool listener event registered in pool for this warm-up.
+     */
+    void afterWarmedUp(String poolId, ListenerEvent<?> warmUpEvent);
+
+    /**
+     * After an idle netty channel is tested for liveness in the background.
+     *
+     * @param poolId the id of the pool where the netty channel lives.
+     */
+    void afterProbed(String poolId);
+
+    /**
+     * After an idle netty channel is closed because it failed a liveness test in the background.
+     *
+     * @param poolId the id of the pool where the netty channel lives.
+     */
+    void afterEvicted(String poolId);
+
+    /**
+     * After the first record of a query result is received by a netty channel.
+     *
+     * @param poolId       the id of the pool where the netty channel lives.
+     * @param elapsedNanos the time since the query was sent.
+     */
+    void afterFirstRecord(String poolId, long elapsedNanos);
+
+    /**
+     * After a query result is completely received or discarded by a netty channel.
+     *
+     * @param poolId       the id of the pool where the netty channel lives.
+     * @param elapsedNanos the time since the query was sent.
+     */
+    void afterResultConsumed(String poolId, long elapsedNanos);
+
+    /**
+     * After records received by a netty channel are buffered in a result or, when negative, consumed from it.
+     *
+     * @param poolId the id of the pool where the netty channel lives.
+     * @param bytes  the estimated size of the records.
+     */
+    void afterRecordBytesBuffered(String poolId, long bytes);
+
+    /**
+     * After a session was garbage collected while not being closed and still holding a connection.
+     */
+    void afterSessionLeaked();
+
+    /**
+     * After a failed unit of work was scheduled to be retried.
+     *
+     * @param delayNanos the delay before the retry.
+     */
+    void afterRetryScheduled(long delayNanos);
+
+    /**
+     * After a failed unit of work was not retried because the retry budget was exhausted.
+     */
+    void afterRetryBudgetExhausted();
+
     ListenerEvent<?> createListenerEvent();
 
     void registerPoolMetrics(
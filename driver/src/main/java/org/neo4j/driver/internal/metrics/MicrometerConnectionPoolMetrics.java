@@ -29,8 +29,10 @@ import io.micrometer.core.instrument.Timer;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.LatencyHistogram;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.net.ServerAddress;
 
@@ -46,6 +48,17 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     public static final String ACQUISITION = PREFIX + ".acquisition";
     public static final String CREATION = PREFIX + ".creation";
     public static final String USAGE = PREFIX + ".usage";
+    public static final String STRING_CACHE_HITS = PREFIX + ".string.cache.hits";
+    public static final String STRING_CACHE_MISSES = PREFIX + ".string.cache.misses";
+    public static final String WARM_UP = PREFIX + ".warmup";
+    public static final String PROBED = PREFIX + ".probed";
+    public static final String EVICTED = PREFIX + ".evicted";
+    public static final String FIRST_RECORD = PREFIX + ".query.first.record";
+    public static final String RESULT = PREFIX + ".query.result";
+    public static final String BUFFERED_RESULT_BYTES = PREFIX + ".query.buffered.bytes";
+
+    // percentiles published along with the latency timers
+    static final double[] PERCENTILES = {0.5, 0.95, 0.99};
 
     private final IntSupplier inUseSupplier;
     private final IntSupplier idleSupplier;
@@ -56,10 +69,24 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     private final Counter failedToCreate;
     private final Counter closed;
     private final AtomicInteger acquiring = new AtomicInteger();
+    private final AtomicLong bufferedResultBytes = new AtomicLong();
     private final Counter timedOutToAcquire;
     private final Timer totalAcquisitionTimer;
     private final Timer totalConnectionTimer;
     private final Timer totalInUseTimer;
+    private final Counter stringCacheHits;
+    private final Counter stringCacheMisses;
+    private final Timer totalWarmUpTimer;
+    private final Counter probed;
+    private final Counter evicted;
+    private final Timer firstRecordTimer;
+    private final Timer resultTimer;
+
+    private final ConcurrentLatencyHistogram acquisitionTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram connectionTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram inUseTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram firstRecordTimeHistogram = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram resultTimeHistogram = new ConcurrentLatencyHistogram();
 
     MicrometerConnectionPoolMetrics(
             String poolId,
@@ -97,9 +124,30 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         closed = Counter.builder(CLOSED).tags(tags).register(registry);
         Gauge.builder(ACQUIRING, acquiring, AtomicInteger::get).tags(tags).register(registry);
         timedOutToAcquire = Counter.builder(ACQUISITION_TIMEOUT).tags(tags).register(registry);
-        totalAcquisitionTimer = Timer.builder(ACQUISITION).tags(tags).register(registry);
-        totalConnectionTimer = Timer.builder(CREATION).tags(tags).register(registry);
-        totalInUseTimer = Timer.builder(USAGE).tags(tags).register(registry);
+        totalAcquisitionTimer = Timer.builder(ACQUISITION)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        totalConnectionTimer = Timer.builder(CREATION)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        totalInUseTimer =
+                Timer.builder(USAGE).tags(tags).publishPercentiles(PERCENTILES).register(registry);
+        stringCacheHits = Counter.builder(STRING_CACHE_HITS).tags(tags).register(registry);
+        stringCacheMisses = Counter.builder(STRING_CACHE_MISSES).tags(tags).register(registry);
+        totalWarmUpTimer = Timer.builder(WARM_UP).tags(tags).register(registry);
+        probed = Counter.builder(PROBED).tags(tags).register(registry);
+        evicted = Counter.builder(EVICTED).tags(tags).register(registry);
+        firstRecordTimer = Timer.builder(FIRST_RECORD)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        resultTimer =
+                Timer.builder(RESULT).tags(tags).publishPercentiles(PERCENTILES).register(registry);
+        Gauge.builder(BUFFERED_RESULT_BYTES, bufferedResultBytes, AtomicLong::get)
+                .tags(tags)
+                .register(registry);
     }
 
     @Override
@@ -118,7 +166,7 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     public void afterCreated(ListenerEvent<?> connEvent) {
         creating.decrementAndGet();
         Timer.Sample sample = ((MicrometerTimerListenerEvent) connEvent).getSample();
-        sample.stop(totalConnectionTimer);
+        connectionTimeHistogram.record(sample.stop(totalConnectionTimer));
     }
 
     @Override
@@ -140,7 +188,7 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     @Override
     public void afterAcquiredOrCreated(ListenerEvent<?> acquireEvent) {
         Timer.Sample sample = ((MicrometerTimerListenerEvent) acquireEvent).getSample();
-        sample.stop(totalAcquisitionTimer);
+        acquisitionTimeHistogram.record(sample.stop(totalAcquisitionTimer));
     }
 
     @Override
@@ -156,7 +204,51 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     @Override
     public void released(ListenerEvent<?> inUseEvent) {
         Timer.Sample sample = ((MicrometerTimerListenerEvent) inUseEvent).getSample();
-        sample.stop(totalInUseTimer);
+        inUseTimeHistogram.record(sample.stop(totalInUseTimer));
+    }
+
+    @Override
+    public void stringCacheLookups(long hits, long misses) {
+        stringCacheHits.increment(hits);
+        stringCacheMisses.increment(misses);
+    }
+
+    @Override
+    public void beforeWarmingUp(ListenerEvent<?> warmUpEvent) {
+        warmUpEvent.start();
+    }
+
+    @Override
+    public void afterWarmedUp(ListenerEvent<?> warmUpEvent) {
+        Timer.Sample sample = ((MicrometerTimerListenerEvent) warmUpEvent).getSample();
+        sample.stop(totalWarmUpTimer);
+    }
+
+    @Override
+    public void afterProbed() {
+        probed.increment();
+    }
+
+    @Override
+    public void afterEvicted() {
+        evicted.increment();
+    }
+
+    @Override
+    public void afterFirstRecord(long elapsedNanos) {
+        firstRecordTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        firstRecordTimeHistogram.record(elapsedNanos);
+    }
+
+    @Override
+    public void afterResultConsumed(long elapsedNanos) {
+        resultTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        resultTimeHistogram.record(elapsedNanos);
+    }
+
+    @Override
+    public void afterRecordBytesBuffered(long bytes) {
+        bufferedResultBytes.addAndGet(bytes);
     }
 
     @Override
@@ -229,12 +321,76 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         return totalInUseTimer.count();
     }
 
+    @Override
+    public long stringCacheHits() {
+        return count(stringCacheHits);
+    }
+
+    @Override
+    public long stringCacheMisses() {
+        return count(stringCacheMisses);
+    }
+
+    @Override
+    public long warmedUp() {
+        return totalWarmUpTimer.count();
+    }
+
+    @Override
+    public long totalWarmUpTime() {
+        return (long) totalWarmUpTimer.totalTime(TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long probed() {
+        return count(probed);
+    }
+
+    @Override
+    public long evicted() {
+        return count(evicted);
+    }
+
+    @Override
+    public LatencyHistogram acquisitionTimeHistogram() {
+        return acquisitionTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram connectionTimeHistogram() {
+        return connectionTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram inUseTimeHistogram() {
+        return inUseTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram firstRecordTimeHistogram() {
+        return firstRecordTimeHistogram;
+    }
+
+    @Override
+    public LatencyHistogram resultTimeHistogram() {
+        return resultTimeHistogram;
+    }
+
+    @Override
+    public long bufferedResultBytes() {
+        return bufferedResultBytes.get();
+    }
+
     @Override
     public String toString() {
         return format(
                 "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, "
                         + "timedOutToAcquire=%s, inUse=%s, idle=%s, "
-                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
+                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, "
+                        + "stringCacheHits=%s, stringCacheMisses=%s, warmedUp=%s, totalWarmUpTime=%s, "
+                        + "probed=%s, evicted=%s, acquisitionTimeHistogram=%s, connectionTimeHistogram=%s, "
+                        + "inUseTimeHistogram=%s, firstRecordTimeHistogram=%s, resultTimeHistogram=%s, "
+                        + "bufferedResultBytes=%s]",
                 id(),
                 created(),
                 closed(),
@@ -248,7 +404,19 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
                 totalAcquisitionTime(),
                 totalConnectionTime(),
                 totalInUseTime(),
-                totalInUseCount());
+                totalInUseCount(),
+                stringCacheHits(),
+                stringCacheMisses(),
+                warmedUp(),
+                totalWarmUpTime(),
+                probed(),
+                evicted(),
+                acquisitionTimeHistogram(),
+                connectionTimeHistogram(),
+                inUseTimeHistogram(),
+                firstRecordTimeHistogram(),
+                resultTimeHistogram(),
+                bufferedResultBytes());
     }
 
     private long count(Counter counter) {
@@ -18,23 +18,40 @@
  */
 package org.neo4j.driver.internal.metrics;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntSupplier;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.LatencyHistogram;
 import org.neo4j.driver.Metrics;
 import org.neo4j.driver.net.ServerAddress;
 
 final class MicrometerMetrics implements Metrics, MetricsListener {
+    public static final String LEAKED_SESSIONS = "neo4j.driver.sessions.leaked";
+    public static final String RETRIES = "neo4j.driver.retries";
+    public static final String RETRY_BUDGET_EXHAUSTED = "neo4j.driver.retries.budget.exhausted";
+
     private final MeterRegistry meterRegistry;
     private final Map<String, ConnectionPoolMetrics> connectionPoolMetrics;
+    private final Counter leakedSessions;
+    private final Counter retryBudgetExhausted;
+    private final Timer retryDelayTimer;
+    private final ConcurrentLatencyHistogram retryDelayHistogram = new ConcurrentLatencyHistogram();
 
     public MicrometerMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
         this.connectionPoolMetrics = new ConcurrentHashMap<>();
+        this.leakedSessions = Counter.builder(LEAKED_SESSIONS).register(meterRegistry);
+        this.retryBudgetExhausted = Counter.builder(RETRY_BUDGET_EXHAUSTED).register(meterRegistry);
+        this.retryDelayTimer = Timer.builder(RETRIES)
+                .publishPercentiles(MicrometerConnectionPoolMetrics.PERCENTILES)
+                .register(meterRegistry);
     }
 
     @Override
@@ -42,6 +59,26 @@ final class MicrometerMetrics implements Metrics, MetricsListener {
         return Collections.unmodifiableCollection(this.connectionPoolMetrics.values());
     }
 
+    @Override
+    public long leakedSessions() {
+        return (long) leakedSessions.count();
+    }
+
+    @Override
+    public long retries() {
+        return retryDelayTimer.count();
+    }
+
+    @Override
+    public long retryBudgetExhausted() {
+        return (long) retryBudgetExhausted.count();
+    }
+
+    @Override
+    public LatencyHistogram retryDelayHistogram() {
+        return retryDelayHistogram;
+    }
+
     @Override
     public void beforeCreating(String poolId, ListenerEvent<?> creatingEvent) {
         poolMetricsListener(poolId).beforeCreating(creatingEvent);
@@ -92,6 +129,62 @@ final class MicrometerMetrics implements Metrics, MetricsListener {
         poolMetricsListener(poolId).released(inUseEvent);
     }
 
+    @Override
+    public void afterStringCacheLookups(String poolId, long hits, long misses) {
+        poolMetricsListener(poolId).stringCacheLookups(hits, misses);
+    }
+
+    @Override
+    public void beforeWarmingUp(String poolId, ListenerEvent<?> warmUpEvent) {
+        poolMetricsListener(poolId).beforeWarmingUp(warmUpEvent);
+    }
+
+    @Override
+    public void afterWarmedUp(String poolId, ListenerEvent<?> warmUpEvent) {
+        poolMetricsListener(poolId).afterWarmedUp(warmUpEvent);
+    }
+
+    @Override
+    public void afterProbed(String poolId) {
+        poolMetricsListener(poolId).afterProbed();
+    }
+
+    @Override
+    public void afterEvicted(String poolId) {
+        poolMetricsListener(poolId).afterEvicted();
+    }
+
+    @Override
+    public void afterFirstRecord(String poolId, long elapsedNanos) {
+        poolMetricsListener(poolId).afterFirstRecord(elapsedNanos);
+    }
+
+    @Override
+    public void afterResultConsumed(String poolId, long elapsedNanos) {
+        poolMetricsListener(poolId).afterResultConsumed(elapsedNanos);
+    }
+
+    @Override
+    public void afterRecordBytesBuffered(String poolId, long bytes) {
+        poolMetricsListener(poolId).afterRecordBytesBuffered(bytes);
+    }
+
+    @Override
+    public void afterSessionLeaked() {
+        leakedSessions.increment();
+    }
+
+    @Override
+    public void afterRetryScheduled(long delayNanos) {
+        retryDelayTimer.record(delayNanos, TimeUnit.NANOSECONDS);
+        retryDelayHistogram.record(delayNanos);
+    }
+
+    @Override
+    public void afterRetryBudgetExhausted() {
+        retryBudgetExhausted.increment();
+    }
+
     @Override
     public ListenerEvent<?> createListenerEvent() {
         return new MicrometerTimerListenerEvent(this.meterRegistry);
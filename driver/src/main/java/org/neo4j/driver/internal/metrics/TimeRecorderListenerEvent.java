@@ -19,22 +19,42 @@
 package org.neo4j.driver.internal.metrics;
 
 import java.time.Clock;
+import java.util.function.LongSupplier;
 
 final class TimeRecorderListenerEvent implements ListenerEvent<Long> {
     private final Clock clock;
+    private final LongSupplier nanoTime;
     private long startTime;
+    private long startNanos;
 
     TimeRecorderListenerEvent(Clock clock) {
+        this(clock, System::nanoTime);
+    }
+
+    TimeRecorderListenerEvent(Clock clock, LongSupplier nanoTime) {
         this.clock = clock;
+        this.nanoTime = nanoTime;
     }
 
     @Override
     public void start() {
         startTime = clock.millis();
+        startNanos = nanoTime.getAsLong();
     }
 
+    /**
+     * Returns the elapsed time since {@link #start()} in milliseconds, as reported by the clock.
+     */
     @Override
     public Long getSample() {
         return clock.millis() - startTime;
     }
+
+    /**
+     * Returns the elapsed time since {@link #start()} in nanoseconds, for latency histograms that need to tell
+     * sub-millisecond samples apart.
+     */
+    long getElapsedNanos() {
+        return nanoTime.getAsLong() - startNanos;
+    }
 }
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.packstream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.IOException;
 
 /**
@@ -45,4 +47,22 @@ public interface PackInput {
 
     /** Get the next byte without forwarding the internal pointer */
     byte peekByte() throws IOException;
+
+    /**
+     * Consume a specified number of bytes and decode them as a UTF-8 string. Implementations with access to the
+     * underlying storage should override this to decode in place instead of copying the bytes out first.
+     */
+    default String readString(int size) throws IOException {
+        byte[] bytes = new byte[size];
+        readBytes(bytes, 0, size);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Consume a specified number of bytes and decode them as a UTF-8 string that is likely to repeat, like a map key or
+     * a label. Implementations may resolve it to a previously decoded instance instead of decoding it again.
+     */
+    default String readCachedString(int size) throws IOException {
+        return readString(size);
+    }
 }
@@ -459,7 +459,20 @@ public class PackStream {
                 return EMPTY_STRING;
             }
 
-            return new String(unpackUtf8(markerByte), UTF_8);
+            return in.readString(unpackStringSize(markerByte));
+        }
+
+        /**
+         * Unpacks a string that is expected to repeat across records, like a map key, label or relationship type.
+         * The input may resolve it to a shared instance instead of decoding it.
+         */
+        public String unpackCachedString() throws IOException {
+            final byte markerByte = in.readByte();
+            if (markerByte == TINY_STRING) {
+                return EMPTY_STRING;
+            }
+
+            return in.readCachedString(unpackStringSize(markerByte));
         }
 
         /**
@@ -477,22 +490,22 @@ public class PackStream {
             return null;
         }
 
-        private byte[] unpackUtf8(byte markerByte) throws IOException {
+        private int unpackStringSize(byte markerByte) throws IOException {
             final byte markerHighNibble = (byte) (markerByte & 0xF0);
             final byte markerLowNibble = (byte) (markerByte & 0x0F);
 
             if (markerHighNibble == TINY_STRING) {
-                return unpackRawBytes(markerLowNibble);
+                return markerLowNibble;
             }
             switch (markerByte) {
                 case STRING_8:
-                    return unpackRawBytes(unpackUINT8());
+                    return unpackUINT8();
                 case STRING_16:
-                    return unpackRawBytes(unpackUINT16());
+                    return unpackUINT16();
                 case STRING_32: {
                     long size = unpackUINT32();
                     if (size <= Integer.MAX_VALUE) {
-                        return unpackRawBytes((int) size);
+                        return (int) size;
                     } else {
                         throw new Overflow("STRING_32 too long for Java");
                     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+
+/**
+ * Bounded cache of decoded strings keyed on their raw UTF-8 bytes. It is used for strings that repeat across
+ * records, like map keys, labels and relationship types, so that they resolve to a shared instance without being
+ * decoded again.
+ * <p>
+ * The cache is direct-mapped: every string maps to a single slot and a colliding string replaces the previous one.
+ * It is not thread-safe and is meant to be confined to the event loop of a single connection.
+ */
+public final class StringCache {
+    public static final int DEFAULT_CAPACITY = 256;
+    /** Strings with a longer UTF-8 encoding are not worth caching and are always decoded. */
+    public static final int MAX_CACHED_SIZE = 64;
+
+    private final byte[][] encoded;
+    private final String[] decoded;
+    private final int mask;
+
+    private long hits;
+    private long misses;
+
+    public StringCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StringCache(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two but was: " + capacity);
+        }
+        this.encoded = new byte[capacity][];
+        this.decoded = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Resolve the string encoded by the given UTF-8 bytes, decoding and caching it when it is not cached yet.
+     *
+     * @param utf8 array that holds the encoded string.
+     * @param offset index of the first byte of the string.
+     * @param size number of bytes in the string, at most {@link #MAX_CACHED_SIZE}.
+     * @return the decoded string.
+     */
+    public String get(byte[] utf8, int offset, int size) {
+        if (size > MAX_CACHED_SIZE) {
+            throw new IllegalArgumentException(
+                    "Strings longer than " + MAX_CACHED_SIZE + " bytes are not cached but got: " + size);
+        }
+        int end = offset + size;
+        int slot = slot(utf8, offset, end);
+        byte[] candidate = encoded[slot];
+        if (candidate != null && Arrays.equals(candidate, 0, candidate.length, utf8, offset, end)) {
+            hits++;
+            return decoded[slot];
+        }
+        misses++;
+        String value = new String(utf8, offset, size, UTF_8);
+        encoded[slot] = Arrays.copyOfRange(utf8, offset, end);
+        decoded[slot] = value;
+        return value;
+    }
+
+    /** Number of lookups resolved to a cached string since creation or the last {@link #resetCounters()}. */
+    public long hits() {
+        return hits;
+    }
+
+    /** Number of lookups that had to decode the string since creation or the last {@link #resetCounters()}. */
+    public long misses() {
+        return misses;
+    }
+
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    private int slot(byte[] utf8, int offset, int end) {
+        int hash = 1;
+        for (int i = offset; i < end; i++) {
+            hash = 31 * hash + utf8[i];
+        }
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -20,27 +20,31 @@ package org.neo4j.driver.internal.retry;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.EventExecutorGroup;
 import java.time.Clock;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.RetryPolicy;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.exceptions.RetryableException;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.util.Futures;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import reactor.util.context.Context;
 import reactor.util.retry.Retry;
 
@@ -55,20 +59,76 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
     private final long maxRetryTimeMs;
     private final long initialRetryDelayMs;
     private final double multiplier;
+    private final long maxRetryDelayMs;
     private final double jitterFactor;
+    private final boolean decorrelatedJitter;
+    private final RetryBudget retryBudget;
+    private final MetricsListener metricsListener;
     private final EventExecutorGroup eventExecutorGroup;
+    private final Timer timer;
     private final Clock clock;
     private final SleepTask sleepTask;
     private final Logger log;
 
     public ExponentialBackoffRetryLogic(
-            long maxTransactionRetryTime, EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging) {
-        this(maxTransactionRetryTime, eventExecutorGroup, clock, logging, Thread::sleep);
+            long maxTransactionRetryTime,
+            EventExecutorGroup eventExecutorGroup,
+            Timer timer,
+            Clock clock,
+            Logging logging) {
+        this(maxTransactionRetryTime, eventExecutorGroup, timer, clock, logging, Thread::sleep);
+    }
+
+    public ExponentialBackoffRetryLogic(
+            long maxTransactionRetryTime,
+            RetryPolicy retryPolicy,
+            MetricsListener metricsListener,
+            EventExecutorGroup eventExecutorGroup,
+            Timer timer,
+            Clock clock,
+            Logging logging) {
+        this(
+                maxTransactionRetryTime,
+                retryPolicy,
+                metricsListener,
+                eventExecutorGroup,
+                timer,
+                clock,
+                logging,
+                Thread::sleep);
+    }
+
+    protected ExponentialBackoffRetryLogic(
+            long maxTransactionRetryTime,
+            RetryPolicy retryPolicy,
+            MetricsListener metricsListener,
+            EventExecutorGroup eventExecutorGroup,
+            Timer timer,
+            Clock clock,
+            Logging logging,
+            SleepTask sleepTask) {
+        this(
+                maxTransactionRetryTime,
+                retryPolicy.initialRetryDelayMillis(),
+                retryPolicy.retryDelayMultiplier(),
+                retryPolicy.maxRetryDelayMillis(),
+                retryPolicy.retryDelayJitterFactor(),
+                retryPolicy.isDecorrelatedJitterEnabled(),
+                retryPolicy.isRetryBudgetEnabled()
+                        ? new RetryBudget(retryPolicy.retryBudgetRatio(), retryPolicy.retryBudgetCapacity())
+                        : null,
+                metricsListener,
+                eventExecutorGroup,
+                timer,
+                clock,
+                logging,
+                sleepTask);
     }
 
     protected ExponentialBackoffRetryLogic(
             long maxTransactionRetryTime,
             EventExecutorGroup eventExecutorGroup,
+            Timer timer,
             Clock clock,
             Logging logging,
             SleepTask sleepTask) {
@@ -78,6 +138,7 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
                 RETRY_DELAY_MULTIPLIER,
                 RETRY_DELAY_JITTER_FACTOR,
                 eventExecutorGroup,
+                timer,
                 clock,
                 logging,
                 sleepTask);
@@ -89,14 +150,50 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
             double multiplier,
             double jitterFactor,
             EventExecutorGroup eventExecutorGroup,
+            Timer timer,
+            Clock clock,
+            Logging logging,
+            SleepTask sleepTask) {
+        this(
+                maxRetryTimeMs,
+                initialRetryDelayMs,
+                multiplier,
+                MAX_RETRY_DELAY,
+                jitterFactor,
+                false,
+                null,
+                DevNullMetricsListener.INSTANCE,
+                eventExecutorGroup,
+                timer,
+                clock,
+                logging,
+                sleepTask);
+    }
+
+    ExponentialBackoffRetryLogic(
+            long maxRetryTimeMs,
+            long initialRetryDelayMs,
+            double multiplier,
+            long maxRetryDelayMs,
+            double jitterFactor,
+            boolean decorrelatedJitter,
+            RetryBudget retryBudget,
+            MetricsListener metricsListener,
+            EventExecutorGroup eventExecutorGroup,
+            Timer timer,
             Clock clock,
             Logging logging,
             SleepTask sleepTask) {
         this.maxRetryTimeMs = maxRetryTimeMs;
         this.initialRetryDelayMs = initialRetryDelayMs;
         this.multiplier = multiplier;
+        this.maxRetryDelayMs = Math.min(maxRetryDelayMs, MAX_RETRY_DELAY);
         this.jitterFactor = jitterFactor;
+        this.decorrelatedJitter = decorrelatedJitter;
+        this.retryBudget = retryBudget;
+        this.metricsListener = metricsListener;
         this.eventExecutorGroup = eventExecutorGroup;
+        this.timer = timer;
         this.clock = clock;
         this.sleepTask = sleepTask;
         this.log = logging.getLog(getClass());
@@ -112,7 +209,9 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
 
         while (true) {
             try {
-                return work.get();
+                T result = work.get();
+                onSuccess();
+                return result;
             } catch (Throwable throwable) {
                 Throwable error = extractPossibleTerminationCause(throwable);
                 if (canRetryOn(error)) {
@@ -122,12 +221,13 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
                     }
 
                     long elapsedTime = currentTime - startTime;
-                    if (elapsedTime < maxRetryTimeMs) {
+                    if (elapsedTime < maxRetryTimeMs && tryAcquireRetry()) {
                         long delayWithJitterMs = computeDelayWithJitter(nextDelayMs);
                         log.warn("Transaction failed and will be retried in " + delayWithJitterMs + "ms", error);
 
+                        metricsListener.afterRetryScheduled(TimeUnit.MILLISECONDS.toNanos(delayWithJitterMs));
                         sleep(delayWithJitterMs);
-                        nextDelayMs = (long) (nextDelayMs * multiplier);
+                        nextDelayMs = computeNextDelay(nextDelayMs, delayWithJitterMs);
                         errors = recordError(error, errors);
                         continue;
                     }
@@ -149,7 +249,7 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
 
     @Override
     public <T> Publisher<T> retryRx(Publisher<T> work) {
-        return Flux.from(work).retryWhen(exponentialBackoffRetryRx());
+        return Flux.from(work).retryWhen(exponentialBackoffRetryRx()).doOnComplete(this::onSuccess);
     }
 
     protected boolean canRetryOn(Throwable error) {
@@ -192,13 +292,14 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
                 long nextDelayMs = contextView.getOrDefault("nextDelayMs", initialRetryDelayMs);
 
                 long elapsedTime = currentTime - startTime;
-                if (elapsedTime < maxRetryTimeMs) {
+                if (elapsedTime < maxRetryTimeMs && tryAcquireRetry()) {
                     long delayWithJitterMs = computeDelayWithJitter(nextDelayMs);
                     log.warn(
                             "Reactive transaction failed and is scheduled to retry in " + delayWithJitterMs + "ms",
                             error);
 
-                    nextDelayMs = (long) (nextDelayMs * multiplier);
+                    metricsListener.afterRetryScheduled(TimeUnit.MILLISECONDS.toNanos(delayWithJitterMs));
+                    nextDelayMs = computeNextDelay(nextDelayMs, delayWithJitterMs);
                     errors = recordError(error, errors);
 
                     // retry on netty event loop thread
@@ -207,10 +308,13 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
                             "errors", errors,
                             "startTime", startTime,
                             "nextDelayMs", nextDelayMs);
-                    return Mono.just(context)
-                            .delayElement(
-                                    Duration.ofMillis(delayWithJitterMs),
-                                    Schedulers.fromExecutorService(eventExecutor));
+                    return Mono.<Context>create(sink -> {
+                        Timeout timeout = timer.newTimeout(
+                                ignored -> eventExecutor.execute(() -> sink.success(context)),
+                                delayWithJitterMs,
+                                TimeUnit.MILLISECONDS);
+                        sink.onCancel(timeout::cancel);
+                    });
                 }
             }
             addSuppressed(throwable, errors);
@@ -239,13 +343,19 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
         long delayWithJitterMs = computeDelayWithJitter(delayMs);
         log.warn("Async transaction failed and is scheduled to retry in " + delayWithJitterMs + "ms", error);
 
-        eventExecutor.schedule(
-                () -> {
-                    long newRetryDelayMs = (long) (delayMs * multiplier);
-                    executeWork(resultFuture, work, startTime, newRetryDelayMs, errors);
-                },
-                delayWithJitterMs,
-                TimeUnit.MILLISECONDS);
+        metricsListener.afterRetryScheduled(TimeUnit.MILLISECONDS.toNanos(delayWithJitterMs));
+        Runnable retry = () -> {
+            long newRetryDelayMs = computeNextDelay(delayMs, delayWithJitterMs);
+            executeWork(resultFuture, work, startTime, newRetryDelayMs, errors);
+        };
+        try {
+            // the event loop is only used to run the work, the delay is waited out by the timer
+            timer.newTimeout(ignored -> eventExecutor.execute(retry), delayWithJitterMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException | IllegalStateException e) {
+            // the driver is closed and the retry can not be scheduled
+            addSuppressed(error, errors);
+            resultFuture.completeExceptionally(error);
+        }
     }
 
     private <T> void executeWork(
@@ -269,6 +379,7 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
                 // work failed in async way, attempt to schedule a retry
                 retryOnError(resultFuture, work, startTime, retryDelayMs, error, errors);
             } else {
+                onSuccess();
                 resultFuture.complete(result);
             }
         });
@@ -289,7 +400,7 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
             }
 
             long elapsedTime = currentTime - startTime;
-            if (elapsedTime < maxRetryTimeMs) {
+            if (elapsedTime < maxRetryTimeMs && tryAcquireRetry()) {
                 errors = recordError(error, errors);
                 retryWorkInEventLoop(resultFuture, work, error, startTime, retryDelayMs, errors);
                 return;
@@ -300,15 +411,44 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
         resultFuture.completeExceptionally(throwable);
     }
 
+    private boolean tryAcquireRetry() {
+        if (retryBudget == null || retryBudget.tryAcquire()) {
+            return true;
+        }
+        log.debug("Retry budget is exhausted, the failure will not be retried");
+        metricsListener.afterRetryBudgetExhausted();
+        return false;
+    }
+
+    private void onSuccess() {
+        if (retryBudget != null) {
+            retryBudget.onSuccess();
+        }
+    }
+
     private long computeDelayWithJitter(long delayMs) {
-        if (delayMs > MAX_RETRY_DELAY) {
-            delayMs = MAX_RETRY_DELAY;
+        if (decorrelatedJitter) {
+            // pick a delay between the initial one and the grown previous one, see "Exponential Backoff And Jitter"
+            long max = Math.min(Math.max(initialRetryDelayMs, (long) (delayMs * multiplier)), maxRetryDelayMs);
+            long min = Math.min(initialRetryDelayMs, max);
+            return ThreadLocalRandom.current().nextLong(min, max + 1);
+        }
+
+        if (delayMs > maxRetryDelayMs) {
+            delayMs = maxRetryDelayMs;
         }
 
         long jitter = (long) (delayMs * jitterFactor);
         long min = delayMs - jitter;
         long max = delayMs + jitter;
-        return ThreadLocalRandom.current().nextLong(min, max + 1);
+        return Math.min(ThreadLocalRandom.current().nextLong(min, max + 1), maxRetryDelayMs);
+    }
+
+    private long computeNextDelay(long delayMs, long delayWithJitterMs) {
+        if (decorrelatedJitter) {
+            return delayWithJitterMs;
+        }
+        return Math.min((long) (delayMs * multiplier), maxRetryDelayMs);
     }
 
     private void sleep(long delayMs) {
@@ -330,9 +470,15 @@ public class ExponentialBackoffRetryLogic implements RetryLogic {
         if (multiplier < 1.0) {
             throw new IllegalArgumentException("Multiplier should be >= 1.0: " + multiplier);
         }
+        if (maxRetryDelayMs < 0) {
+            throw new IllegalArgumentException("Max retry delay should be >= 0: " + maxRetryDelayMs);
+        }
         if (jitterFactor < 0 || jitterFactor > 1) {
             throw new IllegalArgumentException("Jitter factor should be in [0.0, 1.0]: " + jitterFactor);
         }
+        if (metricsListener == null) {
+            throw new IllegalArgumentException("Metrics listener should not be null");
+        }
         if (clock == null) {
             throw new IllegalArgumentException("Clock should not be null");
         }
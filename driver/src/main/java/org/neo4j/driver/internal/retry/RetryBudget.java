@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver-wide token bucket that limits retries to a fraction of the successful work. Every retry withdraws one token
+ * and every success deposits the configured ratio of a token, up to the capacity. Tokens are kept in thousandths to
+ * allow fractional deposits without locking.
+ */
+final class RetryBudget {
+    private static final long TOKEN = 1000;
+
+    private final long capacity;
+    private final long deposit;
+    private final AtomicLong balance;
+
+    RetryBudget(double ratio, int capacity) {
+        this.capacity = capacity * TOKEN;
+        this.deposit = Math.max(1, Math.round(ratio * TOKEN));
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    void onSuccess() {
+        while (true) {
+            long current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+            if (balance.compareAndSet(current, Math.min(capacity, current + deposit))) {
+                return;
+            }
+        }
+    }
+
+    double tokens() {
+        return (double) balance.get() / TOKEN;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.handlers.ResultBufferLimits;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 
@@ -67,4 +68,32 @@ public interface Connection {
     }
 
     void flush();
+
+    /**
+     * Reports that the first record of a query result was received over this connection.
+     *
+     * @param elapsedNanos the time since the query was sent.
+     */
+    default void afterFirstRecord(long elapsedNanos) {}
+
+    /**
+     * Reports that a query result was completely received or discarded over this connection.
+     *
+     * @param elapsedNanos the time since the query was sent.
+     */
+    default void afterResultConsumed(long elapsedNanos) {}
+
+    /**
+     * The limits on the memory taken by the records buffered in results received over this connection.
+     */
+    default ResultBufferLimits resultBufferLimits() {
+        return ResultBufferLimits.NONE;
+    }
+
+    /**
+     * Reports that records received over this connection were buffered in a result or, when negative, consumed.
+     *
+     * @param bytes the estimated size of the records.
+     */
+    default void afterRecordBytesBuffered(long bytes) {}
 }
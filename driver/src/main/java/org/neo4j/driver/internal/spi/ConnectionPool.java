@@ -30,10 +30,27 @@ public interface ConnectionPool {
 
     void retainAll(Set<BoltServerAddress> addressesToRetain);
 
+    /**
+     * Open connections in the background until the pools towards the given addresses hold the configured minimum
+     * amount of idle connections. Does nothing when no minimum is configured.
+     *
+     * @param addresses the addresses of the pools to warm up.
+     */
+    void warmUp(Set<BoltServerAddress> addresses);
+
     int inUseConnections(ServerAddress address);
 
     int idleConnections(ServerAddress address);
 
+    /**
+     * Returns the moving average of the time the server takes to respond to requests. Response times are only
+     * measured when the pool is configured to track them.
+     *
+     * @param address the address of the server.
+     * @return the average response time in nanoseconds, {@code 0} when it is unknown.
+     */
+    long averageResponseTime(ServerAddress address);
+
     CompletionStage<Void> close();
 
     boolean isOpen(BoltServerAddress address);
@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.spi;
 
 import java.util.Map;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 
 public interface ResponseHandler {
@@ -29,6 +30,25 @@ public interface ResponseHandler {
 
     void onRecord(Value[] fields);
 
+    /**
+     * Invoked right before {@link #onRecord(Value[])} or {@link #onBatchedRecord()} with the size in bytes of the RECORD
+     * message, which is a cheap estimate of the memory its fields take once decoded.
+     */
+    default void onRecordSize(int bytes) {}
+
+    /**
+     * The batch to decode the next record into instead of passing its fields to {@link #onRecord(Value[])}, or
+     * {@code null} when records are expected one by one. Invoked on the event loop, right before the record is decoded.
+     */
+    default InternalRecordBatch.Builder recordBatch() {
+        return null;
+    }
+
+    /**
+     * Invoked after a record has been decoded into the batch returned by {@link #recordBatch()}.
+     */
+    default void onBatchedRecord() {}
+
     /**
      * Tells whether this response handler is able to manage auto-read of the underlying connection using {@link Connection#enableAutoRead()} and
      * {@link Connection#disableAutoRead()}.
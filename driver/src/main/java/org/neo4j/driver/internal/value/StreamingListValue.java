@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import static org.neo4j.driver.Values.ofObject;
+import static org.neo4j.driver.internal.util.Extract.assertParameter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.Type;
+
+/**
+ * A list whose elements are pulled from an iterator and converted to values one at a time while the list is iterated,
+ * typically by the value packer writing a query parameter. Only the element being packed is held as a value, so the
+ * memory used for a large batch parameter does not grow with the number of elements.
+ * <p>
+ * The list can be iterated only once, and the iterator has to produce exactly the number of elements given up front
+ * because that number is written before the elements.
+ */
+public class StreamingListValue extends ValueAdapter {
+    private final Iterator<?> elements;
+    private final int size;
+    private boolean consumed;
+
+    public StreamingListValue(Iterator<?> elements, int size) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Cannot construct StreamingListValue from null");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative: " + size);
+        }
+        this.elements = elements;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public List<Object> asObject() {
+        return asList(ofObject());
+    }
+
+    @Override
+    public List<Object> asList() {
+        return asList(ofObject());
+    }
+
+    @Override
+    public <T> List<T> asList(Function<Value, T> mapFunction) {
+        List<T> list = new ArrayList<>(size);
+        for (T element : values(mapFunction)) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public <T> Iterable<T> values(Function<Value, T> mapFunction) {
+        return () -> {
+            if (consumed) {
+                throw new ClientException("Streaming list has already been consumed, it can only be sent once");
+            }
+            consumed = true;
+            return new Iterator<T>() {
+                private int cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size;
+                }
+
+                @Override
+                public T next() {
+                    if (cursor >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    if (!elements.hasNext()) {
+                        throw new ClientException(String.format(
+                                "Streaming list ended after %d elements, %d were expected", cursor, size));
+                    }
+                    cursor++;
+                    Object element = elements.next();
+                    assertParameter(element);
+                    return mapFunction.apply(Values.value(element));
+                }
+            };
+        };
+    }
+
+    @Override
+    public Type type() {
+        return InternalTypeSystem.TYPE_SYSTEM.LIST();
+    }
+
+    @Override
+    public String toString() {
+        // printing the elements would consume them
+        return String.format("[%d streamed elements]", size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
@@ -34,6 +34,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -178,6 +179,28 @@ class ConfigTest {
         assertTrue(Config.builder().withLeakedSessionsLogging().build().logLeakedSessions());
     }
 
+    @Test
+    void shouldCheckEverySessionForLeaksByDefault() {
+        assertEquals(1.0, Config.defaultConfig().leakedSessionsSampleRate());
+        assertEquals(1.0, Config.builder().withLeakedSessionsLogging().build().leakedSessionsSampleRate());
+    }
+
+    @Test
+    void shouldTurnOnSampledLeakedSessionsLogging() {
+        // WHEN
+        var config = Config.builder().withLeakedSessionsLogging(0.01).build();
+
+        // THEN
+        assertTrue(config.logLeakedSessions());
+        assertEquals(0.01, config.leakedSessionsSampleRate());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.5, 1.1, Double.NaN})
+    void shouldNotAllowIllegalLeakedSessionsSampleRate(double sampleRate) {
+        assertThrows(IllegalArgumentException.class, () -> Config.builder().withLeakedSessionsLogging(sampleRate));
+    }
+
     @Test
     void shouldHaveDefaultConnectionTimeout() {
         Config defaultConfig = Config.defaultConfig();
@@ -266,6 +289,139 @@ class ConfigTest {
         assertEquals("Zero value is not supported", e.getMessage());
     }
 
+    @Test
+    void shouldHaveNoMinIdleConnectionsByDefault() {
+        assertEquals(0, Config.defaultConfig().minIdleConnections());
+    }
+
+    @Test
+    void shouldAllowPositiveMinIdleConnections() {
+        Config config = Config.builder().withMinIdleConnections(5).build();
+
+        assertEquals(5, config.minIdleConnections());
+    }
+
+    @Test
+    void shouldDisallowNegativeMinIdleConnections() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Config.builder().withMinIdleConnections(-1).build());
+    }
+
+    @Test
+    void shouldUseLeastConnectedLoadBalancingStrategyByDefault() {
+        assertEquals(
+                Config.LoadBalancingStrategy.LEAST_CONNECTED,
+                Config.defaultConfig().loadBalancingStrategy());
+    }
+
+    @Test
+    void shouldAllowToChangeLoadBalancingStrategy() {
+        Config config = Config.builder()
+                .withLoadBalancingStrategy(Config.LoadBalancingStrategy.LEAST_RESPONSE_TIME)
+                .build();
+
+        assertEquals(Config.LoadBalancingStrategy.LEAST_RESPONSE_TIME, config.loadBalancingStrategy());
+    }
+
+    @Test
+    void shouldDisallowNullLoadBalancingStrategy() {
+        assertThrows(NullPointerException.class, () -> Config.builder().withLoadBalancingStrategy(null));
+    }
+
+    @Test
+    void shouldNotConsolidateFlushesByDefault() {
+        Config config = Config.defaultConfig();
+
+        assertFalse(config.isFlushConsolidationEnabled());
+        assertEquals(-1, config.flushConsolidationWindowNanos());
+    }
+
+    @Test
+    void shouldAllowToConsolidateFlushes() {
+        Config config = Config.builder()
+                .withFlushConsolidation(50, TimeUnit.MICROSECONDS)
+                .build();
+
+        assertTrue(config.isFlushConsolidationEnabled());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(50), config.flushConsolidationWindowNanos());
+    }
+
+    @Test
+    void shouldAllowToConsolidateFlushesWithinEventLoopIteration() {
+        Config config =
+                Config.builder().withFlushConsolidation(0, TimeUnit.SECONDS).build();
+
+        assertTrue(config.isFlushConsolidationEnabled());
+        assertEquals(0, config.flushConsolidationWindowNanos());
+    }
+
+    @Test
+    void shouldDisallowNegativeFlushConsolidationWindow() {
+        assertThrows(IllegalArgumentException.class, () -> Config.builder()
+                .withFlushConsolidation(-1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldNotPipelineTransactionBeginByDefault() {
+        assertFalse(Config.defaultConfig().isPipelinedTransactionBeginEnabled());
+    }
+
+    @Test
+    void shouldAllowToPipelineTransactionBegin() {
+        Config config = Config.builder().withPipelinedTransactionBegin(true).build();
+
+        assertTrue(config.isPipelinedTransactionBeginEnabled());
+    }
+
+    @Test
+    void shouldNotLimitResultBufferSizeByDefault() {
+        Config config = Config.defaultConfig();
+
+        assertEquals(Long.MAX_VALUE, config.maxResultBufferSize());
+        assertEquals(Long.MAX_VALUE, config.maxTotalResultBufferSize());
+    }
+
+    @Test
+    void shouldAllowToLimitResultBufferSize() {
+        Config config = Config.builder()
+                .withMaxResultBufferSize(1024)
+                .withMaxTotalResultBufferSize(4096)
+                .build();
+
+        assertEquals(1024, config.maxResultBufferSize());
+        assertEquals(4096, config.maxTotalResultBufferSize());
+    }
+
+    @Test
+    void shouldTreatNegativeResultBufferSizeAsUnlimited() {
+        Config config = Config.builder()
+                .withMaxResultBufferSize(-1)
+                .withMaxTotalResultBufferSize(-1)
+                .build();
+
+        assertEquals(Long.MAX_VALUE, config.maxResultBufferSize());
+        assertEquals(Long.MAX_VALUE, config.maxTotalResultBufferSize());
+    }
+
+    @Test
+    void shouldNotAllowZeroResultBufferSize() {
+        assertThrows(IllegalArgumentException.class, () -> Config.builder().withMaxResultBufferSize(0));
+        assertThrows(IllegalArgumentException.class, () -> Config.builder().withMaxTotalResultBufferSize(0));
+    }
+
+    @Test
+    void shouldNotCheckConnectionLivenessInBackgroundByDefault() {
+        assertFalse(Config.defaultConfig().isBackgroundConnectionLivenessCheckEnabled());
+    }
+
+    @Test
+    void shouldAllowToCheckConnectionLivenessInBackground() {
+        Config config = Config.builder().withBackgroundConnectionLivenessCheck().build();
+
+        assertTrue(config.isBackgroundConnectionLivenessCheckEnabled());
+    }
+
     @Test
     void shouldHaveCorrectDefaultConnectionAcquisitionTimeout() {
         assertEquals(TimeUnit.SECONDS.toMillis(60), Config.defaultConfig().connectionAcquisitionTimeoutMillis());
@@ -345,14 +501,14 @@ class ConfigTest {
     }
 
     @ParameterizedTest
-    @ValueSource(longs = {100, 1, 1000, Long.MAX_VALUE, -1})
+    @ValueSource(longs = {100, 1, 1000, Long.MAX_VALUE, -1, -2})
     void shouldChangeFetchSize(long value) {
         Config config = Config.builder().withFetchSize(value).build();
         assertEquals(value, config.fetchSize());
     }
 
     @ParameterizedTest
-    @ValueSource(longs = {0, -100, -2})
+    @ValueSource(longs = {0, -100, -3})
     void shouldErrorWithIllegalFetchSize(long value) {
         assertThrows(
                 IllegalArgumentException.class,
@@ -429,6 +585,26 @@ class ConfigTest {
         assertEquals(delay, config.routingTablePurgeDelayMillis());
     }
 
+    @Test
+    void shouldOnlyRefreshRoutingTablesOnExpiryByDefault() {
+        assertEquals(1.0, Config.defaultConfig().routingTableRefreshFraction());
+    }
+
+    @Test
+    void shouldSetRoutingTableRefreshFraction() {
+        // WHEN
+        var config = Config.builder().withRoutingTableRefreshFraction(0.8).build();
+
+        // THEN
+        assertEquals(0.8, config.routingTableRefreshFraction());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.5, 1.1, Double.NaN})
+    void shouldNotAllowIllegalRoutingTableRefreshFraction(double fraction) {
+        assertThrows(IllegalArgumentException.class, () -> Config.builder().withRoutingTableRefreshFraction(fraction));
+    }
+
     @Test
     void shouldMaxTransactionRetryTimeMillis() {
         // GIVEN
@@ -443,31 +619,102 @@ class ConfigTest {
         assertEquals(retryTime, config.maxTransactionRetryTimeMillis());
     }
 
+    @Test
+    void shouldUseDefaultRetryPolicyByDefault() {
+        var policy = Config.defaultConfig().retryPolicy();
+
+        assertSame(RetryPolicy.defaultPolicy(), policy);
+        assertEquals(1000, policy.initialRetryDelayMillis());
+        assertEquals(2.0, policy.retryDelayMultiplier());
+        assertEquals(0.2, policy.retryDelayJitterFactor());
+        assertFalse(policy.isDecorrelatedJitterEnabled());
+        assertFalse(policy.isRetryBudgetEnabled());
+    }
+
+    @Test
+    void shouldSetRetryPolicy() {
+        // GIVEN
+        var policy = RetryPolicy.builder()
+                .withInitialRetryDelay(Duration.ofMillis(50))
+                .withRetryDelayMultiplier(3.0)
+                .withMaxRetryDelay(Duration.ofSeconds(5))
+                .withDecorrelatedJitter()
+                .withRetryBudget(0.1, 10)
+                .build();
+
+        // WHEN
+        var config = Config.builder().withRetryPolicy(policy).build();
+
+        // THEN
+        assertEquals(policy, config.retryPolicy());
+        assertEquals(50, config.retryPolicy().initialRetryDelayMillis());
+        assertEquals(3.0, config.retryPolicy().retryDelayMultiplier());
+        assertEquals(5000, config.retryPolicy().maxRetryDelayMillis());
+        assertTrue(config.retryPolicy().isDecorrelatedJitterEnabled());
+        assertTrue(config.retryPolicy().isRetryBudgetEnabled());
+        assertEquals(0.1, config.retryPolicy().retryBudgetRatio());
+        assertEquals(10, config.retryPolicy().retryBudgetCapacity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.5, 1.1, Double.NaN})
+    void shouldNotAllowIllegalRetryBudgetRatio(double ratio) {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().withRetryBudget(ratio, 10));
+    }
+
+    @Test
+    void shouldNotAllowIllegalRetryPolicySettings() {
+        var builder = RetryPolicy.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withRetryBudget(0.1, 0));
+        assertThrows(IllegalArgumentException.class, () -> builder.withRetryDelayMultiplier(0.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.withRetryDelayJitterFactor(1.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.withInitialRetryDelay(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.withMaxRetryDelay(Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class, () -> Config.builder().withRetryPolicy(null));
+    }
+
     @Nested
     class SerializationTest {
         @Test
         void shouldSerialize() throws Exception {
             Config config = Config.builder()
                     .withMaxConnectionPoolSize(123)
+                    .withMinIdleConnections(12)
+                    .withBackgroundConnectionLivenessCheck()
+                    .withLoadBalancingStrategy(Config.LoadBalancingStrategy.LEAST_RESPONSE_TIME)
+                    .withFlushConsolidation(50, TimeUnit.MICROSECONDS)
+                    .withPipelinedTransactionBegin(true)
                     .withConnectionTimeout(6543L, TimeUnit.MILLISECONDS)
                     .withConnectionAcquisitionTimeout(5432L, TimeUnit.MILLISECONDS)
                     .withConnectionLivenessCheckTimeout(4321L, TimeUnit.MILLISECONDS)
                     .withMaxConnectionLifetime(4711, TimeUnit.MILLISECONDS)
                     .withMaxTransactionRetryTime(3210L, TimeUnit.MILLISECONDS)
                     .withFetchSize(9876L)
+                    .withMaxResultBufferSize(8765L)
+                    .withMaxTotalResultBufferSize(87654L)
                     .withEventLoopThreads(4)
                     .withoutEncryption()
                     .withTrustStrategy(Config.TrustStrategy.trustCustomCertificateSignedBy(new File("doesntMatter")))
                     .withUserAgent("user-agent")
                     .withDriverMetrics()
                     .withRoutingTablePurgeDelay(50000, TimeUnit.MILLISECONDS)
-                    .withLeakedSessionsLogging()
+                    .withRoutingTableRefreshFraction(0.75)
+                    .withLeakedSessionsLogging(0.5)
+                    .withRetryPolicy(RetryPolicy.builder().withRetryBudget(0.2, 5).build())
                     .withMetricsAdapter(MetricsAdapter.MICROMETER)
                     .build();
 
             Config verify = TestUtil.serializeAndReadBack(config, Config.class);
 
             assertEquals(config.maxConnectionPoolSize(), verify.maxConnectionPoolSize());
+            assertEquals(config.minIdleConnections(), verify.minIdleConnections());
+            assertEquals(
+                    config.isBackgroundConnectionLivenessCheckEnabled(),
+                    verify.isBackgroundConnectionLivenessCheckEnabled());
+            assertEquals(config.loadBalancingStrategy(), verify.loadBalancingStrategy());
+            assertEquals(config.flushConsolidationWindowNanos(), verify.flushConsolidationWindowNanos());
+            assertEquals(config.isPipelinedTransactionBeginEnabled(), verify.isPipelinedTransactionBeginEnabled());
             assertEquals(config.connectionTimeoutMillis(), verify.connectionTimeoutMillis());
             assertEquals(config.connectionAcquisitionTimeoutMillis(), verify.connectionAcquisitionTimeoutMillis());
             assertEquals(config.idleTimeBeforeConnectionTest(), verify.idleTimeBeforeConnectionTest());
@@ -475,6 +722,9 @@ class ConfigTest {
             assertSame(DevNullLogging.DEV_NULL_LOGGING, verify.logging());
             assertEquals(config.maxTransactionRetryTimeMillis(), verify.maxTransactionRetryTimeMillis());
             assertEquals(config.fetchSize(), verify.fetchSize());
+            assertEquals(config.maxResultBufferSize(), verify.maxResultBufferSize());
+            assertEquals(config.routingTableRefreshFraction(), verify.routingTableRefreshFraction());
+            assertEquals(config.maxTotalResultBufferSize(), verify.maxTotalResultBufferSize());
             assertEquals(config.eventLoopThreads(), verify.eventLoopThreads());
             assertEquals(config.encrypted(), verify.encrypted());
             assertEquals(
@@ -492,6 +742,8 @@ class ConfigTest {
             assertEquals(config.metricsAdapter(), verify.metricsAdapter());
             assertEquals(config.maxTransactionRetryTimeMillis(), verify.maxTransactionRetryTimeMillis());
             assertEquals(config.logLeakedSessions(), verify.logLeakedSessions());
+            assertEquals(config.leakedSessionsSampleRate(), verify.leakedSessionsSampleRate());
+            assertEquals(config.retryPolicy(), verify.retryPolicy());
         }
 
         @Test
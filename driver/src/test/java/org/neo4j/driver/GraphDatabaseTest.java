@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.driver.Logging.none;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 
+import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
 import java.io.IOException;
 import java.net.ServerSocket;
@@ -147,6 +148,7 @@ class GraphDatabaseTest {
                 EventExecutorGroup eventExecutorGroup,
                 RoutingSettings routingSettings,
                 RetryLogic retryLogic,
+                Timer timer,
                 MetricsProvider metricsProvider,
                 Supplier<Rediscovery> rediscoverySupplier,
                 Config config) {
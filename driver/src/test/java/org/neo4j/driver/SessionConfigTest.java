@@ -151,14 +151,14 @@ class SessionConfigTest {
     }
 
     @ParameterizedTest
-    @ValueSource(longs = {100, 1, 1000, Long.MAX_VALUE, -1})
+    @ValueSource(longs = {100, 1, 1000, Long.MAX_VALUE, -1, -2})
     void shouldChangeFetchSize(long value) {
         SessionConfig config = builder().withFetchSize(value).build();
         assertEquals(Optional.of(value), config.fetchSize());
     }
 
     @ParameterizedTest
-    @ValueSource(longs = {0, -100, -2})
+    @ValueSource(longs = {0, -100, -3})
     void shouldErrorWithIllegalFetchSize(long value) {
         assertThrows(
                 IllegalArgumentException.class,
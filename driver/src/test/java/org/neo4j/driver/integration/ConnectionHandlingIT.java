@@ -455,11 +455,12 @@ class ConnectionHandlingIT {
                 boolean ownsEventLoopGroup,
                 RoutingContext routingContext) {
             ConnectionSettings connectionSettings = new ConnectionSettings(authToken, "test", 1000);
-            PoolSettings poolSettings = new PoolSettings(
-                    config.maxConnectionPoolSize(),
-                    config.connectionAcquisitionTimeoutMillis(),
-                    config.maxConnectionLifetimeMillis(),
-                    config.idleTimeBeforeConnectionTest());
+            PoolSettings poolSettings = PoolSettings.builder()
+                    .withMaxConnectionPoolSize(config.maxConnectionPoolSize())
+                    .withConnectionAcquisitionTimeout(config.connectionAcquisitionTimeoutMillis())
+                    .withMaxConnectionLifetime(config.maxConnectionLifetimeMillis())
+                    .withIdleTimeBeforeConnectionTest(config.idleTimeBeforeConnectionTest())
+                    .build();
             Clock clock = createClock();
             ChannelConnector connector =
                     super.createConnector(connectionSettings, securityPlan, config, clock, routingContext);
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.util.Timer;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -61,10 +62,11 @@ class CustomSecurityPlanTest {
         protected InternalDriver createDriver(
                 SecurityPlan securityPlan,
                 SessionFactory sessionFactory,
+                Timer timer,
                 MetricsProvider metricsProvider,
                 Config config) {
             capturedSecurityPlans.add(securityPlan);
-            return super.createDriver(securityPlan, sessionFactory, metricsProvider, config);
+            return super.createDriver(securityPlan, sessionFactory, timer, metricsProvider, config);
         }
 
         @Override
@@ -24,6 +24,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -120,4 +121,19 @@ public class DelegatingTransactionContextTest {
         assertEquals(expected, actual);
         then(transaction).should().run(query);
     }
+
+    @Test
+    void shouldDelegateRunAll() {
+        // GIVEN
+        List<Query> queries = List.of(mock(Query.class), mock(Query.class));
+        List<Result> expected = List.of(mock(Result.class), mock(Result.class));
+        given(transaction.runAll(queries)).willReturn(expected);
+
+        // WHEN
+        List<Result> actual = context.runAll(queries);
+
+        // THEN
+        assertEquals(expected, actual);
+        then(transaction).should().runAll(queries);
+    }
 }
@@ -43,6 +43,7 @@ import static org.neo4j.driver.internal.util.Matchers.clusterDriver;
 import static org.neo4j.driver.internal.util.Matchers.directDriver;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
 import java.net.URI;
 import java.time.Clock;
@@ -68,6 +69,7 @@ import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.metrics.MicrometerMetricsProvider;
 import org.neo4j.driver.internal.retry.RetryLogic;
@@ -91,6 +93,15 @@ class DriverFactoryTest {
         verify(connectionPool).close();
     }
 
+    @ParameterizedTest
+    @MethodSource("testUris")
+    void timerStoppedWhenDriverCreationFails(String uri) {
+        ThrowingDriverFactory factory = new ThrowingDriverFactory(connectionPoolMock());
+
+        assertThrows(UnsupportedOperationException.class, () -> createDriver(uri, factory));
+        verify(factory.timer).stop();
+    }
+
     @ParameterizedTest
     @MethodSource("testUris")
     void connectionPoolCloseExceptionIsSuppressedWhenDriverCreationFails(String uri) {
@@ -257,6 +268,7 @@ class DriverFactoryTest {
 
     private static class ThrowingDriverFactory extends DriverFactory {
         final ConnectionPool connectionPool;
+        final Timer timer = mock(Timer.class);
 
         ThrowingDriverFactory(ConnectionPool connectionPool) {
             this.connectionPool = connectionPool;
@@ -266,6 +278,7 @@ class DriverFactoryTest {
         protected InternalDriver createDriver(
                 SecurityPlan securityPlan,
                 SessionFactory sessionFactory,
+                Timer timer,
                 MetricsProvider metricsProvider,
                 Config config) {
             throw new UnsupportedOperationException("Can't create direct driver");
@@ -279,12 +292,18 @@ class DriverFactoryTest {
                 EventExecutorGroup eventExecutorGroup,
                 RoutingSettings routingSettings,
                 RetryLogic retryLogic,
+                Timer timer,
                 MetricsProvider metricsProvider,
                 Supplier<Rediscovery> rediscoverySupplier,
                 Config config) {
             throw new UnsupportedOperationException("Can't create routing driver");
         }
 
+        @Override
+        protected Timer createTimer() {
+            return timer;
+        }
+
         @Override
         protected ConnectionPool createConnectionPool(
                 AuthToken authToken,
@@ -305,6 +324,7 @@ class DriverFactoryTest {
         protected InternalDriver createDriver(
                 SecurityPlan securityPlan,
                 SessionFactory sessionFactory,
+                Timer timer,
                 MetricsProvider metricsProvider,
                 Config config) {
             InternalDriver driver = mock(InternalDriver.class);
@@ -325,8 +345,12 @@ class DriverFactoryTest {
 
         @Override
         protected SessionFactory createSessionFactory(
-                ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config) {
-            SessionFactory sessionFactory = super.createSessionFactory(connectionProvider, retryLogic, config);
+                ConnectionProvider connectionProvider,
+                RetryLogic retryLogic,
+                MetricsListener metricsListener,
+                Config config) {
+            SessionFactory sessionFactory =
+                    super.createSessionFactory(connectionProvider, retryLogic, metricsListener, config);
             capturedSessionFactory = sessionFactory;
             return sessionFactory;
         }
@@ -370,7 +394,10 @@ class DriverFactoryTest {
 
         @Override
         protected SessionFactory createSessionFactory(
-                ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config) {
+                ConnectionProvider connectionProvider,
+                RetryLogic retryLogic,
+                MetricsListener metricsListener,
+                Config config) {
             return sessionFactory;
         }
     }
@@ -23,18 +23,22 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.testutil.TestUtil.await;
 
+import io.netty.util.Timer;
 import java.time.Clock;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.neo4j.driver.BookmarkManagerConfig;
 import org.neo4j.driver.BookmarkManagers;
 import org.neo4j.driver.Config;
@@ -68,6 +72,21 @@ class InternalDriverTest {
         verify(sessionFactory).close();
     }
 
+    @Test
+    void shouldStopTimerAfterSessionFactoryIsClosed() {
+        SessionFactory sessionFactory = sessionFactoryMock();
+        Timer timer = mock(Timer.class);
+        InternalDriver driver = newDriver(sessionFactory, timer);
+
+        assertNull(await(driver.closeAsync()));
+        assertNull(await(driver.closeAsync()));
+
+        InOrder inOrder = inOrder(sessionFactory, timer);
+        inOrder.verify(sessionFactory).close();
+        inOrder.verify(timer).stop();
+        verifyNoMoreInteractions(timer);
+    }
+
     @Test
     void shouldVerifyConnectivity() {
         SessionFactory sessionFactory = sessionFactoryMock();
@@ -133,10 +152,15 @@ class InternalDriverTest {
     }
 
     private static InternalDriver newDriver(SessionFactory sessionFactory) {
+        return newDriver(sessionFactory, mock(Timer.class));
+    }
+
+    private static InternalDriver newDriver(SessionFactory sessionFactory, Timer timer) {
         return new InternalDriver(
                 BookmarkManagers.defaultManager(BookmarkManagerConfig.builder().build()),
                 SecurityPlanImpl.insecure(),
                 sessionFactory,
+                timer,
                 DevNullMetricsProvider.INSTANCE,
                 DEV_NULL_LOGGING);
     }
@@ -159,6 +183,7 @@ class InternalDriverTest {
                 BookmarkManagers.defaultManager(BookmarkManagerConfig.builder().build()),
                 SecurityPlanImpl.insecure(),
                 sessionFactory,
+                mock(Timer.class),
                 metricsProvider,
                 DEV_NULL_LOGGING);
     }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.Values.value;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.util.QueryKeys;
+import org.neo4j.driver.internal.value.NullValue;
+
+class InternalRecordBatchTest {
+    private static final QueryKeys KEYS = new QueryKeys(Arrays.asList("id", "score", "name"));
+
+    @Test
+    void shouldStorePrimitiveColumns() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 2);
+        for (int i = 0; i < 100; i++) {
+            addRecord(builder, i, i / 2.0, value("name-" + i));
+        }
+
+        RecordBatch batch = builder.build();
+
+        assertEquals(100, batch.size());
+        assertThat(batch.keys(), equalTo(KEYS.keys()));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, batch.getLong(0, i));
+            assertEquals(i / 2.0, batch.getDouble(1, i));
+            assertThat(batch.get(2, i), equalTo(value("name-" + i)));
+        }
+    }
+
+    @Test
+    void shouldTrackNulls() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+        builder.startRecord(3);
+        builder.appendNull(0);
+        builder.appendDouble(1, 1.5);
+        builder.appendNull(2);
+        builder.endRecord();
+        addRecord(builder, 42, 2.5, value("a"));
+
+        RecordBatch batch = builder.build();
+
+        assertTrue(batch.isNull(0, 0));
+        assertFalse(batch.isNull(0, 1));
+        assertThat(batch.get(0, 0), equalTo(NullValue.NULL));
+        assertEquals(42, batch.getLong(0, 1));
+        assertTrue(batch.isNull(2, 0));
+        assertThat(batch.get(2, 1), equalTo(value("a")));
+    }
+
+    @Test
+    void shouldBoxColumnWithMixedTypes() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+        addRecord(builder, 1, 1.0, value("a"));
+        builder.startRecord(3);
+        builder.appendValue(0, value("not a number"));
+        builder.appendLong(1, 7);
+        builder.appendValue(2, value(true));
+        builder.endRecord();
+
+        RecordBatch batch = builder.build();
+
+        assertEquals(1, batch.getLong(0, 0));
+        assertThat(batch.get(0, 1), equalTo(value("not a number")));
+        assertEquals(1.0, batch.getDouble(1, 0));
+        assertThat(batch.get(1, 1), equalTo(value(7)));
+        assertThat(batch.get(2, 1), equalTo(value(true)));
+    }
+
+    @Test
+    void shouldCreateRecords() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+        addRecord(builder, 1, 1.0, value("a"));
+        addRecord(builder, 2, 2.0, value("b"));
+
+        Record record = builder.build().record(1);
+
+        assertThat(record.keys(), equalTo(KEYS.keys()));
+        assertThat(record.get("id"), equalTo(value(2)));
+        assertThat(record.get("score"), equalTo(value(2.0)));
+        assertThat(record.get("name"), equalTo(value("b")));
+    }
+
+    @Test
+    void shouldAppendRecords() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+        Record record = new InternalRecord(KEYS, new Value[] {value(1), value(1.0), value("a")});
+
+        builder.append(record);
+        RecordBatch batch = builder.build();
+
+        assertEquals(1, batch.size());
+        assertEquals(1, batch.getLong(0, 0));
+        assertThat(batch.record(0), equalTo(record));
+    }
+
+    @Test
+    void shouldRemoveLastRecord() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+        addRecord(builder, 1, 1.0, value("a"));
+        addRecord(builder, 2, 2.0, value("b"));
+
+        builder.removeLastRecord();
+        addRecord(builder, 3, 3.0, NullValue.NULL);
+        RecordBatch batch = builder.build();
+
+        assertEquals(2, batch.size());
+        assertEquals(3, batch.getLong(0, 1));
+        assertTrue(batch.isNull(2, 1));
+    }
+
+    @Test
+    void shouldResetBuilderOnBuild() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+        addRecord(builder, 1, 1.0, value("a"));
+
+        RecordBatch first = builder.build();
+        assertTrue(builder.isEmpty());
+        addRecord(builder, 2, 2.0, value("b"));
+        RecordBatch second = builder.build();
+
+        assertEquals(1, first.getLong(0, 0));
+        assertEquals(2, second.getLong(0, 0));
+    }
+
+    @Test
+    void shouldFailForWrongFieldCount() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.startRecord(2));
+    }
+
+    @Test
+    void shouldFailForRowOutOfBounds() {
+        InternalRecordBatch.Builder builder = new InternalRecordBatch.Builder(KEYS, 4);
+        addRecord(builder, 1, 1.0, value("a"));
+        RecordBatch batch = builder.build();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getLong(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.record(-1));
+    }
+
+    private static void addRecord(InternalRecordBatch.Builder builder, long id, double score, Value name) {
+        builder.startRecord(3);
+        builder.appendLong(0, id);
+        builder.appendDouble(1, score);
+        builder.appendValue(2, name);
+        builder.endRecord();
+    }
+}
@@ -27,11 +27,13 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Records.column;
 import static org.neo4j.driver.Values.ofString;
@@ -47,6 +49,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
@@ -202,6 +205,31 @@ class InternalResultTest {
         assertThat(records, equalTo(asList("v1-1", "v1-2")));
     }
 
+    @Test
+    void shouldReturnBatches() {
+        // GIVEN
+        Result result = createResult(3);
+        RecordBatch batch = result.nextBatch();
+
+        // THEN
+        assertThat(batch.size(), equalTo(3));
+        assertThat(batch.keys(), equalTo(asList("k1", "k2")));
+        assertThat(batch.get(1, 2), equalTo(value("v2-3")));
+        assertThat(values(batch.record(0)), equalTo(asList(value("v1-1"), value("v2-1"))));
+        assertNull(result.nextBatch());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void shouldReturnBatchOfRemainingRecords() {
+        // GIVEN
+        Result result = createResult(3);
+        result.next();
+
+        // THEN
+        assertThat(result.nextBatch().size(), equalTo(2));
+    }
+
     @Test
     void shouldListTwice() {
         // GIVEN
@@ -344,6 +372,39 @@ class InternalResultTest {
         then(cursor).should().isOpenAsync();
     }
 
+    @Test
+    void shouldTakeBufferedRecordsWithoutFutures() {
+        // GIVEN
+        AsyncResultCursor cursor = mock(AsyncResultCursor.class);
+        Record record = mock(Record.class);
+        given(cursor.peekBufferedRecord()).willReturn(record);
+        given(cursor.nextBufferedRecord()).willReturn(record);
+        Result result = new InternalResult(null, cursor);
+
+        // WHEN + THEN
+        assertTrue(result.hasNext());
+        assertEquals(record, result.peek());
+        assertEquals(record, result.next());
+        then(cursor).should(never()).peekAsync();
+        then(cursor).should(never()).nextAsync();
+    }
+
+    @Test
+    void shouldWaitForRecordsWhenNoneAreBuffered() {
+        // GIVEN
+        AsyncResultCursor cursor = mock(AsyncResultCursor.class);
+        Record record = mock(Record.class);
+        given(cursor.peekAsync()).willReturn(CompletableFuture.completedFuture(record));
+        given(cursor.nextAsync()).willReturn(CompletableFuture.completedFuture(record));
+        Result result = new InternalResult(null, cursor);
+
+        // WHEN + THEN
+        assertTrue(result.hasNext());
+        assertEquals(record, result.next());
+        then(cursor).should().peekAsync();
+        then(cursor).should().nextAsync();
+    }
+
     private Result createResult(int numberOfRecords) {
         RunResponseHandler runHandler = new RunResponseHandler(
                 new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, mock(Connection.class), null);
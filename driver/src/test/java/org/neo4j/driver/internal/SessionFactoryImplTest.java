@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal;
 
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.SessionConfig.builder;
@@ -29,6 +30,7 @@ import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.internal.async.LeakLoggingNetworkSession;
 import org.neo4j.driver.internal.async.NetworkSession;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.FixedRetryLogic;
 
@@ -64,7 +66,20 @@ class SessionFactoryImplTest {
         assertThat(writeSession, instanceOf(LeakLoggingNetworkSession.class));
     }
 
+    @Test
+    void createsLeakLoggingNetworkSessionsOnlyForSample() {
+        Config config = Config.builder()
+                .withLogging(DEV_NULL_LOGGING)
+                .withLeakedSessionsLogging(Double.MIN_VALUE)
+                .build();
+        SessionFactory factory = newSessionFactory(config);
+
+        NetworkSession session = factory.newInstance(builder().build());
+        assertThat(session, not(instanceOf(LeakLoggingNetworkSession.class)));
+    }
+
     private static SessionFactory newSessionFactory(Config config) {
-        return new SessionFactoryImpl(mock(ConnectionProvider.class), new FixedRetryLogic(0), config);
+        return new SessionFactoryImpl(
+                mock(ConnectionProvider.class), new FixedRetryLogic(0), DevNullMetricsListener.INSTANCE, config);
     }
 }
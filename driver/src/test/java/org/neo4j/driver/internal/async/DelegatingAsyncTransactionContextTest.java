@@ -24,6 +24,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -122,4 +123,19 @@ public class DelegatingAsyncTransactionContextTest {
         assertEquals(expected, actual);
         then(transaction).should().runAsync(query);
     }
+
+    @Test
+    void shouldDelegateRunAll() {
+        // GIVEN
+        List<Query> queries = List.of(mock(Query.class), mock(Query.class));
+        CompletionStage<List<ResultCursor>> expected = CompletableFuture.completedFuture(null);
+        given(transaction.runAllAsync(queries)).willReturn(expected);
+
+        // WHEN
+        CompletionStage<List<ResultCursor>> actual = context.runAllAsync(queries);
+
+        // THEN
+        assertEquals(expected, actual);
+        then(transaction).should().runAllAsync(queries);
+    }
 }
@@ -32,7 +32,6 @@ import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
 import static org.neo4j.driver.testutil.TestUtil.DEFAULT_TEST_PROTOCOL;
 
-import java.lang.reflect.Method;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -42,6 +41,7 @@ import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.FixedRetryLogic;
@@ -49,27 +49,50 @@ import org.neo4j.driver.testutil.TestUtil;
 
 class LeakLoggingNetworkSessionTest {
     @Test
-    void logsNothingDuringFinalizationIfClosed() throws Exception {
+    void logsNothingWhenCollectedIfConnectionClosed() {
         Logging logging = mock(Logging.class);
         Logger log = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(log);
-        LeakLoggingNetworkSession session = newSession(logging, false);
+        MetricsListener metricsListener = mock(MetricsListener.class);
+        LeakLoggingNetworkSession session = newSession(logging, false, metricsListener);
+        session.beginTransactionAsync(TransactionConfig.empty());
+
+        session.checkForLeak();
+
+        verify(log, never()).error(anyString(), any(Throwable.class));
+        verify(metricsListener, never()).afterSessionLeaked();
+    }
+
+    @Test
+    void logsNothingWhenCollectedIfSessionClosed() {
+        Logging logging = mock(Logging.class);
+        Logger log = mock(Logger.class);
+        when(logging.getLog(any(Class.class))).thenReturn(log);
+        MetricsListener metricsListener = mock(MetricsListener.class);
+        LeakLoggingNetworkSession session = newSession(logging, true, metricsListener);
+        session.beginTransactionAsync(TransactionConfig.empty());
 
-        finalize(session);
+        session.closeAsync();
+        session.checkForLeak();
 
         verify(log, never()).error(anyString(), any(Throwable.class));
+        verify(metricsListener, never()).afterSessionLeaked();
     }
 
     @Test
-    void logsMessageWithStacktraceDuringFinalizationIfLeaked(TestInfo testInfo) throws Exception {
+    void logsMessageWithStacktraceWhenCollectedIfLeaked(TestInfo testInfo) {
         Logging logging = mock(Logging.class);
         Logger log = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(log);
-        LeakLoggingNetworkSession session = newSession(logging, true);
+        MetricsListener metricsListener = mock(MetricsListener.class);
+        LeakLoggingNetworkSession session = newSession(logging, true, metricsListener);
         // begin transaction to make session obtain a connection
         session.beginTransactionAsync(TransactionConfig.empty());
 
-        finalize(session);
+        session.checkForLeak();
+        session.checkForLeak();
+
+        verify(metricsListener).afterSessionLeaked();
 
         ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
         verify(log).error(messageCaptor.capture(), any());
@@ -85,13 +108,8 @@ class LeakLoggingNetworkSessionTest {
                         + testInfo.getTestMethod().get().getName()));
     }
 
-    private static void finalize(NetworkSession session) throws Exception {
-        Method finalizeMethod = session.getClass().getDeclaredMethod("finalize");
-        finalizeMethod.setAccessible(true);
-        finalizeMethod.invoke(session);
-    }
-
-    private static LeakLoggingNetworkSession newSession(Logging logging, boolean openConnection) {
+    private static LeakLoggingNetworkSession newSession(
+            Logging logging, boolean openConnection, MetricsListener metricsListener) {
         return new LeakLoggingNetworkSession(
                 connectionProviderMock(openConnection),
                 new FixedRetryLogic(0),
@@ -101,7 +119,9 @@ class LeakLoggingNetworkSessionTest {
                 null,
                 FetchSizeUtil.UNLIMITED_FETCH_SIZE,
                 logging,
-                mock(BookmarkManager.class));
+                mock(BookmarkManager.class),
+                false,
+                metricsListener);
     }
 
     private static ConnectionProvider connectionProviderMock(boolean openConnection) {
@@ -39,6 +39,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.AccessMode.WRITE;
+import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.testutil.TestUtil.await;
 import static org.neo4j.driver.testutil.TestUtil.connectionMock;
@@ -66,12 +69,16 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.DatabaseBookmark;
 import org.neo4j.driver.internal.DatabaseNameUtil;
 import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.NoOpBookmarkManager;
+import org.neo4j.driver.internal.handlers.BeginTxResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
+import org.neo4j.driver.internal.util.FixedRetryLogic;
 
 class NetworkSessionTest {
     private static final String DATABASE = "neo4j";
@@ -249,6 +256,31 @@ class NetworkSessionTest {
         verify(connection).release();
     }
 
+    @Test
+    void shouldNotFlushBeginWhenTransactionBeginIsPipelined() {
+        NetworkSession session = new NetworkSession(
+                connectionProvider,
+                new FixedRetryLogic(0),
+                defaultDatabase(),
+                WRITE,
+                Collections.emptySet(),
+                null,
+                UNLIMITED_FETCH_SIZE,
+                DEV_NULL_LOGGING,
+                NoOpBookmarkManager.INSTANCE,
+                true);
+        setupSuccessfulRunAndPull(connection);
+
+        UnmanagedTransaction tx = beginTransaction(session);
+        await(tx.runAsync(new Query("RETURN 1")));
+
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).write(any(BeginMessage.class), any(BeginTxResponseHandler.class));
+        inOrder.verify(connection).write(any(RunWithMetadataMessage.class), any());
+        inOrder.verify(connection).writeAndFlush(any(PullMessage.class), any());
+        verify(connection, never()).writeAndFlush(any(BeginMessage.class), any());
+    }
+
     @Test
     void bookmarkIsPropagatedFromSession() {
         Set<Bookmark> bookmarks = Collections.singleton(InternalBookmark.parse("Bookmarks"));
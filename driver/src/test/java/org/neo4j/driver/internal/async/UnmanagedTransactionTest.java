@@ -43,6 +43,8 @@ import static org.neo4j.driver.testutil.TestUtil.assertNoCircularReferences;
 import static org.neo4j.driver.testutil.TestUtil.await;
 import static org.neo4j.driver.testutil.TestUtil.beginMessage;
 import static org.neo4j.driver.testutil.TestUtil.connectionMock;
+import static org.neo4j.driver.testutil.TestUtil.runWithMetaMessageWithQueryMatcher;
+import static org.neo4j.driver.testutil.TestUtil.setupFailingRun;
 import static org.neo4j.driver.testutil.TestUtil.setupSuccessfulRunAndPull;
 import static org.neo4j.driver.testutil.TestUtil.setupSuccessfulRunRx;
 import static org.neo4j.driver.testutil.TestUtil.verifyBeginTx;
@@ -51,6 +53,7 @@ import static org.neo4j.driver.testutil.TestUtil.verifyRunAndPull;
 import static org.neo4j.driver.testutil.TestUtil.verifyRunRx;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -66,12 +69,14 @@ import org.mockito.InOrder;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
 import org.neo4j.driver.internal.FailableCursor;
 import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
@@ -105,6 +110,42 @@ class UnmanagedTransactionTest {
         verifyRunRx(connection, "RETURN 1");
     }
 
+    @Test
+    void shouldWriteAllQueriesOfBatchBeforeWaitingForThem() {
+        // Given
+        Connection connection = connectionMock(BoltProtocolV4.INSTANCE);
+        UnmanagedTransaction tx = beginTx(connection);
+
+        // When
+        CompletionStage<List<ResultCursor>> cursorsStage =
+                tx.runAllAsync(List.of(new Query("RETURN 1"), new Query("RETURN 2"), new Query("RETURN 3")));
+
+        // Then
+        assertFalse(cursorsStage.toCompletableFuture().isDone());
+        InOrder inOrder = inOrder(connection);
+        for (String query : List.of("RETURN 1", "RETURN 2", "RETURN 3")) {
+            inOrder.verify(connection).write(argThat(runWithMetaMessageWithQueryMatcher(query)), any());
+            inOrder.verify(connection).writeAndFlush(any(PullMessage.class), any());
+        }
+    }
+
+    @Test
+    void shouldFailBatchWithErrorOfFailedQuery() {
+        // Given
+        Connection connection = connectionMock(BoltProtocolV4.INSTANCE);
+        UnmanagedTransaction tx = beginTx(connection);
+        ClientException error = new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid syntax");
+        setupFailingRun(connection, error);
+
+        // When
+        ClientException actual = assertThrows(
+                ClientException.class,
+                () -> await(tx.runAllAsync(List.of(new Query("RETURN 1"), new Query("RETURN 2")))));
+
+        // Then
+        assertSame(error, actual);
+    }
+
     @Test
     void shouldRollbackOnImplicitFailure() {
         // Given
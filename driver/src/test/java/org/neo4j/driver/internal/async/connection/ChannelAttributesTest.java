@@ -40,7 +40,9 @@ import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMe
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setProtocolVersion;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAgent;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setStringCache;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setTerminationReason;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.stringCache;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.terminationReason;
 
 import io.netty.channel.embedded.EmbeddedChannel;
@@ -48,6 +50,7 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
+import org.neo4j.driver.internal.packstream.StringCache;
 
 class ChannelAttributesTest {
     private final EmbeddedChannel channel = new EmbeddedChannel();
@@ -182,6 +185,22 @@ class ChannelAttributesTest {
         assertEquals(newListener, authorizationStateListener(channel));
     }
 
+    @Test
+    void shouldSetAndGetStringCache() {
+        assertNull(stringCache(channel));
+        StringCache cache = new StringCache();
+        setStringCache(channel, cache);
+        assertEquals(cache, stringCache(channel));
+    }
+
+    @Test
+    void shouldAllowOverridingStringCache() {
+        setStringCache(channel, new StringCache());
+        StringCache newCache = new StringCache();
+        setStringCache(channel, newCache);
+        assertEquals(newCache, stringCache(channel));
+    }
+
     @Test
     void shouldSetAndGetConnectionReadTimeout() {
         long timeout = 15L;
@@ -33,6 +33,7 @@ import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.MessageFlushConsolidationHandler;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.messaging.v3.MessageFormatV3;
 
@@ -56,4 +57,25 @@ class ChannelPipelineBuilderImplTest {
 
         assertFalse(iterator.hasNext());
     }
+
+    @Test
+    void shouldBuildPipelineWithFlushConsolidation() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelAttributes.setMessageDispatcher(channel, new InboundMessageDispatcher(channel, DEV_NULL_LOGGING));
+
+        new ChannelPipelineBuilderImpl(0).build(new MessageFormatV3(), channel.pipeline(), DEV_NULL_LOGGING);
+
+        Iterator<Map.Entry<String, ChannelHandler>> iterator =
+                channel.pipeline().iterator();
+        assertThat(iterator.next().getValue(), instanceOf(MessageFlushConsolidationHandler.class));
+        assertThat(iterator.next().getValue(), instanceOf(ChunkDecoder.class));
+        assertThat(iterator.next().getValue(), instanceOf(MessageDecoder.class));
+        assertThat(iterator.next().getValue(), instanceOf(InboundMessageHandler.class));
+
+        assertThat(iterator.next().getValue(), instanceOf(OutboundMessageHandler.class));
+
+        assertThat(iterator.next().getValue(), instanceOf(ChannelErrorHandler.class));
+
+        assertFalse(iterator.hasNext());
+    }
 }
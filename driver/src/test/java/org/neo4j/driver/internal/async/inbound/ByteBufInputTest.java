@@ -18,7 +18,10 @@
  */
 package org.neo4j.driver.internal.async.inbound;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
@@ -26,7 +29,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.packstream.StringCache;
 
 class ByteBufInputTest {
     @Test
@@ -114,4 +120,117 @@ class ByteBufInputTest {
 
         assertEquals((byte) 42, input.peekByte());
     }
+
+    @Test
+    void shouldReadAsciiString() {
+        ByteBufInput input = new ByteBufInput();
+        ByteBuf buf = Unpooled.copiedBuffer("name", UTF_8).writeByte(42);
+        input.start(buf);
+
+        assertEquals("name", input.readString(4));
+        assertEquals((byte) 42, input.readByte());
+    }
+
+    @Test
+    void shouldReadUnicodeString() {
+        ByteBufInput input = new ByteBufInput();
+        String value = "Ünïcödé \uD83D\uDE00";
+        byte[] bytes = value.getBytes(UTF_8);
+        ByteBuf buf = Unpooled.buffer().writeByte(1).writeBytes(bytes);
+        input.start(buf);
+
+        assertEquals((byte) 1, input.readByte());
+        assertEquals(value, input.readString(bytes.length));
+        assertEquals(0, buf.readableBytes());
+    }
+
+    @Test
+    void shouldReadStringSpanningCompositeBufferComponents() {
+        ByteBufInput input = new ByteBufInput();
+        CompositeByteBuf buf = Unpooled.compositeBuffer();
+        buf.addComponent(true, Unpooled.directBuffer().writeBytes("Malm".getBytes(UTF_8)));
+        buf.addComponent(true, Unpooled.copiedBuffer("ö city", UTF_8));
+        input.start(buf);
+
+        assertEquals("Malmö city", input.readString(buf.readableBytes()));
+    }
+
+    @Test
+    void shouldThrowWhenReadingStringLongerThanReadableBytes() {
+        ByteBufInput input = new ByteBufInput();
+        ByteBuf buf = Unpooled.copiedBuffer("abc", UTF_8);
+        input.start(buf);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> input.readString(4));
+        assertEquals(0, buf.readerIndex());
+    }
+
+    @Test
+    void shouldResolveRepeatedCachedStringsToSameInstance() {
+        StringCache cache = new StringCache();
+        ByteBufInput input = new ByteBufInput(cache);
+        ByteBuf buf = Unpooled.copiedBuffer("namenameage", UTF_8);
+        input.start(buf);
+
+        String first = input.readCachedString(4);
+        String second = input.readCachedString(4);
+        String third = input.readCachedString(3);
+
+        assertEquals("name", first);
+        assertSame(first, second);
+        assertEquals("age", third);
+        assertEquals(0, buf.readableBytes());
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void shouldResolveCachedStringsFromCompositeBuffer() {
+        StringCache cache = new StringCache();
+        ByteBufInput input = new ByteBufInput(cache);
+        CompositeByteBuf buf = Unpooled.compositeBuffer();
+        buf.addComponent(true, Unpooled.directBuffer().writeBytes("Lab".getBytes(UTF_8)));
+        buf.addComponent(true, Unpooled.copiedBuffer("elLabel", UTF_8));
+        input.start(buf);
+
+        String first = input.readCachedString(5);
+        String second = input.readCachedString(5);
+
+        assertEquals("Label", first);
+        assertSame(first, second);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void shouldNotCacheStringsLongerThanLimit() {
+        StringCache cache = new StringCache();
+        ByteBufInput input = new ByteBufInput(cache);
+        String value = "a".repeat(StringCache.MAX_CACHED_SIZE + 1);
+        ByteBuf buf = Unpooled.copiedBuffer(value + value, UTF_8);
+        input.start(buf);
+
+        String first = input.readCachedString(value.length());
+        String second = input.readCachedString(value.length());
+
+        assertEquals(value, first);
+        assertEquals(value, second);
+        assertNotSame(first, second);
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    void shouldDecodeCachedStringsWithoutCache() {
+        ByteBufInput input = new ByteBufInput();
+        ByteBuf buf = Unpooled.copiedBuffer("typetype", UTF_8);
+        input.start(buf);
+
+        String first = input.readCachedString(4);
+        String second = input.readCachedString(4);
+
+        assertEquals("type", first);
+        assertEquals("type", second);
+        assertNotSame(first, second);
+    }
 }
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.async.inbound;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
@@ -44,8 +46,12 @@ import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelConfig;
 import io.netty.channel.DefaultChannelId;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.util.Attribute;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -58,6 +64,7 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.logging.ChannelErrorLogger;
 import org.neo4j.driver.internal.messaging.Message;
@@ -66,6 +73,7 @@ import org.neo4j.driver.internal.messaging.response.IgnoredMessage;
 import org.neo4j.driver.internal.messaging.response.RecordMessage;
 import org.neo4j.driver.internal.messaging.response.SuccessMessage;
 import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.QueryKeys;
 import org.neo4j.driver.internal.value.IntegerValue;
 
 class InboundMessageDispatcherTest {
@@ -164,6 +172,33 @@ class InboundMessageDispatcherTest {
         assertEquals(1, dispatcher.queuedHandlersCount());
     }
 
+    @Test
+    void shouldPeekHandlerOnBatchedRecord() {
+        InboundMessageDispatcher dispatcher = newDispatcher();
+
+        ResponseHandler handler = mock(ResponseHandler.class);
+        InternalRecordBatch.Builder batch = new InternalRecordBatch.Builder(new QueryKeys(singletonList("a")), 1);
+        when(handler.recordBatch()).thenReturn(batch);
+        dispatcher.enqueue(handler);
+
+        assertEquals(batch, dispatcher.recordBatch());
+        batch.startRecord(1);
+        batch.appendLong(0, 1);
+        batch.endRecord();
+        dispatcher.handleBatchedRecordMessage();
+
+        verify(handler).onBatchedRecord();
+        verify(handler, never()).onRecord(any());
+        assertEquals(1, dispatcher.queuedHandlersCount());
+    }
+
+    @Test
+    void shouldNotReturnRecordBatchWithoutHandler() {
+        InboundMessageDispatcher dispatcher = newDispatcher();
+
+        assertNull(dispatcher.recordBatch());
+    }
+
     @Test
     void shouldFailAllHandlersOnChannelError() {
         InboundMessageDispatcher dispatcher = newDispatcher();
@@ -428,6 +463,83 @@ class InboundMessageDispatcherTest {
         verify(errorLogger).debug(contains(throwable.getClass().toString()));
     }
 
+    @Test
+    void shouldMeasureTimeUntilFirstResponseToEveryHandler() {
+        InboundMessageDispatcher dispatcher = newDispatcher(new EmbeddedChannel());
+        ResponseTimeListener listener = mock(ResponseTimeListener.class);
+        dispatcher.setResponseTimeListener(listener);
+
+        dispatcher.enqueue(mock(ResponseHandler.class));
+        dispatcher.enqueue(mock(ResponseHandler.class));
+        dispatcher.handleSuccessMessage(emptyMap());
+        verify(listener).onResponseTime(anyLong());
+
+        dispatcher.handleRecordMessage(new Value[] {value(1)});
+        dispatcher.handleRecordMessage(new Value[] {value(2)});
+        dispatcher.handleSuccessMessage(emptyMap());
+        verify(listener, times(2)).onResponseTime(anyLong());
+    }
+
+    @Test
+    void shouldMeasureResponseTimesOfManyQueuedHandlers() {
+        InboundMessageDispatcher dispatcher = newDispatcher(new EmbeddedChannel());
+        List<Long> responseTimes = new ArrayList<>();
+        dispatcher.setResponseTimeListener(responseTimes::add);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 20; i++) {
+                dispatcher.enqueue(mock(ResponseHandler.class));
+            }
+            for (int i = 0; i < 20; i++) {
+                dispatcher.handleSuccessMessage(emptyMap());
+            }
+        }
+
+        assertEquals(60, responseTimes.size());
+        assertTrue(responseTimes.stream().allMatch(responseTime -> responseTime >= 0));
+    }
+
+    @Test
+    void shouldMeasureResponseTimesOfHandlersQueuedBeforeListenerWasSet() {
+        InboundMessageDispatcher dispatcher = newDispatcher(new EmbeddedChannel());
+        dispatcher.enqueue(mock(ResponseHandler.class));
+        ResponseTimeListener listener = mock(ResponseTimeListener.class);
+        dispatcher.setResponseTimeListener(listener);
+        dispatcher.enqueue(mock(ResponseHandler.class));
+
+        dispatcher.handleSuccessMessage(emptyMap());
+        dispatcher.handleFailureMessage(FAILURE_CODE, FAILURE_MESSAGE);
+        dispatcher.handleSuccessMessage(emptyMap());
+
+        // the RESET queued after the failure is timed as well
+        verify(listener, times(3)).onResponseTime(anyLong());
+    }
+
+    @Test
+    void shouldNotMeasureResponseTimesOfHandlersFailedByChannelError() {
+        InboundMessageDispatcher dispatcher = newDispatcher(new EmbeddedChannel());
+        ResponseTimeListener listener = mock(ResponseTimeListener.class);
+        dispatcher.setResponseTimeListener(listener);
+        dispatcher.enqueue(mock(ResponseHandler.class));
+        dispatcher.enqueue(mock(ResponseHandler.class));
+
+        dispatcher.handleChannelError(new RuntimeException());
+
+        verify(listener, never()).onResponseTime(anyLong());
+        assertEquals(0, dispatcher.queuedHandlersCount());
+    }
+
+    @Test
+    void shouldNotAllowToSetResponseTimeListenerOutsideOfEventLoop() {
+        Channel channel = newChannelMock();
+        when(channel.eventLoop()).thenReturn(mock(EventLoop.class));
+        InboundMessageDispatcher dispatcher = newDispatcher(channel);
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> dispatcher.setResponseTimeListener(mock(ResponseTimeListener.class)));
+    }
+
     private static void verifyFailure(ResponseHandler handler) {
         ArgumentCaptor<Neo4jException> captor = ArgumentCaptor.forClass(Neo4jException.class);
         verify(handler).onFailure(captor.capture());
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+
+class ResponseHandlerQueueTest {
+    private final ResponseHandlerQueue queue = new ResponseHandlerQueue();
+
+    @Test
+    void shouldBeEmptyInitially() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertNull(queue.peek());
+        assertThrows(NoSuchElementException.class, queue::remove);
+    }
+
+    @Test
+    void shouldRemoveHandlersInOrderTheyWereAdded() {
+        ResponseHandler first = mock(ResponseHandler.class);
+        ResponseHandler second = mock(ResponseHandler.class);
+
+        queue.add(first);
+        queue.add(second);
+
+        assertEquals(2, queue.size());
+        assertSame(first, queue.peek());
+        assertSame(first, queue.remove());
+        assertSame(second, queue.peek());
+        assertSame(second, queue.remove());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void shouldKeepOrderWhenGrowingWrappedAroundQueue() {
+        Queue<ResponseHandler> expected = new ArrayDeque<>();
+        // move the head to the middle of the initial capacity, so that the queue wraps around before it grows
+        for (int i = 0; i < 5; i++) {
+            queue.add(mock(ResponseHandler.class));
+            queue.remove();
+        }
+
+        for (int round = 0; round < 4; round++) {
+            for (int i = 0; i < 25; i++) {
+                ResponseHandler handler = mock(ResponseHandler.class);
+                queue.add(handler);
+                expected.add(handler);
+            }
+            for (int i = 0; i < 10; i++) {
+                assertSame(expected.remove(), queue.remove());
+            }
+            assertEquals(expected.size(), queue.size());
+        }
+
+        while (!expected.isEmpty()) {
+            assertFalse(queue.isEmpty());
+            assertSame(expected.remove(), queue.remove());
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void shouldListHandlersInToString() {
+        ResponseHandler first = mock(ResponseHandler.class, "first");
+        ResponseHandler second = mock(ResponseHandler.class, "second");
+        queue.add(first);
+        queue.add(second);
+
+        assertEquals("[first, second]", queue.toString());
+    }
+}
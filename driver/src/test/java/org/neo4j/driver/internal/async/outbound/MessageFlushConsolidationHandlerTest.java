@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MessageFlushConsolidationHandlerTest {
+    private final FlushCounter flushCounter = new FlushCounter();
+    private EmbeddedChannel channel;
+
+    @AfterEach
+    void tearDown() {
+        if (channel != null) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void shouldFlushOnceAfterQueuedTasksWithZeroWindow() {
+        channel = newChannel(0);
+
+        writeAndFlushMessages(3);
+        assertEquals(0, flushCounter.flushes);
+        assertEquals(0, flushCounter.flushedMessages);
+
+        channel.runPendingTasks();
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(3, flushCounter.flushedMessages);
+    }
+
+    @Test
+    void shouldFlushOnceAfterWindow() throws Exception {
+        channel = newChannel(TimeUnit.MILLISECONDS.toNanos(1));
+
+        writeAndFlushMessages(3);
+        channel.runPendingTasks();
+        assertEquals(0, flushCounter.flushes);
+
+        Thread.sleep(10);
+        channel.runScheduledPendingTasks();
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(3, flushCounter.flushedMessages);
+    }
+
+    @Test
+    void shouldDelayFlushUntilReadComplete() {
+        channel = newChannel(0);
+
+        channel.pipeline().fireChannelRead(Unpooled.EMPTY_BUFFER);
+        writeAndFlushMessages(2);
+        channel.runPendingTasks();
+        assertEquals(0, flushCounter.flushes);
+
+        channel.pipeline().fireChannelReadComplete();
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(2, flushCounter.flushedMessages);
+
+        channel.runPendingTasks();
+        assertEquals(1, flushCounter.flushes);
+    }
+
+    @Test
+    void shouldFlushPendingMessagesOnClose() {
+        channel = newChannel(TimeUnit.SECONDS.toNanos(10));
+
+        writeAndFlushMessages(2);
+        channel.close();
+
+        assertEquals(1, flushCounter.flushes);
+        assertEquals(2, flushCounter.flushedMessages);
+    }
+
+    @Test
+    void shouldNotFlushWithoutFlushRequest() {
+        channel = newChannel(0);
+
+        channel.write(Unpooled.wrappedBuffer(new byte[] {1}));
+        channel.runPendingTasks();
+
+        assertEquals(0, flushCounter.flushes);
+        assertEquals(0, flushCounter.flushedMessages);
+    }
+
+    @Test
+    void shouldRejectNegativeWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new MessageFlushConsolidationHandler(-1));
+    }
+
+    private EmbeddedChannel newChannel(long windowNanos) {
+        return new EmbeddedChannel(flushCounter, new MessageFlushConsolidationHandler(windowNanos));
+    }
+
+    private void writeAndFlushMessages(int count) {
+        for (int i = 0; i < count; i++) {
+            channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {(byte) i}));
+        }
+    }
+
+    /**
+     * Swallows writes and flushes instead of passing them on, {@link EmbeddedChannel} would run pending tasks on every
+     * write otherwise.
+     */
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+        int flushes;
+        int flushedMessages;
+        int unflushedMessages;
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            unflushedMessages++;
+            ReferenceCountUtil.release(msg);
+            promise.setSuccess();
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+            flushedMessages += unflushedMessages;
+            unflushedMessages = 0;
+        }
+    }
+}
@@ -149,6 +149,11 @@ class ConnectionPoolImplIT {
     }
 
     private static PoolSettings newSettings() {
-        return new PoolSettings(10, 5000, -1, -1);
+        return PoolSettings.builder()
+                .withMaxConnectionPoolSize(10)
+                .withConnectionAcquisitionTimeout(5000)
+                .withMaxConnectionLifetime(-1)
+                .withIdleTimeBeforeConnectionTest(-1)
+                .build();
     }
 }
@@ -23,7 +23,11 @@ import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -33,12 +37,15 @@ import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import java.util.HashSet;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.util.FakeClock;
 
 class ConnectionPoolImplTest {
@@ -123,22 +130,172 @@ class ConnectionPoolImplTest {
         assertEquals(nettyChannelHealthChecker, authorizationStateListener(channel));
     }
 
+    @Test
+    void shouldWarmUpNewPoolToMinIdleConnections() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker, newSettings(2));
+
+        pool.acquire(ADDRESS_1);
+
+        // two warm-up connections and the acquired one
+        verify(nettyChannelTracker, times(3)).channelCreated(any(Channel.class), any());
+        verify(nettyChannelTracker, times(2)).channelOffered(any(Channel.class));
+        // warm-up connections are never acquired, so they can not hold back the acquired one
+        verify(nettyChannelTracker).channelAcquired(any(Channel.class));
+        verify(nettyChannelTracker, never()).channelReleased(any(Channel.class));
+    }
+
+    @Test
+    void shouldNotWarmUpWhenMinIdleConnectionsDisabled() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker);
+
+        pool.warmUp(singleton(ADDRESS_1));
+        pool.acquire(ADDRESS_2);
+
+        verify(nettyChannelTracker).channelAcquired(any(Channel.class));
+        verify(nettyChannelTracker, never()).channelOffered(any(Channel.class));
+    }
+
+    @Test
+    void shouldWarmUpExistingPoolsMissingIdleConnections() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        MetricsListener metricsListener = mock(MetricsListener.class);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker, newSettings(2), metricsListener);
+
+        pool.warmUp(singleton(ADDRESS_1));
+        pool.warmUp(singleton(ADDRESS_1));
+
+        verify(nettyChannelTracker, times(4)).channelOffered(any(Channel.class));
+        verify(nettyChannelTracker, never()).channelAcquired(any(Channel.class));
+        String poolId = pool.getPool(ADDRESS_1).id();
+        verify(metricsListener, times(2)).beforeWarmingUp(eq(poolId), any());
+        verify(metricsListener, times(2)).afterWarmedUp(eq(poolId), any());
+    }
+
+    @Test
+    void shouldNotWarmUpPoolsWithEnoughIdleConnections() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        when(nettyChannelTracker.idleChannelCount(ADDRESS_1)).thenReturn(2);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker, newSettings(2));
+
+        pool.warmUp(singleton(ADDRESS_1));
+
+        verify(nettyChannelTracker, never()).channelOffered(any(Channel.class));
+    }
+
+    @Test
+    void shouldOnlyCreateMissingIdleConnections() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        when(nettyChannelTracker.idleChannelCount(ADDRESS_1)).thenReturn(1);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker, newSettings(3));
+
+        pool.warmUp(singleton(ADDRESS_1));
+
+        verify(nettyChannelTracker, times(2)).channelOffered(any(Channel.class));
+        verify(nettyChannelTracker, never()).channelAcquired(any(Channel.class));
+    }
+
+    @Test
+    void shouldNotWarmUpBeyondMaxConnectionPoolSize() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        when(nettyChannelTracker.inUseChannelCount(ADDRESS_1)).thenReturn(8);
+        when(nettyChannelTracker.idleChannelCount(ADDRESS_1)).thenReturn(1);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker, newSettings(5));
+
+        pool.warmUp(singleton(ADDRESS_1));
+
+        verify(nettyChannelTracker).channelOffered(any(Channel.class));
+    }
+
+    @Test
+    void shouldWarmUpPoolWhenUnhealthyConnectionIsDiscarded() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        NettyChannelHealthChecker nettyChannelHealthChecker = mock(NettyChannelHealthChecker.class);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker, nettyChannelHealthChecker, newSettings(2));
+        pool.warmUp(singleton(ADDRESS_1));
+        verify(nettyChannelTracker, times(2)).channelOffered(any(Channel.class));
+
+        Channel channel = new EmbeddedChannel();
+        when(nettyChannelHealthChecker.isHealthy(channel))
+                .thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(false));
+        pool.refillingHealthChecker(ADDRESS_1).isHealthy(channel);
+
+        verify(nettyChannelTracker, times(4)).channelOffered(any(Channel.class));
+    }
+
+    @Test
+    void shouldNotWarmUpPoolWhenConnectionIsHealthy() {
+        NettyChannelTracker nettyChannelTracker = mock(NettyChannelTracker.class);
+        NettyChannelHealthChecker nettyChannelHealthChecker = mock(NettyChannelHealthChecker.class);
+        TestConnectionPool pool = newConnectionPool(nettyChannelTracker, nettyChannelHealthChecker, newSettings(2));
+        pool.warmUp(singleton(ADDRESS_1));
+
+        Channel channel = new EmbeddedChannel();
+        when(nettyChannelHealthChecker.isHealthy(channel))
+                .thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(true));
+        pool.refillingHealthChecker(ADDRESS_1).isHealthy(channel);
+
+        verify(nettyChannelTracker, times(2)).channelOffered(any(Channel.class));
+    }
+
     private static PoolSettings newSettings() {
-        return new PoolSettings(10, 5000, -1, -1);
+        return PoolSettings.builder()
+                .withMaxConnectionPoolSize(10)
+                .withConnectionAcquisitionTimeout(5000)
+                .withMaxConnectionLifetime(-1)
+                .withIdleTimeBeforeConnectionTest(-1)
+                .build();
+    }
+
+    private static PoolSettings newSettings(int minIdleConnections) {
+        return PoolSettings.builder()
+                .withMaxConnectionPoolSize(10)
+                .withConnectionAcquisitionTimeout(5000)
+                .withMaxConnectionLifetime(-1)
+                .withIdleTimeBeforeConnectionTest(-1)
+                .withMinIdleConnections(minIdleConnections)
+                .build();
     }
 
     private static TestConnectionPool newConnectionPool(NettyChannelTracker nettyChannelTracker) {
         return newConnectionPool(nettyChannelTracker, mock(NettyChannelHealthChecker.class));
     }
 
+    private static TestConnectionPool newConnectionPool(
+            NettyChannelTracker nettyChannelTracker, PoolSettings settings) {
+        return newConnectionPool(nettyChannelTracker, mock(NettyChannelHealthChecker.class), settings);
+    }
+
+    private static TestConnectionPool newConnectionPool(
+            NettyChannelTracker nettyChannelTracker, PoolSettings settings, MetricsListener metricsListener) {
+        return newConnectionPool(nettyChannelTracker, mock(NettyChannelHealthChecker.class), settings, metricsListener);
+    }
+
     private static TestConnectionPool newConnectionPool(
             NettyChannelTracker nettyChannelTracker, NettyChannelHealthChecker nettyChannelHealthChecker) {
+        return newConnectionPool(nettyChannelTracker, nettyChannelHealthChecker, newSettings());
+    }
+
+    private static TestConnectionPool newConnectionPool(
+            NettyChannelTracker nettyChannelTracker,
+            NettyChannelHealthChecker nettyChannelHealthChecker,
+            PoolSettings settings) {
+        return newConnectionPool(
+                nettyChannelTracker, nettyChannelHealthChecker, settings, DevNullMetricsListener.INSTANCE);
+    }
+
+    private static TestConnectionPool newConnectionPool(
+            NettyChannelTracker nettyChannelTracker,
+            NettyChannelHealthChecker nettyChannelHealthChecker,
+            PoolSettings settings,
+            MetricsListener metricsListener) {
         return new TestConnectionPool(
                 mock(Bootstrap.class),
                 nettyChannelTracker,
                 nettyChannelHealthChecker,
-                newSettings(),
-                DevNullMetricsListener.INSTANCE,
+                settings,
+                metricsListener,
                 DEV_NULL_LOGGING,
                 new FakeClock(),
                 true);
@@ -22,12 +22,11 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setCreationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
-import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
-import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
-import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.NOT_CONFIGURED;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Iterables.single;
@@ -49,6 +48,7 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.util.FakeClock;
 
 class NettyChannelHealthCheckerTest {
     private final EmbeddedChannel channel = new EmbeddedChannel();
@@ -67,11 +67,7 @@ class NettyChannelHealthCheckerTest {
     @Test
     void shouldDropTooOldChannelsWhenMaxLifetimeEnabled() {
         int maxLifetime = 1000;
-        PoolSettings settings = new PoolSettings(
-                DEFAULT_MAX_CONNECTION_POOL_SIZE,
-                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT,
-                maxLifetime,
-                DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST);
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionLifetime(maxLifetime).build();
         Clock clock = Clock.systemUTC();
         NettyChannelHealthChecker healthChecker = newHealthChecker(settings, clock);
 
@@ -83,11 +79,7 @@ class NettyChannelHealthCheckerTest {
 
     @Test
     void shouldAllowVeryOldChannelsWhenMaxLifetimeDisabled() {
-        PoolSettings settings = new PoolSettings(
-                DEFAULT_MAX_CONNECTION_POOL_SIZE,
-                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT,
-                NOT_CONFIGURED,
-                DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST);
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionLifetime(NOT_CONFIGURED).build();
         NettyChannelHealthChecker healthChecker = newHealthChecker(settings, Clock.systemUTC());
 
         setCreationTimestamp(channel, 0);
@@ -98,11 +90,7 @@ class NettyChannelHealthCheckerTest {
 
     @Test
     void shouldFailAllConnectionsCreatedOnOrBeforeExpirationTimestamp() {
-        PoolSettings settings = new PoolSettings(
-                DEFAULT_MAX_CONNECTION_POOL_SIZE,
-                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT,
-                NOT_CONFIGURED,
-                DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST);
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionLifetime(NOT_CONFIGURED).build();
         Clock clock = Clock.systemUTC();
         NettyChannelHealthChecker healthChecker = newHealthChecker(settings, clock);
 
@@ -129,11 +117,7 @@ class NettyChannelHealthCheckerTest {
 
     @Test
     void shouldUseGreatestExpirationTimestamp() {
-        PoolSettings settings = new PoolSettings(
-                DEFAULT_MAX_CONNECTION_POOL_SIZE,
-                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT,
-                NOT_CONFIGURED,
-                DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST);
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionLifetime(NOT_CONFIGURED).build();
         Clock clock = Clock.systemUTC();
         NettyChannelHealthChecker healthChecker = newHealthChecker(settings, clock);
 
@@ -170,13 +154,88 @@ class NettyChannelHealthCheckerTest {
         testActiveConnectionCheck(false);
     }
 
+    @Test
+    void shouldProbeChannelsIdleForBackgroundTestInterval() {
+        FakeClock clock = new FakeClock();
+        NettyChannelHealthChecker healthChecker = newHealthChecker(newBackgroundTestSettings(1000), clock);
+        setCreationTimestamp(channel, clock.millis());
+        setLastUsedTimestamp(channel, clock.millis());
+
+        assertEquals(500, healthChecker.probeIntervalMillis());
+        clock.progress(499);
+        assertFalse(healthChecker.needsProbe(channel));
+        clock.progress(1);
+        assertTrue(healthChecker.needsProbe(channel));
+    }
+
+    @Test
+    void shouldProbeNeverUsedChannelsIdleSinceCreation() {
+        FakeClock clock = new FakeClock();
+        NettyChannelHealthChecker healthChecker = newHealthChecker(newBackgroundTestSettings(1000), clock);
+        setCreationTimestamp(channel, clock.millis());
+
+        assertFalse(healthChecker.needsProbe(channel));
+        clock.progress(500);
+        assertTrue(healthChecker.needsProbe(channel));
+    }
+
+    @Test
+    void shouldMarkChannelUsedWhenProbeSucceeds() {
+        FakeClock clock = new FakeClock();
+        NettyChannelHealthChecker healthChecker = newHealthChecker(newBackgroundTestSettings(1000), clock);
+        setCreationTimestamp(channel, clock.millis());
+        setLastUsedTimestamp(channel, clock.millis());
+        clock.progress(1000);
+
+        Future<Boolean> healthy = healthChecker.probe(channel);
+        assertEquals(ResetMessage.RESET, single(channel.outboundMessages()));
+        dispatcher.handleSuccessMessage(Collections.<String, Value>emptyMap());
+
+        assertThat(await(healthy), is(true));
+        assertEquals(clock.millis(), lastUsedTimestamp(channel).longValue());
+        assertFalse(healthChecker.needsProbe(channel));
+    }
+
+    @Test
+    void shouldNotMarkChannelUsedWhenProbeFails() {
+        FakeClock clock = new FakeClock();
+        NettyChannelHealthChecker healthChecker = newHealthChecker(newBackgroundTestSettings(1000), clock);
+        setCreationTimestamp(channel, clock.millis());
+        setLastUsedTimestamp(channel, clock.millis());
+        clock.progress(1000);
+
+        Future<Boolean> healthy = healthChecker.probe(channel);
+        dispatcher.handleFailureMessage("Neo.ClientError.General.Unknown", "Error!");
+
+        assertThat(await(healthy), is(false));
+        assertTrue(healthChecker.needsProbe(channel));
+    }
+
+    @Test
+    void shouldFailProbeOfTooOldChannelsWithoutPing() {
+        int maxLifetime = 1000;
+        FakeClock clock = new FakeClock();
+        PoolSettings settings = PoolSettings.builder()
+                .withMaxConnectionLifetime(maxLifetime)
+                .withIdleTimeBeforeConnectionTest(60_000)
+                .withBackgroundConnectionTest(true)
+                .build();
+        NettyChannelHealthChecker healthChecker = newHealthChecker(settings, clock);
+        setCreationTimestamp(channel, clock.millis());
+        setLastUsedTimestamp(channel, clock.millis());
+        clock.progress(maxLifetime + 1);
+
+        assertTrue(healthChecker.needsProbe(channel));
+        assertThat(await(healthChecker.probe(channel)), is(false));
+        assertTrue(channel.outboundMessages().isEmpty());
+    }
+
     private void testPing(boolean resetMessageSuccessful) {
         int idleTimeBeforeConnectionTest = 1000;
-        PoolSettings settings = new PoolSettings(
-                DEFAULT_MAX_CONNECTION_POOL_SIZE,
-                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT,
-                NOT_CONFIGURED,
-                idleTimeBeforeConnectionTest);
+        PoolSettings settings = PoolSettings.builder()
+                .withMaxConnectionLifetime(NOT_CONFIGURED)
+                .withIdleTimeBeforeConnectionTest(idleTimeBeforeConnectionTest)
+                .build();
         Clock clock = Clock.systemUTC();
         NettyChannelHealthChecker healthChecker = newHealthChecker(settings, clock);
 
@@ -198,11 +257,7 @@ class NettyChannelHealthCheckerTest {
     }
 
     private void testActiveConnectionCheck(boolean channelActive) {
-        PoolSettings settings = new PoolSettings(
-                DEFAULT_MAX_CONNECTION_POOL_SIZE,
-                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT,
-                NOT_CONFIGURED,
-                DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST);
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionLifetime(NOT_CONFIGURED).build();
         Clock clock = Clock.systemUTC();
         NettyChannelHealthChecker healthChecker = newHealthChecker(settings, clock);
 
@@ -218,6 +273,14 @@ class NettyChannelHealthCheckerTest {
         }
     }
 
+    private static PoolSettings newBackgroundTestSettings(long idleTimeBeforeConnectionTest) {
+        return PoolSettings.builder()
+                .withMaxConnectionLifetime(NOT_CONFIGURED)
+                .withIdleTimeBeforeConnectionTest(idleTimeBeforeConnectionTest)
+                .withBackgroundConnectionTest(true)
+                .build();
+    }
+
     private NettyChannelHealthChecker newHealthChecker(PoolSettings settings, Clock clock) {
         return new NettyChannelHealthChecker(settings, clock, DEV_NULL_LOGGING);
     }
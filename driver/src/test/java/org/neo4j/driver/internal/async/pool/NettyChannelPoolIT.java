@@ -21,10 +21,12 @@ package org.neo4j.driver.internal.async.pool;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
@@ -33,8 +35,10 @@ import static org.neo4j.driver.testutil.TestUtil.await;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelHealthChecker;
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -162,21 +166,96 @@ class NettyChannelPoolIT {
         assertEquals(2, tracker.inUseChannelCount(neo4j.address()));
     }
 
+    @Test
+    void shouldCreateIdleChannelWithoutAcquiringIt() throws Exception {
+        NettyChannelTracker tracker = new NettyChannelTracker(
+                DevNullMetricsListener.INSTANCE, new ImmediateSchedulingEventExecutor(), DEV_NULL_LOGGING);
+
+        poolHandler = tracker;
+        pool = newPool(neo4j.authToken(), 1);
+
+        await(pool.createIdleChannel());
+        assertEquals(0, tracker.inUseChannelCount(neo4j.address()));
+        assertEquals(1, tracker.idleChannelCount(neo4j.address()));
+
+        Channel channel = acquire(pool);
+        assertTrue(channel.isActive());
+        assertEquals(1, tracker.inUseChannelCount(neo4j.address()));
+        assertEquals(0, tracker.idleChannelCount(neo4j.address()));
+    }
+
+    @Test
+    void shouldTestIdleChannelsInBackground() throws Exception {
+        pool = newPool(neo4j.authToken(), newBackgroundHealthChecker(PoolSettings.NOT_CONFIGURED));
+
+        Channel channel = acquire(pool);
+        release(channel);
+
+        verify(poolHandler, timeout(10_000).atLeastOnce()).channelProbed(channel);
+        verify(poolHandler, never()).channelEvicted(channel);
+        assertTrue(channel.isActive());
+        assertEquals(channel, acquire(pool));
+    }
+
+    @Test
+    void shouldEvictIdleChannelsFailingBackgroundTest() throws Exception {
+        // channels are created with a fake clock and hence always exceed the maximum lifetime
+        pool = newPool(neo4j.authToken(), newBackgroundHealthChecker(1));
+
+        Channel channel = acquire(pool);
+        release(channel);
+
+        verify(poolHandler, timeout(10_000)).channelEvicted(channel);
+        assertTrue(channel.closeFuture().await(10, TimeUnit.SECONDS));
+    }
+
+    private static NettyChannelHealthChecker newBackgroundHealthChecker(long maxConnectionLifetime) {
+        PoolSettings settings = PoolSettings.builder()
+                .withMaxConnectionPoolSize(100)
+                .withConnectionAcquisitionTimeout(1_000)
+                .withMaxConnectionLifetime(maxConnectionLifetime)
+                .withIdleTimeBeforeConnectionTest(100)
+                .withBackgroundConnectionTest(true)
+                .build();
+        return new NettyChannelHealthChecker(settings, Clock.systemUTC(), DEV_NULL_LOGGING);
+    }
+
     private NettyChannelPool newPool(AuthToken authToken) {
         return newPool(authToken, 100);
     }
 
     private NettyChannelPool newPool(AuthToken authToken, int maxConnections) {
+        return new NettyChannelPool(
+                neo4j.address(),
+                newConnector(authToken),
+                bootstrap,
+                poolHandler,
+                ChannelHealthChecker.ACTIVE,
+                1_000,
+                maxConnections);
+    }
+
+    private NettyChannelPool newPool(AuthToken authToken, NettyChannelHealthChecker backgroundHealthCheck) {
+        return new NettyChannelPool(
+                neo4j.address(),
+                newConnector(authToken),
+                bootstrap,
+                poolHandler,
+                ChannelHealthChecker.ACTIVE,
+                backgroundHealthCheck,
+                1_000,
+                100);
+    }
+
+    private static ChannelConnectorImpl newConnector(AuthToken authToken) {
         ConnectionSettings settings = new ConnectionSettings(authToken, "test", 5_000);
-        ChannelConnectorImpl connector = new ChannelConnectorImpl(
+        return new ChannelConnectorImpl(
                 settings,
                 SecurityPlanImpl.insecure(),
                 DEV_NULL_LOGGING,
                 new FakeClock(),
                 RoutingContext.EMPTY,
                 DefaultDomainNameResolver.getInstance());
-        return new NettyChannelPool(
-                neo4j.address(), connector, bootstrap, poolHandler, ChannelHealthChecker.ACTIVE, 1_000, maxConnections);
     }
 
     private static Channel acquire(NettyChannelPool pool) throws Exception {
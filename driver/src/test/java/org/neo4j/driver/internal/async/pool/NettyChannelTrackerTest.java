@@ -18,22 +18,35 @@
  */
 package org.neo4j.driver.internal.async.pool;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setProtocolVersion;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setStringCache;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 
 import io.netty.channel.Channel;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.group.ChannelGroup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.bouncycastle.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.internal.BoltServerAddress;
@@ -41,6 +54,9 @@ import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.request.GoodbyeMessage;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.packstream.StringCache;
+import org.neo4j.driver.internal.spi.ResponseHandler;
 
 class NettyChannelTrackerTest {
     private final BoltServerAddress address = BoltServerAddress.LOCAL_DEFAULT;
@@ -210,6 +226,102 @@ class NettyChannelTrackerTest {
         assertThat(anotherChannel.outboundMessages(), hasItem(GoodbyeMessage.GOODBYE));
     }
 
+    @Test
+    void shouldReportStringCacheLookupsWhenChannelReleased() {
+        MetricsListener metricsListener = mock(MetricsListener.class);
+        NettyChannelTracker tracker =
+                new NettyChannelTracker(metricsListener, mock(ChannelGroup.class), DEV_NULL_LOGGING);
+        Channel channel = newChannel();
+        setPoolId(channel, "pool");
+        StringCache cache = new StringCache();
+        setStringCache(channel, cache);
+        tracker.channelCreated(channel, null);
+        tracker.channelAcquired(channel);
+
+        byte[] key = "name".getBytes(UTF_8);
+        cache.get(key, 0, key.length);
+        cache.get(key, 0, key.length);
+        cache.get(key, 0, key.length);
+        tracker.channelReleased(channel);
+
+        verify(metricsListener).afterStringCacheLookups("pool", 2, 1);
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    void shouldNotReportStringCacheLookupsWhenThereWereNone() {
+        MetricsListener metricsListener = mock(MetricsListener.class);
+        NettyChannelTracker tracker =
+                new NettyChannelTracker(metricsListener, mock(ChannelGroup.class), DEV_NULL_LOGGING);
+        Channel channel = newChannel();
+        setPoolId(channel, "pool");
+        setStringCache(channel, new StringCache());
+        tracker.channelCreated(channel, null);
+        tracker.channelAcquired(channel);
+
+        tracker.channelReleased(channel);
+
+        verify(metricsListener, never()).afterStringCacheLookups("pool", 0, 0);
+    }
+
+    @Test
+    void shouldTrackResponseTimesWhenConfigured() throws Exception {
+        NettyChannelTracker tracker = new NettyChannelTracker(
+                DevNullMetricsListener.INSTANCE, mock(ChannelGroup.class), true, DEV_NULL_LOGGING);
+        Channel channel = newChannel();
+        InboundMessageDispatcher dispatcher = new InboundMessageDispatcher(channel, DEV_NULL_LOGGING);
+        setMessageDispatcher(channel, dispatcher);
+        tracker.channelCreated(channel, null);
+        assertEquals(0, tracker.averageResponseTime(address));
+
+        dispatcher.enqueue(mock(ResponseHandler.class));
+        Thread.sleep(5);
+        dispatcher.handleSuccessMessage(emptyMap());
+
+        assertThat(tracker.averageResponseTime(address), greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5)));
+    }
+
+    @Test
+    void shouldNotTrackResponseTimesByDefault() {
+        Channel channel = newChannel();
+        InboundMessageDispatcher dispatcher = mock(InboundMessageDispatcher.class);
+        setMessageDispatcher(channel, dispatcher);
+
+        tracker.channelCreated(channel, null);
+
+        verify(dispatcher, never()).setResponseTimeListener(any());
+        assertEquals(0, tracker.averageResponseTime(address));
+    }
+
+    @Test
+    void shouldKeepCountsConsistentWhenUsedConcurrently() throws Throwable {
+        int threadCount = 8;
+        int iterations = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                Channel channel = newChannel();
+                tracker.channelCreated(channel, null);
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < iterations; j++) {
+                        tracker.channelAcquired(channel);
+                        tracker.channelReleased(channel);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, tracker.inUseChannelCount(address));
+        assertEquals(threadCount, tracker.idleChannelCount(address));
+    }
+
     private Channel newChannel() {
         EmbeddedChannel channel = new EmbeddedChannel();
         setServerAddress(channel, address);
@@ -27,7 +27,7 @@ import org.junit.jupiter.api.Test;
 class PoolSettingsTest {
     @Test
     void idleTimeBeforeConnectionTestWhenConfigured() {
-        PoolSettings settings = new PoolSettings(5, -1, 10, 42);
+        PoolSettings settings = PoolSettings.builder().withIdleTimeBeforeConnectionTest(42).build();
         assertTrue(settings.idleTimeBeforeConnectionTestEnabled());
         assertEquals(42, settings.idleTimeBeforeConnectionTest());
     }
@@ -35,7 +35,7 @@ class PoolSettingsTest {
     @Test
     void idleTimeBeforeConnectionTestWhenSetToZero() {
         // Always test idle time during acquisition
-        PoolSettings settings = new PoolSettings(5, -1, 10, 0);
+        PoolSettings settings = PoolSettings.builder().withIdleTimeBeforeConnectionTest(0).build();
         assertTrue(settings.idleTimeBeforeConnectionTestEnabled());
         assertEquals(0, settings.idleTimeBeforeConnectionTest());
     }
@@ -50,7 +50,7 @@ class PoolSettingsTest {
 
     @Test
     void maxConnectionLifetimeWhenConfigured() {
-        PoolSettings settings = new PoolSettings(5, -1, 42, 10);
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionLifetime(42).build();
         assertTrue(settings.maxConnectionLifetimeEnabled());
         assertEquals(42, settings.maxConnectionLifetime());
     }
@@ -63,13 +63,73 @@ class PoolSettingsTest {
         testMaxConnectionLifetimeWithIllegalValue(Integer.MIN_VALUE);
     }
 
+    @Test
+    void minIdleConnectionsDisabledByDefault() {
+        PoolSettings settings = PoolSettings.builder().build();
+        assertFalse(settings.minIdleConnectionsEnabled());
+        assertEquals(0, settings.minIdleConnections());
+    }
+
+    @Test
+    void minIdleConnectionsWhenConfigured() {
+        PoolSettings settings = PoolSettings.builder().withMinIdleConnections(3).build();
+        assertTrue(settings.minIdleConnectionsEnabled());
+        assertEquals(3, settings.minIdleConnections());
+    }
+
+    @Test
+    void minIdleConnectionsLimitedByMaxConnectionPoolSize() {
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionPoolSize(5).withMinIdleConnections(42).build();
+        assertEquals(5, settings.minIdleConnections());
+    }
+
+    @Test
+    void backgroundConnectionTestWhenConfigured() {
+        PoolSettings settings = PoolSettings.builder()
+                .withIdleTimeBeforeConnectionTest(42)
+                .withBackgroundConnectionTest(true)
+                .build();
+        assertTrue(settings.backgroundConnectionTestEnabled());
+        assertEquals(21, settings.backgroundConnectionTestInterval());
+    }
+
+    @Test
+    void backgroundConnectionTestDisabledByDefault() {
+        PoolSettings settings = PoolSettings.builder().withIdleTimeBeforeConnectionTest(42).build();
+        assertFalse(settings.backgroundConnectionTestEnabled());
+    }
+
+    @Test
+    void backgroundConnectionTestDisabledWhenIdleTimeBeforeConnectionTestIsNotPositive() {
+        assertFalse(PoolSettings.builder()
+                .withIdleTimeBeforeConnectionTest(0)
+                .withBackgroundConnectionTest(true)
+                .build()
+                .backgroundConnectionTestEnabled());
+        assertFalse(PoolSettings.builder()
+                .withIdleTimeBeforeConnectionTest(-1)
+                .withBackgroundConnectionTest(true)
+                .build()
+                .backgroundConnectionTestEnabled());
+    }
+
+    @Test
+    void responseTimesNotTrackedByDefault() {
+        assertFalse(PoolSettings.builder().withIdleTimeBeforeConnectionTest(42).build().trackResponseTimes());
+    }
+
+    @Test
+    void responseTimesTrackedWhenConfigured() {
+        assertTrue(PoolSettings.builder().withResponseTimeTracking(true).build().trackResponseTimes());
+    }
+
     private static void testIdleTimeBeforeConnectionTestWithIllegalValue(int value) {
-        PoolSettings settings = new PoolSettings(5, -1, 10, value);
+        PoolSettings settings = PoolSettings.builder().withIdleTimeBeforeConnectionTest(value).build();
         assertFalse(settings.idleTimeBeforeConnectionTestEnabled());
     }
 
     private static void testMaxConnectionLifetimeWithIllegalValue(int value) {
-        PoolSettings settings = new PoolSettings(5, -1, value, 10);
+        PoolSettings settings = PoolSettings.builder().withMaxConnectionLifetime(value).build();
         assertFalse(settings.maxConnectionLifetimeEnabled());
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ResponseTimeAverageTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldBeZeroWithoutSamples() {
+        assertEquals(0, new ResponseTimeAverage().nanos());
+    }
+
+    @Test
+    void shouldUseFirstSampleAsAverage() {
+        ResponseTimeAverage average = new ResponseTimeAverage();
+
+        average.update(1000, 42 * SECOND);
+
+        assertEquals(1000, average.nanos(42 * SECOND));
+    }
+
+    @Test
+    void shouldWeighSamplesByElapsedTime() {
+        ResponseTimeAverage average = new ResponseTimeAverage();
+        average.update(1000, 42 * SECOND);
+
+        // one decay period weighs the previous average by 1/e
+        average.update(2000, 43 * SECOND);
+        assertEquals(Math.round(1000 * Math.exp(-1) + 2000 * (1 - Math.exp(-1))), average.nanos(43 * SECOND));
+    }
+
+    @Test
+    void shouldKeepAverageForSimultaneousSamples() {
+        ResponseTimeAverage average = new ResponseTimeAverage();
+        average.update(1000, 42 * SECOND);
+
+        average.update(9000, 42 * SECOND);
+
+        assertEquals(1000, average.nanos(42 * SECOND));
+    }
+
+    @Test
+    void shouldForgetOldSamples() {
+        ResponseTimeAverage average = new ResponseTimeAverage();
+        average.update(1_000_000, 42 * SECOND);
+
+        average.update(1000, 142 * SECOND);
+
+        assertEquals(1000, average.nanos(142 * SECOND));
+    }
+
+    @Test
+    void shouldDecayTowardsZeroWithoutSamples() {
+        ResponseTimeAverage average = new ResponseTimeAverage();
+        average.update(1000, 42 * SECOND);
+
+        assertEquals(Math.round(1000 * Math.exp(-1)), average.nanos(43 * SECOND));
+        assertEquals(0, average.nanos(142 * SECOND));
+    }
+
+    @Test
+    void shouldMakeServerWithResponseTimeSpikeSelectableAgain() {
+        ResponseTimeAverage steady = new ResponseTimeAverage();
+        ResponseTimeAverage spiked = new ResponseTimeAverage();
+        spiked.update(SECOND, 42 * SECOND);
+
+        long now = 42 * SECOND;
+        steady.update(1_000_000, now);
+        assertTrue(spiked.nanos(now) > steady.nanos(now));
+
+        // the spiked server receives no requests while the steady one keeps responding within a millisecond
+        for (int i = 0; i < 10; i++) {
+            now += SECOND;
+            steady.update(1_000_000, now);
+        }
+
+        assertTrue(spiked.nanos(now) < steady.nanos(now));
+    }
+}
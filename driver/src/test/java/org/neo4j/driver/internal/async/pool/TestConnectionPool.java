@@ -96,6 +96,19 @@ public class TestConnectionPool extends ConnectionPoolImpl {
                 return completedWithNull();
             }
 
+            @Override
+            public CompletionStage<Void> createIdleChannel() {
+                EmbeddedChannel channel = new EmbeddedChannel();
+                setServerAddress(channel, address);
+                setPoolId(channel, id());
+
+                ListenerEvent<?> event = nettyChannelTracker.channelCreating(id());
+                nettyChannelTracker.channelCreated(channel, event);
+                nettyChannelTracker.channelOffered(channel);
+
+                return completedWithNull();
+            }
+
             @Override
             public boolean isClosed() {
                 return isClosed.get();
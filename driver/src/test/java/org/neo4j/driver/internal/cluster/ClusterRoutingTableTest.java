@@ -23,6 +23,8 @@ import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.AccessMode.WRITE;
@@ -40,6 +42,7 @@ import static org.neo4j.driver.internal.util.ClusterCompositionUtil.createCluste
 import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -62,6 +65,87 @@ class ClusterRoutingTableTest {
         assertTrue(routingTable.isStaleFor(WRITE));
     }
 
+    @Test
+    void shouldNotBeDueForRefreshBeforeExpiryByDefault() {
+        // Given
+        FakeClock clock = new FakeClock();
+        RoutingTable routingTable = newRoutingTable(clock);
+
+        // When
+        routingTable.update(createClusterComposition(1000, asList(A, B), asList(C), asList(D, E)));
+        clock.progress(999);
+
+        // Then
+        assertFalse(routingTable.isDueForRefresh());
+    }
+
+    @Test
+    void shouldBeDueForRefreshAfterRefreshFractionOfTtl() {
+        // Given
+        FakeClock clock = new FakeClock();
+        RoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), clock, 0.8);
+
+        // When
+        routingTable.update(createClusterComposition(1000, asList(A, B), asList(C), asList(D, E)));
+
+        // Then
+        clock.progress(719);
+        assertFalse(routingTable.isDueForRefresh());
+        clock.progress(81);
+        assertTrue(routingTable.isDueForRefresh());
+        assertFalse(routingTable.isStaleFor(READ));
+        clock.progress(201);
+        assertFalse(routingTable.isDueForRefresh());
+        assertTrue(routingTable.isStaleFor(READ));
+    }
+
+    @Test
+    void shouldPostponeRefreshAfterFailedRefreshes() {
+        // Given
+        FakeClock clock = new FakeClock();
+        RoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), clock, 0.5);
+        routingTable.update(createClusterComposition(1000, asList(A, B), asList(C), asList(D, E)));
+        clock.progress(500);
+        assertTrue(routingTable.isDueForRefresh());
+
+        // When
+        routingTable.postponeRefresh();
+
+        // Then
+        assertFalse(routingTable.isDueForRefresh());
+        clock.progress(250);
+        assertTrue(routingTable.isDueForRefresh());
+
+        routingTable.postponeRefresh();
+        clock.progress(125);
+        assertTrue(routingTable.isDueForRefresh());
+
+        // only refreshed on expiry after too many failed refreshes
+        routingTable.postponeRefresh();
+        assertFalse(routingTable.isDueForRefresh());
+        clock.progress(124);
+        assertFalse(routingTable.isDueForRefresh());
+        assertFalse(routingTable.isStaleFor(READ));
+    }
+
+    @Test
+    void shouldResetFailedRefreshesOnUpdate() {
+        // Given
+        FakeClock clock = new FakeClock();
+        RoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), clock, 0.5);
+        routingTable.update(createClusterComposition(1000, asList(A, B), asList(C), asList(D, E)));
+        routingTable.postponeRefresh();
+        routingTable.postponeRefresh();
+        routingTable.postponeRefresh();
+
+        // When
+        routingTable.update(createClusterComposition(1000, asList(A, B), asList(C), asList(D, E)));
+
+        // Then
+        clock.progress(500);
+        assertTrue(routingTable.isDueForRefresh());
+    }
+
     @Test
     void shouldReturnStaleIfNoRouter() {
         // Given
@@ -203,6 +287,27 @@ class ClusterRoutingTableTest {
         assertFalse(routingTable.isStaleFor(WRITE));
     }
 
+    @Test
+    void shouldReturnSameAddressesUntilChanged() {
+        RoutingTable routingTable = newRoutingTable();
+        routingTable.update(createClusterComposition(asList(A, B), asList(C), asList(D, E)));
+
+        List<BoltServerAddress> readers = routingTable.readers();
+        Set<BoltServerAddress> servers = routingTable.servers();
+        assertSame(readers, routingTable.readers());
+        assertSame(servers, routingTable.servers());
+        assertEquals(Set.of(A, B, C, D, E), servers);
+
+        routingTable.forget(F);
+        assertSame(readers, routingTable.readers());
+
+        routingTable.forget(D);
+        assertNotSame(readers, routingTable.readers());
+        assertEquals(Set.of(A, B, C, D, E, F), routingTable.servers());
+        assertEquals(Set.of(A, B, C, D, E), servers);
+        assertEquals(singletonList(E), routingTable.readers());
+    }
+
     @Test
     void shouldHaveBeStaleForExpiredTime() throws Throwable {
         ClusterRoutingTable routingTable = newRoutingTable(Clock.systemUTC());
@@ -30,6 +30,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.READ;
@@ -55,6 +56,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.AccessMode;
@@ -124,6 +126,75 @@ class RoutingTableHandlerTest {
                 new BoltServerAddress[] {router1}, routingTable.routers().toArray());
     }
 
+    @Test
+    void shouldRefreshRoutingTableInBackgroundWhenDueForRefresh() {
+        FakeClock clock = new FakeClock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), clock, 0.5);
+        routingTable.update(new ClusterComposition(1000, asOrderedSet(A), asOrderedSet(B), asOrderedSet(C), null));
+        clock.progress(600);
+
+        CompletableFuture<ClusterCompositionLookupResult> lookupFuture = new CompletableFuture<>();
+        Rediscovery rediscovery = newRediscoveryMock();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any())).thenReturn(lookupFuture);
+        RoutingTableHandler handler = newRoutingTableHandler(routingTable, rediscovery, newConnectionPoolMock());
+
+        // the current routing table is used while the refresh is in progress
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+        verify(rediscovery, times(1)).lookupClusterComposition(any(), any(), any(), any());
+
+        lookupFuture.complete(new ClusterCompositionLookupResult(
+                new ClusterComposition(2000, asOrderedSet(D), asOrderedSet(E), asOrderedSet(F), null)));
+
+        assertEquals(2000, routingTable.expirationTimestamp());
+        assertArrayEquals(new BoltServerAddress[] {D}, routingTable.readers().toArray());
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+        verify(rediscovery, times(1)).lookupClusterComposition(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldKeepRoutingTableWhenBackgroundRefreshFails() {
+        FakeClock clock = new FakeClock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), clock, 0.5);
+        routingTable.update(new ClusterComposition(1000, asOrderedSet(A), asOrderedSet(B), asOrderedSet(C), null));
+        clock.progress(600);
+
+        Rediscovery rediscovery = newRediscoveryMock();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any()))
+                .thenReturn(Futures.failedFuture(new ServiceUnavailableException("Bye!")));
+        RoutingTableRegistry registry = newRoutingTableRegistryMock();
+        RoutingTableHandler handler =
+                newRoutingTableHandler(routingTable, rediscovery, newConnectionPoolMock(), registry);
+
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+
+        verify(registry, never()).remove(any());
+        assertEquals(1000, routingTable.expirationTimestamp());
+        assertArrayEquals(new BoltServerAddress[] {A}, routingTable.readers().toArray());
+    }
+
+    @Test
+    void shouldPostponeBackgroundRefreshAfterFailure() {
+        FakeClock clock = new FakeClock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), clock, 0.5);
+        routingTable.update(new ClusterComposition(1000, asOrderedSet(A), asOrderedSet(B), asOrderedSet(C), null));
+        clock.progress(600);
+
+        Rediscovery rediscovery = newRediscoveryMock();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any()))
+                .thenReturn(Futures.failedFuture(new ServiceUnavailableException("Bye!")));
+        RoutingTableHandler handler = newRoutingTableHandler(routingTable, rediscovery, newConnectionPoolMock());
+
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+        verify(rediscovery, times(1)).lookupClusterComposition(any(), any(), any(), any());
+
+        // the next attempt is made after the refresh fraction of the remaining time to live
+        clock.progress(200);
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+        verify(rediscovery, times(2)).lookupClusterComposition(any(), any(), any(), any());
+    }
+
     @Test
     void shouldRediscoverOnReadWhenRoutingTableIsStaleForReads() {
         testRediscoveryWhenStale(READ);
@@ -187,6 +258,7 @@ class RoutingTableHandlerTest {
         assertEquals(routingTable, actual);
 
         verify(connectionPool).retainAll(new HashSet<>(asList(A, B, C)));
+        verify(connectionPool).warmUp(new HashSet<>(asList(A, B, C)));
     }
 
     @Test
@@ -220,7 +292,8 @@ class RoutingTableHandlerTest {
         RoutingTable actual = await(handler.ensureRoutingTable(contextWithMode(mode)));
         assertEquals(routingTable, actual);
 
-        verify(routingTable).isStaleFor(mode);
+        // checked again under the lock of the handler
+        verify(routingTable, times(2)).isStaleFor(mode);
         verify(rediscovery).lookupClusterComposition(eq(routingTable), eq(connectionPool), any(), any());
     }
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+class LeastResponseTimeLoadBalancingStrategyTest {
+    private final BoltServerAddress fast = new BoltServerAddress("fast", 9999);
+    private final BoltServerAddress slow = new BoltServerAddress("slow", 9999);
+
+    @Mock
+    private ConnectionPool connectionPool;
+
+    private LeastResponseTimeLoadBalancingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        openMocks(this);
+        strategy = new LeastResponseTimeLoadBalancingStrategy(connectionPool, DEV_NULL_LOGGING);
+    }
+
+    @Test
+    void shouldHandleEmptyReaders() {
+        assertNull(strategy.selectReader(Collections.emptyList()));
+    }
+
+    @Test
+    void shouldHandleEmptyWriters() {
+        assertNull(strategy.selectWriter(Collections.emptyList()));
+    }
+
+    @Test
+    void shouldHandleSingleReader() {
+        when(connectionPool.averageResponseTime(slow)).thenReturn(1_000_000L);
+
+        assertEquals(slow, strategy.selectReader(Collections.singletonList(slow)));
+    }
+
+    @Test
+    void shouldHandleSingleWriter() {
+        when(connectionPool.averageResponseTime(slow)).thenReturn(1_000_000L);
+
+        assertEquals(slow, strategy.selectWriter(Collections.singletonList(slow)));
+    }
+
+    @Test
+    void shouldSelectReaderWithLowerResponseTime() {
+        when(connectionPool.averageResponseTime(fast)).thenReturn(1_000_000L);
+        when(connectionPool.averageResponseTime(slow)).thenReturn(50_000_000L);
+
+        List<BoltServerAddress> readers = Arrays.asList(slow, fast);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(fast, strategy.selectReader(readers));
+        }
+    }
+
+    @Test
+    void shouldSelectWriterWithLowerResponseTime() {
+        when(connectionPool.averageResponseTime(fast)).thenReturn(1_000_000L);
+        when(connectionPool.averageResponseTime(slow)).thenReturn(50_000_000L);
+
+        List<BoltServerAddress> writers = Arrays.asList(slow, fast);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(fast, strategy.selectWriter(writers));
+        }
+    }
+
+    @Test
+    void shouldWeighResponseTimeByActiveConnections() {
+        when(connectionPool.averageResponseTime(fast)).thenReturn(1_000_000L);
+        when(connectionPool.inUseConnections(fast)).thenReturn(9);
+        when(connectionPool.averageResponseTime(slow)).thenReturn(2_000_000L);
+        when(connectionPool.inUseConnections(slow)).thenReturn(1);
+
+        List<BoltServerAddress> readers = Arrays.asList(fast, slow);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(slow, strategy.selectReader(readers));
+        }
+    }
+
+    @Test
+    void shouldPreferAddressWithoutMeasuredResponseTime() {
+        when(connectionPool.averageResponseTime(fast)).thenReturn(1_000_000L);
+
+        List<BoltServerAddress> readers = Arrays.asList(fast, slow);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(slow, strategy.selectReader(readers));
+        }
+    }
+
+    @Test
+    void shouldSelectAmongAllAddresses() {
+        List<BoltServerAddress> readers = Arrays.asList(
+                new BoltServerAddress("reader1", 9999),
+                new BoltServerAddress("reader2", 9999),
+                new BoltServerAddress("reader3", 9999));
+
+        // without measurements the first of the two random picks wins, so every address is selected eventually
+        for (BoltServerAddress reader : readers) {
+            boolean selected = false;
+            for (int i = 0; i < 1000 && !selected; i++) {
+                selected = reader.equals(strategy.selectReader(readers));
+            }
+            assertTrue(selected, "never selected " + reader);
+        }
+    }
+}
@@ -311,7 +311,12 @@ class RoutingTableAndConnectionPoolTest {
 
     private ConnectionPool newConnectionPool() {
         MetricsListener metrics = DevNullMetricsListener.INSTANCE;
-        PoolSettings poolSettings = new PoolSettings(10, 5000, -1, -1);
+        PoolSettings poolSettings = PoolSettings.builder()
+                .withMaxConnectionPoolSize(10)
+                .withConnectionAcquisitionTimeout(5000)
+                .withMaxConnectionLifetime(-1)
+                .withIdleTimeBeforeConnectionTest(-1)
+                .build();
         Bootstrap bootstrap = BootstrapFactory.newBootstrap(1);
         NettyChannelTracker channelTracker =
                 new NettyChannelTracker(metrics, bootstrap.config().group().next(), logging);
@@ -47,6 +47,7 @@ class DisposableAsyncResultCursorTest {
         when(delegate.discardAllFailureAsync()).thenReturn(Futures.completedWithNull());
         when(delegate.peekAsync()).thenReturn(Futures.completedWithNull());
         when(delegate.nextAsync()).thenReturn(Futures.completedWithNull());
+        when(delegate.nextBatchAsync()).thenReturn(Futures.completedWithNull());
         when(delegate.singleAsync()).thenReturn(Futures.completedWithNull());
         when(delegate.forEachAsync(any())).thenReturn(Futures.completedWithNull());
         when(delegate.listAsync()).thenReturn(Futures.completedWithNull());
@@ -81,6 +82,7 @@ class DisposableAsyncResultCursorTest {
         cursor.keys();
         await(cursor.peekAsync());
         await(cursor.nextAsync());
+        await(cursor.nextBatchAsync());
         await(cursor.singleAsync());
         await(cursor.forEachAsync(record -> {}));
         await(cursor.listAsync());
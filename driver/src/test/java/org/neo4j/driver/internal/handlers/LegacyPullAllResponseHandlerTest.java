@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.Values.values;
 import static org.neo4j.driver.testutil.TestUtil.await;
@@ -57,6 +58,35 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
         verify(connection).disableAutoRead();
     }
 
+    @Test
+    void shouldDisableAutoReadWhenResultBufferIsFull() {
+        Connection connection = connectionMock();
+        when(connection.resultBufferLimits()).thenReturn(new ResultBufferLimits(1000, ResultBufferLimits.UNLIMITED));
+        LegacyPullAllResponseHandler handler = newHandler(asList("key1", "key2"), connection);
+
+        receiveRecords(handler, 100, 10);
+        verify(connection, never()).disableAutoRead();
+
+        receiveRecords(handler, 100, 1);
+        verify(connection).disableAutoRead();
+    }
+
+    @Test
+    void shouldEnableAutoReadWhenResultBufferIsDrained() {
+        Connection connection = connectionMock();
+        when(connection.resultBufferLimits()).thenReturn(new ResultBufferLimits(1000, ResultBufferLimits.UNLIMITED));
+        LegacyPullAllResponseHandler handler = newHandler(asList("key1", "key2"), connection);
+
+        receiveRecords(handler, 100, 11);
+        for (int i = 0; i < 7; i++) {
+            assertNotNull(await(handler.nextAsync()));
+        }
+        verify(connection, never()).enableAutoRead();
+
+        assertNotNull(await(handler.nextAsync()));
+        verify(connection).enableAutoRead();
+    }
+
     @Test
     void shouldEnableAutoReadWhenRecordsRetrievedFromBuffer() {
         Connection connection = connectionMock();
@@ -218,6 +248,13 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
         assertNotNull(summaryFuture.get());
     }
 
+    private static void receiveRecords(LegacyPullAllResponseHandler handler, int recordSize, int count) {
+        for (int i = 0; i < count; i++) {
+            handler.onRecordSize(recordSize);
+            handler.onRecord(values(100, 200));
+        }
+    }
+
     protected LegacyPullAllResponseHandler newHandler(Query query, List<String> queryKeys, Connection connection) {
         RunResponseHandler runResponseHandler = new RunResponseHandler(
                 new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, mock(Connection.class), null);
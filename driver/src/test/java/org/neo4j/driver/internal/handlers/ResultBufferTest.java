@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.handlers.ResultBuffer.REPORTING_STEP;
+import static org.neo4j.driver.internal.handlers.ResultBufferLimits.UNLIMITED;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.spi.Connection;
+
+class ResultBufferTest {
+    @Test
+    void shouldNotBeLimitedByDefault() {
+        ResultBuffer buffer = new ResultBuffer(connection(ResultBufferLimits.NONE));
+
+        buffer.recordAdded(Integer.MAX_VALUE);
+        buffer.recordAdded(Integer.MAX_VALUE);
+
+        assertFalse(buffer.isLimited());
+        assertFalse(buffer.isFull());
+        assertTrue(buffer.hasRoom());
+    }
+
+    @Test
+    void shouldBeFullOverResultLimitUntilMostlyDrained() {
+        ResultBuffer buffer = new ResultBuffer(connection(new ResultBufferLimits(1000, UNLIMITED)));
+
+        for (int i = 0; i < 10; i++) {
+            buffer.recordAdded(100);
+        }
+        assertFalse(buffer.isFull());
+
+        buffer.recordAdded(100);
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.hasRoom());
+
+        buffer.recordsRemoved(7, 11);
+        assertEquals(400, buffer.bytes());
+        assertFalse(buffer.isFull());
+        assertFalse(buffer.hasRoom());
+
+        buffer.recordsRemoved(1, 4);
+        assertEquals(300, buffer.bytes());
+        assertTrue(buffer.hasRoom());
+    }
+
+    @Test
+    void shouldBeFullOverTotalLimitOnlyWithBufferedRecords() {
+        ResultBufferLimits limits = new ResultBufferLimits(UNLIMITED, REPORTING_STEP);
+        ResultBuffer buffer1 = new ResultBuffer(connection(limits));
+        ResultBuffer buffer2 = new ResultBuffer(connection(limits));
+
+        buffer1.recordAdded((int) REPORTING_STEP + 1);
+        assertEquals(REPORTING_STEP + 1, limits.totalBytes());
+
+        assertTrue(buffer1.isFull());
+        assertFalse(buffer2.isFull());
+        assertTrue(buffer2.hasRoom());
+
+        buffer2.recordAdded(1);
+        assertTrue(buffer2.isFull());
+
+        buffer1.clear();
+        assertEquals(0, limits.totalBytes());
+        assertTrue(buffer1.hasRoom());
+    }
+
+    @Test
+    void shouldReportBufferedBytesInSteps() {
+        Connection connection = connection(ResultBufferLimits.NONE);
+        ResultBuffer buffer = new ResultBuffer(connection);
+
+        buffer.recordAdded((int) REPORTING_STEP - 1);
+        verify(connection, never()).afterRecordBytesBuffered(REPORTING_STEP - 1);
+
+        buffer.recordAdded(1);
+        verify(connection).afterRecordBytesBuffered(REPORTING_STEP);
+
+        buffer.recordAdded(10);
+        buffer.recordsRemoved(2, 2);
+        verify(connection).afterRecordBytesBuffered(-REPORTING_STEP);
+    }
+
+    private static Connection connection(ResultBufferLimits limits) {
+        Connection connection = mock(Connection.class);
+        when(connection.resultBufferLimits()).thenReturn(limits);
+        return connection;
+    }
+}
@@ -31,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
@@ -200,6 +203,33 @@ class RunResponseHandlerTest {
         verify(connection, never()).release();
     }
 
+    @Test
+    void shouldReportTimeToFirstRecordOnce() {
+        Connection connection = mock(Connection.class);
+        RunResponseHandler handler =
+                new RunResponseHandler(new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, connection, null);
+
+        handler.recordReceived();
+        handler.recordReceived();
+        handler.recordReceived();
+
+        verify(connection).afterFirstRecord(anyLong());
+        verify(connection, never()).afterResultConsumed(anyLong());
+    }
+
+    @Test
+    void shouldReportTimeToResultConsumed() throws Exception {
+        Connection connection = mock(Connection.class);
+        RunResponseHandler handler =
+                new RunResponseHandler(new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, connection, null);
+        Thread.sleep(5);
+
+        handler.resultConsumed();
+
+        verify(connection).afterResultConsumed(longThat(nanos -> nanos >= TimeUnit.MILLISECONDS.toNanos(5)));
+        verify(connection, never()).afterFirstRecord(anyLong());
+    }
+
     private static void testResultAvailableAfterOnSuccess(String key, MetadataExtractor metadataExtractor) {
         RunResponseHandler handler = newHandler(metadataExtractor);
 
@@ -18,28 +18,46 @@
  */
 package org.neo4j.driver.internal.handlers.pulln;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.Values.values;
+import static org.neo4j.driver.internal.handlers.pulln.AutoPullResponseHandler.MIN_ADAPTIVE_FETCH_SIZE;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.ADAPTIVE_FETCH_SIZE;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.DEFAULT_FETCH_SIZE;
+import static org.neo4j.driver.internal.util.MetadataExtractor.ABSENT_QUERY_ID;
+import static org.neo4j.driver.testutil.TestUtil.await;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandlerTestBase;
 import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
+import org.neo4j.driver.internal.handlers.ResultBufferLimits;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
@@ -192,4 +210,261 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
 
         inOrder.verify(connection).writeAndFlush(any(PullMessage.class), any());
     }
+
+    @Test
+    void shouldDecodeRecordsIntoBatches() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), asList("a", "b"), connection);
+
+        CompletionStage<RecordBatch> batchStage = handler.nextBatchAsync();
+        assertFalse(batchStage.toCompletableFuture().isDone());
+
+        decodeRecord(handler, 1, 1.5);
+        decodeRecord(handler, 2, 2.5);
+        handler.onSuccess(emptyMap());
+
+        RecordBatch batch = await(batchStage);
+        assertEquals(2, batch.size());
+        assertEquals(asList("a", "b"), batch.keys());
+        assertEquals(2, batch.getLong(0, 1));
+        assertEquals(2.5, batch.getDouble(1, 1));
+        assertNull(await(handler.nextBatchAsync()));
+    }
+
+    @Test
+    void shouldNotDecodeIntoBatchesBeforeBatchesAreRequested() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), asList("a", "b"), connection);
+
+        assertNull(handler.recordBatch());
+
+        handler.onRecord(values(1, 2));
+        RecordBatch batch = await(handler.nextBatchAsync());
+
+        assertEquals(1, batch.size());
+        assertEquals(1, batch.getLong(0, 0));
+        assertNotNull(handler.recordBatch());
+    }
+
+    @Test
+    void shouldLimitBatchesToFetchSize() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, 2);
+        handler.nextBatchAsync();
+
+        Map<String, Value> metaData = new HashMap<>(1);
+        metaData.put("has_more", BooleanValue.TRUE);
+
+        decodeEmptyRecord(handler);
+        decodeEmptyRecord(handler);
+        handler.onSuccess(metaData);
+        decodeEmptyRecord(handler);
+        handler.onSuccess(emptyMap());
+
+        assertEquals(1, await(handler.nextBatchAsync()).size());
+        assertNull(await(handler.nextBatchAsync()));
+    }
+
+    @Test
+    void shouldReturnBatchedRecordsOneByOne() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), asList("a", "b"), connection);
+        CompletionStage<RecordBatch> batchStage = handler.nextBatchAsync();
+
+        Map<String, Value> metaData = new HashMap<>(1);
+        metaData.put("has_more", BooleanValue.TRUE);
+
+        decodeRecord(handler, 1, 1.5);
+        handler.onSuccess(metaData);
+        decodeRecord(handler, 2, 2.5);
+        handler.onSuccess(emptyMap());
+
+        assertEquals(1, await(batchStage).getLong(0, 0));
+        Record record = await(handler.nextAsync());
+        assertEquals(value(2), record.get("a"));
+        assertEquals(value(2.5), record.get("b"));
+        assertNull(await(handler.nextAsync()));
+    }
+
+    @Test
+    void shouldDropRecordsDecodedAfterCancel() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), asList("a", "b"), connection);
+        handler.nextBatchAsync();
+
+        InternalRecordBatch.Builder batch = handler.recordBatch();
+        handler.consumeAsync();
+        batch.startRecord(2);
+        batch.appendLong(0, 1);
+        batch.appendDouble(1, 1.5);
+        batch.endRecord();
+        handler.onBatchedRecord();
+        handler.onSuccess(emptyMap());
+
+        assertNull(await(handler.nextBatchAsync()));
+    }
+
+    @Test
+    void shouldFailBatchFutureOnFailure() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), asList("a", "b"), connection);
+        CompletionStage<RecordBatch> batchStage = handler.nextBatchAsync();
+
+        RuntimeException error = new RuntimeException("Hi!");
+        handler.onFailure(error);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> await(batchStage));
+        assertEquals(error, e);
+    }
+
+    @Test
+    void shouldGrowAdaptiveFetchSizeWhenConsumerKeepsUp() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, ADAPTIVE_FETCH_SIZE);
+
+        receiveRecords(handler, 10, 1);
+        handler.nextAsync();
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+
+        InOrder inOrder = Mockito.inOrder(connection);
+        inOrder.verify(connection).writeAndFlush(eq(pull(DEFAULT_FETCH_SIZE)), any());
+        inOrder.verify(connection).writeAndFlush(eq(pull(DEFAULT_FETCH_SIZE * 2)), any());
+    }
+
+    @Test
+    void shouldKeepAdaptiveFetchSizeWhenConsumerFallsBehind() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, ADAPTIVE_FETCH_SIZE);
+
+        receiveRecords(handler, 10, 701);
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+        verify(connection, times(1)).writeAndFlush(any(PullMessage.class), any());
+
+        for (int i = 0; i < 401; i++) {
+            handler.nextAsync();
+        }
+
+        verify(connection, times(2)).writeAndFlush(eq(pull(DEFAULT_FETCH_SIZE)), any());
+    }
+
+    @Test
+    void shouldGrowAdaptiveFetchSizeWhenConsumerWaitedForRecords() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, ADAPTIVE_FETCH_SIZE);
+
+        receiveRecords(handler, 10, 701);
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+        for (int i = 0; i < 401; i++) {
+            handler.nextAsync();
+        }
+        for (int i = 0; i < 301; i++) {
+            handler.nextAsync();
+        }
+        receiveRecords(handler, 10, 1);
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+
+        InOrder inOrder = Mockito.inOrder(connection);
+        inOrder.verify(connection, times(2)).writeAndFlush(eq(pull(DEFAULT_FETCH_SIZE)), any());
+        inOrder.verify(connection).writeAndFlush(eq(pull(DEFAULT_FETCH_SIZE * 2)), any());
+    }
+
+    @Test
+    void shouldLimitAdaptiveFetchSizeByRecordSize() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, ADAPTIVE_FETCH_SIZE);
+
+        receiveRecords(handler, 1024 * 1024, 1);
+        handler.nextAsync();
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+
+        InOrder inOrder = Mockito.inOrder(connection);
+        inOrder.verify(connection).writeAndFlush(eq(pull(DEFAULT_FETCH_SIZE)), any());
+        inOrder.verify(connection).writeAndFlush(eq(pull(MIN_ADAPTIVE_FETCH_SIZE)), any());
+    }
+
+    @Test
+    void shouldStopRequestingWhenQueuedRecordsOverByteWatermark() {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, ADAPTIVE_FETCH_SIZE);
+
+        receiveRecords(handler, 1024 * 1024, 17);
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+
+        verify(connection, times(1)).writeAndFlush(any(PullMessage.class), any());
+    }
+
+    @Test
+    void shouldDisableAutoReadWhenResultBufferIsFull() {
+        Connection connection = connectionMock();
+        when(connection.resultBufferLimits()).thenReturn(new ResultBufferLimits(1000, ResultBufferLimits.UNLIMITED));
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, 1000);
+        assertTrue(handler.canManageAutoRead());
+
+        receiveRecords(handler, 100, 10);
+        verify(connection, never()).disableAutoRead();
+
+        receiveRecords(handler, 100, 1);
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+
+        verify(connection).disableAutoRead();
+        verify(connection, times(1)).writeAndFlush(any(PullMessage.class), any());
+    }
+
+    @Test
+    void shouldEnableAutoReadAndRequestWhenResultBufferIsDrained() {
+        Connection connection = connectionMock();
+        when(connection.resultBufferLimits()).thenReturn(new ResultBufferLimits(1000, ResultBufferLimits.UNLIMITED));
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, 1000);
+
+        receiveRecords(handler, 100, 11);
+        handler.onSuccess(singletonMap("has_more", BooleanValue.TRUE));
+        for (int i = 0; i < 7; i++) {
+            handler.nextAsync();
+        }
+        verify(connection, never()).enableAutoRead();
+
+        handler.nextAsync();
+
+        verify(connection).enableAutoRead();
+        verify(connection, times(2)).writeAndFlush(any(PullMessage.class), any());
+    }
+
+    @Test
+    void shouldNotDisableAutoReadWhenAllRecordsRequested() {
+        Connection connection = connectionMock();
+        when(connection.resultBufferLimits()).thenReturn(new ResultBufferLimits(1000, ResultBufferLimits.UNLIMITED));
+        AutoPullResponseHandler handler = newHandler(new Query("RETURN 1"), connection, 1000);
+
+        handler.listAsync(record -> record);
+        receiveRecords(handler, 100, 11);
+
+        verify(connection, never()).disableAutoRead();
+    }
+
+    private static void receiveRecords(AutoPullResponseHandler handler, int recordSize, int count) {
+        for (int i = 0; i < count; i++) {
+            handler.onRecordSize(recordSize);
+            handler.onRecord(values(i));
+        }
+    }
+
+    private static PullMessage pull(long n) {
+        return new PullMessage(n, ABSENT_QUERY_ID);
+    }
+
+    private static void decodeRecord(AutoPullResponseHandler handler, long first, double second) {
+        InternalRecordBatch.Builder batch = handler.recordBatch();
+        batch.startRecord(2);
+        batch.appendLong(0, first);
+        batch.appendDouble(1, second);
+        batch.endRecord();
+        handler.onBatchedRecord();
+    }
+
+    private static void decodeEmptyRecord(AutoPullResponseHandler handler) {
+        InternalRecordBatch.Builder batch = handler.recordBatch();
+        batch.startRecord(0);
+        batch.endRecord();
+        handler.onBatchedRecord();
+    }
 }
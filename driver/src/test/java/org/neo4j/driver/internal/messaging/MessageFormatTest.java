@@ -42,10 +42,13 @@ import io.netty.channel.embedded.EmbeddedChannel;
 import java.util.HashMap;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.neo4j.driver.RecordBatch;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalRecordBatch;
 import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
 import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilderImpl;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
 import org.neo4j.driver.internal.messaging.common.CommonValueUnpacker;
@@ -55,6 +58,8 @@ import org.neo4j.driver.internal.messaging.response.RecordMessage;
 import org.neo4j.driver.internal.messaging.response.SuccessMessage;
 import org.neo4j.driver.internal.messaging.v3.MessageFormatV3;
 import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.util.QueryKeys;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
 import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
 import org.neo4j.driver.internal.util.messaging.MemorizingInboundMessageDispatcher;
 
@@ -87,6 +92,35 @@ class MessageFormatTest {
         assertOnlyDeserializesValue(filledPathValue());
     }
 
+    @Test
+    void shouldUnpackRecordFieldsIntoBatch() throws Throwable {
+        // Given
+        ByteBuf buf = Unpooled.buffer();
+        PackStream.Packer packer = new PackStream.Packer(new ByteBufOutput(buf));
+        packer.packListHeader(4);
+        packer.pack(42L);
+        packer.pack(4.2);
+        packer.packNull();
+        packer.pack("forty-two");
+
+        ByteBufInput input = new ByteBufInput();
+        input.start(buf);
+        CommonValueUnpacker unpacker = new CommonValueUnpacker(input, false);
+        InternalRecordBatch.Builder builder =
+                new InternalRecordBatch.Builder(new QueryKeys(asList("a", "b", "c", "d")), 1);
+
+        // When
+        unpacker.unpackArrayInto(builder);
+        RecordBatch batch = builder.build();
+
+        // Then
+        assertEquals(1, batch.size());
+        assertEquals(42L, batch.getLong(0, 0));
+        assertEquals(4.2, batch.getDouble(1, 0));
+        assertTrue(batch.isNull(2, 0));
+        assertEquals(value("forty-two"), batch.get(3, 0));
+    }
+
     @Test
     void shouldGiveHelpfulErrorOnMalformedNodeStruct() throws Throwable {
         // Given
@@ -37,6 +37,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -239,6 +240,28 @@ public class BoltProtocolV5Test {
         assertNull(await(stage));
     }
 
+    @Test
+    void shouldBeginTransactionWithoutFlush() {
+        Connection connection = connectionMock(protocol);
+
+        CompletionStage<Void> stage =
+                protocol.beginTransaction(connection, Collections.emptySet(), TransactionConfig.empty(), null, false);
+
+        verify(connection)
+                .write(
+                        eq(new BeginMessage(
+                                Collections.emptySet(),
+                                TransactionConfig.empty(),
+                                defaultDatabase(),
+                                WRITE,
+                                null,
+                                null)),
+                        any(BeginTxResponseHandler.class));
+        verify(connection, never()).writeAndFlush(any(), any());
+        assertTrue(stage.toCompletableFuture().isDone());
+        assertNull(await(stage));
+    }
+
     @Test
     void shouldCommitTransaction() {
         String bookmarkString = "neo4j:bookmark:v1:tx4242";
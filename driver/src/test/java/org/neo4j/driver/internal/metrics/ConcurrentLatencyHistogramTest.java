@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLatencyHistogramTest {
+    private final ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram();
+
+    @Test
+    void shouldBeEmptyInitially() {
+        assertEquals(0, histogram.count());
+        assertEquals(Duration.ZERO, histogram.max());
+        assertEquals(Duration.ZERO, histogram.percentile(0.99));
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly() {
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(50, histogram.count());
+        assertEquals(Duration.ofNanos(1), histogram.percentile(0.0));
+        assertEquals(Duration.ofNanos(25), histogram.percentile(0.5));
+        assertEquals(Duration.ofNanos(50), histogram.percentile(1.0));
+        assertEquals(Duration.ofNanos(50), histogram.max());
+    }
+
+    @Test
+    void shouldComputePercentilesWithBoundedRelativeError() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        assertWithinRelativeError(TimeUnit.MICROSECONDS.toNanos(500), histogram.percentile(0.5));
+        assertWithinRelativeError(TimeUnit.MICROSECONDS.toNanos(950), histogram.percentile(0.95));
+        assertWithinRelativeError(TimeUnit.MICROSECONDS.toNanos(990), histogram.percentile(0.99));
+        assertEquals(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(1000)), histogram.percentile(1.0));
+    }
+
+    @Test
+    void shouldNotReportPercentilesAboveMax() {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertEquals(Duration.ofMillis(100), histogram.percentile(0.5));
+    }
+
+    @Test
+    void shouldTrackMaxOfValuesBeyondTrackableRange() {
+        histogram.record(TimeUnit.HOURS.toNanos(2));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertEquals(2, histogram.count());
+        assertEquals(Duration.ofHours(2), histogram.max());
+        assertTrue(histogram.percentile(1.0).compareTo(Duration.ofMinutes(18)) > 0);
+    }
+
+    @Test
+    void shouldRecordNegativeValuesAsZero() {
+        histogram.record(-1);
+
+        assertEquals(1, histogram.count());
+        assertEquals(Duration.ZERO, histogram.percentile(1.0));
+    }
+
+    @Test
+    void shouldRejectInvalidPercentiles() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.1));
+    }
+
+    @Test
+    void shouldMapEveryValueToBucketContainingIt() {
+        for (long value = 0; value < 100_000; value += 7) {
+            int index = ConcurrentLatencyHistogram.bucketIndex(value);
+            assertTrue(value <= ConcurrentLatencyHistogram.bucketUpperBound(index));
+            assertTrue(index == 0 || value > ConcurrentLatencyHistogram.bucketUpperBound(index - 1));
+        }
+    }
+
+    @Test
+    void shouldCountConcurrentlyRecordedValues() throws Exception {
+        int threadCount = 8;
+        int iterations = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < iterations; j++) {
+                        histogram.record(j);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threadCount * iterations, histogram.count());
+        assertEquals(Duration.ofNanos(iterations - 1), histogram.max());
+    }
+
+    private static void assertWithinRelativeError(long expectedNanos, Duration actual) {
+        double error = Math.abs(actual.toNanos() - expectedNanos) / (double) expectedNanos;
+        assertTrue(error <= 0.04, () -> "Expected about " + expectedNanos + "ns but was " + actual);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.BoltServerAddress;
+
+class InternalConnectionPoolMetricsTest {
+    private static final long SUB_MILLISECOND_NANOS = TimeUnit.MICROSECONDS.toNanos(250);
+
+    private final Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final InternalConnectionPoolMetrics metrics =
+            new InternalConnectionPoolMetrics("pool", BoltServerAddress.LOCAL_DEFAULT, () -> 0, () -> 0);
+
+    @Test
+    void shouldRecordSubMillisecondAcquisitionInNonZeroBucket() {
+        TimeRecorderListenerEvent event = new TimeRecorderListenerEvent(clock, nanoTime::get);
+
+        metrics.beforeAcquiringOrCreating(event);
+        nanoTime.addAndGet(SUB_MILLISECOND_NANOS);
+        metrics.afterAcquiredOrCreated(event);
+
+        assertEquals(0, metrics.totalAcquisitionTime());
+        assertEquals(1, metrics.acquisitionTimeHistogram().count());
+        assertTrue(metrics.acquisitionTimeHistogram().percentile(1.0).compareTo(Duration.ZERO) > 0);
+        assertEquals(Duration.ofNanos(SUB_MILLISECOND_NANOS), metrics.acquisitionTimeHistogram().max());
+    }
+
+    @Test
+    void shouldRecordSubMillisecondConnectionTimeInNanoseconds() {
+        TimeRecorderListenerEvent event = new TimeRecorderListenerEvent(clock, nanoTime::get);
+
+        metrics.beforeCreating(event);
+        nanoTime.addAndGet(SUB_MILLISECOND_NANOS);
+        metrics.afterCreated(event);
+
+        assertEquals(0, metrics.totalConnectionTime());
+        assertEquals(Duration.ofNanos(SUB_MILLISECOND_NANOS), metrics.connectionTimeHistogram().max());
+    }
+
+    @Test
+    void shouldRecordSubMillisecondInUseTimeInNanoseconds() {
+        TimeRecorderListenerEvent event = new TimeRecorderListenerEvent(clock, nanoTime::get);
+
+        metrics.acquired(event);
+        nanoTime.addAndGet(SUB_MILLISECOND_NANOS);
+        metrics.released(event);
+
+        assertEquals(0, metrics.totalInUseTime());
+        assertEquals(Duration.ofNanos(SUB_MILLISECOND_NANOS), metrics.inUseTimeHistogram().max());
+    }
+}
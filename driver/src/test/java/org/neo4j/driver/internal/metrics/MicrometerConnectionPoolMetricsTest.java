@@ -25,7 +25,9 @@ import static org.mockito.Mockito.mock;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntSupplier;
@@ -205,6 +207,138 @@ class MicrometerConnectionPoolMetricsTest {
         assertEquals(timerCount + 1, timer.count());
     }
 
+    @Test
+    void shouldIncrementStringCacheCountersOnStringCacheLookups() {
+        // GIVEN
+        ConnectionPoolMetrics expectedMetrics = mock(ConnectionPoolMetrics.class);
+        given(expectedMetrics.stringCacheHits()).willReturn(7L);
+        given(expectedMetrics.stringCacheMisses()).willReturn(3L);
+
+        // WHEN
+        metrics.stringCacheLookups(5, 1);
+        metrics.stringCacheLookups(2, 2);
+
+        // THEN
+        verifyMetrics(expectedMetrics, metrics);
+    }
+
+    @Test
+    void shouldStartTimerOnBeforeWarmingUp() {
+        // GIVEN
+        ListenerEvent<?> event = mock(ListenerEvent.class);
+
+        // WHEN
+        metrics.beforeWarmingUp(event);
+
+        // THEN
+        then(event).should().start();
+    }
+
+    @Test
+    void shouldIncrementWarmedUpAndStopTimerOnAfterWarmedUp() {
+        // GIVEN
+        ConnectionPoolMetrics expectedMetrics = mock(ConnectionPoolMetrics.class);
+        given(expectedMetrics.warmedUp()).willReturn(1L);
+        Timer timer = registry.get(MicrometerConnectionPoolMetrics.WARM_UP).timer();
+        long timerCount = timer.count();
+        MicrometerTimerListenerEvent event = new MicrometerTimerListenerEvent(registry);
+        event.start();
+
+        // WHEN
+        metrics.afterWarmedUp(event);
+
+        // THEN
+        verifyMetrics(expectedMetrics, metrics);
+        assertEquals(timerCount + 1, timer.count());
+    }
+
+    @Test
+    void shouldIncrementProbedAndEvictedOnAfterProbedAndAfterEvicted() {
+        // GIVEN
+        ConnectionPoolMetrics expectedMetrics = mock(ConnectionPoolMetrics.class);
+        given(expectedMetrics.probed()).willReturn(2L);
+        given(expectedMetrics.evicted()).willReturn(1L);
+
+        // WHEN
+        metrics.afterProbed();
+        metrics.afterProbed();
+        metrics.afterEvicted();
+
+        // THEN
+        verifyMetrics(expectedMetrics, metrics);
+    }
+
+    @Test
+    void shouldTrackBufferedResultBytesOnAfterRecordBytesBuffered() {
+        // GIVEN
+        ConnectionPoolMetrics expectedMetrics = mock(ConnectionPoolMetrics.class);
+        given(expectedMetrics.bufferedResultBytes()).willReturn(3072L);
+
+        // WHEN
+        metrics.afterRecordBytesBuffered(4096);
+        metrics.afterRecordBytesBuffered(1024);
+        metrics.afterRecordBytesBuffered(-2048);
+
+        // THEN
+        verifyMetrics(expectedMetrics, metrics);
+    }
+
+    @Test
+    void shouldRecordQueryTimesOnAfterFirstRecordAndAfterResultConsumed() {
+        // GIVEN
+        Timer firstRecordTimer =
+                registry.get(MicrometerConnectionPoolMetrics.FIRST_RECORD).timer();
+        Timer resultTimer = registry.get(MicrometerConnectionPoolMetrics.RESULT).timer();
+
+        // WHEN
+        metrics.afterFirstRecord(TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.afterResultConsumed(TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.afterResultConsumed(TimeUnit.MILLISECONDS.toNanos(7));
+
+        // THEN
+        assertEquals(1, firstRecordTimer.count());
+        assertEquals(3, firstRecordTimer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(2, resultTimer.count());
+        assertEquals(12, resultTimer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, metrics.firstRecordTimeHistogram().count());
+        assertEquals(2, metrics.resultTimeHistogram().count());
+        assertEquals(Duration.ofMillis(7), metrics.resultTimeHistogram().max());
+    }
+
+    @Test
+    void shouldPublishLatencyPercentiles() {
+        for (String name : new String[] {
+            MicrometerConnectionPoolMetrics.ACQUISITION,
+            MicrometerConnectionPoolMetrics.CREATION,
+            MicrometerConnectionPoolMetrics.USAGE,
+            MicrometerConnectionPoolMetrics.FIRST_RECORD,
+            MicrometerConnectionPoolMetrics.RESULT
+        }) {
+            Timer timer = registry.get(name).timer();
+            timer.record(1, TimeUnit.MILLISECONDS);
+
+            ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+
+            assertEquals(MicrometerConnectionPoolMetrics.PERCENTILES.length, percentiles.length, name);
+            assertEquals(0.99, percentiles[percentiles.length - 1].percentile(), name);
+        }
+    }
+
+    @Test
+    void shouldRecordAcquisitionTimeHistogramOnAfterAcquiredOrCreated() {
+        // GIVEN
+        MicrometerTimerListenerEvent event = new MicrometerTimerListenerEvent(registry);
+        event.start();
+
+        // WHEN
+        metrics.afterAcquiredOrCreated(event);
+
+        // THEN
+        assertEquals(1, metrics.acquisitionTimeHistogram().count());
+        assertEquals(0, metrics.connectionTimeHistogram().count());
+        assertEquals(0, metrics.inUseTimeHistogram().count());
+    }
+
     @Test
     void shouldUseInUseSupplier() {
         try {
@@ -301,5 +435,38 @@ class MicrometerConnectionPoolMetricsTest {
         assertEquals(
                 expected.totalInUseCount(),
                 registry.get(MicrometerConnectionPoolMetrics.USAGE).timer().count());
+        assertEquals(expected.stringCacheHits(), actual.stringCacheHits());
+        assertEquals(
+                expected.stringCacheHits(),
+                registry.get(MicrometerConnectionPoolMetrics.STRING_CACHE_HITS)
+                        .counter()
+                        .count());
+        assertEquals(expected.stringCacheMisses(), actual.stringCacheMisses());
+        assertEquals(
+                expected.stringCacheMisses(),
+                registry.get(MicrometerConnectionPoolMetrics.STRING_CACHE_MISSES)
+                        .counter()
+                        .count());
+        assertEquals(expected.warmedUp(), actual.warmedUp());
+        assertEquals(
+                expected.warmedUp(),
+                registry.get(MicrometerConnectionPoolMetrics.WARM_UP).timer().count());
+        assertEquals(expected.totalWarmUpTime(), actual.totalWarmUpTime());
+        assertEquals(expected.totalWarmUpTime(), (long)
+                registry.get(MicrometerConnectionPoolMetrics.WARM_UP).timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(expected.probed(), actual.probed());
+        assertEquals(
+                expected.probed(),
+                registry.get(MicrometerConnectionPoolMetrics.PROBED).counter().count());
+        assertEquals(expected.evicted(), actual.evicted());
+        assertEquals(
+                expected.evicted(),
+                registry.get(MicrometerConnectionPoolMetrics.EVICTED).counter().count());
+        assertEquals(expected.bufferedResultBytes(), actual.bufferedResultBytes());
+        assertEquals(
+                expected.bufferedResultBytes(),
+                registry.get(MicrometerConnectionPoolMetrics.BUFFERED_RESULT_BYTES)
+                        .gauge()
+                        .value());
     }
 }
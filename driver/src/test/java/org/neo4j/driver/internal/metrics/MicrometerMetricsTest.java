@@ -59,6 +59,18 @@ class MicrometerMetricsTest {
         assertTrue(collection.isEmpty());
     }
 
+    @Test
+    void shouldCountLeakedSessions() {
+        // GIVEN & WHEN
+        metrics.afterSessionLeaked();
+        metrics.afterSessionLeaked();
+
+        // THEN
+        assertEquals(2, metrics.leakedSessions());
+        assertEquals(
+                2, registry.get(MicrometerMetrics.LEAKED_SESSIONS).counter().count());
+    }
+
     @Test
     void shouldDelegateBeforeCreating() {
         // GIVEN
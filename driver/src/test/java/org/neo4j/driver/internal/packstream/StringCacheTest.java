@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StringCacheTest {
+    @Test
+    void shouldDecodeAndCacheOnMiss() {
+        StringCache cache = new StringCache();
+        byte[] bytes = "name".getBytes(UTF_8);
+
+        assertEquals("name", cache.get(bytes, 0, bytes.length));
+        assertEquals(0, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void shouldResolveSameBytesToSameInstance() {
+        StringCache cache = new StringCache();
+        byte[] first = "xlabelx".getBytes(UTF_8);
+        byte[] second = "label".getBytes(UTF_8);
+
+        String value = cache.get(first, 1, 5);
+
+        assertEquals("label", value);
+        assertSame(value, cache.get(second, 0, second.length));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesToSourceArray() {
+        StringCache cache = new StringCache();
+        byte[] bytes = "key".getBytes(UTF_8);
+        String value = cache.get(bytes, 0, bytes.length);
+
+        bytes[0] = 'h';
+
+        assertEquals("hey", cache.get(bytes, 0, bytes.length));
+        assertEquals("key", cache.get("key".getBytes(UTF_8), 0, 3));
+        assertNotSame(value, cache.get(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void shouldReplaceCollidingEntries() {
+        StringCache cache = new StringCache(1);
+        byte[] first = "first".getBytes(UTF_8);
+        byte[] second = "second".getBytes(UTF_8);
+
+        String value = cache.get(first, 0, first.length);
+        assertEquals("second", cache.get(second, 0, second.length));
+        String replaced = cache.get(first, 0, first.length);
+
+        assertEquals("first", replaced);
+        assertNotSame(value, replaced);
+        assertEquals(0, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    void shouldDecodeUnicode() {
+        StringCache cache = new StringCache();
+        byte[] bytes = "Straße 😀".getBytes(UTF_8);
+
+        assertEquals("Straße 😀", cache.get(bytes, 0, bytes.length));
+        assertEquals("Straße 😀", cache.get(bytes, 0, bytes.length));
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void shouldResetCounters() {
+        StringCache cache = new StringCache();
+        byte[] bytes = "type".getBytes(UTF_8);
+        cache.get(bytes, 0, bytes.length);
+        cache.get(bytes, 0, bytes.length);
+
+        cache.resetCounters();
+
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+        cache.get(bytes, 0, bytes.length);
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void shouldRejectStringsLongerThanLimit() {
+        StringCache cache = new StringCache();
+        byte[] bytes = new byte[StringCache.MAX_CACHED_SIZE + 1];
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get(bytes, 0, bytes.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 3, 100})
+    void shouldRejectCapacityThatIsNotPowerOfTwo(int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new StringCache(capacity));
+    }
+}
@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.retry;
 
 import static java.lang.Long.MAX_VALUE;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.contains;
@@ -30,8 +31,10 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -47,7 +50,10 @@ import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.testutil.TestUtil.await;
 
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -66,13 +72,17 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.RetryPolicy;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.exceptions.SessionExpiredException;
 import org.neo4j.driver.exceptions.TransientException;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.util.ImmediateSchedulingEventExecutor;
+import org.neo4j.driver.internal.util.ImmediateSchedulingTimer;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -81,6 +91,7 @@ import reactor.test.StepVerifier;
 
 class ExponentialBackoffRetryLogicTest {
     private final ImmediateSchedulingEventExecutor eventExecutor = new ImmediateSchedulingEventExecutor();
+    private final ImmediateSchedulingTimer timer = new ImmediateSchedulingTimer();
 
     @Test
     void throwsForIllegalMaxRetryTime() {
@@ -152,7 +163,7 @@ class ExponentialBackoffRetryLogicTest {
         CompletionStage<Object> future = retryAsync(retryLogic, retries, result);
 
         assertEquals(result, await(future));
-        assertEquals(delaysWithoutJitter(initialDelay, multiplier, retries), eventExecutor.scheduleDelays());
+        assertEquals(delaysWithoutJitter(initialDelay, multiplier, retries), timer.timeoutDelays());
     }
 
     @Test
@@ -169,7 +180,7 @@ class ExponentialBackoffRetryLogicTest {
         Mono<Object> single = Flux.from(retryRx(retryLogic, retries, result)).single();
 
         assertEquals(result, await(single));
-        assertEquals(delaysWithoutJitter(initialDelay, multiplier, retries), eventExecutor.scheduleDelays());
+        assertEquals(delaysWithoutJitter(initialDelay, multiplier, retries), timer.timeoutDelays());
     }
 
     @Test
@@ -205,7 +216,7 @@ class ExponentialBackoffRetryLogicTest {
         CompletionStage<Object> future = retryAsync(retryLogic, retries, result);
         assertEquals(result, await(future));
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         List<Long> delaysWithoutJitter = delaysWithoutJitter(initialDelay, multiplier, retries);
 
         assertDelaysApproximatelyEqual(delaysWithoutJitter, scheduleDelays, jitterFactor);
@@ -225,7 +236,7 @@ class ExponentialBackoffRetryLogicTest {
         Mono<Object> single = Flux.from(retryRx(retryLogic, retries, result)).single();
         assertEquals(result, await(single));
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         List<Long> delaysWithoutJitter = delaysWithoutJitter(initialDelay, multiplier, retries);
 
         assertDelaysApproximatelyEqual(delaysWithoutJitter, scheduleDelays, jitterFactor);
@@ -283,7 +294,7 @@ class ExponentialBackoffRetryLogicTest {
         Exception e = assertThrows(Exception.class, () -> await(future));
         assertEquals(error, e);
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(2, scheduleDelays.size());
         assertEquals(initialDelay, scheduleDelays.get(0).intValue());
         assertEquals(initialDelay * multiplier, scheduleDelays.get(1).intValue());
@@ -314,7 +325,7 @@ class ExponentialBackoffRetryLogicTest {
         Exception e = assertThrows(Exception.class, () -> await(publisher));
         assertEquals(error, e);
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(2, scheduleDelays.size());
         assertEquals(initialDelay, scheduleDelays.get(0).intValue());
         assertEquals(initialDelay * multiplier, scheduleDelays.get(1).intValue());
@@ -352,7 +363,7 @@ class ExponentialBackoffRetryLogicTest {
         assertEquals(result, await(retryLogic.retryAsync(workMock)));
 
         verify(workMock, times(2)).get();
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(1, scheduleDelays.size());
         assertEquals(42, scheduleDelays.get(0).intValue());
     }
@@ -387,7 +398,7 @@ class ExponentialBackoffRetryLogicTest {
         assertEquals(result, await(retryLogic.retryAsync(workMock)));
 
         verify(workMock, times(2)).get();
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(1, scheduleDelays.size());
         assertEquals(4242, scheduleDelays.get(0).intValue());
     }
@@ -422,7 +433,7 @@ class ExponentialBackoffRetryLogicTest {
         assertEquals(result, await(retryLogic.retryAsync(workMock)));
 
         verify(workMock, times(2)).get();
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(1, scheduleDelays.size());
         assertEquals(23, scheduleDelays.get(0).intValue());
     }
@@ -457,7 +468,7 @@ class ExponentialBackoffRetryLogicTest {
         assertEquals(error, e);
 
         verify(workMock).get();
-        assertEquals(0, eventExecutor.scheduleDelays().size());
+        assertEquals(0, timer.timeoutDelays().size());
     }
 
     @Test
@@ -490,7 +501,7 @@ class ExponentialBackoffRetryLogicTest {
         assertEquals(error, e);
 
         verify(workMock).get();
-        assertEquals(0, eventExecutor.scheduleDelays().size());
+        assertEquals(0, timer.timeoutDelays().size());
     }
 
     @Test
@@ -523,7 +534,7 @@ class ExponentialBackoffRetryLogicTest {
         assertEquals(error, e);
 
         verify(workMock).get();
-        assertEquals(0, eventExecutor.scheduleDelays().size());
+        assertEquals(0, timer.timeoutDelays().size());
     }
 
     @ParameterizedTest
@@ -538,7 +549,7 @@ class ExponentialBackoffRetryLogicTest {
 
         assertEquals(result, await(single));
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(1, scheduleDelays.size());
         assertEquals(4242, scheduleDelays.get(0).intValue());
     }
@@ -554,7 +565,7 @@ class ExponentialBackoffRetryLogicTest {
         Exception e = assertThrows(Exception.class, () -> await(single));
         assertEquals(error, e);
 
-        assertEquals(0, eventExecutor.scheduleDelays().size());
+        assertEquals(0, timer.timeoutDelays().size());
     }
 
     @Test
@@ -644,7 +655,7 @@ class ExponentialBackoffRetryLogicTest {
 
         verify(workMock, times(4)).get();
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(3, scheduleDelays.size());
         assertEquals(initialDelay, scheduleDelays.get(0).intValue());
         assertEquals(initialDelay * multiplier, scheduleDelays.get(1).intValue());
@@ -679,7 +690,7 @@ class ExponentialBackoffRetryLogicTest {
                 })
                 .verify();
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(3, scheduleDelays.size());
         assertEquals(initialDelay, scheduleDelays.get(0).intValue());
         assertEquals(initialDelay * multiplier, scheduleDelays.get(1).intValue());
@@ -733,7 +744,7 @@ class ExponentialBackoffRetryLogicTest {
 
         verify(workMock, times(3)).get();
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(2, scheduleDelays.size());
         assertEquals(initialDelay, scheduleDelays.get(0).intValue());
         assertEquals(initialDelay * multiplier, scheduleDelays.get(1).intValue());
@@ -755,7 +766,7 @@ class ExponentialBackoffRetryLogicTest {
                 .expectErrorSatisfies(e -> assertEquals(error, e))
                 .verify();
 
-        List<Long> scheduleDelays = eventExecutor.scheduleDelays();
+        List<Long> scheduleDelays = timer.timeoutDelays();
         assertEquals(2, scheduleDelays.size());
         assertEquals(initialDelay, scheduleDelays.get(0).intValue());
         assertEquals(initialDelay * multiplier, scheduleDelays.get(1).intValue());
@@ -767,8 +778,8 @@ class ExponentialBackoffRetryLogicTest {
         Logging logging = mock(Logging.class);
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = logic.retry(() -> {
@@ -787,8 +798,8 @@ class ExponentialBackoffRetryLogicTest {
         Logging logging = mock(Logging.class);
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = logic.retry(() -> {
@@ -807,8 +818,8 @@ class ExponentialBackoffRetryLogicTest {
         Logging logging = mock(Logging.class);
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = logic.retry(() -> {
@@ -827,8 +838,8 @@ class ExponentialBackoffRetryLogicTest {
         Logging logging = mock(Logging.class);
         Logger logger = mock(Logger.class);
         when(logging.getLog(anyString())).thenReturn(logger);
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         ClientException exception = Assertions.assertThrows(
@@ -851,7 +862,7 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
-                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging, (ignored) -> {});
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging, (ignored) -> {});
 
         retry(logic, retries);
 
@@ -866,8 +877,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
 
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = await(logic.retryAsync(() -> {
@@ -886,8 +897,8 @@ class ExponentialBackoffRetryLogicTest {
         Logging logging = mock(Logging.class);
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = await(logic.retryAsync(() -> {
@@ -907,8 +918,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(anyString())).thenReturn(logger);
 
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         ClientException exception = Assertions.assertThrows(
@@ -932,8 +943,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
 
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         assertEquals(result, await(retryAsync(logic, retries, result)));
 
@@ -950,8 +961,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
 
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = await(Mono.from(logic.retryRx(Mono.fromSupplier(() -> {
@@ -970,8 +981,8 @@ class ExponentialBackoffRetryLogicTest {
         Logging logging = mock(Logging.class);
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = await(Mono.from(logic.retryRx(Mono.fromSupplier(() -> {
@@ -990,8 +1001,8 @@ class ExponentialBackoffRetryLogicTest {
         Logging logging = mock(Logging.class);
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         String result = await(Mono.from(logic.retryRx(Mono.fromSupplier(() -> {
@@ -1011,8 +1022,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(anyString())).thenReturn(logger);
 
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean exceptionThrown = new AtomicBoolean(false);
         ClientException exception = Assertions.assertThrows(
@@ -1036,8 +1047,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
 
-        ExponentialBackoffRetryLogic logic =
-                new ExponentialBackoffRetryLogic(RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, clock, logging);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         assertEquals(result, await(Flux.from(retryRx(logic, retries, result)).single()));
 
@@ -1053,7 +1064,7 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(anyString())).thenReturn(logger);
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
-                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, mock(Clock.class), logging);
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, mock(Clock.class), logging);
 
         RuntimeException error = assertThrows(
                 RuntimeException.class,
@@ -1070,7 +1081,7 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(anyString())).thenReturn(logger);
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
-                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, mock(Clock.class), logging);
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, mock(Clock.class), logging);
 
         RuntimeException error = assertThrows(
                 RuntimeException.class,
@@ -1086,7 +1097,7 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(anyString())).thenReturn(logger);
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
-                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, mock(Clock.class), logging);
+                RetrySettings.DEFAULT.maxRetryTimeMs(), eventExecutor, timer, mock(Clock.class), logging);
 
         Publisher<Object> retryRx = logic.retryRx(Mono.error(new RuntimeException("Fatal rx")));
         RuntimeException error = assertThrows(RuntimeException.class, () -> await(retryRx));
@@ -1102,7 +1113,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
         RetrySettings settings = RetrySettings.DEFAULT;
-        RetryLogic logic = new ExponentialBackoffRetryLogic(settings.maxRetryTimeMs(), eventExecutor, clock, logging);
+        RetryLogic logic =
+                new ExponentialBackoffRetryLogic(settings.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         ServiceUnavailableException error = assertThrows(
                 ServiceUnavailableException.class,
@@ -1133,7 +1145,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
         RetrySettings settings = RetrySettings.DEFAULT;
-        RetryLogic logic = new ExponentialBackoffRetryLogic(settings.maxRetryTimeMs(), eventExecutor, clock, logging);
+        RetryLogic logic =
+                new ExponentialBackoffRetryLogic(settings.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         SessionExpiredException error = assertThrows(
                 SessionExpiredException.class,
@@ -1166,7 +1179,8 @@ class ExponentialBackoffRetryLogicTest {
         Logger logger = mock(Logger.class);
         when(logging.getLog(any(Class.class))).thenReturn(logger);
         RetrySettings settings = RetrySettings.DEFAULT;
-        RetryLogic logic = new ExponentialBackoffRetryLogic(settings.maxRetryTimeMs(), eventExecutor, clock, logging);
+        RetryLogic logic =
+                new ExponentialBackoffRetryLogic(settings.maxRetryTimeMs(), eventExecutor, timer, clock, logging);
 
         AtomicBoolean invoked = new AtomicBoolean(false);
         SessionExpiredException error = assertThrows(
@@ -1193,7 +1207,7 @@ class ExponentialBackoffRetryLogicTest {
         Clock clock = mock(Clock.class);
         when(clock.millis()).thenReturn(0L, 100L, 200L, 400L, 800L);
         ExponentialBackoffRetryLogic retryLogic = new ExponentialBackoffRetryLogic(
-                500, 100, 2, 0, eventExecutor, clock, DEV_NULL_LOGGING, (ignored) -> {});
+                500, 100, 2, 0, eventExecutor, timer, clock, DEV_NULL_LOGGING, (ignored) -> {});
 
         Flux<Integer> source = Flux.concat(Flux.range(0, 2), Flux.error(exception));
         Flux<Integer> retriedSource = Flux.from(retryLogic.retryRx(source));
@@ -1202,7 +1216,7 @@ class ExponentialBackoffRetryLogicTest {
                 .expectNext(0, 1, 0, 1, 0, 1, 0, 1) // 4 retry attempts
                 .verifyErrorSatisfies(e -> assertThat(e, equalTo(exception)));
 
-        List<Long> delays = eventExecutor.scheduleDelays();
+        List<Long> delays = timer.timeoutDelays();
         assertThat(delays.size(), equalTo(4));
         assertThat(delays, contains(100L, 200L, 400L, 800L));
     }
@@ -1213,7 +1227,7 @@ class ExponentialBackoffRetryLogicTest {
         Clock clock = mock(Clock.class);
         when(clock.millis()).thenReturn(0L, 100L, 200L, 400L, 800L);
         ExponentialBackoffRetryLogic retryLogic = new ExponentialBackoffRetryLogic(
-                500, 100, 2, 0.1, eventExecutor, clock, DEV_NULL_LOGGING, (ignored) -> {});
+                500, 100, 2, 0.1, eventExecutor, timer, clock, DEV_NULL_LOGGING, (ignored) -> {});
 
         Flux<Integer> source = Flux.concat(Flux.range(0, 2), Flux.error(exception));
         Flux<Integer> retriedSource = Flux.from(retryLogic.retryRx(source));
@@ -1222,7 +1236,7 @@ class ExponentialBackoffRetryLogicTest {
                 .expectNext(0, 1, 0, 1, 0, 1, 0, 1) // 4 retry attempts
                 .verifyErrorSatisfies(e -> assertThat(e, equalTo(exception)));
 
-        List<Long> delays = eventExecutor.scheduleDelays();
+        List<Long> delays = timer.timeoutDelays();
         assertThat(delays.size(), equalTo(4));
         assertThat(delays.get(0), allOf(greaterThanOrEqualTo(90L), lessThanOrEqualTo(110L)));
         assertThat(delays.get(1), allOf(greaterThanOrEqualTo(180L), lessThanOrEqualTo(220L)));
@@ -1230,6 +1244,171 @@ class ExponentialBackoffRetryLogicTest {
         assertThat(delays.get(3), allOf(greaterThanOrEqualTo(720L), lessThanOrEqualTo(880L)));
     }
 
+    @Test
+    void doesNotRetryWhenRetryBudgetIsExhausted() throws Exception {
+        Clock clock = mock(Clock.class);
+        var sleepTask = mock(ExponentialBackoffRetryLogic.SleepTask.class);
+        var metricsListener = mock(MetricsListener.class);
+        ExponentialBackoffRetryLogic logic =
+                newRetryLogic(MAX_VALUE, 1, 1, false, new RetryBudget(0.5, 2), metricsListener, clock, sleepTask);
+
+        retry(logic, 2);
+
+        Supplier<Void> workMock = newWorkMock();
+        ServiceUnavailableException error = serviceUnavailable();
+        when(workMock.get()).thenThrow(error);
+
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class, () -> logic.retry(workMock));
+        assertEquals(error, e);
+        verify(workMock).get();
+        verify(sleepTask, times(2)).sleep(1);
+        verify(metricsListener, times(2)).afterRetryScheduled(MILLISECONDS.toNanos(1));
+        verify(metricsListener).afterRetryBudgetExhausted();
+    }
+
+    @Test
+    void successfulWorkRefillsRetryBudget() {
+        RetryBudget budget = new RetryBudget(0.5, 1);
+
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+
+        budget.onSuccess();
+        assertFalse(budget.tryAcquire());
+
+        budget.onSuccess();
+        budget.onSuccess();
+        assertEquals(1.0, budget.tokens());
+        assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    void doesNotRetryWhenRetryBudgetIsExhaustedAsync() {
+        Clock clock = mock(Clock.class);
+        var metricsListener = mock(MetricsListener.class);
+        ExponentialBackoffRetryLogic logic = newRetryLogic(
+                MAX_VALUE, 1, 1, false, new RetryBudget(0.1, 1), metricsListener, clock, (ignored) -> {});
+
+        assertEquals("The Result", await(retryAsync(logic, 1, "The Result")));
+
+        Supplier<CompletionStage<Object>> workMock = newWorkMock();
+        SessionExpiredException error = sessionExpired();
+        when(workMock.get()).thenReturn(failedFuture(error));
+
+        SessionExpiredException e =
+                assertThrows(SessionExpiredException.class, () -> await(logic.retryAsync(workMock)));
+        assertEquals(error, e);
+        verify(workMock).get();
+        assertEquals(1, timer.timeoutDelays().size());
+        verify(metricsListener).afterRetryBudgetExhausted();
+    }
+
+    @Test
+    void decorrelatedJitterKeepsDelaysWithinBounds() throws Exception {
+        int retries = 50;
+        long initialDelay = 10;
+        long maxDelay = 200;
+        Clock clock = mock(Clock.class);
+        var sleepTask = mock(ExponentialBackoffRetryLogic.SleepTask.class);
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                MAX_VALUE,
+                initialDelay,
+                3,
+                maxDelay,
+                0,
+                true,
+                null,
+                DevNullMetricsListener.INSTANCE,
+                eventExecutor,
+                timer,
+                clock,
+                DEV_NULL_LOGGING,
+                sleepTask);
+
+        retry(logic, retries);
+
+        List<Long> delays = sleepValues(sleepTask, retries);
+        long previousDelay = initialDelay;
+        for (Long delay : delays) {
+            assertThat(delay, allOf(greaterThanOrEqualTo(initialDelay), lessThanOrEqualTo(maxDelay)));
+            assertThat(delay, lessThanOrEqualTo(Math.max(initialDelay, previousDelay * 3)));
+            previousDelay = delay;
+        }
+    }
+
+    @Test
+    void recordsRetryDelaysInMetrics() throws Exception {
+        Clock clock = mock(Clock.class);
+        var sleepTask = mock(ExponentialBackoffRetryLogic.SleepTask.class);
+        var metricsListener = mock(MetricsListener.class);
+        ExponentialBackoffRetryLogic logic =
+                newRetryLogic(MAX_VALUE, 5, 2, false, null, metricsListener, clock, sleepTask);
+
+        retry(logic, 3);
+
+        verify(metricsListener).afterRetryScheduled(MILLISECONDS.toNanos(5));
+        verify(metricsListener).afterRetryScheduled(MILLISECONDS.toNanos(10));
+        verify(metricsListener).afterRetryScheduled(MILLISECONDS.toNanos(20));
+        verify(metricsListener, never()).afterRetryBudgetExhausted();
+    }
+
+    @Test
+    void waitsForRetryOnTimerAsync() {
+        Timer wheelTimer = new HashedWheelTimer(1, MILLISECONDS);
+        try {
+            ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                    MAX_VALUE,
+                    RetryPolicy.builder()
+                            .withInitialRetryDelay(Duration.ofMillis(5))
+                            .build(),
+                    DevNullMetricsListener.INSTANCE,
+                    eventExecutor,
+                    wheelTimer,
+                    mock(Clock.class),
+                    DEV_NULL_LOGGING);
+
+            assertEquals("The Result", await(retryAsync(logic, 3, "The Result")));
+        } finally {
+            wheelTimer.stop();
+        }
+    }
+
+    @Test
+    void waitsForRetryOnTimerRx() {
+        Timer wheelTimer = new HashedWheelTimer(1, MILLISECONDS);
+        try {
+            ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                    MAX_VALUE,
+                    RetryPolicy.builder()
+                            .withInitialRetryDelay(Duration.ofMillis(5))
+                            .build(),
+                    DevNullMetricsListener.INSTANCE,
+                    eventExecutor,
+                    wheelTimer,
+                    mock(Clock.class),
+                    DEV_NULL_LOGGING);
+
+            assertEquals("The Result", Mono.from(retryRx(logic, 3, "The Result")).block());
+        } finally {
+            wheelTimer.stop();
+        }
+    }
+
+    @Test
+    void failsAsyncRetryWhenTimerIsStopped() {
+        timer.stop();
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic(
+                MAX_VALUE,
+                RetryPolicy.defaultPolicy(),
+                DevNullMetricsListener.INSTANCE,
+                eventExecutor,
+                timer,
+                mock(Clock.class),
+                DEV_NULL_LOGGING);
+
+        assertThrows(ServiceUnavailableException.class, () -> await(retryAsync(logic, 1, "The Result")));
+    }
+
     private static void retry(ExponentialBackoffRetryLogic retryLogic, final int times) {
         retryLogic.retry(new Supplier<Void>() {
             int invoked;
@@ -1302,6 +1481,32 @@ class ExponentialBackoffRetryLogicTest {
                 multiplier,
                 jitterFactor,
                 eventExecutor,
+                timer,
+                clock,
+                DEV_NULL_LOGGING,
+                sleepTask);
+    }
+
+    private ExponentialBackoffRetryLogic newRetryLogic(
+            long maxRetryTimeMs,
+            long initialRetryDelayMs,
+            double multiplier,
+            boolean decorrelatedJitter,
+            RetryBudget retryBudget,
+            MetricsListener metricsListener,
+            Clock clock,
+            ExponentialBackoffRetryLogic.SleepTask sleepTask) {
+        return new ExponentialBackoffRetryLogic(
+                maxRetryTimeMs,
+                initialRetryDelayMs,
+                multiplier,
+                MAX_VALUE,
+                0,
+                decorrelatedJitter,
+                retryBudget,
+                metricsListener,
+                eventExecutor,
+                timer,
                 clock,
                 DEV_NULL_LOGGING,
                 sleepTask);
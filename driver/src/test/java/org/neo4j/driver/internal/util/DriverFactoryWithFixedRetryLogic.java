@@ -18,9 +18,12 @@
  */
 package org.neo4j.driver.internal.util;
 
+import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.RetryPolicy;
 import org.neo4j.driver.internal.DriverFactory;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.retry.RetryLogic;
 
 public class DriverFactoryWithFixedRetryLogic extends DriverFactory {
@@ -32,7 +35,12 @@ public class DriverFactoryWithFixedRetryLogic extends DriverFactory {
 
     @Override
     protected RetryLogic createRetryLogic(
-            long maxTransactionRetryTime, EventExecutorGroup eventExecutorGroup, Logging logging) {
+            long maxTransactionRetryTime,
+            RetryPolicy retryPolicy,
+            MetricsListener metricsListener,
+            EventExecutorGroup eventExecutorGroup,
+            Timer timer,
+            Logging logging) {
         return new FixedRetryLogic(retryCount);
     }
 }
@@ -77,6 +77,11 @@ public class FailingConnectionDriverFactory extends DriverFactory {
             delegate.retainAll(addressesToRetain);
         }
 
+        @Override
+        public void warmUp(Set<BoltServerAddress> addresses) {
+            delegate.warmUp(addresses);
+        }
+
         @Override
         public int inUseConnections(ServerAddress address) {
             return delegate.inUseConnections(address);
@@ -87,6 +92,11 @@ public class FailingConnectionDriverFactory extends DriverFactory {
             return delegate.idleConnections(address);
         }
 
+        @Override
+        public long averageResponseTime(ServerAddress address) {
+            return delegate.averageResponseTime(address);
+        }
+
         @Override
         public CompletionStage<Void> close() {
             return delegate.close();
@@ -33,7 +33,13 @@ public class FixedRetryLogic extends ExponentialBackoffRetryLogic {
     }
 
     public FixedRetryLogic(int retryCount, EventExecutorGroup eventExecutorGroup) {
-        super(Long.MAX_VALUE, eventExecutorGroup, Clock.systemUTC(), DEV_NULL_LOGGING, (ignored) -> {});
+        super(
+                Long.MAX_VALUE,
+                eventExecutorGroup,
+                new ImmediateSchedulingTimer(),
+                Clock.systemUTC(),
+                DEV_NULL_LOGGING,
+                (ignored) -> {});
         this.retryCount = retryCount;
     }
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableList;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ImmediateSchedulingTimer implements Timer {
+    private final List<Long> timeoutDelays = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    public List<Long> timeoutDelays() {
+        return unmodifiableList(timeoutDelays);
+    }
+
+    @Override
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        if (stopped.get()) {
+            throw new RejectedExecutionException("Timer is stopped");
+        }
+        timeoutDelays.add(unit.toMillis(delay));
+        ExpiredTimeout timeout = new ExpiredTimeout(this, task);
+        try {
+            task.run(timeout);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return timeout;
+    }
+
+    @Override
+    public Set<Timeout> stop() {
+        stopped.set(true);
+        return emptySet();
+    }
+
+    private static class ExpiredTimeout implements Timeout {
+        private final Timer timer;
+        private final TimerTask task;
+
+        ExpiredTimeout(Timer timer, TimerTask task) {
+            this.timer = timer;
+            this.task = task;
+        }
+
+        @Override
+        public Timer timer() {
+            return timer;
+        }
+
+        @Override
+        public TimerTask task() {
+            return task;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean cancel() {
+            return false;
+        }
+    }
+}
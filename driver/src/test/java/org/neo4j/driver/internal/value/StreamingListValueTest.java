@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.streamingList;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.unmanagedTxRunMessage;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.messaging.v5.MessageFormatV5;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+
+class StreamingListValueTest {
+    @Test
+    void shouldPackLikeMaterializedList() throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(Map.of("id", i, "name", "name-" + i));
+        }
+
+        assertArrayEquals(pack(value(rows)), pack(streamingList(rows.iterator(), rows.size())));
+    }
+
+    @Test
+    void shouldConvertElementsLazily() {
+        Iterator<Integer> elements = IntStream.range(0, 3).iterator();
+        Value list = streamingList(elements, 3);
+
+        Iterator<Value> values = list.values().iterator();
+        assertEquals(value(0), values.next());
+        assertThat(elements.next(), equalTo(1));
+        assertEquals(value(2), values.next());
+    }
+
+    @Test
+    void shouldBeConsumedOnlyOnce() throws IOException {
+        Value list = streamingList(List.of(1, 2).iterator(), 2);
+        pack(list);
+
+        ClientException e = assertThrows(ClientException.class, () -> pack(list));
+        assertThat(e.getMessage(), equalTo("Streaming list has already been consumed, it can only be sent once"));
+    }
+
+    @Test
+    void shouldFailWhenElementsRunOut() {
+        Value list = streamingList(List.of(1, 2).iterator(), 3);
+
+        ClientException e = assertThrows(ClientException.class, () -> pack(list));
+        assertThat(e.getMessage(), equalTo("Streaming list ended after 2 elements, 3 were expected"));
+    }
+
+    @Test
+    void shouldReadNoMoreThanSizeElements() {
+        Iterator<Integer> elements = List.of(1, 2, 3).iterator();
+
+        assertEquals(List.of(1L, 2L), streamingList(elements, 2).asList());
+        assertThat(elements.next(), equalTo(3));
+    }
+
+    @Test
+    void shouldHaveToStringThatDoesNotConsumeElements() {
+        Iterator<Integer> elements = List.of(1, 2).iterator();
+        Value list = streamingList(elements, 2);
+
+        assertThat(list.toString(), equalTo("[2 streamed elements]"));
+        assertThat(elements.next(), equalTo(1));
+    }
+
+    @Test
+    void shouldHaveCorrectTypeAndSize() {
+        Value list = streamingList(List.of().iterator(), 0);
+
+        assertThat(list.type(), equalTo(InternalTypeSystem.TYPE_SYSTEM.LIST()));
+        assertEquals(0, list.size());
+        assertFalse(list.values().iterator().hasNext());
+    }
+
+    @Test
+    void shouldRejectNegativeSize() {
+        assertThrows(
+                IllegalArgumentException.class, () -> streamingList(List.of().iterator(), -1));
+    }
+
+    private static byte[] pack(Value list) throws IOException {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            new MessageFormatV5()
+                    .newWriter(new ByteBufOutput(buf))
+                    .write(unmanagedTxRunMessage(new Query("UNWIND $rows AS row RETURN row", Map.of("rows", list))));
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+}
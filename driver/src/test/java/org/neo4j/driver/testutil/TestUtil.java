@@ -267,7 +267,8 @@ public final class TestUtil {
                 null,
                 UNLIMITED_FETCH_SIZE,
                 DEV_NULL_LOGGING,
-                NoOpBookmarkManager.INSTANCE);
+                NoOpBookmarkManager.INSTANCE,
+                false);
     }
 
     public static void verifyRunRx(Connection connection, String query) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.testutil.bolt;
+
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.BOLT_MAGIC_PREAMBLE;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.NO_PROTOCOL_VERSION;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.util.List;
+import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
+import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
+import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
+import org.neo4j.driver.internal.messaging.v5.BoltProtocolV5;
+import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
+
+/**
+ * Server side of the Bolt handshake: reads the magic preamble and the four version proposals of the client, answers
+ * with the most preferred version of the server that matches a proposal and then replaces itself with the message
+ * pipeline.
+ */
+class BoltHandshakeHandler extends ByteToMessageDecoder {
+    private static final int HANDSHAKE_LENGTH = 5 * Integer.BYTES;
+
+    private final ScriptableBoltServer server;
+
+    BoltHandshakeHandler(ScriptableBoltServer server) {
+        this.server = server;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < HANDSHAKE_LENGTH) {
+            return;
+        }
+        if (in.readInt() != BOLT_MAGIC_PREAMBLE) {
+            in.skipBytes(in.readableBytes());
+            ctx.close();
+            return;
+        }
+        int[] proposals = new int[4];
+        for (int i = 0; i < proposals.length; i++) {
+            proposals[i] = in.readInt();
+        }
+
+        BoltProtocolVersion version = negotiate(proposals);
+        if (version == null) {
+            in.skipBytes(in.readableBytes());
+            ctx.writeAndFlush(ctx.alloc().buffer(Integer.BYTES).writeInt(NO_PROTOCOL_VERSION.toInt()))
+                    .addListener(ChannelFutureListener.CLOSE);
+            return;
+        }
+
+        ctx.writeAndFlush(ctx.alloc().buffer(Integer.BYTES).writeInt(version.toInt()));
+
+        boolean v5 = version.getMajorVersion() >= BoltProtocolV5.VERSION.getMajorVersion();
+        KnowledgeableMessageFormat messageFormat = new KnowledgeableMessageFormat(v5);
+        if (v5) {
+            messageFormat.enableDateTimeUtc();
+        }
+        ChannelPipeline pipeline = ctx.pipeline();
+        pipeline.addLast(
+                new ChunkDecoder(DEV_NULL_LOGGING),
+                new MessageDecoder(),
+                new OutboundMessageHandler(messageFormat, DEV_NULL_LOGGING),
+                new BoltRequestHandler(server, version));
+        // bytes following the handshake are handed over to the chunk decoder
+        pipeline.remove(this);
+    }
+
+    private BoltProtocolVersion negotiate(int[] proposals) {
+        for (BoltProtocolVersion supported : server.protocolVersions()) {
+            for (int proposal : proposals) {
+                if (matches(proposal, supported)) {
+                    return supported;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(int proposal, BoltProtocolVersion version) {
+        int major = proposal & 0xFF;
+        int minor = (proposal >> 8) & 0xFF;
+        int range = (proposal >> 16) & 0xFF;
+        return major != 0
+                && major == version.getMajorVersion()
+                && version.getMinorVersion() <= minor
+                && version.getMinorVersion() >= minor - range;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.testutil.bolt;
+
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.messaging.response.IgnoredMessage.IGNORED;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
+import org.neo4j.driver.internal.messaging.common.CommonValueUnpacker;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
+import org.neo4j.driver.internal.messaging.request.DiscardMessage;
+import org.neo4j.driver.internal.messaging.request.GoodbyeMessage;
+import org.neo4j.driver.internal.messaging.request.HelloMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.messaging.request.RollbackMessage;
+import org.neo4j.driver.internal.messaging.request.RouteMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+import org.neo4j.driver.internal.messaging.response.FailureMessage;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.messaging.response.SuccessMessage;
+import org.neo4j.driver.internal.messaging.v5.BoltProtocolV5;
+
+/**
+ * Serves the requests of a single connection once the handshake is done. Requests are decoded as soon as they arrive,
+ * but are handled after the configured latency, one after the other, so that responses keep the request order. After
+ * a FAILURE every request but RESET and GOODBYE is IGNORED, like a real server does.
+ */
+class BoltRequestHandler extends SimpleChannelInboundHandler<ByteBuf> {
+    private static final String DATABASE = "neo4j";
+    private static final long ROUTING_TABLE_TTL_SECONDS = 300;
+    private static final int FLUSH_EVERY_RECORDS = 1000;
+
+    private final ScriptableBoltServer server;
+    private final BoltProtocolVersion version;
+    private final ByteBufInput input = new ByteBufInput();
+    private final RequestUnpacker unpacker;
+    private final Map<Long, Cursor> transactionCursors = new HashMap<>();
+
+    private Cursor lastCursor;
+    private long nextQid;
+    private boolean inTransaction;
+    private boolean failed;
+
+    BoltRequestHandler(ScriptableBoltServer server, BoltProtocolVersion version) {
+        this.server = server;
+        this.version = version;
+        this.unpacker = new RequestUnpacker(input, isV5());
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf message) throws IOException {
+        Runnable request = decode(ctx, message);
+        Duration latency = server.latency();
+        if (latency.isZero()) {
+            request.run();
+        } else {
+            // tasks with the same delay run in submission order
+            ctx.executor().schedule(request, latency.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        ctx.close();
+    }
+
+    private Runnable decode(ChannelHandlerContext ctx, ByteBuf message) throws IOException {
+        input.start(message);
+        try {
+            unpacker.unpackStructHeader();
+            int signature = unpacker.unpackStructSignature();
+            switch (signature) {
+                case HelloMessage.SIGNATURE:
+                    return () -> ifNotFailed(ctx, () -> hello(ctx));
+                case RouteMessage.SIGNATURE:
+                    return () -> ifNotFailed(ctx, () -> route(ctx));
+                case BeginMessage.SIGNATURE:
+                    return () -> ifNotFailed(ctx, () -> begin(ctx));
+                case RunWithMetadataMessage.SIGNATURE:
+                    String query = unpacker.unpackString();
+                    return () -> ifNotFailed(ctx, () -> run(ctx, query));
+                case PullMessage.SIGNATURE:
+                    Map<String, Value> pullMetadata = unpacker.unpackMap();
+                    return () -> ifNotFailed(ctx, () -> pull(ctx, n(pullMetadata), qid(pullMetadata), false));
+                case DiscardMessage.SIGNATURE:
+                    Map<String, Value> discardMetadata = unpacker.unpackMap();
+                    return () -> ifNotFailed(ctx, () -> pull(ctx, n(discardMetadata), qid(discardMetadata), true));
+                case CommitMessage.SIGNATURE:
+                    return () -> ifNotFailed(ctx, () -> commit(ctx));
+                case RollbackMessage.SIGNATURE:
+                    return () -> ifNotFailed(ctx, () -> rollback(ctx));
+                case ResetMessage.SIGNATURE:
+                    return () -> reset(ctx);
+                case GoodbyeMessage.SIGNATURE:
+                    return ctx::close;
+                default:
+                    return () -> ifNotFailed(
+                            ctx,
+                            () -> fail(
+                                    ctx,
+                                    "Neo.ClientError.Request.Invalid",
+                                    "Unsupported request signature: " + signature));
+            }
+        } finally {
+            input.stop();
+        }
+    }
+
+    private void ifNotFailed(ChannelHandlerContext ctx, Runnable action) {
+        if (failed) {
+            ctx.writeAndFlush(IGNORED);
+        } else {
+            action.run();
+        }
+    }
+
+    private void hello(ChannelHandlerContext ctx) {
+        Map<String, Value> metadata = new HashMap<>();
+        metadata.put("server", value(isV5() ? "Neo4j/5.0.0" : "Neo4j/4.4.0"));
+        metadata.put("connection_id", value(server.nextConnectionId()));
+        succeed(ctx, metadata);
+    }
+
+    private void route(ChannelHandlerContext ctx) {
+        List<String> addresses = List.of(server.address());
+        Map<String, Object> routingTable = Map.of(
+                "ttl",
+                ROUTING_TABLE_TTL_SECONDS,
+                "db",
+                DATABASE,
+                "servers",
+                List.of(
+                        Map.of("addresses", addresses, "role", "WRITE"),
+                        Map.of("addresses", addresses, "role", "READ"),
+                        Map.of("addresses", addresses, "role", "ROUTE")));
+        succeed(ctx, Map.of("rt", value(routingTable)));
+    }
+
+    private void begin(ChannelHandlerContext ctx) {
+        if (inTransaction) {
+            fail(ctx, "Neo.ClientError.Request.Invalid", "A transaction is already open");
+            return;
+        }
+        inTransaction = true;
+        succeed(ctx, Map.of());
+    }
+
+    private void run(ChannelHandlerContext ctx, String query) {
+        QueryResult result = server.resultFor(query);
+        if (result == null) {
+            fail(ctx, "Neo.ClientError.Statement.SyntaxError", "No result is scripted for query: " + query);
+            return;
+        }
+        if (result.isFailure()) {
+            fail(ctx, result.failureCode(), result.failureMessage());
+            return;
+        }
+
+        Map<String, Value> metadata = new HashMap<>();
+        metadata.put("fields", value(result.keys()));
+        metadata.put("t_first", value(0));
+        long qid = -1;
+        if (inTransaction) {
+            qid = nextQid++;
+            metadata.put("qid", value(qid));
+        }
+        lastCursor = new Cursor(qid, result);
+        if (inTransaction) {
+            transactionCursors.put(qid, lastCursor);
+        }
+        succeed(ctx, metadata);
+    }
+
+    private void pull(ChannelHandlerContext ctx, long n, long qid, boolean discard) {
+        Cursor cursor = qid == -1 ? lastCursor : transactionCursors.get(qid);
+        if (cursor == null) {
+            fail(ctx, "Neo.ClientError.Request.Invalid", "No open result for qid " + qid);
+            return;
+        }
+
+        long rowCount = cursor.result.rowCount();
+        long end = n < 0 ? rowCount : Math.min(rowCount, cursor.position + n);
+        if (discard) {
+            cursor.position = end;
+        }
+        for (int written = 1; cursor.position < end; written++) {
+            ctx.write(new RecordMessage(cursor.result.row(cursor.position++)));
+            if (written % FLUSH_EVERY_RECORDS == 0) {
+                ctx.flush();
+            }
+        }
+
+        if (cursor.position < rowCount) {
+            succeed(ctx, Map.of("has_more", value(true)));
+            return;
+        }
+        transactionCursors.remove(cursor.qid);
+        if (lastCursor == cursor) {
+            lastCursor = null;
+        }
+        Map<String, Value> metadata = new HashMap<>();
+        metadata.put("type", value("r"));
+        metadata.put("t_last", value(0));
+        metadata.put("db", value(DATABASE));
+        if (!inTransaction) {
+            metadata.put("bookmark", value(server.nextBookmark()));
+        }
+        succeed(ctx, metadata);
+    }
+
+    private void commit(ChannelHandlerContext ctx) {
+        if (!inTransaction) {
+            fail(ctx, "Neo.ClientError.Request.Invalid", "No transaction to commit");
+            return;
+        }
+        closeTransaction();
+        succeed(ctx, Map.of("bookmark", value(server.nextBookmark())));
+    }
+
+    private void rollback(ChannelHandlerContext ctx) {
+        if (!inTransaction) {
+            fail(ctx, "Neo.ClientError.Request.Invalid", "No transaction to roll back");
+            return;
+        }
+        closeTransaction();
+        succeed(ctx, Map.of());
+    }
+
+    private void reset(ChannelHandlerContext ctx) {
+        failed = false;
+        closeTransaction();
+        lastCursor = null;
+        succeed(ctx, Map.of());
+    }
+
+    private void closeTransaction() {
+        inTransaction = false;
+        transactionCursors.clear();
+        nextQid = 0;
+    }
+
+    private void succeed(ChannelHandlerContext ctx, Map<String, Value> metadata) {
+        ctx.writeAndFlush(new SuccessMessage(metadata));
+    }
+
+    private void fail(ChannelHandlerContext ctx, String code, String message) {
+        failed = true;
+        closeTransaction();
+        lastCursor = null;
+        ctx.writeAndFlush(new FailureMessage(code, message));
+    }
+
+    private boolean isV5() {
+        return version.getMajorVersion() >= BoltProtocolV5.VERSION.getMajorVersion();
+    }
+
+    private static long n(Map<String, Value> metadata) {
+        Value n = metadata.get("n");
+        return n == null ? -1 : n.asLong();
+    }
+
+    private static long qid(Map<String, Value> metadata) {
+        Value qid = metadata.get("qid");
+        return qid == null ? -1 : qid.asLong();
+    }
+
+    private static class Cursor {
+        final long qid;
+        final QueryResult result;
+        long position;
+
+        Cursor(long qid, QueryResult result) {
+            this.qid = qid;
+            this.result = result;
+        }
+    }
+
+    private static class RequestUnpacker extends CommonValueUnpacker {
+        RequestUnpacker(ByteBufInput input, boolean dateTimeUtcEnabled) {
+            super(input, dateTimeUtcEnabled);
+        }
+
+        String unpackString() throws IOException {
+            return unpacker.unpackString();
+        }
+    }
+}
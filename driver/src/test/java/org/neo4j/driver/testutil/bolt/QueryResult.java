@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.testutil.bolt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+import org.neo4j.driver.Value;
+
+/**
+ * The outcome of a query served by {@link ScriptableBoltServer}: either a stream of rows with the given keys or a
+ * FAILURE with a Neo4j status code. Rows are produced on demand, so generated results of any size do not need to be
+ * held in memory.
+ */
+public final class QueryResult {
+    private static final QueryResult EMPTY = new QueryResult(List.of(), 0, row -> new Value[0], null, null);
+
+    private final List<String> keys;
+    private final long rowCount;
+    private final LongFunction<Value[]> rows;
+    private final String failureCode;
+    private final String failureMessage;
+
+    private QueryResult(
+            List<String> keys, long rowCount, LongFunction<Value[]> rows, String failureCode, String failureMessage) {
+        this.keys = keys;
+        this.rowCount = rowCount;
+        this.rows = rows;
+        this.failureCode = failureCode;
+        this.failureMessage = failureMessage;
+    }
+
+    /**
+     * A result with the given rows, each row holding one value per key.
+     */
+    public static QueryResult of(List<String> keys, Value[]... rows) {
+        Value[][] copy = Arrays.copyOf(rows, rows.length);
+        for (Value[] row : copy) {
+            if (row.length != keys.size()) {
+                throw new IllegalArgumentException("Row " + Arrays.toString(row) + " does not match keys " + keys);
+            }
+        }
+        return new QueryResult(List.copyOf(keys), copy.length, row -> copy[(int) row], null, null);
+    }
+
+    /**
+     * A result of {@code rowCount} rows, the values of each row are produced by the given function from the row index.
+     */
+    public static QueryResult generated(List<String> keys, long rowCount, LongFunction<Value[]> rows) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Row count must not be negative: " + rowCount);
+        }
+        return new QueryResult(List.copyOf(keys), rowCount, requireNonNull(rows), null, null);
+    }
+
+    /**
+     * A query failing with the given status code, for example {@code Neo.ClientError.Statement.SyntaxError}.
+     */
+    public static QueryResult failure(String code, String message) {
+        return new QueryResult(List.of(), 0, null, requireNonNull(code), requireNonNull(message));
+    }
+
+    /**
+     * A result without keys and rows.
+     */
+    public static QueryResult empty() {
+        return EMPTY;
+    }
+
+    List<String> keys() {
+        return keys;
+    }
+
+    long rowCount() {
+        return rowCount;
+    }
+
+    Value[] row(long index) {
+        return rows.apply(index);
+    }
+
+    boolean isFailure() {
+        return failureCode != null;
+    }
+
+    String failureCode() {
+        return failureCode;
+    }
+
+    String failureMessage() {
+        return failureMessage;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.testutil.bolt;
+
+import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.testutil.DaemonThreadFactory.daemon;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
+import org.neo4j.driver.internal.messaging.v44.BoltProtocolV44;
+import org.neo4j.driver.internal.messaging.v5.BoltProtocolV5;
+
+/**
+ * An in-process Bolt server for tests and benchmarks that need a driver talking to a server over a real socket, but
+ * not a real database. It negotiates Bolt 5.0 or 4.4 and answers with scripted {@link QueryResult}s, supporting
+ * autocommit and explicit transactions, paging through results with PULL, routing and an artificial latency that
+ * delays every response. Messages are encoded and decoded with the driver's own PackStream and chunking code.
+ * <pre>{@code
+ * try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+ *         .withResult("RETURN 1 AS n", QueryResult.of(List.of("n"), new Value[] {value(1)}))
+ *         .start();
+ *         Driver driver = GraphDatabase.driver(server.boltUri())) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class ScriptableBoltServer implements AutoCloseable {
+    private final Map<String, QueryResult> results;
+    private final QueryResult defaultResult;
+    private final Duration latency;
+    private final List<BoltProtocolVersion> protocolVersions;
+    private final AtomicLong queriesRun = new AtomicLong();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong connectionIds = new AtomicLong();
+    private final AtomicLong bookmarks = new AtomicLong();
+    private final EventLoopGroup eventLoopGroup;
+    private final Channel serverChannel;
+
+    private ScriptableBoltServer(Builder builder) {
+        this.results = Map.copyOf(builder.results);
+        this.defaultResult = builder.defaultResult;
+        this.latency = builder.latency;
+        this.protocolVersions = List.copyOf(builder.protocolVersions);
+        this.eventLoopGroup = new NioEventLoopGroup(builder.threads, daemon("scriptable-bolt-server-"));
+        try {
+            this.serverChannel = new ServerBootstrap()
+                    .group(eventLoopGroup)
+                    .channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel channel) {
+                            channel.pipeline()
+                                    .addLast(new ChannelInboundHandlerAdapter() {
+                                        @Override
+                                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                            reads.incrementAndGet();
+                                            ctx.fireChannelRead(msg);
+                                        }
+                                    })
+                                    .addLast(new BoltHandshakeHandler(ScriptableBoltServer.this));
+                        }
+                    })
+                    .bind("localhost", builder.port)
+                    .syncUninterruptibly()
+                    .channel();
+        } catch (RuntimeException e) {
+            eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+            throw e;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int port() {
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+
+    /**
+     * The address the server advertises in routing tables.
+     */
+    public String address() {
+        return "localhost:" + port();
+    }
+
+    public URI boltUri() {
+        return URI.create("bolt://" + address());
+    }
+
+    public URI neo4jUri() {
+        return URI.create("neo4j://" + address());
+    }
+
+    /**
+     * The number of RUN messages handled since the server started.
+     */
+    public long queriesRun() {
+        return queriesRun.get();
+    }
+
+    /**
+     * The number of socket reads of all connections since the server started. On localhost every flush of a client
+     * usually arrives in a read of its own, so this approximates the number of writes clients made.
+     */
+    public long reads() {
+        return reads.get();
+    }
+
+    @Override
+    public void close() {
+        serverChannel.close().syncUninterruptibly();
+        eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    List<BoltProtocolVersion> protocolVersions() {
+        return protocolVersions;
+    }
+
+    Duration latency() {
+        return latency;
+    }
+
+    String nextConnectionId() {
+        return "bolt-" + connectionIds.incrementAndGet();
+    }
+
+    String nextBookmark() {
+        return "scriptable-bolt-server:" + bookmarks.incrementAndGet();
+    }
+
+    /**
+     * Looks up the result of the given query, {@code null} when there is neither a scripted nor a default result.
+     */
+    QueryResult resultFor(String query) {
+        queriesRun.incrementAndGet();
+        return results.getOrDefault(query, defaultResult);
+    }
+
+    public static final class Builder {
+        private final Map<String, QueryResult> results = new HashMap<>();
+        private QueryResult defaultResult;
+        private Duration latency = Duration.ZERO;
+        private List<BoltProtocolVersion> protocolVersions = List.of(BoltProtocolV5.VERSION, BoltProtocolV44.VERSION);
+        private int port;
+        private int threads = 1;
+
+        private Builder() {}
+
+        /**
+         * Serves the given result for the query with exactly this text.
+         */
+        public Builder withResult(String query, QueryResult result) {
+            results.put(requireNonNull(query), requireNonNull(result));
+            return this;
+        }
+
+        /**
+         * Serves the given result for every query without a scripted result. Without a default result such queries
+         * fail with {@code Neo.ClientError.Statement.SyntaxError}.
+         */
+        public Builder withDefaultResult(QueryResult result) {
+            this.defaultResult = requireNonNull(result);
+            return this;
+        }
+
+        /**
+         * Delays the responses to every request by the given duration. Responses are still sent in request order.
+         */
+        public Builder withLatency(Duration latency) {
+            if (latency.isNegative()) {
+                throw new IllegalArgumentException("Latency must not be negative: " + latency);
+            }
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * The protocol versions the server agrees to, in order of preference. Defaults to Bolt 5.0 and 4.4.
+         */
+        public Builder withProtocolVersions(BoltProtocolVersion... versions) {
+            if (versions.length == 0) {
+                throw new IllegalArgumentException("At least one protocol version is required");
+            }
+            for (BoltProtocolVersion version : versions) {
+                if (!version.equals(BoltProtocolV5.VERSION) && !version.equals(BoltProtocolV44.VERSION)) {
+                    throw new IllegalArgumentException("Unsupported protocol version: " + version);
+                }
+            }
+            this.protocolVersions = List.of(versions);
+            return this;
+        }
+
+        /**
+         * The port to listen on, defaults to {@code 0} for any free port.
+         */
+        public Builder withPort(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * The number of event loop threads serving connections, defaults to {@code 1}.
+         */
+        public Builder withThreads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("At least one thread is required: " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        public ScriptableBoltServer start() {
+            return new ScriptableBoltServer(this);
+        }
+    }
+}
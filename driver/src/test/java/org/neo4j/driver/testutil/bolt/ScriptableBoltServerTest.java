@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.testutil.bolt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.Values.value;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
+import org.neo4j.driver.internal.messaging.v44.BoltProtocolV44;
+import org.neo4j.driver.internal.messaging.v5.BoltProtocolV5;
+
+class ScriptableBoltServerTest {
+    private static final QueryResult NUMBERS =
+            QueryResult.generated(List.of("n", "square"), 2500, row -> new Value[] {value(row), value(row * row)});
+
+    static Stream<BoltProtocolVersion> protocolVersions() {
+        return Stream.of(BoltProtocolV5.VERSION, BoltProtocolV44.VERSION);
+    }
+
+    @ParameterizedTest
+    @MethodSource("protocolVersions")
+    void shouldServeScriptedResultInAutoCommitTransaction(BoltProtocolVersion version) {
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+                        .withProtocolVersions(version)
+                        .withResult(
+                                "RETURN 1 AS x, 'a' AS y",
+                                QueryResult.of(List.of("x", "y"), new Value[] {value(1), value("a")}))
+                        .start();
+                Driver driver = driver(server.boltUri());
+                Session session = driver.session()) {
+            List<Record> records = session.run("RETURN 1 AS x, 'a' AS y").list();
+
+            assertEquals(1, records.size());
+            assertEquals(1, records.get(0).get("x").asInt());
+            assertEquals("a", records.get(0).get("y").asString());
+            assertFalse(session.lastBookmarks().isEmpty());
+            assertEquals(1, server.queriesRun());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("protocolVersions")
+    void shouldPageThroughGeneratedResultInExplicitTransaction(BoltProtocolVersion version) {
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+                        .withProtocolVersions(version)
+                        .withDefaultResult(NUMBERS)
+                        .start();
+                Driver driver = driver(server.boltUri());
+                Session session = driver.session(
+                        SessionConfig.builder().withFetchSize(100).build())) {
+            try (Transaction tx = session.beginTransaction()) {
+                Result first = tx.run("UNWIND range(0, 2499) AS n RETURN n, n * n AS square");
+                Result second = tx.run("RETURN 'another result'");
+
+                long expected = 0;
+                while (first.hasNext()) {
+                    Record record = first.next();
+                    assertEquals(expected, record.get("n").asLong());
+                    assertEquals(expected * expected, record.get("square").asLong());
+                    expected++;
+                }
+                assertEquals(2500, expected);
+                assertEquals(2500, second.list().size());
+                tx.commit();
+            }
+            assertFalse(session.lastBookmarks().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldFailQueryWithScriptedFailureAndRecover() {
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+                        .withResult("RETURN oops", QueryResult.failure("Neo.ClientError.Statement.SyntaxError", "oops"))
+                        .withDefaultResult(QueryResult.empty())
+                        .start();
+                Driver driver = driver(server.boltUri());
+                Session session = driver.session()) {
+            ClientException e = assertThrows(
+                    ClientException.class, () -> session.run("RETURN oops").consume());
+
+            assertEquals("Neo.ClientError.Statement.SyntaxError", e.code());
+            assertEquals("oops", e.getMessage());
+            assertTrue(session.run("RETURN 1").list().isEmpty());
+        }
+    }
+
+    @Test
+    void shouldFailQueryWithoutScriptedResult() {
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder().start();
+                Driver driver = driver(server.boltUri());
+                Session session = driver.session()) {
+            ClientException e = assertThrows(
+                    ClientException.class, () -> session.run("RETURN 1").consume());
+
+            assertEquals("Neo.ClientError.Statement.SyntaxError", e.code());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("protocolVersions")
+    void shouldServeRoutingTable(BoltProtocolVersion version) {
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+                        .withProtocolVersions(version)
+                        .withDefaultResult(NUMBERS)
+                        .start();
+                Driver driver = driver(server.neo4jUri());
+                Session session = driver.session()) {
+            driver.verifyConnectivity();
+
+            assertEquals(
+                    2500, session.executeRead(tx -> tx.run("RETURN n").list()).size());
+        }
+    }
+
+    @Test
+    void shouldDelayResponses() {
+        Duration latency = Duration.ofMillis(50);
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+                        .withLatency(latency)
+                        .withDefaultResult(NUMBERS)
+                        .start();
+                Driver driver = driver(server.boltUri());
+                Session session = driver.session()) {
+            driver.verifyConnectivity();
+
+            long start = System.nanoTime();
+            assertEquals(2500, session.run("RETURN n").list().size());
+            long elapsed = System.nanoTime() - start;
+
+            assertTrue(elapsed >= latency.toNanos(), "Elapsed " + elapsed + "ns");
+        }
+    }
+
+    @Test
+    void shouldReceiveTransactionBeginWithFirstQueryWhenPipelined() {
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+                        .withResult("RETURN 1 AS x", QueryResult.of(List.of("x"), new Value[] {value(1)}))
+                        .start();
+                Driver driver = GraphDatabase.driver(
+                        server.boltUri(),
+                        AuthTokens.none(),
+                        Config.builder()
+                                .withLogging(Logging.none())
+                                .withPipelinedTransactionBegin(true)
+                                .build());
+                Session session = driver.session()) {
+            driver.verifyConnectivity();
+            long readsBefore = server.reads();
+
+            int transactions = 10;
+            for (int i = 0; i < transactions; i++) {
+                int x = session.executeWrite(
+                        tx -> tx.run("RETURN 1 AS x").single().get("x").asInt());
+                assertEquals(1, x);
+            }
+
+            // BEGIN, RUN and PULL in one read, then COMMIT and the RESET on release; the RESET after verifying
+            // connectivity may race with the first transaction
+            long reads = server.reads() - readsBefore;
+            assertTrue(reads <= 3 * transactions + 1, "Reads: " + reads);
+        }
+    }
+
+    @Test
+    void shouldServeBatchOfQueriesInTransaction() {
+        try (ScriptableBoltServer server = ScriptableBoltServer.builder()
+                        .withResult("RETURN 1 AS x", QueryResult.of(List.of("x"), new Value[] {value(1)}))
+                        .withResult("RETURN 2 AS x", QueryResult.of(List.of("x"), new Value[] {value(2)}))
+                        .withDefaultResult(NUMBERS)
+                        .start();
+                Driver driver = driver(server.boltUri());
+                Session session = driver.session()) {
+            List<Integer> sizes = session.executeRead(tx -> {
+                List<Result> results = tx.runAll(
+                        List.of(new Query("RETURN 1 AS x"), new Query("RETURN 2 AS x"), new Query("RETURN n")));
+                return List.of(
+                        results.get(0).single().get("x").asInt(),
+                        results.get(1).single().get("x").asInt(),
+                        results.get(2).list().size());
+            });
+
+            assertEquals(List.of(1, 2, 2500), sizes);
+            assertEquals(3, server.queriesRun());
+        }
+    }
+
+    private static Driver driver(URI uri) {
+        return GraphDatabase.driver(
+                uri,
+                AuthTokens.none(),
+                Config.builder().withLogging(Logging.none()).build());
+    }
+}